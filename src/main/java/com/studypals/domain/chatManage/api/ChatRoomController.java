@@ -6,18 +6,23 @@ import org.springframework.web.bind.annotation.*;
 
 import lombok.RequiredArgsConstructor;
 
+import com.studypals.domain.chatManage.dto.ChatHistoryRes;
 import com.studypals.domain.chatManage.dto.ChatRoomInfoRes;
 import com.studypals.domain.chatManage.service.ChatRoomService;
 import com.studypals.global.responses.CommonResponse;
 import com.studypals.global.responses.Response;
 import com.studypals.global.responses.ResponseCode;
 
+import reactor.core.publisher.Mono;
+
 /**
  * 채팅방 전반에 걸친 정보를 받는 엔드포인트입니다. 채팅방 정보, 로그 조회, 참여한 사용자 조회 등,
  * 특정 채팅방의 부분 정보를 호출합니다. <br>
  *
  * <pre>
  *     - GET /chat/room/{chatRoomId} : 채팅방 정보 조회
+ *     - GET /chat/room/{chatRoomId}/async : 채팅방 정보 조회(논블로킹, 요청 스레드를 점유하지 않음)
+ *     - GET /chat/room/{chatRoomId}/messages : 채팅 내역 페이지 조회(커서 기반)
  * </pre>
  *
  * @author jack8
@@ -40,4 +45,27 @@ public class ChatRoomController {
 
         return ResponseEntity.ok(CommonResponse.success(ResponseCode.CHAT_ROOM_SEARCH, chatRoomInfo, chatRoomId));
     }
+
+    // 재접속이 몰리는 경우에도 서블릿 스레드를 점유하지 않도록, 조회가 끝나면 비동기로 응답합니다.
+    @GetMapping("/{chatRoomId}/async")
+    public Mono<ResponseEntity<Response<ChatRoomInfoRes>>> getChatRoomInfoAsync(
+            @PathVariable("chatRoomId") String chatRoomId,
+            @RequestParam(defaultValue = "1", name = "after") String chatId,
+            @AuthenticationPrincipal Long userId) {
+        return chatRoomService
+                .getChatRoomInfoAsync(userId, chatRoomId, chatId)
+                .map(info ->
+                        ResponseEntity.ok(CommonResponse.success(ResponseCode.CHAT_ROOM_SEARCH, info, chatRoomId)));
+    }
+
+    @GetMapping("/{chatRoomId}/messages")
+    public ResponseEntity<Response<ChatHistoryRes>> getChatHistory(
+            @PathVariable("chatRoomId") String chatRoomId,
+            @RequestParam(required = false, name = "cursor") String cursor,
+            @RequestParam(required = false, name = "size") Integer size,
+            @AuthenticationPrincipal Long userId) {
+        ChatHistoryRes history = chatRoomService.getChatHistory(userId, chatRoomId, cursor, size);
+
+        return ResponseEntity.ok(CommonResponse.success(ResponseCode.CHAT_ROOM_SEARCH, history, chatRoomId));
+    }
 }
@@ -18,7 +18,7 @@ import com.studypals.global.sse.SseSendDto;
 /**
  *
  * <pre>
- *     - GET /chat/room/list : SSE 기반, 채팅방 리스트 조회
+ *     - GET /chat/room/list : SSE 기반, 채팅방 리스트 조회. 연결 시 전체 리스트(INIT_MESSAGE), 이후 변경분(ROOM_PATCH) 전송
  * </pre>
  *
  * @author jack8
@@ -35,7 +35,7 @@ public class SseChatRoomController {
     @GetMapping(value = "/list", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter getList(@AuthenticationPrincipal Long userId) {
         SseEmitter emitter = sseManager.createEmitter(userId);
-        ChatRoomListRes res = chatRoomService.getChatRoomList(userId);
+        ChatRoomListRes res = chatRoomService.getChatRoomListSnapshot(userId);
         sseManager.sendMessageAsync(userId, new SseSendDto(ChatSseType.INIT_MESSAGE.name(), res));
 
         return emitter;
@@ -0,0 +1,104 @@
+package com.studypals.domain.chatManage.dao;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.util.*;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.studypals.domain.chatManage.entity.ChatMessage;
+import com.studypals.domain.chatManage.entity.ChatMessageBucket;
+
+/**
+ * {@link ChatMessageBucket} 에 메시지를 추가하기 위한 연산을 만듭니다. 동기/비동기 레포지토리와 이관 작업이 같은
+ * 연산을 사용합니다.
+ * <p>
+ * 메시지는 구간 당 하나의 upsert 로 묶여, 해당 구간에서 {@code count} 가 {@link ChatMessageBucket#MAX_COUNT} 미만인
+ * 문서에 추가됩니다. 그러한 문서가 없다면 새 문서가 만들어집니다.
+ * {@code $addToSet} 을 사용하므로 같은 문서에는 같은 메시지가 중복으로 저장되지 않으며, 이를 위해 내장 문서는 항상
+ * 같은 필드 순서로 만들어집니다. 다른 문서에 중복으로 저장된 메시지는 조회 시 하나로 합쳐집니다.
+ *
+ * @author jack8
+ * @see ChatMessageBucket
+ * @since 2026-01-27
+ */
+public final class ChatMessageBuckets {
+
+    /** 채팅 메시지 저장 레이아웃 설정값. {@code chat.mongo.layout} 이 이 값이라면 구간 문서를 사용합니다. */
+    public static final String LAYOUT = "bucket";
+
+    /** 하나의 upsert 로 추가하는 최대 메시지 수. 구간 문서에는 최대 {@code MAX_COUNT - 1 + MAX_UPSERT_SIZE} 개가 담깁니다. */
+    static final int MAX_UPSERT_SIZE = 100;
+
+    private ChatMessageBuckets() {}
+
+    /**
+     * 구간 문서 하나에 대한 upsert 연산입니다.
+     */
+    public record Upsert(Query query, Update update) {}
+
+    /**
+     * 메시지를 구간 별로, 최대 {@link #MAX_UPSERT_SIZE} 개씩 묶어 upsert 연산을 만듭니다.
+     * @param messages 추가할 메시지
+     * @return upsert 연산 목록
+     */
+    public static List<Upsert> upserts(Collection<ChatMessage> messages) {
+        Map<String, List<ChatMessage>> byBucket = new LinkedHashMap<>();
+        for (ChatMessage message : messages) {
+            String bucketKey = message.getRoomId() + ":" + ChatMessageBucket.startOf(message.getId());
+            byBucket.computeIfAbsent(bucketKey, k -> new ArrayList<>()).add(message);
+        }
+
+        List<Upsert> result = new ArrayList<>();
+        for (List<ChatMessage> bucketMessages : byBucket.values()) {
+            for (int from = 0; from < bucketMessages.size(); from += MAX_UPSERT_SIZE) {
+                List<ChatMessage> chunk =
+                        bucketMessages.subList(from, Math.min(from + MAX_UPSERT_SIZE, bucketMessages.size()));
+                result.add(upsert(chunk));
+            }
+        }
+        return result;
+    }
+
+    private static Upsert upsert(List<ChatMessage> messages) {
+        ChatMessage first = messages.get(0);
+        Criteria criteria = where("roomId")
+                .is(first.getRoomId())
+                .and("start")
+                .is(ChatMessageBucket.startOf(first.getId()))
+                .and("count")
+                .lt(ChatMessageBucket.MAX_COUNT);
+        Update update = new Update().inc("count", messages.size());
+        update.addToSet("messages").each(messages.stream().map(ChatMessageBuckets::toDocument).toArray());
+        return new Upsert(Query.query(criteria), update);
+    }
+
+    /**
+     * 메시지가 속한 구간의 문서를 (roomId, start) 인덱스로 찾는 조건을 만듭니다.
+     * @param chatIds 채팅방 ID 별 메시지 ID
+     * @return 구간 문서 조건. 메시지가 없다면 null
+     */
+    public static Criteria bucketsOf(Map<String, ? extends Collection<String>> chatIds) {
+        List<Criteria> rooms = new ArrayList<>(chatIds.size());
+        chatIds.forEach((roomId, roomChatIds) -> {
+            if (roomChatIds.isEmpty()) return;
+            Set<Long> starts = new HashSet<>();
+            for (String chatId : roomChatIds) starts.add(ChatMessageBucket.startOf(chatId));
+            rooms.add(where("roomId").is(roomId).and("start").in(starts));
+        });
+        if (rooms.isEmpty()) return null;
+        return rooms.size() == 1 ? rooms.get(0) : new Criteria().orOperator(rooms);
+    }
+
+    private static Document toDocument(ChatMessage message) {
+        Document document = new Document("i", message.getId())
+                .append("t", message.getType().name())
+                .append("s", message.getSender())
+                .append("c", message.getContent());
+        if (message.getSeq() != null) document.append("q", message.getSeq());
+        return document;
+    }
+}
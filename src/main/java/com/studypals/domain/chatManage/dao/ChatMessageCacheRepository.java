@@ -1,10 +1,13 @@
 package com.studypals.domain.chatManage.dao;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import com.studypals.domain.chatManage.dto.ChatStreamUsage;
 import com.studypals.domain.chatManage.dto.ChatroomLatestInfo;
 import com.studypals.domain.chatManage.entity.ChatMessage;
 
@@ -33,15 +36,32 @@ import com.studypals.domain.chatManage.entity.ChatMessage;
 public interface ChatMessageCacheRepository {
 
     /**
-     * 캐시에 유지할 수 있는 최대 메시지 개수를 반환합니다.
+     * {@link #saveAll} 의 채팅방 별 결과입니다.
+     * @param rejected 일부 메시지가 stream 의 최신 엔트리보다 작은 ID 여서 추가되지 않은 채팅방 ID.
+     *                 {@link #merge} 로 다시 추가할 수 있습니다.
+     * @param failed redis 오류로 저장하지 못한 채팅방 ID 와 그 원인
+     */
+    record SaveResult(Set<String> rejected, Map<String, Throwable> failed) {}
+
+    /**
+     * 채팅방 별 최대 길이가 정해지지 않은 경우, 캐시에 유지하는 최대 메시지 개수를 반환합니다.
      * <p>
      * Redis Streams XADD 옵션의 maxlen 값과 대응되며,
-     * 이 값을 기준으로 가장 오래된 메시지가 잘려 나가게 됩니다.
+     * 이 값을 기준으로 가장 오래된 메시지가 잘려 나가게 됩니다. 채팅방 별 최대 길이는 {@link #resize} 로 변경됩니다.
      *
-     * @return 캐시에 저장 가능한 최대 메시지 개수
+     * @return 캐시에 저장 가능한 기본 최대 메시지 개수
      */
     int getMaxLen();
 
+    /**
+     * 채팅방 별 캐시 최대 길이를 반환합니다. 재조정으로 최대 길이가 정해지지 않은 채팅방은 {@link #getMaxLen()} 를
+     * 반환합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @return 채팅방의 캐시 최대 길이
+     */
+    int getMaxLen(String roomId);
+
     /**
      * 단일 채팅 메시지를 Redis 스트림에 저장합니다.
      * <p>
@@ -56,10 +76,15 @@ public interface ChatMessageCacheRepository {
      * <p>
      * 보통 Redis 파이프라인을 사용하여 네트워크 호출 횟수를 줄이고,
      * 벌크 저장 시 성능을 개선하기 위한 용도로 사용됩니다.
+     * <p>
+     * 채팅방 단위로 저장되므로 일부 채팅방만 실패할 수 있으며, 실패는 예외 대신 결과로 반환합니다.
+     * stream 은 증가하는 ID 로만 추가할 수 있으므로, 다른 노드가 먼저 더 큰 ID 를 추가한 채팅방은 {@code rejected} 에,
+     * redis 오류로 저장하지 못한 채팅방은 {@code failed} 에 담깁니다.
      *
-     * @param messages 저장할 채팅 메시지 컬렉션
+     * @param messages 저장할 채팅 메시지 컬렉션 (채팅방 내에서 ID 오름차순)
+     * @return 채팅방 별 저장 결과
      */
-    void saveAll(Collection<ChatMessage> messages);
+    SaveResult saveAll(Collection<ChatMessage> messages);
 
     /**
      * 여러 채팅방 또는 여러 기준 ID에 대해, 기준 이후의 메시지 개수와 최신 메시지 정보를 한 번에 계산합니다.
@@ -93,8 +118,102 @@ public interface ChatMessageCacheRepository {
     List<ChatMessage> fetchFromId(String roomId, String chatId);
 
     /**
-     * 해당 캐시 내역을 완전히 삭제한다.
+     * 특정 채팅방에서 기준 메시지 ID 미만의 메시지를 최신 순으로 count 개 조회합니다.
+     * <p>
+     * 캐시에 count 개가 모두 있는 경우에만 결과를 반환합니다. 그보다 적다면 캐시 범위를 벗어났을 수 있으므로
+     * 빈 값을 반환하며, 호출자는 DB 에서 조회해야 합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param beforeId 기준 메시지 ID (미포함), null 이라면 가장 최신 메시지부터
+     * @param count 조회할 개수
+     * @return 메시지 목록 (ID 내림차순), 캐시 범위를 벗어났다면 Optional.empty()
+     */
+    Optional<List<ChatMessage>> fetchBefore(String roomId, String beforeId, int count);
+
+    /**
+     * 특정 채팅방에서 기준 메시지 ID 초과의 메시지를 오래된 순으로 최대 count 개 조회합니다.
+     * <p>
+     * 기준 ID 가 캐시의 가장 오래된 메시지보다 이전이라면, 그 사이의 메시지가 캐시에 없으므로 빈 값을 반환합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param afterId 기준 메시지 ID (미포함)
+     * @param count 최대 조회 개수
+     * @return 메시지 목록 (ID 오름차순), 캐시 범위를 벗어났다면 Optional.empty()
+     */
+    Optional<List<ChatMessage>> fetchAfter(String roomId, String afterId, int count);
+
+    /**
+     * 채팅방 별 메시지 ID 에 대해, 스트림에 기록된 메시지 순번을 한 번에 조회합니다.
+     * <p>
+     * 스트림에 없거나 순번이 기록되지 않은 메시지는 결과에 포함되지 않습니다.
+     *
+     * @param chatIds key: 채팅방 ID, value: 순번을 조회할 채팅 메시지 ID 목록
+     * @return key: 채팅 메시지 ID, value: 메시지 순번
+     */
+    Map<String, Long> findSequences(Map<String, ? extends Collection<String>> chatIds);
+
+    /**
+     * 해당 캐시 내역을 삭제한다. 재조정으로 정해진 채팅방 별 최대 길이와 추가된 메시지 수는 유지된다.
      * @param roomId 삭제할 캐시의 key
      */
     void clear(String roomId);
+
+    /**
+     * DB 에서 조회한 메시지를 채팅방 캐시에 병합합니다.
+     * <p>
+     * 캐시를 비우지 않으므로, 캐시에만 있고 아직 DB 에 저장되지 않은 메시지는 그대로 남습니다. 이미 캐시에 있는 메시지는
+     * 건너뜁니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param messages 병합할 메시지 (ID 오름차순)
+     */
+    void merge(String roomId, List<ChatMessage> messages);
+
+    /**
+     * 채팅방 캐시를 재구성할 권한(lease)을 얻습니다. 여러 노드가 동시에 같은 채팅방을 재구성하지 않도록 하기 위해 사용하며,
+     * 재구성 도중 노드가 종료되더라도 ttl 이후 자동으로 만료됩니다.
+     * @param roomId 재구성할 채팅방 ID
+     * @param ttl lease 유지 시간
+     * @return 해제 시 사용할 token, 이미 다른 곳에서 보유 중이라면 null
+     */
+    String tryLease(String roomId, Duration ttl);
+
+    /**
+     * 보유한 lease 를 해제합니다. token 이 일치하지 않는다면(만료 후 다른 곳에서 얻은 경우) 아무 일도 하지 않습니다.
+     * @param roomId 재구성한 채팅방 ID
+     * @param token {@link #tryLease} 에서 받은 token
+     */
+    void releaseLease(String roomId, String token);
+
+    /**
+     * 채팅방 별로 조회된 가장 깊은 구간을 기록합니다. 채팅방의 마지막 접근 시각도 함께 갱신됩니다.
+     * @param depths key: 채팅방 ID, value: 최신 메시지로부터 조회한 메시지 수
+     */
+    void recordReads(Map<String, Integer> depths);
+
+    /**
+     * 캐시된 채팅방의 사용 현황을 수집합니다. 수집된 조회 깊이는 초기화됩니다.
+     * @return 채팅방 별 사용 현황 (마지막 접근 시각 오름차순)
+     */
+    List<ChatStreamUsage> collectUsages();
+
+    /**
+     * 채팅방의 최대 길이를 변경하고 stream 을 그에 맞게 자릅니다. 요약이 없는 채팅방은 변경하지 않습니다.
+     * @param roomId 채팅방 ID
+     * @param maxLen 변경할 최대 길이
+     * @param writes 사용 현황 수집 시 확인한 추가 메시지 수. 해당 수만큼 차감됩니다.
+     */
+    void resize(String roomId, int maxLen, long writes);
+
+    /**
+     * 채팅방의 캐시를 사용 현황 기록과 함께 삭제합니다.
+     * <p>
+     * 사용 현황을 수집한 이후 접근이 있었거나, 마지막 접근이 기준 시각 이후인 채팅방은 삭제하지 않습니다. 아직 DB 에
+     * 저장되지 않은 메시지가 캐시에서 사라지면, 이후 재구성된 캐시에 빈 구간이 생길 수 있기 때문입니다.
+     *
+     * @param usages 삭제할 채팅방의 사용 현황 ({@link #collectUsages} 의 결과)
+     * @param idleBefore 삭제할 채팅방의 마지막 접근 시각 상한 (epoch ms)
+     * @return 삭제된 채팅방 수
+     */
+    int evict(Collection<ChatStreamUsage> usages, long idleBefore);
 }
@@ -3,29 +3,38 @@ package com.studypals.domain.chatManage.dao;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Range;
 import org.springframework.data.redis.connection.Limit;
-import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.RedisZSetCommands;
 import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.connection.stream.RecordId;
-import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.FileCopyUtils;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+import com.studypals.domain.chatManage.dto.ChatStreamUsage;
 import com.studypals.domain.chatManage.dto.ChatType;
 import com.studypals.domain.chatManage.dto.ChatroomLatestInfo;
 import com.studypals.domain.chatManage.entity.ChatMessage;
+import com.studypals.domain.chatManage.entity.ChatMessageIds;
+import com.studypals.global.redis.RedisScriptPipeline;
 
 /**
  * Redis 의 streams 자료구조를 사용하여 채팅 내역을 캐싱합니다. streams 자료구조는 다음과 같습니다.
@@ -34,7 +43,7 @@ import com.studypals.domain.chatManage.entity.ChatMessage;
  *
  *     -------------------------------------------------------------------------------
  *     | entry id : 183495732-123 (처음 부분은 timestamp, 뒤에는 sequence 번호)
- *     | entries :  {id = "id1", type = "TEXT", sender = "31", message = "hello guys"}
+ *     | entries :  {id = "id1", type = "TEXT", sender = "31", message = "hello guys", seq = "1"}
  *     -------------------------------------------------------------------------------
  *     |  entry id : 183495752-35 (처음 부분은 timestamp, 뒤에는 sequence 번호)
  *     |  entries :  {id = "id2", type = "TEXT", sender = "217", message = "hello too~"}
@@ -46,9 +55,10 @@ import com.studypals.domain.chatManage.entity.ChatMessage;
  *
  *  <br>
  *  해당 자료구조는 다음과 같은 성질을 가집니다. <br>
- *  - 상위 {@code MAX_LEN} 개의 메시지를 캐싱합니다. 느슨한 트리밍 전략을 통해 그보다 좀 더 많을 수는 있습니다. <br>
+ *  - 채팅방 별 최대 길이(기본 {@code DEFAULT_LEN} 개) 만큼의 메시지를 캐싱합니다. 느슨한 트리밍 전략을 통해 그보다
+ *  좀 더 많을 수는 있습니다. <br>
  *  - TTL 전략이 불가능합니다. 데이터 범위 초과에 따른 자동 삭제 전략에 의해 삭제될 수 있습니다. <br>
- *  - 새로운 메시지가 들어오고, 데이터가 100개가 넘는다면, 가장 오래된 메시지가 삭제됩니다. <br>
+ *  - 새로운 메시지가 들어오고, 데이터가 최대 길이를 넘는다면, 가장 오래된 메시지가 삭제됩니다. <br>
  *  - entry key 는 상기 명시된 형식을 지켜야 하며 (정수-정수) 이는 timestamp 의 기능을 할 수 있어야 합니다. <br>
  *  - 중간 엔트리를 변경할 수 있으나 권장되지 않습니다. <br>
  *  - {@code .info()} 명령어를 통해 크기, 가장 최신과 마지막 엔트리 등의 정보를 가져올 수 있습니다. <br>
@@ -59,6 +69,30 @@ import com.studypals.domain.chatManage.entity.ChatMessage;
  *  쌓였는지에 대한 카운트, 각 채팅방 별 가장 최신 메시지 정보 등을 캐싱하기 위해 사용됩니다.
  *  <br><br>
  *
+ *  엔트리는 위와 같이 필드 별로 저장(fields 포맷)하거나, {@link ChatStreamCodec} 으로 인코딩하여 하나의 필드에
+ *  저장(compact 포맷)할 수 있습니다. compact 포맷은 필드명과 메시지 ID 를 반복해서 저장하지 않습니다. 어떤 포맷으로
+ *  저장할지는 {@code chat.cache.stream-format} 으로 정하며, 조회 시에는 두 포맷을 모두 해석합니다. 따라서 모든 노드가
+ *  두 포맷을 해석할 수 있도록 배포된 이후에 compact 로 전환해야 합니다.
+ *  <pre>
+ *     entry id : 183495732-0
+ *     entries :  {d = [0x01 0x00 0x20 0x02] + "hello guys"}  (version, type, sender + 1, seq + 1, message)
+ *  </pre>
+ *  <br>
+ *
+ *  채팅방 별 stream 에는 작은 요약 hash({@code chat:msg:summary:{roomId}}) 가 함께 유지됩니다. 요약에는 stream 길이,
+ *  가장 오래된/최신 record id, 최신 메시지 미리보기가 저장되며, 메시지를 추가하는 스크립트 안에서 원자적으로 갱신됩니다.
+ *  채팅방 리스트 조회는 stream 을 훑지 않고, 요약 hash 에 대한 파이프라인 HMGET 으로 수행됩니다.
+ *  추가 스크립트는 한 채팅방의 stream, 요약과 함께 마지막 접근 시각({@code LRU_KEY}) 을 갱신하므로, 메시지 추가는 한 번의
+ *  왕복으로 끝납니다. 여러 채팅방에 대한 추가는 하나의 파이프라인으로 전송됩니다. redis cluster 로 옮길 경우 세 키가
+ *  같은 slot 에 위치해야 하므로, 접근 시각 기록을 스크립트 밖으로 분리해야 합니다.
+ *  <br><br>
+ *
+ *  채팅방 별 최대 길이는 {@link com.studypals.domain.chatManage.worker.ChatStreamRetention} 이 주기적으로 재조정하며,
+ *  요약 hash 의 {@code maxlen} 필드에 저장됩니다. 재조정을 위해 채팅방 별 마지막 접근 시각({@code LRU_KEY})과
+ *  조회 깊이({@code DEPTH_KEY}) 를 sorted set 으로 기록합니다. 캐시를 비우거나 다시 채우더라도 {@code maxlen} 과
+ *  {@code writes} 는 유지되며, 캐시 제거는 수집 이후 접근이 없는 채팅방에 대해서만 수행됩니다.
+ *  <br><br>
+ *
  *  해당 데이터는 영속화 되지 않습니다. 오로지 캐싱의 용도로만 사용하여야 합니다.
  *
  * @author jack8
@@ -67,21 +101,55 @@ import com.studypals.domain.chatManage.entity.ChatMessage;
  * @since 2025-07-25
  */
 @Repository
+@Slf4j
 @RequiredArgsConstructor
 public class ChatMessageCacheRepositoryImpl implements ChatMessageCacheRepository {
 
     /** Redis Streams 연산을 수행하기 위한 기본 템플릿입니다. */
     private final RedisTemplate<String, String> redisTemplate;
 
+    /** 새로 추가하는 엔트리의 포맷입니다. fields 또는 compact */
+    @Value("${chat.cache.stream-format:fields}")
+    private String streamFormat;
+
     /** 채팅방별 Redis Stream 키를 구성하기 위한 접두사입니다. */
-    private static final String KEY_PREFIX = "chat:msg:room:";
+    static final String KEY_PREFIX = "chat:msg:room:";
+
+    /** 채팅방별 stream 요약 hash 키를 구성하기 위한 접두사입니다. */
+    static final String SUMMARY_PREFIX = "chat:msg:summary:";
+
+    /** 채팅방 캐시 재구성 lease 키를 구성하기 위한 접두사입니다. */
+    private static final String LEASE_PREFIX = "chat:msg:lease:";
+
+    /** token 이 일치하는 경우에만 lease 를 삭제합니다. */
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = RedisScript.of(
+            """
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('del', KEYS[1])
+            else return 0 end
+            """,
+            Long.class);
+
+    /** 채팅방 별 최대 길이가 정해지지 않은 Redis Stream 에 유지할 메시지의 목표 최대 개수입니다. */
+    static final int DEFAULT_LEN = 100;
+
+    /** 한 번의 범위 조회로 가져오는 최대 메시지 수입니다. 채팅방 별 최대 길이의 상한과 같습니다. */
+    static final int MAX_RANGE = 1000;
+
+    /*
+     * 사용 현황 key 에는 hash tag 를 붙이지 않습니다. 추가 스크립트가 채팅방의 key 와 함께 접근 시각을 갱신하므로, 어차피
+     * 단일 redis 를 전제로 합니다. redis cluster 로 옮길 경우 접근 시각 기록을 스크립트 밖으로 분리하고, 조회 깊이를
+     * 옮기는(RENAME) 두 key 에 같은 hash tag 를 붙여야 합니다.
+     */
+
+    /** 채팅방 별 마지막 접근(조회/추가) 시각을 기록하는 sorted set 입니다. (member: roomId, score: epoch ms) */
+    private static final String LRU_KEY = "chat:msg:lru";
 
-    /** Redis Stream 에 유지할 메시지의 목표 최대 개수입니다. */
-    private static final int MAX_LEN = 100;
+    /** 재조정 이후 채팅방 별 가장 깊은 조회 구간을 기록하는 sorted set 입니다. (member: roomId, score: 메시지 수) */
+    private static final String DEPTH_KEY = "chat:msg:depth";
 
-    /** XADD 실행 시 사용할 maxlen 및 approximate trimming 옵션입니다. */
-    private static final RedisStreamCommands.XAddOptions ADD_OPTS =
-            RedisStreamCommands.XAddOptions.maxlen(MAX_LEN).approximateTrimming(true);
+    /** 집계 도중 기록되는 조회 깊이가 유실되지 않도록, 집계 전에 {@code DEPTH_KEY} 를 옮겨두는 key 입니다. */
+    private static final String DEPTH_COLLECT_KEY = "chat:msg:depth:collect";
 
     /** ChatMessage 의 id 필드명 (Redis stream 내 필드명으로 사용). */
     private static final String ID_FIELD = ChatMessage.FieldName.ID.getName();
@@ -93,16 +161,44 @@ public class ChatMessageCacheRepositoryImpl implements ChatMessageCacheRepositor
     private static final String SENDER_FIELD = ChatMessage.FieldName.SENDER.getName();
     /** ChatMessage 의 message 필드명 (본문 내용). */
     private static final String MESSAGE_FIELD = ChatMessage.FieldName.MESSAGE.getName();
-
-    @SuppressWarnings("rawtypes")
-    private static final RedisScript<List> STREAM_META_SCRIPT = loadStreamMetaScript();
-
-    @SuppressWarnings("rawtypes")
-    private static RedisScript<List> loadStreamMetaScript() {
-        try (InputStreamReader reader = new InputStreamReader(
-                new ClassPathResource("redis/chat_stream_meta.lua").getInputStream(), StandardCharsets.UTF_8)) {
+    /** ChatMessage 의 seq 필드명 (채팅방 내 메시지 순번). 순번이 없는 메시지는 필드가 없습니다. */
+    private static final String SEQ_FIELD = ChatMessage.FieldName.SEQ.getName();
+    /** compact 포맷 엔트리의 필드명. 이 필드가 있다면 다른 필드는 없습니다. */
+    private static final String PAYLOAD_FIELD = ChatStreamCodec.FIELD;
+
+    /** 요약 hash 의 필드명. type, sender, message, payload 는 stream 의 필드명을 그대로 사용합니다. */
+    private static final String LEN_FIELD = "len";
+    private static final String OLDEST_FIELD = "oldest";
+    private static final String NEWEST_FIELD = "newest";
+    static final String MAXLEN_FIELD = "maxlen";
+    private static final String WRITES_FIELD = "writes";
+    private static final List<String> SUMMARY_FIELDS =
+            List.of(LEN_FIELD, OLDEST_FIELD, NEWEST_FIELD, TYPE_FIELD, SENDER_FIELD, MESSAGE_FIELD, PAYLOAD_FIELD);
+    private static final List<String> USAGE_FIELDS = List.of(LEN_FIELD, MAXLEN_FIELD, WRITES_FIELD);
+
+    /** 채팅방 하나의 stream 에 메시지를 추가하고, 요약 hash 와 마지막 접근 시각을 갱신합니다. */
+    private static final RedisScript<Long> APPEND_SCRIPT = loadScript("redis/chat_stream_append.lua");
+
+    /** 요약 hash 가 없는 기존 stream 에 대해 요약을 채웁니다. */
+    private static final RedisScript<Long> SUMMARY_SCRIPT = loadScript("redis/chat_stream_summary.lua");
+
+    /** DB 에서 조회한 메시지를 stream 을 비우지 않고 병합합니다. */
+    private static final RedisScript<Long> REBUILD_SCRIPT = loadScript("redis/chat_stream_rebuild.lua");
+
+    /** 채팅방의 stream 최대 길이를 변경하고, 그에 맞게 stream 을 자릅니다. */
+    private static final RedisScript<Long> TRIM_SCRIPT = loadScript("redis/chat_stream_trim.lua");
+
+    /** 채팅방의 stream 을 삭제합니다. 요약 hash 의 최대 길이, 추가된 메시지 수는 유지됩니다. */
+    private static final RedisScript<Long> CLEAR_SCRIPT = loadScript("redis/chat_stream_clear.lua");
+
+    /** 수집 이후 접근이 없는 채팅방의 캐시를 사용 현황 기록과 함께 삭제합니다. */
+    private static final RedisScript<Long> EVICT_SCRIPT = loadScript("redis/chat_stream_evict.lua");
+
+    private static RedisScript<Long> loadScript(String path) {
+        try (InputStreamReader reader =
+                new InputStreamReader(new ClassPathResource(path).getInputStream(), StandardCharsets.UTF_8)) {
             String script = FileCopyUtils.copyToString(reader);
-            return RedisScript.of(script, List.class);
+            return RedisScript.of(script, Long.class);
 
         } catch (IOException e) {
             throw new IllegalStateException("failed to load lua script");
@@ -117,66 +213,92 @@ public class ChatMessageCacheRepositoryImpl implements ChatMessageCacheRepositor
      * @return 캐시 가능한 최대 메시지 개수
      */
     public int getMaxLen() {
-        return MAX_LEN;
+        return DEFAULT_LEN;
+    }
+
+    /**
+     * 요약 hash 에 저장된 채팅방 별 최대 길이를 반환합니다. 재조정되지 않은 채팅방은 {@code DEFAULT_LEN} 을 반환합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @return 채팅방의 캐시 최대 길이
+     */
+    @Override
+    public int getMaxLen(String roomId) {
+        String maxLen = redisTemplate.<String, String>opsForHash().get(SUMMARY_PREFIX + roomId, MAXLEN_FIELD);
+        return maxLen == null ? DEFAULT_LEN : Integer.parseInt(maxLen);
     }
 
     /**
      * 단일 채팅 메시지를 Redis Stream 에 저장합니다.
      * <p>
-     * 채팅방 ID와 메시지 ID를 기반으로 stream key 및 record id 를 생성하여 XADD 를 수행합니다.
+     * 채팅방 ID와 메시지 ID를 기반으로 stream key 및 record id 를 생성하여 XADD 를 수행하고, 요약 hash 와 마지막 접근
+     * 시각을 같은 스크립트 안에서 갱신합니다.
      *
      * @param chatMessage 저장할 채팅 메시지
+     * @throws RuntimeException 메시지 저장에 실패한 경우
      */
     public void save(ChatMessage chatMessage) {
-        MapRecord<String, String, String> record = recordBuilder(chatMessage);
-        redisTemplate.opsForStream().add(record, ADD_OPTS);
+        String roomId = chatMessage.getRoomId();
+        Long failed = redisTemplate.execute(
+                APPEND_SCRIPT, appendKeys(roomId), appendArgs(roomId, List.of(chatMessage)).toArray());
+        if (failed != null && failed > 0) throw new RuntimeException("save failed: " + chatMessage.getId());
     }
 
     /**
-     * 여러 채팅 메시지를 파이프라인을 이용해 한 번에 Redis Stream 에 저장합니다.
+     * 여러 채팅 메시지를 채팅방 단위로 묶어 Redis Stream 에 저장합니다.
      * <p>
-     * 네트워크 왕복 횟수를 줄이기 위해 executePipelined 를 사용하며,
-     * 개별 메시지 저장 중 발생한 예외는 모두 수집하여 마지막에 한 번에 던집니다.
+     * 채팅방 당 한 번의 스크립트 실행으로 모든 메시지를 추가하고 요약 hash 를 갱신합니다. 채팅방 하나의 키만 다루므로,
+     * 여러 채팅방에 대한 저장이 하나의 스크립트로 묶이지 않으며, 대신 모든 채팅방의 스크립트를 하나의 파이프라인으로
+     * 전송합니다. 스크립트가 추가하지 못한 메시지가 있는 채팅방은 {@code rejected} 로, 스크립트 자체가 실패한 채팅방은
+     * {@code failed} 로 모아 반환합니다.
      *
      * @param messages 저장할 채팅 메시지 컬렉션
-     * @throws RuntimeException 하나 이상의 메시지 저장에 실패한 경우, 실패 건수 및 suppressed 예외를 포함한 예외를 던집니다.
+     * @return 채팅방 별 저장 결과. 파이프라인 전체가 실패했다면 모든 채팅방이 {@code failed} 에 담깁니다.
      */
-    @SuppressWarnings("unchecked")
-    public void saveAll(Collection<ChatMessage> messages) {
+    public SaveResult saveAll(Collection<ChatMessage> messages) {
+        Map<String, List<ChatMessage>> byRoom = new LinkedHashMap<>();
+        for (ChatMessage message : messages) {
+            byRoom.computeIfAbsent(message.getRoomId(), k -> new ArrayList<>()).add(message);
+        }
 
-        List<Throwable> errors =
-                (messages instanceof ArrayList<?>) ? new ArrayList<>(messages.size()) : new ArrayList<>();
+        List<String> rooms = new ArrayList<>(byRoom.keySet());
+        List<RedisScriptPipeline.Call> calls = new ArrayList<>(rooms.size());
+        for (String roomId : rooms) {
+            calls.add(new RedisScriptPipeline.Call(appendKeys(roomId), appendArgs(roomId, byRoom.get(roomId))));
+        }
 
-        redisTemplate.executePipelined(new SessionCallback<Void>() {
-            @Override
-            public Void execute(RedisOperations operations) throws DataAccessException {
-                StreamOperations<String, String, String> streamOps = operations.opsForStream();
+        Set<String> rejected = new LinkedHashSet<>();
+        Map<String, Throwable> failed = new LinkedHashMap<>();
+        List<Object> results;
+        try {
+            results = RedisScriptPipeline.execute(redisTemplate, APPEND_SCRIPT, calls);
+        } catch (RedisPipelineException e) {
+            // 일부 채팅방의 스크립트만 실패한 경우, 결과 목록의 해당 위치에 예외가 담깁니다.
+            results = e.getResults();
+        } catch (RuntimeException e) {
+            rooms.forEach(roomId -> failed.put(roomId, e));
+            return new SaveResult(rejected, failed);
+        }
 
-                for (ChatMessage message : messages) {
-                    try {
-                        streamOps.add(recordBuilder(message), ADD_OPTS);
-                    } catch (Throwable t) {
-                        // 개별 메시지 저장 실패를 누적
-                        errors.add(t);
-                    }
-                }
-                return null;
+        for (int i = 0; i < rooms.size(); i++) {
+            Object result = i < results.size() ? results.get(i) : null;
+            if (result instanceof Long count) {
+                if (count > 0) rejected.add(rooms.get(i));
+            } else if (result instanceof Throwable e) {
+                failed.put(rooms.get(i), e);
             }
-        });
-
-        if (!errors.isEmpty()) {
-            RuntimeException ex = new RuntimeException("saveAll failed: " + errors.size() + " error(s)");
-            errors.forEach(ex::addSuppressed);
-            throw ex;
         }
+        return new SaveResult(rejected, failed);
     }
 
     /**
      * 여러 채팅방에 대해 기준 채팅 ID 이후의 메시지 개수와 최신 메시지 정보를 일괄 계산합니다.
      * <p>
-     * 1차 파이프라인으로 각 채팅방 별 Stream info 를 조회하고,<br>
-     * info 만으로 판단 가능한 경우는 즉시 결과를 생성합니다. <br>
+     * 1차 파이프라인으로 각 채팅방 별 요약 hash 를 HMGET 으로 조회하고,<br>
+     * 요약만으로 판단 가능한 경우는 즉시 결과를 생성합니다. <br>
      * 이후 범위 조회가 필요한 채팅방에 대해서만 2차 파이프라인으로 XRange 를 수행합니다.
+     * <p>
+     * 모든 명령이 채팅방 하나의 키만 다루므로, 채팅방의 키가 여러 slot 에 흩어져 있어도 동작합니다.
      *
      * @param readInfos key: roomId, value: 기준 채팅 ID (hex 문자열)
      * @return key: roomId, value: 기준 이후 메시지 개수 및 최신 메시지 정보를 담은 DTO
@@ -185,14 +307,33 @@ public class ChatMessageCacheRepositoryImpl implements ChatMessageCacheRepositor
     public Map<String, ChatroomLatestInfo> countAllToLatest(Map<String, String> readInfos) {
         Map<String, ChatroomLatestInfo> result = new HashMap<>(readInfos.size());
         List<String> rooms = new ArrayList<>(readInfos.keySet());
-        List<String> streamKeys = rooms.stream().map(id -> KEY_PREFIX + id).toList();
 
-        List<List<Object>> raws = (List<List<Object>>) (List<?>) redisTemplate.execute(
-                STREAM_META_SCRIPT, streamKeys, ID_FIELD, TYPE_FIELD, SENDER_FIELD, MESSAGE_FIELD);
+        List<Object> summaries = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                HashOperations<String, String, String> hashOps = operations.opsForHash();
+                for (String roomId : rooms) {
+                    hashOps.multiGet(SUMMARY_PREFIX + roomId, SUMMARY_FIELDS);
+                }
+                return null;
+            }
+        });
+
+        List<RoomMeta> metas = new ArrayList<>(rooms.size());
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < rooms.size(); i++) {
+            List<String> summary = (List<String>) summaries.get(i);
+            if (summary == null || summary.get(0) == null) {
+                missing.add(rooms.get(i));
+            } else {
+                metas.add(RoomMeta.fromSummary(rooms.get(i), summary));
+            }
+        }
+        // 요약이 없는 채팅방(요약 도입 이전의 stream 혹은 빈 채팅방)은 stream 에서 직접 조회
+        if (!missing.isEmpty()) metas.addAll(readFromStreams(missing));
 
         List<RoomMeta> needRange = new ArrayList<>();
-        for (List<Object> raw : raws) {
-            RoomMeta meta = new RoomMeta(raw);
+        for (RoomMeta meta : metas) {
             // meta 에 검색할 targetId 를 삽입
             String rawId = readInfos.get(meta.roomId);
             meta.targetId = encode(rawId).getValue();
@@ -214,7 +355,7 @@ public class ChatMessageCacheRepositoryImpl implements ChatMessageCacheRepositor
                     StreamOperations<String, String, String> streamOps = operations.opsForStream();
                     for (RoomMeta meta : needRange) {
                         Range<String> r = Range.of(Range.Bound.exclusive(meta.targetId), Range.Bound.unbounded());
-                        streamOps.range(meta.streamKey, r, Limit.limit().count(MAX_LEN));
+                        streamOps.range(meta.streamKey, r, Limit.limit().count(DEFAULT_LEN));
                     }
                     return null;
                 }
@@ -228,7 +369,7 @@ public class ChatMessageCacheRepositoryImpl implements ChatMessageCacheRepositor
                     // info 상으로는 범위가 있어야 하나, 실제 조회 결과가 비면 비정상 상태로 간주
                     result.put(meta.roomId, createEmptyInfo(-1));
                 } else {
-                    int cnt = Math.min(MAX_LEN, eachResult.size());
+                    int cnt = Math.min(DEFAULT_LEN, eachResult.size());
                     // range 는 오래된 → 최신 순이므로 마지막 요소가 최신 메시지
                     result.put(meta.roomId, toLatestInfo(cnt, meta.latestChat));
                 }
@@ -259,7 +400,7 @@ public class ChatMessageCacheRepositoryImpl implements ChatMessageCacheRepositor
      *
      * @param roomId 채팅방 ID
      * @param chatId 기준 채팅 ID (hex 문자열)
-     * @return 기준 ID를 포함한 이후 구간의 메시지 목록 (최대 {@link #MAX_LEN} 개)
+     * @return 기준 ID를 포함한 이후 구간의 메시지 목록 (최대 {@link #MAX_RANGE} 개)
      */
     public List<ChatMessage> fetchFromId(String roomId, String chatId) {
         String streamKey = KEY_PREFIX + roomId;
@@ -271,17 +412,362 @@ public class ChatMessageCacheRepositoryImpl implements ChatMessageCacheRepositor
         Range<String> range = Range.of(Range.Bound.inclusive(targetId), Range.Bound.unbounded());
 
         List<MapRecord<String, String, String>> result =
-                streamOps.reverseRange(streamKey, range, Limit.limit().count(MAX_LEN));
+                streamOps.reverseRange(streamKey, range, Limit.limit().count(MAX_RANGE));
 
         if (result == null || result.isEmpty()) return List.of();
 
-        return result.stream().map(this::toEntity).toList();
+        return result.stream().map(ChatMessageCacheRepositoryImpl::toEntity).toList();
     }
 
+    /**
+     * 특정 채팅방에서 기준 채팅 ID 미만의 메시지를 최신 순으로 조회합니다.
+     * <p>
+     * XREVRANGE 로 count 개를 조회하며, count 개를 모두 채운 경우에만 캐시 범위 내로 판단합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param beforeId 기준 채팅 ID (미포함), null 이라면 가장 최신 메시지부터
+     * @param count 조회할 개수
+     * @return 메시지 목록 (최신 → 오래된 순), 캐시 범위를 벗어났다면 Optional.empty()
+     */
     @Override
-    public void clear(String roomId) {
+    public Optional<List<ChatMessage>> fetchBefore(String roomId, String beforeId, int count) {
+        Range<String> range = beforeId == null
+                ? Range.unbounded()
+                : Range.of(Range.Bound.unbounded(), Range.Bound.exclusive(encode(beforeId).getValue()));
+
+        List<MapRecord<String, String, String>> result =
+                redisTemplate.opsForStream().reverseRange(KEY_PREFIX + roomId, range, Limit.limit().count(count));
+
+        if (result == null || result.size() < count) return Optional.empty();
+        return Optional.of(result.stream().map(ChatMessageCacheRepositoryImpl::toEntity).toList());
+    }
+
+    /**
+     * 특정 채팅방에서 기준 채팅 ID 초과의 메시지를 오래된 순으로 조회합니다.
+     * <p>
+     * 파이프라인으로 가장 오래된 엔트리와 기준 이후 구간을 함께 조회하고, 기준 ID 가 가장 오래된 엔트리 이상인 경우에만
+     * 캐시 범위 내로 판단합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param afterId 기준 채팅 ID (미포함)
+     * @param count 최대 조회 개수
+     * @return 메시지 목록 (오래된 → 최신 순), 캐시 범위를 벗어났다면 Optional.empty()
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<List<ChatMessage>> fetchAfter(String roomId, String afterId, int count) {
         String streamKey = KEY_PREFIX + roomId;
-        redisTemplate.delete(streamKey);
+        String targetId = encode(afterId).getValue();
+
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                StreamOperations<String, String, String> streamOps = operations.opsForStream();
+                streamOps.range(streamKey, Range.unbounded(), Limit.limit().count(1));
+                streamOps.range(
+                        streamKey,
+                        Range.of(Range.Bound.exclusive(targetId), Range.Bound.unbounded()),
+                        Limit.limit().count(count));
+                return null;
+            }
+        });
+
+        List<MapRecord<String, String, String>> oldest = (List<MapRecord<String, String, String>>) results.get(0);
+        if (oldest == null || oldest.isEmpty()) return Optional.empty();
+        if (ChatMessageIds.compareRecordIds(targetId, oldest.get(0).getId().getValue()) < 0) return Optional.empty();
+
+        List<MapRecord<String, String, String>> range = (List<MapRecord<String, String, String>>) results.get(1);
+        if (range == null) return Optional.of(List.of());
+        return Optional.of(range.stream().map(ChatMessageCacheRepositoryImpl::toEntity).toList());
+    }
+
+    /**
+     * 채팅방 별 메시지 ID 에 대해 스트림에 기록된 순번을 조회합니다.
+     * <p>
+     * 메시지 ID 가 곧 record id 이므로, 파이프라인으로 각 ID 에 대한 단일 엔트리 범위 조회를 수행합니다.
+     *
+     * @param chatIds key: 채팅방 ID, value: 순번을 조회할 채팅 메시지 ID 목록
+     * @return key: 채팅 메시지 ID, value: 메시지 순번
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Long> findSequences(Map<String, ? extends Collection<String>> chatIds) {
+        List<String> ids = new ArrayList<>();
+        chatIds.values().forEach(ids::addAll);
+        if (ids.isEmpty()) return Map.of();
+
+        List<Object> records = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                StreamOperations<String, String, String> streamOps = operations.opsForStream();
+                chatIds.forEach((roomId, roomChatIds) -> {
+                    for (String chatId : roomChatIds) {
+                        String recordId = encode(chatId).getValue();
+                        streamOps.range(KEY_PREFIX + roomId, Range.closed(recordId, recordId));
+                    }
+                });
+                return null;
+            }
+        });
+
+        Map<String, Long> result = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            List<MapRecord<String, String, String>> found = (List<MapRecord<String, String, String>>) records.get(i);
+            if (found == null || found.isEmpty()) continue;
+
+            Map<String, String> value = found.get(0).getValue();
+            String payload = value.get(PAYLOAD_FIELD);
+            if (payload != null) {
+                Long seq = ChatStreamCodec.decode(payload).seq();
+                if (seq != null) result.put(ids.get(i), seq);
+                continue;
+            }
+
+            String seq = value.get(SEQ_FIELD);
+            if (seq != null) result.put(ids.get(i), Long.parseLong(seq));
+        }
+        return result;
+    }
+
+    @Override
+    public void clear(String roomId) {
+        redisTemplate.execute(CLEAR_SCRIPT, List.of(KEY_PREFIX + roomId, SUMMARY_PREFIX + roomId));
+    }
+
+    /**
+     * DB 에서 조회한 메시지를 채팅방의 stream 에 병합합니다.
+     * <p>
+     * stream 을 비우지 않으므로, 이미 추가되었지만 아직 DB 에 저장되지 않은 메시지가 유지됩니다. stream 에 이미 있는
+     * record id 는 건너뛰며, 기존 엔트리보다 과거의 메시지가 있다면 스크립트 안에서 기존 엔트리와 합쳐 다시 씁니다.
+     * 요약 hash 의 최대 길이, 추가된 메시지 수는 유지됩니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param messages 병합할 메시지 (ID 오름차순)
+     */
+    @Override
+    public void merge(String roomId, List<ChatMessage> messages) {
+        if (messages.isEmpty()) return;
+        List<String> args = new ArrayList<>(List.of(String.valueOf(DEFAULT_LEN), formatArg()));
+        args.addAll(entryArgs(messages));
+        redisTemplate.execute(REBUILD_SCRIPT, List.of(KEY_PREFIX + roomId, SUMMARY_PREFIX + roomId), args.toArray());
+    }
+
+    @Override
+    public String tryLease(String roomId, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean ok = redisTemplate.opsForValue().setIfAbsent(LEASE_PREFIX + roomId, token, ttl);
+        return Boolean.TRUE.equals(ok) ? token : null;
+    }
+
+    @Override
+    public void releaseLease(String roomId, String token) {
+        if (token == null) return;
+        redisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(LEASE_PREFIX + roomId), token);
+    }
+
+    @Override
+    public void recordReads(Map<String, Integer> depths) {
+        if (depths.isEmpty()) return;
+
+        double now = System.currentTimeMillis();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            RedisZSetCommands zSetOps = connection.zSetCommands();
+            depths.forEach((roomId, depth) -> {
+                byte[] member = bytes(roomId);
+                zSetOps.zAdd(bytes(LRU_KEY), now, member, RedisZSetCommands.ZAddArgs.empty().gt());
+                zSetOps.zAdd(bytes(DEPTH_KEY), depth, member, RedisZSetCommands.ZAddArgs.empty().gt());
+            });
+            return null;
+        });
+    }
+
+    /**
+     * 캐시된 채팅방의 사용 현황을 수집합니다.
+     * <p>
+     * 조회 깊이는 다른 key 로 옮긴 뒤 읽고 삭제하여, 다음 재조정까지의 조회 깊이가 새로 기록되도록 합니다.
+     * 각 채팅방의 길이, 최대 길이, 추가된 메시지 수는 요약 hash 에 대한 파이프라인 HMGET 으로 조회합니다.
+     *
+     * @return 채팅방 별 사용 현황 (마지막 접근 시각 오름차순)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ChatStreamUsage> collectUsages() {
+        Set<ZSetOperations.TypedTuple<String>> accessed = redisTemplate.opsForZSet().rangeWithScores(LRU_KEY, 0, -1);
+        if (accessed == null || accessed.isEmpty()) return List.of();
+
+        Map<String, Integer> depths = new HashMap<>();
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(DEPTH_KEY))) {
+            redisTemplate.rename(DEPTH_KEY, DEPTH_COLLECT_KEY);
+            Set<ZSetOperations.TypedTuple<String>> collected =
+                    redisTemplate.opsForZSet().rangeWithScores(DEPTH_COLLECT_KEY, 0, -1);
+            redisTemplate.delete(DEPTH_COLLECT_KEY);
+            if (collected != null) {
+                collected.forEach(t -> depths.put(t.getValue(), t.getScore().intValue()));
+            }
+        }
+
+        List<ZSetOperations.TypedTuple<String>> rooms = new ArrayList<>(accessed);
+        List<Object> summaries = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                HashOperations<String, String, String> hashOps = operations.opsForHash();
+                for (ZSetOperations.TypedTuple<String> room : rooms) {
+                    hashOps.multiGet(SUMMARY_PREFIX + room.getValue(), USAGE_FIELDS);
+                }
+                return null;
+            }
+        });
+
+        List<ChatStreamUsage> usages = new ArrayList<>(rooms.size());
+        for (int i = 0; i < rooms.size(); i++) {
+            String roomId = rooms.get(i).getValue();
+            List<String> summary = (List<String>) summaries.get(i);
+            usages.add(new ChatStreamUsage(
+                    roomId,
+                    rooms.get(i).getScore().longValue(),
+                    summary == null || summary.get(0) == null ? null : Long.parseLong(summary.get(0)),
+                    summary == null || summary.get(1) == null ? null : Integer.parseInt(summary.get(1)),
+                    summary == null || summary.get(2) == null ? 0 : Long.parseLong(summary.get(2)),
+                    depths.getOrDefault(roomId, 0)));
+        }
+        return usages;
+    }
+
+    @Override
+    public void resize(String roomId, int maxLen, long writes) {
+        redisTemplate.execute(
+                TRIM_SCRIPT,
+                List.of(KEY_PREFIX + roomId, SUMMARY_PREFIX + roomId),
+                String.valueOf(maxLen),
+                String.valueOf(writes));
+    }
+
+    /**
+     * 채팅방 별 삭제 스크립트를 하나의 파이프라인으로 실행합니다. 스크립트는 현재 접근 시각을 수집 시점의 값, 상한과
+     * 비교하여 그 사이에 메시지가 추가된 채팅방은 삭제하지 않습니다.
+     */
+    @Override
+    public int evict(Collection<ChatStreamUsage> usages, long idleBefore) {
+        if (usages.isEmpty()) return 0;
+
+        List<RedisScriptPipeline.Call> calls = new ArrayList<>(usages.size());
+        for (ChatStreamUsage usage : usages) {
+            String roomId = usage.roomId();
+            calls.add(new RedisScriptPipeline.Call(
+                    List.of(KEY_PREFIX + roomId, SUMMARY_PREFIX + roomId, LRU_KEY),
+                    List.of(roomId, String.valueOf(usage.lastAccess()), String.valueOf(idleBefore))));
+        }
+
+        int evicted = 0;
+        for (Object result : RedisScriptPipeline.execute(redisTemplate, EVICT_SCRIPT, calls)) {
+            if (result instanceof Long count) evicted += count.intValue();
+        }
+        return evicted;
+    }
+
+    /** 추가 스크립트의 KEYS 입니다. (stream, 요약 hash, 마지막 접근 시각) */
+    private static List<String> appendKeys(String roomId) {
+        return List.of(KEY_PREFIX + roomId, SUMMARY_PREFIX + roomId, LRU_KEY);
+    }
+
+    /**
+     * 추가 스크립트의 ARGV 를 구성합니다. 마지막 접근 시각은 현재 시각으로 기록됩니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param messages 추가할 메시지 (ID 오름차순)
+     */
+    private List<String> appendArgs(String roomId, List<ChatMessage> messages) {
+        List<String> args = new ArrayList<>(List.of(
+                String.valueOf(DEFAULT_LEN), formatArg(), String.valueOf(System.currentTimeMillis()), roomId));
+        args.addAll(entryArgs(messages));
+        return args;
+    }
+
+    /**
+     * 추가, 병합 스크립트의 엔트리 ARGV 를 구성합니다. 엔트리는 {@code streamFormat} 의 포맷으로 저장됩니다.
+     */
+    private List<String> entryArgs(List<ChatMessage> messages) {
+        boolean compact = isCompact();
+        List<String> args = new ArrayList<>(messages.size() * (compact ? 2 : 5));
+        for (ChatMessage message : messages) {
+            args.add(encode(message.getId()).getValue());
+            if (compact) {
+                args.add(ChatStreamCodec.encode(message));
+                continue;
+            }
+            // 필드 값이 null 인 경우 빈 문자열로 치환
+            args.add(message.getType().toString());
+            args.add(Objects.toString(message.getSender(), ""));
+            args.add(Objects.toString(message.getContent(), ""));
+            args.add(message.getSeq() == null ? "" : message.getSeq().toString());
+        }
+        return args;
+    }
+
+    private String formatArg() {
+        return isCompact() ? "compact" : "fields";
+    }
+
+    private boolean isCompact() {
+        return "compact".equalsIgnoreCase(streamFormat);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 요약 hash 가 없는 채팅방에 대해, 파이프라인으로 stream 의 길이와 양 끝 엔트리를 조회합니다.
+     * 비어 있지 않은 stream 은 요약을 채워, 다음 조회부터는 요약을 사용하도록 합니다.
+     *
+     * @param rooms 요약이 없는 채팅방 ID 목록
+     * @return 채팅방 별 메타 정보
+     */
+    @SuppressWarnings("unchecked")
+    private List<RoomMeta> readFromStreams(List<String> rooms) {
+        List<Object> raws = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                StreamOperations<String, String, String> streamOps = operations.opsForStream();
+                for (String roomId : rooms) {
+                    String streamKey = KEY_PREFIX + roomId;
+                    streamOps.size(streamKey);
+                    streamOps.range(streamKey, Range.unbounded(), Limit.limit().count(1));
+                    streamOps.reverseRange(streamKey, Range.unbounded(), Limit.limit().count(1));
+                }
+                return null;
+            }
+        });
+
+        List<RoomMeta> metas = new ArrayList<>(rooms.size());
+        for (int i = 0; i < rooms.size(); i++) {
+            String roomId = rooms.get(i);
+            Long length = (Long) raws.get(i * 3);
+            List<MapRecord<String, String, String>> first =
+                    (List<MapRecord<String, String, String>>) raws.get(i * 3 + 1);
+            List<MapRecord<String, String, String>> last =
+                    (List<MapRecord<String, String, String>>) raws.get(i * 3 + 2);
+
+            if (length == null || length == 0 || first == null || first.isEmpty() || last == null || last.isEmpty()) {
+                metas.add(RoomMeta.empty(roomId));
+                continue;
+            }
+
+            metas.add(RoomMeta.fromRecords(roomId, length, first.get(0), last.get(0)));
+            fillSummary(roomId);
+        }
+        return metas;
+    }
+
+    /**
+     * 기존 stream 에 대한 요약을 채웁니다. 실패하더라도 다음 조회에서 다시 시도되므로 조회를 실패시키지 않습니다.
+     */
+    private void fillSummary(String roomId) {
+        try {
+            redisTemplate.execute(SUMMARY_SCRIPT, List.of(KEY_PREFIX + roomId, SUMMARY_PREFIX + roomId));
+        } catch (DataAccessException e) {
+            log.warn("fail to fill chat stream summary. roomId={}", roomId, e);
+        }
     }
 
     /**
@@ -310,23 +796,8 @@ public class ChatMessageCacheRepositoryImpl implements ChatMessageCacheRepositor
                 cnt, chatMessage.getId(), chatMessage.getType(), chatMessage.getContent(), chatMessage.getSender());
     }
 
-    /**
-     * 지정된 Stream 에서 reverseRange 를 사용하여 가장 최신 메시지 한 건을 조회합니다.
-     *
-     * @param streamKey 조회할 Stream 키
-     * @param ops       StreamOperations 구현체
-     * @return 최신 MapRecord, 없으면 null
-     */
-    private MapRecord<String, String, String> searchLast(
-            String streamKey, StreamOperations<String, String, String> ops) {
-        List<MapRecord<String, String, String>> result =
-                ops.reverseRange(streamKey, Range.unbounded(), Limit.limit().count(1));
-        if (result == null || result.isEmpty()) return null;
-        return result.get(0);
-    }
-
     // snowflake 기반 ID 는 시간 순 정렬이 가능하므로, 이를 Redis Stream record id 로 변환
-    private static RecordId encode(String chatId) {
+    static RecordId encode(String chatId) {
         return RecordId.of(Long.parseLong(chatId, 16) + "-0");
     }
 
@@ -340,64 +811,38 @@ public class ChatMessageCacheRepositoryImpl implements ChatMessageCacheRepositor
         }
     }
 
-    /**
-     * Redis Stream record id 문자열(앞부분 long 값)을 기준으로 두 ID 의 시간 순서를 비교합니다.
-     *
-     * @param a 비교 대상 ID A (예: "183495732-123")
-     * @param b 비교 대상 ID B (예: "183495752-35")
-     * @return Long.compare 결과 (음수: a &lt; b, 0: 동일, 양수: a &gt; b)
-     */
-    private static int compareIds(String a, String b) {
-        long va = Long.parseLong(a.substring(0, a.indexOf('-')));
-        long vb = Long.parseLong(b.substring(0, b.indexOf('-')));
-        return Long.compare(va, vb);
-    }
-
-    /**
-     * ChatMessage 엔티티를 Redis Stream 에 저장하기 위한 MapRecord 로 변환합니다.
-     *
-     * @param message 저장할 채팅 메시지
-     * @return Stream key 및 recordId 가 설정된 MapRecord
-     */
-    private MapRecord<String, String, String> recordBuilder(ChatMessage message) {
-        String streamKey = KEY_PREFIX + message.getRoomId();
-        RecordId recordId = encode(message.getId());
-
-        // stream body 에 저장할 필드 구성 (필드 값이 null 인 경우 빈 문자열로 치환)
-        Map<String, String> body = new HashMap<>(4);
-        body.put(ID_FIELD, Objects.toString(recordId.getValue(), ""));
-        body.put(TYPE_FIELD, Objects.toString(message.getType().toString(), ""));
-        body.put(SENDER_FIELD, Objects.toString(message.getSender(), ""));
-        body.put(MESSAGE_FIELD, message.getContent());
-
-        return StreamRecords.<String, String, String>mapBacked(body)
-                .withStreamKey(streamKey)
-                .withId(recordId);
-    }
-
     /**
      * Redis Stream 의 MapRecord 를 ChatMessage 엔티티로 변환합니다.
      * <p>
-     * Stream 내 ID 필드는 Snowflake 기반 16진수 문자열로 복원됩니다.
+     * Stream 내 ID 필드는 Snowflake 기반 16진수 문자열로 복원됩니다. compact 포맷 엔트리는 ID 필드가 없으므로,
+     * record id 로부터 복원합니다.
      *
      * @param r Redis MapRecord
      * @return 변환된 ChatMessage 엔티티
      */
-    private ChatMessage toEntity(MapRecord<String, String, String> r) {
+    static ChatMessage toEntity(MapRecord<String, String, String> r) {
         Map<String, String> value = r.getValue();
 
         String fullKey = r.getStream();
         String roomId = stripPrefix(fullKey);
 
+        String payload = value.get(PAYLOAD_FIELD);
+        if (payload != null) {
+            return ChatStreamCodec.decode(payload).toMessage(decode(r.getId().getValue()), roomId);
+        }
+
+        String seq = value.get(SEQ_FIELD);
+
         return new ChatMessage(
                 decode(value.get(ID_FIELD)),
                 ChatType.valueOf(value.get(TYPE_FIELD)),
                 roomId,
                 Long.parseLong(value.get(SENDER_FIELD)),
-                value.get(MESSAGE_FIELD));
+                value.get(MESSAGE_FIELD),
+                seq == null ? null : Long.parseLong(seq));
     }
 
-    private String stripPrefix(String fullKey) {
+    private static String stripPrefix(String fullKey) {
         if (fullKey != null && fullKey.startsWith(KEY_PREFIX)) {
             return fullKey.substring(KEY_PREFIX.length());
         }
@@ -437,37 +882,85 @@ public class ChatMessageCacheRepositoryImpl implements ChatMessageCacheRepositor
 
         String targetId;
 
-        RoomMeta(List<Object> data) {
-            this.streamKey = (String) data.get(0);
-            this.length = (Long) data.get(1);
-            this.oldestEntryId = cast(data.get(2));
-            this.newestEntryId = cast(data.get(3));
-            String senderStr = cast(data.get(6));
-            this.latestChat = ChatMessage.builder()
-                    .id(decode(cast(data.get(4))))
-                    .type(ChatType.from(cast(data.get(5))))
-                    .sender(senderStr == null ? -1L : Long.parseLong(senderStr))
-                    .content(cast(data.get(7)))
+        private RoomMeta(
+                String roomId, long length, String oldestEntryId, String newestEntryId, ChatMessage latestChat) {
+            this.roomId = roomId;
+            this.streamKey = KEY_PREFIX + roomId;
+            this.length = length;
+            this.oldestEntryId = oldestEntryId;
+            this.newestEntryId = newestEntryId;
+            this.latestChat = latestChat;
+        }
+
+        /**
+         * 요약 hash 의 값({@code SUMMARY_FIELDS} 순서)으로 생성합니다.
+         */
+        static RoomMeta fromSummary(String roomId, List<String> summary) {
+            String newest = summary.get(2);
+            return new RoomMeta(
+                    roomId,
+                    Long.parseLong(summary.get(0)),
+                    summary.get(1),
+                    newest,
+                    latestChat(newest, summary.get(3), summary.get(4), summary.get(5), summary.get(6)));
+        }
+
+        /**
+         * stream 의 길이와 양 끝 엔트리로 생성합니다.
+         */
+        static RoomMeta fromRecords(
+                String roomId,
+                long length,
+                MapRecord<String, String, String> first,
+                MapRecord<String, String, String> last) {
+            Map<String, String> value = last.getValue();
+            String newest = last.getId().getValue();
+            return new RoomMeta(
+                    roomId,
+                    length,
+                    first.getId().getValue(),
+                    newest,
+                    latestChat(
+                            newest,
+                            value.get(TYPE_FIELD),
+                            value.get(SENDER_FIELD),
+                            value.get(MESSAGE_FIELD),
+                            value.get(PAYLOAD_FIELD)));
+        }
+
+        static RoomMeta empty(String roomId) {
+            return new RoomMeta(roomId, 0, null, null, latestChat(null, null, null, null, null));
+        }
+
+        private static ChatMessage latestChat(
+                String newest, String type, String sender, String message, String payload) {
+            if (payload != null) {
+                ChatStreamCodec.Entry entry = ChatStreamCodec.decode(payload);
+                return ChatMessage.builder()
+                        .id(decode(newest))
+                        .type(entry.type())
+                        .sender(entry.sender() == null ? -1L : entry.sender())
+                        .content(entry.content())
+                        .build();
+            }
+            return ChatMessage.builder()
+                    .id(decode(newest))
+                    .type(ChatType.from(type))
+                    .sender(sender == null || sender.isEmpty() ? -1L : Long.parseLong(sender))
+                    .content(message)
                     .build();
-            this.roomId = streamKey.substring(KEY_PREFIX.length());
         }
 
         Position position() {
             if (isEmptyStream() || targetId == null) return Position.AFTER_NEWEST;
-            if (compareIds(targetId, oldestEntryId) < 0) return Position.BEFORE_OLDEST;
-            if (compareIds(targetId, newestEntryId) == 0) return Position.AT_NEWEST;
-            if (compareIds(targetId, newestEntryId) > 0) return Position.AFTER_NEWEST;
+            if (ChatMessageIds.compareRecordIds(targetId, oldestEntryId) < 0) return Position.BEFORE_OLDEST;
+            if (ChatMessageIds.compareRecordIds(targetId, newestEntryId) == 0) return Position.AT_NEWEST;
+            if (ChatMessageIds.compareRecordIds(targetId, newestEntryId) > 0) return Position.AFTER_NEWEST;
             return Position.BETWEEN_OLDEST_AND_NEWEST;
         }
 
         boolean isEmptyStream() {
             return length == 0;
         }
-
-        private String cast(Object val) {
-            if (val == null) return null;
-            if (val instanceof Boolean) return null;
-            return String.valueOf(val);
-        }
     }
 }
@@ -0,0 +1,103 @@
+package com.studypals.domain.chatManage.dao;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+
+import com.studypals.domain.chatManage.entity.ChatMessage;
+
+/**
+ * {@link ChatMessage} 에 대한 동기식 커스텀 dao 클래스입니다.
+ *
+ * <p>채팅 내역 조회 연산을 선언합니다. 구현체는 {@code chat.mongo.layout} 에 따라 메시지 당 하나의 문서
+ * ({@code chat_message}) 혹은 채팅방의 시간 구간 당 하나의 문서({@code chat_message_bucket}) 에서 조회합니다.
+ * 두 레이아웃의 결과는 같습니다.
+ *
+ * @author jack8
+ * @see ChatMessageRepository
+ * @see com.studypals.domain.chatManage.entity.ChatMessageBucket ChatMessageBucket
+ * @since 2026-01-27
+ */
+public interface ChatMessageCustomRepository {
+
+    /**
+     * 특정 채팅방에서 기준 메시지 ID 이상을 ID 역순(desc)으로 조회합니다.
+     * <p>
+     * 클라이언트가 특정 chatId 이후의 메시지를 로딩할 때 기본적으로 사용되며,
+     * 캐시가 비어 있을 경우 DB 조회를 위해 활용됩니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param idFrom 기준 메시지 ID (포함)
+     * @return 메시지 목록 (ID 내림차순)
+     */
+    List<ChatMessage> findRecent(String roomId, String idFrom);
+
+    /**
+     * 특정 채팅방에서 지정된 ID 범위 내의 메시지를 조회합니다.
+     * <p>
+     * room 이 동일하고, ID 가 from 이상 to 미만인 메시지를 조회합니다.
+     * 캐시와 DB 데이터를 결합하여 메시지 타임라인을 구성할 때 사용됩니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param from   포함(lower bound) 기준 메시지 ID
+     * @param to     미포함(upper bound) 기준 메시지 ID
+     * @return 범위 내 메시지 목록 (ID 내림차순)
+     */
+    List<ChatMessage> findRange(String roomId, String from, String to);
+
+    /**
+     * 특정 채팅방에서 최신 메시지 100개를 조회하여 가져옵니다.
+     * <p>
+     * @param roomId 조회할 채팅방 아이디
+     * @return 채팅 메시지 리스트(내림차순)
+     */
+    List<ChatMessage> findTop100ByRoomIdOrderByIdDesc(String roomId);
+
+    /**
+     * 특정 채팅방에서 최신 메시지 1개를 조회하여 가져옵니다.
+     * @param roomId 조회할 채팅방 아이디
+     * @return 가장 최신 메시지 1개
+     */
+    Optional<ChatMessage> findTopByRoomIdOrderByIdDesc(String roomId);
+
+    /**
+     * 특정 채팅방에서 최신 메시지부터 최대 limit 개를 조회합니다. (keyset 페이지의 첫 페이지)
+     * @param roomId 조회할 채팅방 아이디
+     * @param limit 최대 조회 개수
+     * @return 채팅 메시지 리스트(내림차순)
+     */
+    List<ChatMessage> findByRoomIdOrderByIdDesc(String roomId, Limit limit);
+
+    /**
+     * 특정 채팅방에서 기준 ID 미만의 메시지를 최신 순으로 최대 limit 개 조회합니다.
+     * (roomId, id) 인덱스 범위 조회로 수행됩니다.
+     * @param roomId 조회할 채팅방 아이디
+     * @param id 기준 메시지 ID (미포함)
+     * @param limit 최대 조회 개수
+     * @return 채팅 메시지 리스트(내림차순)
+     */
+    List<ChatMessage> findByRoomIdAndIdLessThanOrderByIdDesc(String roomId, String id, Limit limit);
+
+    /**
+     * 특정 채팅방에서 기준 ID 초과의 메시지를 오래된 순으로 최대 limit 개 조회합니다.
+     * (roomId, id) 인덱스 범위 조회로 수행됩니다.
+     * @param roomId 조회할 채팅방 아이디
+     * @param id 기준 메시지 ID (미포함)
+     * @param limit 최대 조회 개수
+     * @return 채팅 메시지 리스트(오름차순)
+     */
+    List<ChatMessage> findByRoomIdAndIdGreaterThanOrderByIdAsc(String roomId, String id, Limit limit);
+
+    /**
+     * 채팅방 별 메시지 ID 에 해당하는 메시지를 조회합니다. 순서는 보장되지 않습니다.
+     * <p>
+     * 구간 문서 레이아웃에서는 메시지 ID 만으로 문서를 찾을 수 없으므로, 채팅방 ID 를 함께 받습니다.
+     *
+     * @param chatIds key: 채팅방 ID, value: 조회할 메시지 ID 목록
+     * @return 존재하는 메시지 목록
+     */
+    List<ChatMessage> findAllInRooms(Map<String, ? extends Collection<String>> chatIds);
+}
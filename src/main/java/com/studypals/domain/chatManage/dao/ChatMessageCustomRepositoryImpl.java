@@ -0,0 +1,195 @@
+package com.studypals.domain.chatManage.dao;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import lombok.RequiredArgsConstructor;
+
+import com.studypals.domain.chatManage.entity.ChatMessage;
+import com.studypals.domain.chatManage.entity.ChatMessageBucket;
+
+/**
+ * chat message custom repository 의 구현 클래스입니다.
+ *
+ * <p>{@code chat.mongo.layout} 이 {@code bucket} 이라면 {@link ChatMessageBucket} 에서, 그 외에는
+ * {@link ChatMessage} 에서 조회합니다.
+ * <br>
+ * 구간 문서 레이아웃에서는 기준 ID 로부터 구간의 시작 시각을 계산하여 (roomId, start) 인덱스 범위로 구간 문서를
+ * 조회하고, 문서에 담긴 메시지를 ID 로 걸러냅니다. 개수 제한이 있는 조회는 필요한 개수를 채울 때까지만 문서를 읽습니다.
+ * 한 구간이 여러 문서로 나뉠 수 있으므로, 같은 구간의 문서를 모두 읽어 합친 뒤 걸러냅니다.
+ *
+ * <p><b>상속 정보:</b><br>
+ * {@link ChatMessageCustomRepository} 의 구현 클래스입니다.
+ *
+ * <p><b>빈 관리:</b><br>
+ * Repository
+ *
+ * @author jack8
+ * @see ChatMessageCustomRepository
+ * @since 2026-01-27
+ */
+@RequiredArgsConstructor
+public class ChatMessageCustomRepositoryImpl implements ChatMessageCustomRepository {
+
+    private static final int TOP_SIZE = 100;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${chat.mongo.layout:message}")
+    private String layout;
+
+    @Override
+    public List<ChatMessage> findRecent(String roomId, String idFrom) {
+        if (!isBucket()) {
+            return mongoTemplate.find(
+                    Query.query(where("roomId").is(roomId).and("_id").gte(idFrom)).with(desc()), ChatMessage.class);
+        }
+        Criteria range = where("start").gte(ChatMessageBucket.startOf(idFrom));
+        return collect(roomId, range, true, id -> id.compareTo(idFrom) >= 0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<ChatMessage> findRange(String roomId, String from, String to) {
+        if (!isBucket()) {
+            Criteria criteria = where("roomId").is(roomId).and("_id").gte(from).lt(to);
+            return mongoTemplate.find(Query.query(criteria).with(desc()), ChatMessage.class);
+        }
+        Criteria range = where("start").gte(ChatMessageBucket.startOf(from)).lte(ChatMessageBucket.startOf(to));
+        return collect(
+                roomId, range, true, id -> id.compareTo(from) >= 0 && id.compareTo(to) < 0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<ChatMessage> findTop100ByRoomIdOrderByIdDesc(String roomId) {
+        return findByRoomIdOrderByIdDesc(roomId, Limit.of(TOP_SIZE));
+    }
+
+    @Override
+    public Optional<ChatMessage> findTopByRoomIdOrderByIdDesc(String roomId) {
+        return findByRoomIdOrderByIdDesc(roomId, Limit.of(1)).stream().findFirst();
+    }
+
+    @Override
+    public List<ChatMessage> findByRoomIdOrderByIdDesc(String roomId, Limit limit) {
+        if (!isBucket()) {
+            return mongoTemplate.find(
+                    Query.query(where("roomId").is(roomId)).with(desc()).limit(limit), ChatMessage.class);
+        }
+        return collect(roomId, null, true, id -> true, max(limit));
+    }
+
+    @Override
+    public List<ChatMessage> findByRoomIdAndIdLessThanOrderByIdDesc(String roomId, String id, Limit limit) {
+        if (!isBucket()) {
+            Criteria criteria = where("roomId").is(roomId).and("_id").lt(id);
+            return mongoTemplate.find(Query.query(criteria).with(desc()).limit(limit), ChatMessage.class);
+        }
+        Criteria range = where("start").lte(ChatMessageBucket.startOf(id));
+        return collect(roomId, range, true, each -> each.compareTo(id) < 0, max(limit));
+    }
+
+    @Override
+    public List<ChatMessage> findByRoomIdAndIdGreaterThanOrderByIdAsc(String roomId, String id, Limit limit) {
+        if (!isBucket()) {
+            Criteria criteria = where("roomId").is(roomId).and("_id").gt(id);
+            return mongoTemplate.find(
+                    Query.query(criteria).with(Sort.by(Sort.Direction.ASC, "_id")).limit(limit), ChatMessage.class);
+        }
+        Criteria range = where("start").gte(ChatMessageBucket.startOf(id));
+        return collect(roomId, range, false, each -> each.compareTo(id) > 0, max(limit));
+    }
+
+    @Override
+    public List<ChatMessage> findAllInRooms(Map<String, ? extends Collection<String>> chatIds) {
+        Set<String> ids = new HashSet<>();
+        chatIds.values().forEach(ids::addAll);
+        if (ids.isEmpty()) return List.of();
+
+        if (!isBucket()) {
+            return mongoTemplate.find(Query.query(where("_id").in(ids)), ChatMessage.class);
+        }
+
+        // 메시지가 속한 구간을 계산하여, (roomId, start) 인덱스로 조회합니다.
+        List<ChatMessageBucket> buckets =
+                mongoTemplate.find(Query.query(ChatMessageBuckets.bucketsOf(chatIds)), ChatMessageBucket.class);
+
+        List<ChatMessage> result = new ArrayList<>();
+        for (ChatMessage message : ChatMessageBucket.toMessages(buckets)) {
+            if (ids.contains(message.getId())) result.add(message);
+        }
+        return result;
+    }
+
+    private boolean isBucket() {
+        return ChatMessageBuckets.LAYOUT.equalsIgnoreCase(layout);
+    }
+
+    /**
+     * 채팅방의 구간 문서를 순서대로 읽으며, 조건을 만족하는 메시지를 최대 limit 개 모읍니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param range 구간 시작 시각에 대한 조건, null 이라면 전체 구간
+     * @param descending true 라면 최신 → 오래된 순
+     * @param filter 메시지 ID 에 대한 조건
+     * @param limit 최대 개수
+     * @return 메시지 목록
+     */
+    private List<ChatMessage> collect(
+            String roomId, Criteria range, boolean descending, Predicate<String> filter, int limit) {
+        Criteria criteria = where("roomId").is(roomId);
+        if (range != null) criteria = new Criteria().andOperator(criteria, range);
+        Query query = Query.query(criteria)
+                .with(Sort.by(descending ? Sort.Direction.DESC : Sort.Direction.ASC, "start"));
+
+        List<ChatMessage> result = new ArrayList<>();
+        try (Stream<ChatMessageBucket> buckets = mongoTemplate.stream(query, ChatMessageBucket.class)) {
+            Iterator<ChatMessageBucket> it = buckets.iterator();
+            List<ChatMessageBucket> group = new ArrayList<>();
+            while (result.size() < limit && (it.hasNext() || !group.isEmpty())) {
+                ChatMessageBucket next = it.hasNext() ? it.next() : null;
+                if (next != null && (group.isEmpty() || group.get(0).getStart() == next.getStart())) {
+                    group.add(next);
+                    continue;
+                }
+
+                // 구간이 바뀌었으므로, 지금까지 읽은 같은 구간의 문서를 합쳐 추가합니다.
+                addMessages(result, ChatMessageBucket.toMessages(group), descending, filter, limit);
+                group.clear();
+                if (next != null) group.add(next);
+            }
+        }
+        return result;
+    }
+
+    private static void addMessages(
+            List<ChatMessage> result,
+            List<ChatMessage> messages,
+            boolean descending,
+            Predicate<String> filter,
+            int limit) {
+        if (descending) Collections.reverse(messages);
+        for (ChatMessage message : messages) {
+            if (!filter.test(message.getId())) continue;
+            result.add(message);
+            if (result.size() == limit) return;
+        }
+    }
+
+    private static Sort desc() {
+        return Sort.by(Sort.Direction.DESC, "_id");
+    }
+
+    private static int max(Limit limit) {
+        return limit.isLimited() ? limit.max() : Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,52 @@
+package com.studypals.domain.chatManage.dao;
+
+import java.util.List;
+
+import com.studypals.domain.chatManage.entity.ChatMessage;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ChatMessage} 에 대한 비동기 커스텀 dao 클래스입니다.
+ *
+ * <p>Spring Data 가 제공하지 않는 bulk write 연산과, 채팅방 진입 시의 논블로킹 내역 조회 연산을 선언합니다.
+ * 조회 연산은 {@link ChatMessageCustomRepository} 와 같이 {@code chat.mongo.layout} 에 따라 동작합니다.
+ *
+ * @author jack8
+ * @see ChatMessageReactiveRepository
+ * @since 2026-01-17
+ */
+public interface ChatMessageReactiveCustomRepository {
+
+    /**
+     * 메시지들을 하나의 unordered bulk write(insertMany) 로 저장합니다. 일부 문서의 실패가 나머지 문서의 저장을
+     * 막지 않으며, 이미 저장된 메시지(중복 키)만 실패한 경우에는 성공으로 간주합니다.
+     * <br>
+     * 저널 재전송 혹은 재시도로 같은 메시지가 다시 들어올 수 있으므로, 중복 키는 오류로 취급하지 않습니다.
+     * 구간 문서 레이아웃({@code chat.mongo.layout=bucket}) 에서는 구간 문서 별 upsert 로 저장합니다.
+     * @param messages 저장할 메시지 리스트
+     * @return 새로 저장된 메시지 수
+     */
+    Mono<Integer> insertAllUnordered(List<ChatMessage> messages);
+
+    /**
+     * 특정 채팅방에서 ID 가 from 이상 to 미만인 메시지를 조회합니다.
+     * {@link ChatMessageCustomRepository#findRange} 의 논블로킹 버전입니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param from   포함(lower bound) 기준 메시지 ID
+     * @param to     미포함(upper bound) 기준 메시지 ID
+     * @return 범위 내 메시지 (ID 내림차순)
+     */
+    Flux<ChatMessage> findRange(String roomId, String from, String to);
+
+    /**
+     * 특정 채팅방에서 최신 메시지부터 최대 limit 개를 조회합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param limit  최대 조회 개수
+     * @return 메시지 (ID 내림차순)
+     */
+    Flux<ChatMessage> findLatest(String roomId, int limit);
+}
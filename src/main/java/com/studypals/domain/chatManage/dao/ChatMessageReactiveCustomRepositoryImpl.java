@@ -0,0 +1,153 @@
+package com.studypals.domain.chatManage.dao;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import lombok.RequiredArgsConstructor;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.studypals.domain.chatManage.entity.ChatMessage;
+import com.studypals.domain.chatManage.entity.ChatMessageBucket;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * chat message reactive custom repository 의 구현 클래스입니다.
+ *
+ * <p>{@link ReactiveMongoTemplate#bulkOps} 를 사용하여, 배치 전체를 한 번의 요청으로 저장합니다.
+ * {@code saveAll} 과 다르게 문서마다 별도의 요청을 보내지 않습니다.
+ * <br>
+ * {@code chat.mongo.layout} 이 {@code bucket} 이라면, 메시지를 구간 문서({@link ChatMessageBucket}) 별로 묶어
+ * 구간 당 하나의 upsert 로 저장합니다. upsert 는 중복 키 오류가 없고, 다른 문서에 중복으로 저장된 메시지는 조회 시
+ * 합쳐지므로, 새로 저장된 메시지 수 대신 요청한 메시지 수를 반환합니다.
+ * <br>
+ * 조회 연산은 {@link ChatMessageCustomRepositoryImpl} 과 같은 방식으로 구간 문서를 최신 순으로 읽으며,
+ * 필요한 개수를 채우면 구독을 취소하여 나머지 문서를 읽지 않습니다.
+ *
+ * <p><b>상속 정보:</b><br>
+ * {@link ChatMessageReactiveCustomRepository} 의 구현 클래스입니다.
+ *
+ * <p><b>빈 관리:</b><br>
+ * Repository
+ *
+ * @author jack8
+ * @see ChatMessageReactiveCustomRepository
+ * @since 2026-01-17
+ */
+@RequiredArgsConstructor
+public class ChatMessageReactiveCustomRepositoryImpl implements ChatMessageReactiveCustomRepository {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Value("${chat.mongo.layout:message}")
+    private String layout;
+
+    @Override
+    public Mono<Integer> insertAllUnordered(List<ChatMessage> messages) {
+        if (messages.isEmpty()) return Mono.just(0);
+        if (isBucket()) return upsertBuckets(messages);
+
+        return reactiveMongoTemplate
+                .bulkOps(BulkMode.UNORDERED, ChatMessage.class)
+                .insert(messages)
+                .execute()
+                .map(BulkWriteResult::getInsertedCount)
+                .onErrorResume(e -> {
+                    Integer duplicates = duplicateErrors(e);
+                    return duplicates == null ? Mono.error(e) : Mono.just(messages.size() - duplicates);
+                });
+    }
+
+    @Override
+    public Flux<ChatMessage> findRange(String roomId, String from, String to) {
+        if (!isBucket()) {
+            Criteria criteria = where("roomId").is(roomId).and("_id").gte(from).lt(to);
+            return reactiveMongoTemplate.find(Query.query(criteria).with(desc()), ChatMessage.class);
+        }
+        Criteria range = where("start").gte(ChatMessageBucket.startOf(from)).lte(ChatMessageBucket.startOf(to));
+        return collectDesc(roomId, range, id -> id.compareTo(from) >= 0 && id.compareTo(to) < 0);
+    }
+
+    @Override
+    public Flux<ChatMessage> findLatest(String roomId, int limit) {
+        if (!isBucket()) {
+            return reactiveMongoTemplate.find(
+                    Query.query(where("roomId").is(roomId)).with(desc()).limit(limit), ChatMessage.class);
+        }
+        return collectDesc(roomId, null, id -> true).take(limit);
+    }
+
+    private boolean isBucket() {
+        return ChatMessageBuckets.LAYOUT.equalsIgnoreCase(layout);
+    }
+
+    /**
+     * 채팅방의 구간 문서를 최신 순으로 읽으며, 조건을 만족하는 메시지를 최신 → 오래된 순으로 방출합니다.
+     */
+    private Flux<ChatMessage> collectDesc(String roomId, Criteria range, Predicate<String> filter) {
+        Criteria criteria = where("roomId").is(roomId);
+        if (range != null) criteria = new Criteria().andOperator(criteria, range);
+        Query query = Query.query(criteria).with(Sort.by(Sort.Direction.DESC, "start"));
+
+        return reactiveMongoTemplate
+                .find(query, ChatMessageBucket.class)
+                // 한 구간이 여러 문서로 나뉠 수 있으므로, 같은 구간의 문서를 합쳐 정렬합니다.
+                .bufferUntilChanged(ChatMessageBucket::getStart)
+                .concatMapIterable(buckets -> {
+                    List<ChatMessage> messages = ChatMessageBucket.toMessages(buckets);
+                    Collections.reverse(messages);
+                    return messages;
+                })
+                .filter(message -> filter.test(message.getId()));
+    }
+
+    private static Sort desc() {
+        return Sort.by(Sort.Direction.DESC, "_id");
+    }
+
+    private Mono<Integer> upsertBuckets(List<ChatMessage> messages) {
+        ReactiveBulkOperations ops = reactiveMongoTemplate.bulkOps(BulkMode.UNORDERED, ChatMessageBucket.class);
+        for (ChatMessageBuckets.Upsert upsert : ChatMessageBuckets.upserts(messages)) {
+            ops.upsert(upsert.query(), upsert.update());
+        }
+        return ops.execute().thenReturn(messages.size());
+    }
+
+    /**
+     * bulk write 오류가 중복 키 오류로만 이루어져 있다면 그 개수를, 아니라면 null 을 반환합니다.
+     * 드라이버 예외가 변환되었을 수 있으므로 cause 를 따라가며 확인합니다.
+     */
+    private static Integer duplicateErrors(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof MongoBulkWriteException ex) {
+                return ex.getWriteConcernError() == null ? countDuplicates(ex.getWriteErrors()) : null;
+            }
+            if (t instanceof BulkOperationException ex) {
+                return countDuplicates(ex.getErrors());
+            }
+        }
+        return null;
+    }
+
+    private static Integer countDuplicates(List<BulkWriteError> errors) {
+        boolean duplicateOnly = errors.stream().allMatch(error -> error.getCode() == DUPLICATE_KEY);
+        return duplicateOnly ? errors.size() : null;
+    }
+}
@@ -10,6 +10,7 @@ import com.studypals.domain.chatManage.entity.ChatMessage;
  * <p>
  * ReactiveMongoRepository 를 상속하여, 채팅 메시지를 논블로킹 방식으로 저장·조회할 수 있도록 지원합니다.
  * 채팅 메시지 스트림 처리, 비동기 저장 파이프라인 등에서 사용되며, MongoDB 컬렉션과 직접 매핑됩니다.
+ * 배치 저장은 {@link ChatMessageReactiveCustomRepository} 의 unordered bulk write 를 사용합니다.
  *
  * <p>
  * 빈 관리:<br>
@@ -24,4 +25,5 @@ import com.studypals.domain.chatManage.entity.ChatMessage;
  * @since 2025-07-14
  */
 @Repository
-public interface ChatMessageReactiveRepository extends ReactiveMongoRepository<ChatMessage, String> {}
+public interface ChatMessageReactiveRepository
+        extends ReactiveMongoRepository<ChatMessage, String>, ChatMessageReactiveCustomRepository {}
@@ -0,0 +1,48 @@
+package com.studypals.domain.chatManage.dao;
+
+import java.util.List;
+import java.util.Map;
+
+import com.studypals.domain.chatManage.entity.ChatMessage;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 채팅방 진입 시 필요한 redis 데이터(메시지 캐시, 읽음 커서)를 논블로킹 방식으로 조회합니다.
+ * <p>
+ * 키 구조와 엔트리 포맷은 {@link ChatMessageCacheRepositoryImpl}, {@link ChatReadCursorRepositoryImpl} 과 같으며,
+ * 조회만 담당합니다.
+ *
+ * @author jack8
+ * @see ChatReactiveCacheRepositoryImpl
+ * @see ChatMessageCacheRepository
+ * @since 2026-01-28
+ */
+public interface ChatReactiveCacheRepository {
+
+    /**
+     * 특정 채팅방에서 기준 채팅 ID를 포함하여 이후 구간의 메시지를 조회합니다. 결과는
+     * {@link ChatMessageCacheRepository#fetchFromId} 와 같습니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param chatId 기준 채팅 ID (hex 문자열)
+     * @return 기준 ID를 포함한 이후 구간의 메시지 목록 (최신 → 오래된 순)
+     */
+    Mono<List<ChatMessage>> fetchFromId(String roomId, String chatId);
+
+    /**
+     * 채팅방 별 캐시 최대 길이를 조회합니다. 결과는 {@link ChatMessageCacheRepository#getMaxLen(String)} 와 같습니다.
+     *
+     * @param roomId 채팅방 ID
+     * @return 채팅방의 캐시 최대 길이
+     */
+    Mono<Integer> findMaxLen(String roomId);
+
+    /**
+     * 채팅방의 캐시된 읽음 커서를 조회합니다. DB 에 반영된 뒤 만료된 커서는 포함되지 않습니다.
+     *
+     * @param roomId 채팅방 ID
+     * @return userId -> 마지막으로 읽은 채팅 ID
+     */
+    Mono<Map<Long, String>> findCursors(String roomId);
+}
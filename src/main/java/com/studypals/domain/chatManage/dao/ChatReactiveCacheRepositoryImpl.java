@@ -0,0 +1,71 @@
+package com.studypals.domain.chatManage.dao;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.core.ReactiveStreamOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+import com.studypals.domain.chatManage.entity.ChatMessage;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ReactiveStringRedisTemplate} 을 사용하여 채팅 메시지 캐시와 읽음 커서를 조회합니다.
+ * <p>
+ * 값은 블로킹 템플릿과 같이 문자열로 직렬화되어 있으므로, JSON 직렬화를 사용하는 {@code reactiveRedisTemplate}
+ * 대신 문자열 템플릿을 사용합니다. stream 엔트리는 {@link ChatMessageCacheRepositoryImpl} 과 같은 방식으로 변환되므로
+ * 두 엔트리 포맷을 모두 해석합니다.
+ *
+ * @author jack8
+ * @see ChatReactiveCacheRepository
+ * @since 2026-01-28
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatReactiveCacheRepositoryImpl implements ChatReactiveCacheRepository {
+
+    // UserLastReadMessage 의 @RedisHashEntity 값과 같아야 합니다.
+    private static final String CURSOR_KEY_PREFIX = "lastRead:";
+
+    private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+
+    @Override
+    public Mono<List<ChatMessage>> fetchFromId(String roomId, String chatId) {
+        ReactiveStreamOperations<String, String, String> streamOps = reactiveStringRedisTemplate.opsForStream();
+        Range<String> range = Range.of(
+                Range.Bound.inclusive(ChatMessageCacheRepositoryImpl.encode(chatId).getValue()),
+                Range.Bound.unbounded());
+
+        return streamOps
+                .reverseRange(
+                        ChatMessageCacheRepositoryImpl.KEY_PREFIX + roomId,
+                        range,
+                        Limit.limit().count(ChatMessageCacheRepositoryImpl.MAX_RANGE))
+                .map(ChatMessageCacheRepositoryImpl::toEntity)
+                .collectList();
+    }
+
+    @Override
+    public Mono<Integer> findMaxLen(String roomId) {
+        String summaryKey = ChatMessageCacheRepositoryImpl.SUMMARY_PREFIX + roomId;
+        return reactiveStringRedisTemplate
+                .<String, String>opsForHash()
+                .get(summaryKey, ChatMessageCacheRepositoryImpl.MAXLEN_FIELD)
+                .map(Integer::parseInt)
+                .defaultIfEmpty(ChatMessageCacheRepositoryImpl.DEFAULT_LEN);
+    }
+
+    @Override
+    public Mono<Map<Long, String>> findCursors(String roomId) {
+        return reactiveStringRedisTemplate
+                .<String, String>opsForHash()
+                .entries(CURSOR_KEY_PREFIX + roomId)
+                .collectMap(e -> Long.parseLong(e.getKey()), Map.Entry::getValue);
+    }
+}
@@ -0,0 +1,48 @@
+package com.studypals.domain.chatManage.dao;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 에 저장된 채팅방 별 읽음 커서({@code lastRead:{roomId}}) 중, 아직 DB 에 반영되지 않은 채팅방을 관리합니다.
+ * <p>
+ * 읽음 커서 자체의 저장은 {@link UserLastReadMessageRepository} 가 담당하며, 해당 인터페이스는 영속화 작업을 위한
+ * 변경(dirty) 채팅방 목록과 일괄 조회, 만료 설정만을 정의합니다.
+ *
+ * @author jack8
+ * @see ChatReadCursorRepositoryImpl
+ * @see com.studypals.domain.chatManage.worker.ChatReadCursorPersister ChatReadCursorPersister
+ * @since 2026-01-22
+ */
+public interface ChatReadCursorRepository {
+
+    /**
+     * 읽음 커서가 변경된 채팅방을 기록합니다.
+     * @param roomIds 변경된 채팅방 ID
+     */
+    void markDirty(Collection<String> roomIds);
+
+    /**
+     * 변경된 채팅방을 최대 count 개 꺼냅니다. 꺼낸 채팅방은 목록에서 제거되므로, 여러 노드가 동시에 호출하더라도
+     * 같은 채팅방을 중복하여 처리하지 않습니다.
+     * @param count 최대 개수
+     * @return 변경된 채팅방 ID
+     */
+    List<String> popDirty(int count);
+
+    /**
+     * 채팅방 별 읽음 커서를 한 번의 파이프라인으로 조회합니다.
+     * @param roomIds 조회할 채팅방 ID
+     * @return roomId -> (userId -> chatId), 커서가 없는 채팅방은 포함되지 않습니다.
+     */
+    Map<String, Map<String, String>> findAll(List<String> roomIds);
+
+    /**
+     * 채팅방 별 읽음 커서에 만료 시간을 설정합니다.
+     * @param roomIds 대상 채팅방 ID
+     * @param ttl 만료 시간
+     */
+    void expire(Collection<String> roomIds, Duration ttl);
+}
@@ -0,0 +1,87 @@
+package com.studypals.domain.chatManage.dao;
+
+import java.time.Duration;
+import java.util.*;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis 의 set 자료구조로 읽음 커서가 변경된 채팅방을 관리합니다. 키 구조는 다음과 같습니다.
+ * <pre>
+ *     lastRead:{roomId}   -> 채팅방의 읽음 커서 (hash, userId -> chatId)
+ *     lastRead:dirty      -> 아직 DB 에 반영되지 않은 채팅방 ID (set)
+ * </pre>
+ * 꺼내기는 SPOP 을 사용하므로 여러 노드에서 동시에 실행하더라도 안전합니다.
+ *
+ * @author jack8
+ * @see ChatReadCursorRepository
+ * @see com.studypals.domain.chatManage.entity.UserLastReadMessage UserLastReadMessage
+ * @since 2026-01-22
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatReadCursorRepositoryImpl implements ChatReadCursorRepository {
+
+    // UserLastReadMessage 의 @RedisHashEntity 값과 같아야 합니다.
+    private static final String CURSOR_KEY_PREFIX = "lastRead:";
+    private static final String DIRTY_KEY = "lastRead:dirty";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public void markDirty(Collection<String> roomIds) {
+        if (roomIds.isEmpty()) return;
+        redisTemplate.opsForSet().add(DIRTY_KEY, roomIds.toArray(String[]::new));
+    }
+
+    @Override
+    public List<String> popDirty(int count) {
+        List<String> popped = redisTemplate.opsForSet().pop(DIRTY_KEY, count);
+        return popped == null ? List.of() : popped;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Map<String, String>> findAll(List<String> roomIds) {
+        if (roomIds.isEmpty()) return Map.of();
+
+        List<Object> hashes = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (String roomId : roomIds) {
+                    operations.opsForHash().entries(CURSOR_KEY_PREFIX + roomId);
+                }
+                return null;
+            }
+        });
+
+        Map<String, Map<String, String>> result = new HashMap<>();
+        for (int i = 0; i < roomIds.size(); i++) {
+            Map<String, String> cursors = (Map<String, String>) hashes.get(i);
+            if (cursors != null && !cursors.isEmpty()) result.put(roomIds.get(i), cursors);
+        }
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void expire(Collection<String> roomIds, Duration ttl) {
+        if (roomIds.isEmpty()) return;
+
+        redisTemplate.executePipelined(new SessionCallback<Void>() {
+            @Override
+            public Void execute(RedisOperations operations) throws DataAccessException {
+                for (String roomId : roomIds) {
+                    operations.expire(CURSOR_KEY_PREFIX + roomId, ttl);
+                }
+                return null;
+            }
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package com.studypals.domain.chatManage.dao;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+import com.studypals.domain.chatManage.dto.ChatReadCursor;
+
+/**
+ * {@code chat_room_member} 테이블에 대한 대량 갱신을 JDBC batch 로 수행합니다.
+ * <p>
+ * JPA 의 변경 감지는 엔티티를 하나씩 조회/갱신하므로, 많은 행을 갱신하는 백그라운드 작업에서는 해당 레포지토리를 사용합니다.
+ *
+ * @author jack8
+ * @see com.studypals.domain.chatManage.entity.ChatRoomMember ChatRoomMember
+ * @since 2026-01-22
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatRoomMemberJdbcRepository {
+
+    // 한 번의 batch 로 전송할 최대 행 수
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * 더 최신의 메시지(ID 가 더 큰 경우)로만 갱신합니다. 메시지 ID 는 16진수 문자열이므로, 길이를 먼저 비교합니다.
+     */
+    private static final String UPDATE_LAST_READ_MESSAGE =
+            """
+            UPDATE chat_room_member
+               SET last_read_message = ?
+             WHERE chat_room_id = ?
+               AND member_id = ?
+               AND (last_read_message IS NULL
+                    OR CHAR_LENGTH(last_read_message) < CHAR_LENGTH(?)
+                    OR (CHAR_LENGTH(last_read_message) = CHAR_LENGTH(?) AND last_read_message < ?))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 채팅방 멤버의 마지막 읽은 메시지를 일괄 갱신합니다. {@code BATCH_SIZE} 단위로 나누어 전송합니다.
+     * @param cursors 갱신할 읽음 커서
+     */
+    public void updateLastReadMessages(List<ChatReadCursor> cursors) {
+        if (cursors.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(UPDATE_LAST_READ_MESSAGE, cursors, BATCH_SIZE, (ps, cursor) -> {
+            ps.setString(1, cursor.chatId());
+            ps.setString(2, cursor.roomId());
+            ps.setLong(3, cursor.userId());
+            ps.setString(4, cursor.chatId());
+            ps.setString(5, cursor.chatId());
+            ps.setString(6, cursor.chatId());
+        });
+    }
+}
@@ -0,0 +1,56 @@
+package com.studypals.domain.chatManage.dao;
+
+import java.util.Collection;
+import java.util.Map;
+
+import com.studypals.domain.chatManage.dto.ChatRoomSequence;
+
+/**
+ * 채팅방 별 메시지 순번과, 유저 별 읽은 메시지 순번을 저장·조회하기 위한 인터페이스입니다.
+ * <p>
+ * 메시지가 전송될 때 마다 채팅방의 순번을 1 증가시키고, 읽음 처리 시 읽은 메시지의 순번을 기록합니다.
+ * 읽지 않은 메시지 수는 두 값의 차이로, 채팅방의 메시지 수와 무관하게 일정한 비용으로 계산됩니다.
+ *
+ * @author jack8
+ * @see ChatSequenceRepositoryImpl
+ * @see ChatRoomSequence
+ * @since 2026-01-19
+ */
+public interface ChatSequenceRepository {
+
+    /**
+     * 채팅방의 메시지 순번을 원자적으로 1 증가시키고 그 값을 반환합니다.
+     * @param roomId 채팅방 ID
+     * @return 새 메시지에 부여할 순번 (1 부터 시작)
+     */
+    long next(String roomId);
+
+    /**
+     * 채팅방의 최신 메시지 순번을 조회합니다.
+     * @param roomId 채팅방 ID
+     * @return 가장 최근에 발급된 순번. 발급된 순번이 없다면 null
+     */
+    Long findLatest(String roomId);
+
+    /**
+     * 유저 별 읽은 메시지 순번을 파이프라인으로 한 번에 저장합니다.
+     * 이미 저장된 순번이 같거나 더 크다면 갱신하지 않습니다.
+     * @param readSequences key: 채팅방 ID, value: (유저 ID -> 읽은 메시지 순번)
+     */
+    void saveReadSequences(Map<String, Map<String, Long>> readSequences);
+
+    /**
+     * 유저의 읽은 메시지 순번을 삭제합니다. 유저가 채팅방을 나갈 때 호출됩니다.
+     * @param roomId 채팅방 ID
+     * @param userId 유저 ID
+     */
+    void deleteReadSequence(String roomId, Long userId);
+
+    /**
+     * 한 유저가 속한 여러 채팅방의 최신 순번과 읽은 순번을 한 번의 MGET 으로 조회합니다.
+     * @param userId 유저 ID
+     * @param roomIds 채팅방 ID 목록
+     * @return key: 채팅방 ID, value: 최신 순번과 읽은 순번
+     */
+    Map<String, ChatRoomSequence> findAll(Long userId, Collection<String> roomIds);
+}
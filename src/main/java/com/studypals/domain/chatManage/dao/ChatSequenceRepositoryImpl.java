@@ -0,0 +1,114 @@
+package com.studypals.domain.chatManage.dao;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.FileCopyUtils;
+
+import lombok.RequiredArgsConstructor;
+
+import com.studypals.domain.chatManage.dto.ChatRoomSequence;
+import com.studypals.global.redis.RedisScriptPipeline;
+
+/**
+ * Redis 의 string 자료구조로 채팅방 메시지 순번을 관리합니다. 키 구조는 다음과 같습니다.
+ * <pre>
+ *     chat:seq:room:{roomId}           -> 채팅방의 최신 메시지 순번 (INCR)
+ *     chat:seq:read:{roomId}:{userId}  -> 유저가 마지막으로 읽은 메시지 순번
+ * </pre>
+ * 조회 시에는 두 종류의 키를 하나의 MGET 으로 가져옵니다.
+ * <p>
+ * 읽은 순번은 저장된 값보다 클 때만 갱신하며, 갱신되지 않은 채로 {@link #READ_TTL} 이 지나면 만료됩니다.
+ * 유저가 채팅방을 나가면 삭제됩니다.
+ *
+ * @author jack8
+ * @see ChatSequenceRepository
+ * @since 2026-01-19
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatSequenceRepositoryImpl implements ChatSequenceRepository {
+
+    private static final String ROOM_KEY_PREFIX = "chat:seq:room:";
+    private static final String READ_KEY_PREFIX = "chat:seq:read:";
+    private static final Duration READ_TTL = Duration.ofDays(30);
+
+    /** 저장된 순번보다 클 때만 읽은 순번을 갱신하고, 만료 시간을 연장합니다. */
+    private static final RedisScript<Long> READ_SCRIPT = loadScript("redis/chat_seq_read.lua");
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public long next(String roomId) {
+        Long seq = redisTemplate.opsForValue().increment(ROOM_KEY_PREFIX + roomId);
+        // 파이프라인/트랜잭션 내부가 아니므로 null 이 반환되지 않습니다.
+        return Objects.requireNonNull(seq);
+    }
+
+    @Override
+    public Long findLatest(String roomId) {
+        return parse(redisTemplate.opsForValue().get(ROOM_KEY_PREFIX + roomId));
+    }
+
+    @Override
+    public void saveReadSequences(Map<String, Map<String, Long>> readSequences) {
+        if (readSequences.isEmpty()) return;
+
+        String ttl = String.valueOf(READ_TTL.toSeconds());
+        List<RedisScriptPipeline.Call> calls = new ArrayList<>();
+        readSequences.forEach((roomId, users) -> users.forEach((userId, seq) -> calls.add(
+                new RedisScriptPipeline.Call(List.of(readKey(roomId, userId)), List.of(String.valueOf(seq), ttl)))));
+
+        RedisScriptPipeline.execute(redisTemplate, READ_SCRIPT, calls);
+    }
+
+    @Override
+    public void deleteReadSequence(String roomId, Long userId) {
+        redisTemplate.delete(readKey(roomId, String.valueOf(userId)));
+    }
+
+    @Override
+    public Map<String, ChatRoomSequence> findAll(Long userId, Collection<String> roomIds) {
+        if (roomIds.isEmpty()) return Map.of();
+
+        List<String> rooms = new ArrayList<>(roomIds);
+        List<String> keys = new ArrayList<>(rooms.size() * 2);
+        rooms.forEach(roomId -> keys.add(ROOM_KEY_PREFIX + roomId));
+        rooms.forEach(roomId -> keys.add(readKey(roomId, String.valueOf(userId))));
+
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) return Map.of();
+
+        Map<String, ChatRoomSequence> result = new HashMap<>(rooms.size());
+        for (int i = 0; i < rooms.size(); i++) {
+            result.put(rooms.get(i), new ChatRoomSequence(parse(values.get(i)), parse(values.get(rooms.size() + i))));
+        }
+        return result;
+    }
+
+    private static String readKey(String roomId, String userId) {
+        return READ_KEY_PREFIX + roomId + ":" + userId;
+    }
+
+    private static Long parse(String value) {
+        return value == null ? null : Long.parseLong(value);
+    }
+
+    private static RedisScript<Long> loadScript(String path) {
+        try (InputStreamReader reader =
+                new InputStreamReader(new ClassPathResource(path).getInputStream(), StandardCharsets.UTF_8)) {
+            String script = FileCopyUtils.copyToString(reader);
+            return RedisScript.of(script, Long.class);
+
+        } catch (IOException e) {
+            throw new IllegalStateException("failed to load lua script");
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.studypals.domain.chatManage.dao;
+
+import com.studypals.domain.chatManage.dto.ChatType;
+import com.studypals.domain.chatManage.entity.ChatMessage;
+
+/**
+ * 채팅 stream 엔트리를 하나의 필드({@code d})에 담는 compact 포맷의 코덱입니다. 구조는 다음과 같습니다.
+ * <pre>
+ *     [version][type ordinal][sender + 1][seq + 1][message]
+ * </pre>
+ * 정수 값들은 varint 로 기록되며, 값이 없는 sender, seq 는 0 으로 기록됩니다. 메시지 ID 는 stream 의 record id 와
+ * 같으므로 저장하지 않습니다. 본문은 그대로 이어 붙여 UTF-8 로 저장됩니다.
+ * <p>
+ * redis 템플릿이 값을 UTF-8 문자열로 직렬화하므로, varint 는 바이트 당 6 bit 를 담고 0x40 을 연속 bit 로 사용합니다.
+ * 따라서 헤더의 모든 바이트는 ASCII 범위에 있고, 직렬화 과정에서 바뀌지 않습니다.
+ * <p>
+ * type 은 {@link ChatType} 의 ordinal 로 기록되므로, 새로운 type 은 enum 의 마지막에만 추가해야 합니다.
+ * 포맷이 바뀐다면 version 을 올리고, 이전 version 의 해석을 남겨두어야 합니다.
+ *
+ * @author jack8
+ * @see ChatMessageCacheRepositoryImpl
+ * @since 2026-01-26
+ */
+final class ChatStreamCodec {
+
+    /** compact 포맷 엔트리의 유일한 필드명입니다. */
+    static final String FIELD = "d";
+
+    static final char V1 = 1;
+
+    private static final ChatType[] TYPES = ChatType.values();
+
+    private ChatStreamCodec() {}
+
+    /**
+     * stream 엔트리 하나의 내용입니다. 메시지 ID 와 채팅방 ID 는 record id 와 stream key 로부터 복원합니다.
+     */
+    record Entry(ChatType type, Long sender, String content, Long seq) {
+
+        ChatMessage toMessage(String id, String roomId) {
+            return new ChatMessage(id, type, roomId, sender, content, seq);
+        }
+    }
+
+    static String encode(ChatMessage message) {
+        String content = message.getContent() == null ? "" : message.getContent();
+        StringBuilder sb = new StringBuilder(content.length() + 8);
+        sb.append(V1);
+        writeVarint(sb, message.getType().ordinal());
+        writeVarint(sb, message.getSender() == null ? 0 : message.getSender() + 1);
+        writeVarint(sb, message.getSeq() == null ? 0 : message.getSeq() + 1);
+        return sb.append(content).toString();
+    }
+
+    /**
+     * compact 포맷의 값을 해석합니다.
+     *
+     * @param payload {@link #FIELD} 필드의 값
+     * @return 해석한 엔트리
+     * @throws IllegalArgumentException 알 수 없는 version 이거나 값이 손상된 경우
+     */
+    static Entry decode(String payload) {
+        if (payload == null || payload.isEmpty() || payload.charAt(0) != V1) {
+            throw new IllegalArgumentException("unknown chat stream payload version");
+        }
+
+        int[] pos = {1};
+        long type = readVarint(payload, pos);
+        long sender = readVarint(payload, pos);
+        long seq = readVarint(payload, pos);
+
+        return new Entry(
+                type < TYPES.length ? TYPES[(int) type] : ChatType.UNKNOWN,
+                sender == 0 ? null : sender - 1,
+                payload.substring(pos[0]),
+                seq == 0 ? null : seq - 1);
+    }
+
+    private static void writeVarint(StringBuilder sb, long value) {
+        if (value < 0) throw new IllegalArgumentException("negative value in chat stream payload: " + value);
+        while (value >= 0x40) {
+            sb.append((char) (0x40 | (value & 0x3F)));
+            value >>>= 6;
+        }
+        sb.append((char) value);
+    }
+
+    private static long readVarint(String payload, int[] pos) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 6) {
+            if (pos[0] >= payload.length()) break;
+            char c = payload.charAt(pos[0]++);
+            if (c >= 0x80) break;
+
+            value |= (long) (c & 0x3F) << shift;
+            if ((c & 0x40) == 0) return value;
+        }
+        throw new IllegalArgumentException("malformed chat stream payload");
+    }
+}
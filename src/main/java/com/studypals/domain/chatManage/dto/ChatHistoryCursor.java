@@ -0,0 +1,77 @@
+package com.studypals.domain.chatManage.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.studypals.global.exceptions.errorCode.ChatErrorCode;
+import com.studypals.global.exceptions.exception.ChatException;
+
+/**
+ * 채팅 내역 페이지 조회에 사용하는 커서입니다. 기준 메시지 ID 와 조회 방향을 가집니다.
+ * <p>
+ * 클라이언트에는 {@code "{방향}:{메시지 ID}"} 를 base64url 로 인코딩한 불투명한 문자열로 전달되며,
+ * 클라이언트는 응답으로 받은 커서를 그대로 다시 보내야 합니다.
+ * <pre>
+ *     - older : 기준 메시지보다 이전(과거) 메시지를 조회합니다. 기준 ID 가 없다면 가장 최신 메시지부터 조회합니다.
+ *     - newer : 기준 메시지보다 이후(최신) 메시지를 조회합니다.
+ * </pre>
+ *
+ * @param older 과거 방향으로 조회하는지 여부
+ * @param chatId 기준 메시지 ID (미포함). older 방향에서만 null 일 수 있습니다.
+ * @author jack8
+ * @since 2026-01-20
+ */
+public record ChatHistoryCursor(boolean older, String chatId) {
+
+    private static final String OLDER = "o";
+    private static final String NEWER = "n";
+
+    /**
+     * 가장 최신 메시지부터 과거 방향으로 조회하는 커서를 반환합니다.
+     */
+    public static ChatHistoryCursor latest() {
+        return new ChatHistoryCursor(true, null);
+    }
+
+    public static ChatHistoryCursor olderThan(String chatId) {
+        return new ChatHistoryCursor(true, chatId);
+    }
+
+    public static ChatHistoryCursor newerThan(String chatId) {
+        return new ChatHistoryCursor(false, chatId);
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 문자열을 해석합니다.
+     * @param value base64url 로 인코딩된 커서
+     * @return 해석된 커서
+     * @throws ChatException 형식이 올바르지 않은 경우
+     */
+    public static ChatHistoryCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int delimiter = raw.indexOf(':');
+            String direction = raw.substring(0, delimiter);
+            String chatId = raw.substring(delimiter + 1);
+
+            // 메시지 ID 는 snowflake 기반 16진수 문자열이어야 합니다.
+            Long.parseLong(chatId, 16);
+
+            if (OLDER.equals(direction)) return olderThan(chatId);
+            if (NEWER.equals(direction)) return newerThan(chatId);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            // 아래에서 공통으로 처리합니다.
+        }
+        throw new ChatException(
+                ChatErrorCode.CHAT_HISTORY_INVALID_CURSOR, "[ChatHistoryCursor#decode] invalid cursor: " + value);
+    }
+
+    /**
+     * 커서를 클라이언트에 전달할 문자열로 인코딩합니다.
+     * @return base64url 로 인코딩된 커서
+     */
+    public String encode() {
+        String raw = (older ? OLDER : NEWER) + ":" + chatId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
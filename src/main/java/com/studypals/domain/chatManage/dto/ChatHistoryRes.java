@@ -0,0 +1,16 @@
+package com.studypals.domain.chatManage.dto;
+
+import java.util.List;
+
+/**
+ * 채팅 내역 페이지 조회에 대한 응답 객체입니다. 메시지는 최신 메시지부터(ID 내림차순) 정렬됩니다.
+ *
+ * @param roomId 채팅방 ID
+ * @param messages 페이지에 포함된 메시지
+ * @param olderCursor 더 이전 메시지를 조회하기 위한 커서. 더 이상 없다면 null
+ * @param newerCursor 더 이후 메시지를 조회하기 위한 커서. 조회 시점에 더 이상 없다면 null
+ * @author jack8
+ * @see ChatHistoryCursor
+ * @since 2026-01-20
+ */
+public record ChatHistoryRes(String roomId, List<LoggingMessage> messages, String olderCursor, String newerCursor) {}
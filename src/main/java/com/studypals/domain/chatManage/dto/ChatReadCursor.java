@@ -0,0 +1,12 @@
+package com.studypals.domain.chatManage.dto;
+
+/**
+ * 채팅방에서 특정 사용자가 마지막으로 읽은 메시지입니다. 읽음 커서를 영속화할 때 사용합니다.
+ *
+ * @param roomId 채팅방 ID
+ * @param userId 사용자 ID
+ * @param chatId 마지막으로 읽은 메시지 ID
+ * @author jack8
+ * @since 2026-01-22
+ */
+public record ChatReadCursor(String roomId, Long userId, String chatId) {}
@@ -0,0 +1,72 @@
+package com.studypals.domain.chatManage.dto;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 채팅방 리스트 뷰를 갱신하기 위해 노드 간 전달되는 이벤트입니다. 클라이언트에게 그대로 전송되지 않으며,
+ * 유저가 연결된 노드에서 {@link ChatRoomListPatch} 로 변환됩니다. op 에 따라 사용하는 필드가 다릅니다.
+ * <pre>
+ * - MESSAGE : roomId, chatId, content, sender, count, readAfter
+ * - READ    : roomId, chatId
+ * - JOIN    : roomId, memberId, name, url, totalMember
+ * - LEAVE   : roomId, memberId, totalMember
+ * </pre>
+ *
+ * @param op 이벤트 종류
+ * @param roomId 채팅방 아이디
+ * @param chatId 최신 메시지 아이디 혹은 읽은 메시지 아이디
+ * @param content 최신 메시지 내용
+ * @param sender 최신 메시지를 보낸 유저
+ * @param count 새로 추가된 메시지 개수
+ * @param readAfter 메시지를 보낸 유저 -> 해당 유저의 마지막 메시지 이후 추가된 메시지 개수
+ * @param memberId 참여/탈퇴한 유저
+ * @param name 채팅방 이름
+ * @param url 채팅방 이미지
+ * @param totalMember 참여/탈퇴 이후의 채팅방 인원
+ * @author jack8
+ * @see com.studypals.domain.chatManage.worker.ChatRoomListView
+ * @since 2026-01-23
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ChatRoomListEvent(
+        Op op,
+        String roomId,
+        String chatId,
+        String content,
+        Long sender,
+        Integer count,
+        Map<Long, Integer> readAfter,
+        Long memberId,
+        String name,
+        String url,
+        Integer totalMember) {
+
+    public enum Op {
+        MESSAGE,
+        READ,
+        JOIN,
+        LEAVE
+    }
+
+    public static ChatRoomListEvent message(
+            String roomId, String chatId, String content, Long sender, int count, Map<Long, Integer> readAfter) {
+        return new ChatRoomListEvent(
+                Op.MESSAGE, roomId, chatId, content, sender, count, readAfter, null, null, null, null);
+    }
+
+    public static ChatRoomListEvent read(String roomId, String chatId) {
+        return new ChatRoomListEvent(Op.READ, roomId, chatId, null, null, null, null, null, null, null, null);
+    }
+
+    public static ChatRoomListEvent join(String roomId, Long memberId, String name, String url, Integer totalMember) {
+        return new ChatRoomListEvent(
+                Op.JOIN, roomId, null, null, null, null, null, memberId, name, url, totalMember);
+    }
+
+    public static ChatRoomListEvent leave(String roomId, Long memberId, Integer totalMember) {
+        return new ChatRoomListEvent(
+                Op.LEAVE, roomId, null, null, null, null, null, memberId, null, null, totalMember);
+    }
+}
@@ -0,0 +1,34 @@
+package com.studypals.domain.chatManage.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * SSE 로 채팅방 리스트를 받는 클라이언트에게 전송되는 변경분입니다. 최초 연결 시 전체 리스트를 받은 뒤,
+ * 이후에는 변경된 채팅방 하나에 대한 patch 만 전달됩니다.
+ * <pre>
+ * - UPSERT : 같은 roomId 의 채팅방을 room 으로 교체하거나, 없다면 추가합니다.
+ * - REMOVE : roomId 의 채팅방을 리스트에서 제거합니다. (room 은 null)
+ * </pre>
+ *
+ * @param op 변경 종류
+ * @param roomId 채팅방 아이디
+ * @param room 변경 이후의 채팅방 정보
+ * @author jack8
+ * @since 2026-01-23
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ChatRoomListPatch(Op op, String roomId, ChatRoomListRes.ChatRoomInfo room) {
+
+    public enum Op {
+        UPSERT,
+        REMOVE
+    }
+
+    public static ChatRoomListPatch upsert(ChatRoomListRes.ChatRoomInfo room) {
+        return new ChatRoomListPatch(Op.UPSERT, room.roomId(), room);
+    }
+
+    public static ChatRoomListPatch remove(String roomId) {
+        return new ChatRoomListPatch(Op.REMOVE, roomId, null);
+    }
+}
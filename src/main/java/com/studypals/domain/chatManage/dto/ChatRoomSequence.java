@@ -0,0 +1,27 @@
+package com.studypals.domain.chatManage.dto;
+
+/**
+ * 채팅방의 최신 메시지 순번과, 유저가 마지막으로 읽은 메시지 순번입니다.
+ * 두 값의 차이가 곧 읽지 않은 메시지 수가 됩니다.
+ *
+ * @param latest 채팅방의 가장 최신 메시지 순번. 순번이 부여된 메시지가 없다면 null
+ * @param read 유저가 마지막으로 읽은 메시지 순번. 기록이 없다면 null
+ * @author jack8
+ * @since 2026-01-19
+ */
+public record ChatRoomSequence(Long latest, Long read) {
+
+    /** 한 번도 읽지 않은 채팅방의 읽지 않은 메시지 수 상한입니다. 스트림에서 계산하는 경우와 같습니다. */
+    public static final long NEVER_READ_LIMIT = 100L;
+
+    /**
+     * 순번을 통해 읽지 않은 메시지 수를 계산합니다.
+     * @param neverRead 유저가 채팅방의 메시지를 한 번도 읽지 않았는지 여부
+     * @return 읽지 않은 메시지 수(한 번도 읽지 않았다면 최대 {@link #NEVER_READ_LIMIT}). 순번만으로 계산할 수 없다면 null
+     */
+    public Long unread(boolean neverRead) {
+        if (latest == null) return null;
+        if (read != null) return Math.max(0L, latest - read);
+        return neverRead ? Math.min(latest, NEVER_READ_LIMIT) : null;
+    }
+}
@@ -0,0 +1,16 @@
+package com.studypals.domain.chatManage.dto;
+
+/**
+ * 채팅방 redis stream 캐시의 사용 현황입니다. 채팅방 별 stream 길이를 재조정할 때 사용합니다.
+ *
+ * @param roomId 채팅방 아이디
+ * @param lastAccess 마지막으로 조회/추가된 시각 (epoch ms)
+ * @param length 현재 stream 길이, 요약이 없다면 null
+ * @param maxLen 현재 적용된 stream 최대 길이, 설정되지 않았다면 null
+ * @param writes 직전 재조정 이후 추가된 메시지 수
+ * @param depth 직전 재조정 이후 조회된 가장 깊은 구간 (최신 메시지로부터의 메시지 수)
+ * @author jack8
+ * @see com.studypals.domain.chatManage.worker.ChatStreamRetention
+ * @since 2026-01-24
+ */
+public record ChatStreamUsage(String roomId, long lastAccess, Long length, Integer maxLen, long writes, int depth) {}
@@ -24,5 +24,6 @@ public interface ChatMessageMapper {
 
     LoggingMessage toLoggingMessage(ChatMessage message);
 
+    @Mapping(target = "seq", ignore = true)
     ChatMessage toEntity(IncomingMessage message, String id, Long sender);
 }
@@ -2,6 +2,7 @@ package com.studypals.domain.chatManage.entity;
 
 import jakarta.persistence.Id;
 
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.*;
@@ -12,6 +13,11 @@ import com.studypals.domain.chatManage.dto.ChatType;
  * 채팅 메시지를 저장하는 mongoDB 엔티티입니다. 채팅방, 송신 유저, 내용이 담깁니다.
  * <p>
  * ID 자체적으로 timestamp를 추출할 수 있으며, 생성 순서에 따른 정렬을 지원합니다.
+ * <br>
+ * {@code seq} 는 채팅방 내에서 1부터 증가하는 메시지 순번으로, 읽지 않은 메시지 수 계산에 사용됩니다.
+ * 순번이 도입되기 전의 메시지는 값이 없습니다.
+ * <br>
+ * 채팅 내역은 채팅방 단위의 ID 범위로 조회되므로, (roomId, id) 복합 인덱스를 사용합니다.
  *
  * <p><b>주요 생성자:</b><br>
  * {@code builder} <br>
@@ -25,6 +31,7 @@ import com.studypals.domain.chatManage.dto.ChatType;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "chat_message")
+@CompoundIndex(name = "idx_room_id", def = "{'roomId': 1, '_id': 1}")
 public class ChatMessage {
     @Id
     private String id;
@@ -33,6 +40,11 @@ public class ChatMessage {
     private String roomId;
     private Long sender;
     private String content;
+    private Long seq;
+
+    public ChatMessage(String id, ChatType type, String roomId, Long sender, String content) {
+        this(id, type, roomId, sender, content, null);
+    }
 
     @RequiredArgsConstructor
     @Getter
@@ -41,7 +53,8 @@ public class ChatMessage {
         TYPE("type"),
         ROOM("room"),
         SENDER("sender"),
-        MESSAGE("message");
+        MESSAGE("message"),
+        SEQ("seq");
 
         private final String name;
     }
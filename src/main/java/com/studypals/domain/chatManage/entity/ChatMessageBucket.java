@@ -0,0 +1,143 @@
+package com.studypals.domain.chatManage.entity;
+
+import java.util.*;
+
+import jakarta.persistence.Id;
+
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import lombok.*;
+
+import com.studypals.domain.chatManage.dto.ChatType;
+
+/**
+ * 채팅방의 일정 시간 구간({@link #BUCKET_MILLIS}) 동안의 메시지를 하나의 문서에 담는 mongoDB 엔티티입니다.
+ * <p>
+ * 메시지 ID 는 snowflake 이므로, ID 로부터 메시지가 속한 구간의 시작 시각({@code start})을 계산할 수 있습니다.
+ * 채팅 내역은 (roomId, start) 복합 인덱스로 구간 단위 조회됩니다.
+ * 메시지는 짧은 필드명을 가진 내장 문서로 저장되며, 배열 내의 순서는 보장되지 않습니다.
+ * <p>
+ * 하나의 문서가 16MB 제한을 넘지 않도록, 문서에 추가된 메시지 수({@code count})가 {@link #MAX_COUNT} 에 이르면
+ * 같은 구간의 새 문서에 이어서 추가합니다. 따라서 한 구간이 여러 문서로 나뉠 수 있으며, 조회 시에는
+ * {@link #toMessages(Collection)} 로 같은 구간의 문서를 합쳐야 합니다.
+ * <br>
+ * {@code chat.mongo.layout=bucket} 인 경우에만 사용되며, 기존 {@link ChatMessage} 는
+ * {@link com.studypals.domain.chatManage.worker.ChatMessageBucketMigrator} 로 옮깁니다.
+ *
+ * @author jack8
+ * @see ChatMessage
+ * @since 2026-01-27
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "chat_message_bucket")
+@CompoundIndex(name = "idx_room_start", def = "{'roomId': 1, 'start': 1}")
+public class ChatMessageBucket {
+
+    /** 하나의 문서가 담는 시간 구간의 길이 (ms). 이미 저장된 문서의 ID 가 바뀌므로, 변경해서는 안 됩니다. */
+    public static final long BUCKET_MILLIS = 60 * 60 * 1000L;
+
+    /**
+     * 하나의 문서에 추가하는 최대 메시지 수. 추가는 upsert 한 번 단위로 이루어지므로, 문서에는 최대
+     * {@code MAX_COUNT - 1} 에 한 번에 추가하는 메시지 수를 더한 만큼 담길 수 있습니다.
+     */
+    public static final int MAX_COUNT = 1000;
+
+    // snowflake ID 에서 timestamp 아래에 위치한 bit 수 (node id + sequence)
+    private static final int TIMESTAMP_SHIFT = 22;
+
+    @Id
+    private String id;
+
+    private String roomId;
+
+    /** 구간의 시작 시각. snowflake epoch 기준의 ms 입니다. */
+    private long start;
+
+    /** 문서에 추가된 메시지 수. 중복으로 무시된 메시지도 포함하므로, 실제 메시지 수보다 클 수 있습니다. */
+    private int count;
+
+    private List<Entry> messages = new ArrayList<>();
+
+    /**
+     * 메시지 ID 가 속한 구간의 시작 시각을 계산합니다.
+     * @param chatId 16 진수 메시지 ID
+     * @return 구간의 시작 시각
+     */
+    public static long startOf(String chatId) {
+        long millis = millisOf(chatId);
+        return millis - millis % BUCKET_MILLIS;
+    }
+
+    /**
+     * 메시지 ID 가 생성된 시각을 계산합니다.
+     * @param chatId 16 진수 메시지 ID
+     * @return 생성 시각. snowflake epoch 기준의 ms 입니다.
+     */
+    public static long millisOf(String chatId) {
+        return Long.parseLong(chatId, 16) >>> TIMESTAMP_SHIFT;
+    }
+
+    /**
+     * 주어진 시각에 생성될 수 있는 가장 작은 메시지 ID 를 계산합니다.
+     * @param millis snowflake epoch 기준의 ms
+     * @return 16 진수 메시지 ID
+     */
+    public static String minIdAt(long millis) {
+        return Long.toHexString(millis << TIMESTAMP_SHIFT);
+    }
+
+    /**
+     * 담긴 메시지를 ID 오름차순으로 반환합니다.
+     */
+    public List<ChatMessage> toMessages() {
+        return toMessages(List.of(this));
+    }
+
+    /**
+     * 같은 구간의 여러 문서에 담긴 메시지를 합쳐 ID 오름차순으로 반환합니다. 여러 문서에 담긴 메시지는 하나만 남깁니다.
+     * @param buckets 같은 채팅방, 같은 구간의 문서
+     * @return 메시지 목록
+     */
+    public static List<ChatMessage> toMessages(Collection<ChatMessageBucket> buckets) {
+        Map<String, ChatMessage> byId = new HashMap<>();
+        for (ChatMessageBucket bucket : buckets) {
+            for (Entry entry : bucket.messages) {
+                byId.putIfAbsent(entry.getChatId(), entry.toMessage(bucket.roomId));
+            }
+        }
+        List<ChatMessage> result = new ArrayList<>(byId.values());
+        result.sort((a, b) -> ChatMessageIds.compare(a.getId(), b.getId()));
+        return result;
+    }
+
+    /**
+     * 문서에 내장되는 메시지입니다. 채팅방 ID 는 문서의 값을 사용합니다.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        @Field("i")
+        private String chatId;
+
+        @Field("t")
+        private ChatType type;
+
+        @Field("s")
+        private Long sender;
+
+        @Field("c")
+        private String content;
+
+        @Field("q")
+        private Long seq;
+
+        ChatMessage toMessage(String roomId) {
+            return new ChatMessage(chatId, type, roomId, sender, content, seq);
+        }
+    }
+}
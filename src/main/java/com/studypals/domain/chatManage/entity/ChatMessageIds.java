@@ -0,0 +1,51 @@
+package com.studypals.domain.chatManage.entity;
+
+/**
+ * 채팅 메시지 ID 와, 이를 변환한 redis stream record id 의 순서를 비교합니다.
+ * <pre>
+ * - 메시지 ID   : snowflake 값의 16 진수 문자열. 앞자리 0 이 없으므로, 길이가 긴 쪽이 더 큰 값입니다.
+ * - record id  : "{ms}-{seq}" 형식. ms 는 10 진수 문자열로, 길이와 사전 순으로 비교한 뒤 seq 를 비교합니다.
+ * </pre>
+ * 두 비교 모두 숫자로 변환하지 않으므로, long 범위를 넘는 값이나 잘못된 값에서도 예외가 발생하지 않습니다.
+ * stream 을 다시 쓰는 lua 스크립트({@code chat_stream_rebuild.lua}) 의 {@code less} 도 같은 규칙을 따릅니다.
+ *
+ * @author jack8
+ * @see ChatMessage
+ * @since 2026-02-01
+ */
+public final class ChatMessageIds {
+
+    private ChatMessageIds() {}
+
+    /**
+     * 두 메시지 ID 를 비교합니다.
+     *
+     * @param a 메시지 ID (16 진수 문자열)
+     * @param b 메시지 ID (16 진수 문자열)
+     * @return 음수: a &lt; b, 0: 동일, 양수: a &gt; b
+     */
+    public static int compare(String a, String b) {
+        if (a.length() != b.length()) return Integer.compare(a.length(), b.length());
+        return a.compareTo(b);
+    }
+
+    /**
+     * 두 stream record id 를 비교합니다.
+     *
+     * @param a record id (예: "183495732-0")
+     * @param b record id (예: "183495752-0")
+     * @return 음수: a &lt; b, 0: 동일, 양수: a &gt; b
+     */
+    public static int compareRecordIds(String a, String b) {
+        int da = a.indexOf('-');
+        int db = b.indexOf('-');
+        int byMillis = compareDigits(da < 0 ? a : a.substring(0, da), db < 0 ? b : b.substring(0, db));
+        if (byMillis != 0) return byMillis;
+        return compareDigits(da < 0 ? "0" : a.substring(da + 1), db < 0 ? "0" : b.substring(db + 1));
+    }
+
+    private static int compareDigits(String a, String b) {
+        if (a.length() != b.length()) return Integer.compare(a.length(), b.length());
+        return a.compareTo(b);
+    }
+}
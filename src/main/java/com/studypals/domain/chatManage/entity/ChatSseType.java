@@ -13,7 +13,10 @@ import lombok.RequiredArgsConstructor;
 public enum ChatSseType {
     CONNECT("connect"),
     INIT_MESSAGE("init-message"),
-    NEW_MESSAGE("new-message");
+    NEW_MESSAGE("new-message"),
+    // 노드 간 전달되는 채팅방 리스트 변경 이벤트. 클라이언트에게는 ROOM_PATCH 로 변환되어 전송됩니다.
+    ROOM_EVENT("room-event"),
+    ROOM_PATCH("room-patch");
 
     private final String name;
 }
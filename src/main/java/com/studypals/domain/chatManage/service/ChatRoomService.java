@@ -1,8 +1,11 @@
 package com.studypals.domain.chatManage.service;
 
+import com.studypals.domain.chatManage.dto.ChatHistoryRes;
 import com.studypals.domain.chatManage.dto.ChatRoomInfoRes;
 import com.studypals.domain.chatManage.dto.ChatRoomListRes;
 
+import reactor.core.publisher.Mono;
+
 /**
  * 채팅방에 대한 기본적인 조작 로직을 정의한 인터페이스입니다. 다만, 대부분의 로직은 Group 에서 수행됩니다.(생성,삭제, 유저 참여 등)
  * <p>
@@ -29,10 +32,37 @@ public interface ChatRoomService {
      */
     ChatRoomInfoRes getChatRoomInfo(Long userId, String chatRoomId, String chatId);
 
+    /**
+     * {@link #getChatRoomInfo} 와 같은 정보를 논블로킹 방식으로 조회합니다. 요청 스레드는 조회를 기다리지 않습니다.
+     * @param userId 검증을 위한 요청자의 userId
+     * @param chatRoomId 검색하고자 할 채팅방 아이디
+     * @param chatId 채팅 내역 불러오기 시 기준이 되는 아이디
+     * @return 채팅방 정보 및 해당 채팅방에 소속된 유저의 정보 리스트, 멤버가 아니라면 ChatException 으로 종료
+     */
+    Mono<ChatRoomInfoRes> getChatRoomInfoAsync(Long userId, String chatRoomId, String chatId);
+
     /**
      * 해당 사용자가 소속된 채팅방에 대한, 각 채팅방 정보, 언리드 카운트, 마지막 메시지 데이터 등을 리스트로 반환합니다.
      * @param userId 검색할 사용자의 userId
      * @return 소속된 채팅방 리스트 데이터
      */
     ChatRoomListRes getChatRoomList(Long userId);
+
+    /**
+     * SSE 로 연결된 사용자의 채팅방 리스트를 반환합니다. 현재 노드에 해당 사용자의 리스트가 유지되고 있다면 그대로 반환하며,
+     * 없다면 {@link #getChatRoomList(Long)} 로 한 번 조회하여 만듭니다. 이후 변경분은 SSE patch 로 전송됩니다.
+     * @param userId 검색할 사용자의 userId
+     * @return 소속된 채팅방 리스트 데이터
+     */
+    ChatRoomListRes getChatRoomListSnapshot(Long userId);
+
+    /**
+     * 채팅방의 채팅 내역을 커서 기반으로 한 페이지 조회합니다. 커서가 없다면 가장 최신 메시지부터 조회합니다.
+     * @param userId 검증을 위한 요청자의 userId
+     * @param chatRoomId 검색하고자 할 채팅방 아이디
+     * @param cursor 이전 응답에서 받은 커서, 없다면 null
+     * @param size 페이지 크기, 없다면 기본값
+     * @return 최신 순으로 정렬된 채팅 내역과 이전/이후 페이지 커서
+     */
+    ChatHistoryRes getChatHistory(Long userId, String chatRoomId, String cursor, Integer size);
 }
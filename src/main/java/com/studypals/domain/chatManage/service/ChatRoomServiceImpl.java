@@ -11,15 +11,21 @@ import lombok.RequiredArgsConstructor;
 import com.studypals.domain.chatManage.dto.*;
 import com.studypals.domain.chatManage.dto.mapper.ChatMessageMapper;
 import com.studypals.domain.chatManage.dto.mapper.ChatRoomMapper;
+import com.studypals.domain.chatManage.entity.ChatMessage;
 import com.studypals.domain.chatManage.entity.ChatRoom;
 import com.studypals.domain.chatManage.entity.ChatRoomMember;
 import com.studypals.domain.chatManage.worker.ChatMessageReader;
+import com.studypals.domain.chatManage.worker.ChatRoomListView;
 import com.studypals.domain.chatManage.worker.ChatRoomReader;
+import com.studypals.domain.chatManage.worker.ReactiveChatLogReader;
 import com.studypals.domain.memberManage.entity.Member;
 import com.studypals.domain.memberManage.worker.MemberReader;
 import com.studypals.global.exceptions.errorCode.ChatErrorCode;
 import com.studypals.global.exceptions.exception.ChatException;
 
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
 /**
  * 채팅방 진입 시 필요한 정보를 조회하는 서비스 구현 클래스입니다.
  * <p>
@@ -32,6 +38,8 @@ import com.studypals.global.exceptions.exception.ChatException;
  * - ChatRoomMapper : ChatRoom, ChatRoomMember 엔티티를 응답용 DTO로 변환하는 매퍼<br>
  * - ChatMessageMapper : ChatMessage 엔티티를 OutgoingMessage DTO로 변환하는 매퍼<br>
  * - ChatMessageReader : 캐시와 DB를 활용해 채팅 로그를 조회하는 Worker 컴포넌트<br>
+ * - ChatRoomListView : SSE 로 연결된 유저의 채팅방 리스트를 메모리에 유지하는 Worker 컴포넌트<br>
+ * - ReactiveChatLogReader : 채팅 로그와 캐시된 커서를 논블로킹으로 조회하는 Worker 컴포넌트<br>
  * <p>
  * 외부 모듈:<br>
  * - Spring @Service, @Transactional 을 사용하여 서비스 계층 트랜잭션 경계를 정의합니다.<br>
@@ -52,6 +60,12 @@ public class ChatRoomServiceImpl implements ChatRoomService {
     private final ChatMessageMapper chatMessageMapper;
     private final ChatMessageReader chatMessageReader;
     private final MemberReader memberReader;
+    private final ChatRoomListView chatRoomListView;
+    private final ReactiveChatLogReader reactiveChatLogReader;
+
+    // 채팅 내역 페이지 크기
+    private static final int DEFAULT_HISTORY_SIZE = 30;
+    private static final int MAX_HISTORY_SIZE = 100;
 
     /**
      * 특정 유저가 특정 채팅방에 입장할 때 필요한 전체 정보를 조회합니다.
@@ -83,36 +97,107 @@ public class ChatRoomServiceImpl implements ChatRoomService {
         List<ChatRoomMember> members = chatRoomReader.findChatRoomMembersWithMember(chatRoom);
 
         // 유저 권한 검증: 요청 유저가 해당 채팅방의 멤버인지 확인
+        validateMember(members, userId, "[ChatRoomService#getChatRoomInfo] not included user");
+
+        // DB 에 저장된 각 멤버의 마지막 읽은 메시지 ID를 기반으로 기본 커서 맵 구성
+        Map<Long, String> cursorData = savedCursors(members);
+
+        // 캐시에 저장된 최신 커서 정보로 덮어쓰기 (실시간 갱신분 반영)
+        cursorData.putAll(chatRoomReader.getCachedCursor(chatRoomId).getLastMessage());
+
+        // 기준 chatId 이후의 채팅 로그를 조회
+        List<ChatMessage> logs = chatMessageReader.getChatLog(chatRoomId, chatId);
+
+        // 채팅방 정보, 유저 정보, 커서, 채팅 로그를 모두 조합하여 최종 응답 생성
+        return toInfoRes(
+                chatRoomId,
+                chatRoom.getName(),
+                members.stream().map(chatRoomMapper::toDto).toList(),
+                cursorData,
+                logs);
+    }
+
+    /**
+     * {@link #getChatRoomInfo} 와 같은 응답을 논블로킹 방식으로 조회합니다.
+     * <p>
+     * 채팅방과 참여자 조회는 JPA 를 사용하므로 {@code boundedElastic} 스케줄러에서 수행하고, 권한 검증을 통과하면
+     * 캐시된 커서와 채팅 로그를 reactive redis / reactive mongo 로 동시에 조회합니다. 따라서 요청을 받은 서블릿
+     * 스레드는 조회를 기다리지 않고 반환됩니다.
+     * <br>
+     * 참여자는 fetch join 으로 함께 조회되므로, 트랜잭션 밖에서 응답 DTO 로 변환하더라도 추가 조회가 발생하지 않습니다.
+     *
+     * @param userId     채팅방 정보를 조회하는 사용자 ID
+     * @param chatRoomId 조회 대상 채팅방 ID
+     * @param chatId     이 메시지 ID를 포함하여 이후 로그를 조회하기 위한 기준 메시지 ID
+     * @return 채팅방 메타데이터, 참여자 정보, 커서 정보, 최근 채팅 로그가 포함된 응답 DTO
+     */
+    @Override
+    public Mono<ChatRoomInfoRes> getChatRoomInfoAsync(Long userId, String chatRoomId, String chatId) {
+        return Mono.fromCallable(() -> loadRoom(userId, chatRoomId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(room -> Mono.zip(
+                                reactiveChatLogReader.getCachedCursor(chatRoomId),
+                                reactiveChatLogReader.getChatLog(chatRoomId, chatId))
+                        .map(tuple -> {
+                            Map<Long, String> cursorData = new HashMap<>(room.cursors());
+                            cursorData.putAll(tuple.getT1());
+                            return toInfoRes(chatRoomId, room.name(), room.userInfos(), cursorData, tuple.getT2());
+                        }));
+    }
+
+    /**
+     * 채팅방 정보 중 JPA 로 조회하는 부분입니다.
+     * @param name 채팅방 이름
+     * @param userInfos 참여자 정보
+     * @param cursors DB 에 저장된 참여자 별 마지막 읽은 메시지 ID
+     */
+    private record RoomSnapshot(String name, List<ChatRoomInfoRes.UserInfo> userInfos, Map<Long, String> cursors) {}
+
+    private RoomSnapshot loadRoom(Long userId, String chatRoomId) {
+        ChatRoom chatRoom = chatRoomReader.getById(chatRoomId);
+        List<ChatRoomMember> members = chatRoomReader.findChatRoomMembersWithMember(chatRoom);
+        validateMember(members, userId, "[ChatRoomService#getChatRoomInfoAsync] not included user");
+
+        return new RoomSnapshot(
+                chatRoom.getName(),
+                members.stream().map(chatRoomMapper::toDto).toList(),
+                savedCursors(members));
+    }
+
+    private static void validateMember(List<ChatRoomMember> members, Long userId, String message) {
         boolean exist = members.stream().anyMatch(m -> m.getMember().getId().equals(userId));
         if (!exist) {
-            throw new ChatException(
-                    ChatErrorCode.CHAT_ROOM_PERMISSION_DENIED, "[ChatRoomService#getChatRoomInfo] not included user");
+            throw new ChatException(ChatErrorCode.CHAT_ROOM_PERMISSION_DENIED, message);
         }
+    }
 
-        // DB 에 저장된 각 멤버의 마지막 읽은 메시지 ID를 기반으로 기본 커서 맵 구성
+    private static Map<Long, String> savedCursors(List<ChatRoomMember> members) {
         Map<Long, String> cursorData = new HashMap<>();
         for (ChatRoomMember chatRoomMember : members) {
             cursorData.put(chatRoomMember.getMember().getId(), chatRoomMember.getLastReadMessage());
         }
+        return cursorData;
+    }
 
-        // 캐시에 저장된 최신 커서 정보로 덮어쓰기 (실시간 갱신분 반영)
-        cursorData.putAll(chatRoomReader.getCachedCursor(chatRoomId).getLastMessage());
-
+    private ChatRoomInfoRes toInfoRes(
+            String chatRoomId,
+            String name,
+            List<ChatRoomInfoRes.UserInfo> userInfos,
+            Map<Long, String> cursorData,
+            List<ChatMessage> messages) {
         // Map<Long, String> 을 ChatCursorRes 리스트로 변환
         List<ChatCursorRes> chatCursorRes = cursorData.entrySet().stream()
                 .map(t -> new ChatCursorRes(t.getKey(), t.getValue()))
                 .toList();
 
-        // 기준 chatId 이후의 채팅 로그를 조회하고, 전송용 OutgoingMessage DTO 리스트로 변환
-        List<LoggingMessage> logs = chatMessageReader.getChatLog(chatRoomId, chatId).stream()
-                .map(chatMessageMapper::toLoggingMessage)
-                .toList();
+        // 채팅 로그를 전송용 LoggingMessage DTO 리스트로 변환
+        List<LoggingMessage> logs =
+                messages.stream().map(chatMessageMapper::toLoggingMessage).toList();
 
-        // 채팅방 정보, 유저 정보, 커서, 채팅 로그를 모두 조합하여 최종 응답 생성
         return ChatRoomInfoRes.builder()
                 .roomId(chatRoomId)
-                .name(chatRoom.getName())
-                .userInfos(members.stream().map(chatRoomMapper::toDto).toList())
+                .name(name)
+                .userInfos(userInfos)
                 .cursor(chatCursorRes)
                 .logs(logs)
                 .build();
@@ -159,7 +244,7 @@ public class ChatRoomServiceImpl implements ChatRoomService {
             }
         }
 
-        Map<String, ChatroomLatestInfo> latestInfos = chatMessageReader.getLatestInfo(cursor);
+        Map<String, ChatroomLatestInfo> latestInfos = chatMessageReader.getLatestInfo(userId, cursor);
 
         // 응답 DTO 구성
         List<ChatRoomListRes.ChatRoomInfo> infos = chatRoomMembers.stream()
@@ -168,4 +253,75 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 
         return new ChatRoomListRes(infos);
     }
+
+    /**
+     * SSE 로 연결된 사용자의 채팅방 리스트를 반환합니다. 현재 노드에 유지 중인 리스트가 없을 때만 전체 조회를 수행합니다.
+     *
+     * @param userId 조회 대상 사용자 ID
+     * @return 채팅방 목록 및 최신 메시지 정보를 담은 응답 객체
+     */
+    @Override
+    public ChatRoomListRes getChatRoomListSnapshot(Long userId) {
+        return chatRoomListView.snapshot(userId, () -> getChatRoomList(userId));
+    }
+
+    /**
+     * 채팅방의 채팅 내역을 커서 기반(keyset)으로 한 페이지 조회합니다.
+     * <p>
+     * 다음 페이지 존재 여부를 알기 위해 페이지 크기보다 하나 더 조회하며, 응답의 메시지는 방향과 관계없이 최신 순으로
+     * 정렬됩니다. 페이지 크기는 1 ~ {@value MAX_HISTORY_SIZE} 사이로 제한됩니다.
+     *
+     * @param userId     채팅 내역을 조회하는 사용자 ID
+     * @param chatRoomId 조회 대상 채팅방 ID
+     * @param cursor     이전 응답에서 받은 커서, 없다면 가장 최신 메시지부터 조회
+     * @param size       페이지 크기, 없다면 {@value DEFAULT_HISTORY_SIZE}
+     * @return 채팅 내역과 이전/이후 페이지 커서
+     * @throws ChatException 사용자가 해당 채팅방의 멤버가 아니거나, 커서가 올바르지 않은 경우 발생
+     */
+    @Override
+    public ChatHistoryRes getChatHistory(Long userId, String chatRoomId, String cursor, Integer size) {
+        if (!chatRoomReader.isMemberOfChatRoom(userId, chatRoomId)) {
+            throw new ChatException(
+                    ChatErrorCode.CHAT_ROOM_PERMISSION_DENIED, "[ChatRoomService#getChatHistory] not included user");
+        }
+
+        ChatHistoryCursor current = cursor == null ? ChatHistoryCursor.latest() : ChatHistoryCursor.decode(cursor);
+        int limit = size == null ? DEFAULT_HISTORY_SIZE : Math.max(1, Math.min(MAX_HISTORY_SIZE, size));
+
+        List<ChatMessage> page;
+        boolean hasMore;
+        ChatHistoryCursor older = null;
+        ChatHistoryCursor newer = null;
+
+        if (current.older()) {
+            page = new ArrayList<>(chatMessageReader.getHistoryBefore(chatRoomId, current.chatId(), limit + 1));
+            hasMore = page.size() > limit;
+            if (hasMore) {
+                page = page.subList(0, limit);
+                older = ChatHistoryCursor.olderThan(page.get(page.size() - 1).getId());
+            }
+            // 가장 최신 페이지가 아니라면, 기준 메시지 이후로 되돌아갈 수 있습니다.
+            if (current.chatId() != null) {
+                newer = ChatHistoryCursor.newerThan(page.isEmpty() ? current.chatId() : page.get(0).getId());
+            }
+        } else {
+            page = new ArrayList<>(chatMessageReader.getHistoryAfter(chatRoomId, current.chatId(), limit + 1));
+            hasMore = page.size() > limit;
+            if (hasMore) page = new ArrayList<>(page.subList(0, limit));
+            Collections.reverse(page);
+
+            // 최신 순으로 뒤집었으므로, 첫 메시지가 페이지에서 가장 최신 메시지입니다.
+            if (hasMore) newer = ChatHistoryCursor.newerThan(page.get(0).getId());
+            older = ChatHistoryCursor.olderThan(page.isEmpty() ? current.chatId() : page.get(page.size() - 1).getId());
+        }
+
+        List<LoggingMessage> messages =
+                page.stream().map(chatMessageMapper::toLoggingMessage).toList();
+
+        return new ChatHistoryRes(
+                chatRoomId,
+                messages,
+                older == null ? null : older.encode(),
+                newer == null ? null : newer.encode());
+    }
 }
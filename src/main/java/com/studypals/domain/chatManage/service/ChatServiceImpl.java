@@ -1,23 +1,20 @@
 package com.studypals.domain.chatManage.service;
 
-import java.util.List;
-
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import com.studypals.domain.chatManage.dao.ChatSequenceRepository;
 import com.studypals.domain.chatManage.dto.*;
 import com.studypals.domain.chatManage.dto.mapper.ChatMessageMapper;
 import com.studypals.domain.chatManage.entity.ChatMessage;
-import com.studypals.domain.chatManage.entity.ChatSseType;
 import com.studypals.domain.chatManage.worker.*;
 import com.studypals.global.exceptions.errorCode.ChatErrorCode;
 import com.studypals.global.exceptions.exception.ChatException;
-import com.studypals.global.sse.SseEmitterManager;
-import com.studypals.global.sse.SseSendDto;
 import com.studypals.global.utils.Snowflake;
 
 /**
@@ -49,8 +46,10 @@ public class ChatServiceImpl implements ChatService {
     private final ChatSendValidator chatSendValidator;
     private final Snowflake snowflake;
     private final ChatStateUpdater chatStateUpdater;
-    private final ChatRoomReader chatRoomReader;
-    private final SseEmitterManager sseManager;
+    private final ChatFanoutDispatcher chatFanoutDispatcher;
+    private final ChatStreamWriter chatStreamWriter;
+    private final ChatNearCache chatNearCache;
+    private final ChatSequenceRepository chatSequenceRepository;
 
     @Value("${chat.subscribe.address.default}")
     private String DESTINATION_PREFIX;
@@ -60,8 +59,12 @@ public class ChatServiceImpl implements ChatService {
      * <p>
      * 동작 순서<br>
      * 1. IncomingMessage 를 OutgoingMessage 로 변환하고, Snowflake 로 새 메시지 ID 를 생성합니다.<br>
-     * 2. STOMP 브로커로 해당 채팅방 구독자들에게 메시지를 브로드캐스팅합니다.<br>
-     * 3. 동일한 내용을 ChatMessage 엔티티로 변환해 비동기 저장 파이프라인에 전달합니다.<br>
+     * 2. 동일한 내용을 ChatMessage 엔티티로 변환하고 채팅방 내 순번을 부여해 비동기 저장 파이프라인에 전달합니다.
+     * 이때 저널에 먼저 기록됩니다.<br>
+     * 3. mongo 저장을 기다리지 않고, 채팅방의 redis stream 캐시에 곧바로 기록합니다(write-through).
+     * 각 노드의 로컬 최근 메시지 캐시에도 추가합니다.<br>
+     * 4. STOMP 브로커로 해당 채팅방 구독자들에게 메시지를 브로드캐스팅합니다.<br>
+     * 5. 채팅방 멤버에게 SSE 로 전송하기 위해 fan-out 대기열에 적재합니다.<br>
      *
      * @param userId  메시지를 보내는 사용자 ID
      * @param message 클라이언트에서 수신한 원본 메시지 DTO
@@ -73,16 +76,33 @@ public class ChatServiceImpl implements ChatService {
         String id = Long.toHexString(snowflake.nextId());
         outgoingMessage.setId(id);
 
+        // 영속화용 엔티티로 변환 후 비동기 저장 파이프라인에 위임. 저널에 기록된 메시지만 전송합니다.
+        ChatMessage entity = chatMessageMapper.toEntity(message, id, userId);
+        entity.setSeq(nextSequence(message.getRoomId()));
+        chatMessagePipeline.publish(entity);
+
+        // 조회 시 캐시 미스가 나지 않도록, 전송 시점에 stream 캐시에 기록
+        chatStreamWriter.append(entity);
+        chatNearCache.publish(entity);
+
         // STOMP 브로커로 해당 채팅방 구독자에게 브로드캐스트
         template.convertAndSend(DESTINATION_PREFIX + message.getRoomId(), outgoingMessage);
 
-        // 소속 멤버를 찾아, SSE 로 메시지 전송
-        List<Long> memberIds = chatRoomReader.findJoinedMemberId(message.getRoomId());
-        memberIds.forEach(
-                t -> sseManager.sendMessageAsync(t, new SseSendDto(ChatSseType.NEW_MESSAGE.name(), outgoingMessage)));
-        // 영속화용 엔티티로 변환 후 비동기 저장 파이프라인에 위임
-        ChatMessage entity = chatMessageMapper.toEntity(message, id, userId);
-        chatMessagePipeline.publish(entity);
+        // 채팅방 단위로 모아, 소속 멤버에게 SSE 로 일괄 전송
+        chatFanoutDispatcher.enqueue(message.getRoomId(), outgoingMessage);
+    }
+
+    /**
+     * 채팅방의 다음 메시지 순번을 발급합니다. 발급에 실패하더라도 메시지 전송은 계속되며,
+     * 이 경우 순번이 없는 메시지로 저장됩니다.
+     */
+    private Long nextSequence(String roomId) {
+        try {
+            return chatSequenceRepository.next(roomId);
+        } catch (DataAccessException e) {
+            log.warn("fail to issue chat sequence. roomId={}", roomId, e);
+            return null;
+        }
     }
 
     /**
@@ -0,0 +1,169 @@
+package com.studypals.domain.chatManage.worker;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.studypals.domain.chatManage.dao.ChatMessageCacheRepository;
+import com.studypals.domain.chatManage.dao.ChatMessageRepository;
+import com.studypals.domain.chatManage.entity.ChatMessage;
+import com.studypals.global.annotations.Worker;
+
+/**
+ * <pre><code>
+ * 채팅방 redis stream 캐시의 재구성을 채팅방 단위로 한 번만(single-flight) 수행하도록 조율합니다.
+ * 인기 있는 채팅방의 캐시가 비면, 동시에 들어온 모든 조회가 각자 mongo 를 조회하고 캐시를 채우게 됩니다.
+ * 이를 막기 위해 다음과 같은 과정을 따릅니다.
+ *
+ * 1. 같은 노드에서 같은 채팅방에 대한 재구성이 진행 중이라면, 새 조회는 해당 결과를 기다립니다.
+ * 2. 진행 중인 작업이 없다면 호출한 스레드가 loader 가 되어, redis 에 짧은 lease 를 얻고 mongo 에서 최신 메시지를 조회합니다.
+ * 3. lease 를 얻었다면 mongo 결과를 캐시에 병합합니다. 얻지 못했다면 다른 노드가 재구성 중이므로, mongo 결과만 반환합니다.
+ * 4. 기다리던 조회가 시간 내에 결과를 받지 못한 경우, 캐시에 쓰지 않고 mongo 에서 직접 조회합니다.
+ * </code></pre>
+ *
+ * 캐시를 비운 뒤 다시 채우면, 그 사이 캐시에 추가되었지만 아직 mongo 에 저장되지 않은 메시지가 사라집니다.
+ * 따라서 캐시를 비우지 않고, 캐시에 없는 메시지만 병합합니다({@link ChatMessageCacheRepository#merge}).
+ * <p>
+ * 조회 결과는 최신 메시지를 채팅방 별 캐시 최대 길이({@link ChatMessageCacheRepository#getMaxLen(String)}) 만큼 담으며,
+ * ID 내림차순입니다. 따라서 결과가 최대 길이보다 적다면 더 과거의 메시지는 없습니다.
+ *
+ * @author jack8
+ * @see ChatMessageReader
+ * @see ChatMessageCacheRepository
+ * @since 2026-01-21
+ */
+@Worker
+@Slf4j
+@RequiredArgsConstructor
+public class ChatCacheRebuilder {
+
+    // 재구성 lease 유지 시간. 재구성 도중 노드가 종료되더라도 이후 다른 노드가 재구성할 수 있습니다.
+    private static final Duration LEASE_TTL = Duration.ofSeconds(5);
+    // 진행 중인 재구성 결과를 기다리는 최대 시간(ms)
+    private static final long WAIT_TIMEOUT_MILLIS = 2_000;
+
+    private final ChatMessageRepository messageRepository;
+    private final ChatMessageCacheRepository cacheRepository;
+
+    /**
+     * 채팅방 별 진행 중인 재구성 작업
+     */
+    private final ConcurrentMap<String, CompletableFuture<List<ChatMessage>>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 채팅방의 최신 메시지를 조회하고, 캐시를 다시 채웁니다. 같은 채팅방에 대한 동시 호출은 하나의 조회로 합쳐집니다.
+     *
+     * @param roomId 재구성할 채팅방 ID
+     * @return 최신 메시지 목록 (ID 내림차순)
+     */
+    public List<ChatMessage> loadRecent(String roomId) {
+        CompletableFuture<List<ChatMessage>> mine = new CompletableFuture<>();
+        CompletableFuture<List<ChatMessage>> running = inFlight.putIfAbsent(roomId, mine);
+        if (running != null) return await(roomId, running);
+
+        try {
+            List<ChatMessage> recent = loadAndRebuild(roomId);
+            mine.complete(recent);
+            return recent;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(roomId, mine);
+        }
+    }
+
+    /**
+     * 이미 조회한 최신 메시지로 캐시를 다시 채웁니다. 같은 채팅방에 대한 재구성이 진행 중이거나, 다른 노드가 lease 를
+     * 보유하고 있다면 아무 일도 하지 않습니다.
+     *
+     * @param roomId 재구성할 채팅방 ID
+     * @param recent 캐시에 저장할 메시지 (ID 오름차순)
+     */
+    public void repopulate(String roomId, List<ChatMessage> recent) {
+        if (inFlight.containsKey(roomId)) return;
+
+        String token = acquire(roomId);
+        if (token == null) return;
+
+        try {
+            write(roomId, recent);
+        } finally {
+            release(roomId, token);
+        }
+    }
+
+    private List<ChatMessage> loadAndRebuild(String roomId) {
+        String token = acquire(roomId);
+        List<ChatMessage> recent = findRecent(roomId);
+        // 다른 노드가 재구성 중이므로 캐시에 쓰지 않습니다.
+        if (token == null) return recent;
+
+        try {
+            List<ChatMessage> ascending = new ArrayList<>(recent);
+            Collections.reverse(ascending);
+            write(roomId, ascending);
+        } finally {
+            release(roomId, token);
+        }
+        return recent;
+    }
+
+    private List<ChatMessage> await(String roomId, CompletableFuture<List<ChatMessage>> running) {
+        try {
+            return running.get(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.debug("chat cache rebuild not available, read from db. roomId={}", roomId, e);
+        }
+        return findRecent(roomId);
+    }
+
+    private List<ChatMessage> findRecent(String roomId) {
+        return messageRepository.findByRoomIdOrderByIdDesc(roomId, Limit.of(maxLen(roomId)));
+    }
+
+    private int maxLen(String roomId) {
+        try {
+            return cacheRepository.getMaxLen(roomId);
+        } catch (DataAccessException e) {
+            log.warn("fail to read chat stream max length. roomId={}", roomId, e);
+            return cacheRepository.getMaxLen();
+        }
+    }
+
+    private void write(String roomId, List<ChatMessage> ascending) {
+        try {
+            cacheRepository.merge(roomId, ascending);
+        } catch (RuntimeException e) {
+            log.warn("fail to rebuild chat stream. roomId={}", roomId, e);
+        }
+    }
+
+    private String acquire(String roomId) {
+        try {
+            return cacheRepository.tryLease(roomId, LEASE_TTL);
+        } catch (DataAccessException e) {
+            log.warn("fail to acquire chat stream lease. roomId={}", roomId, e);
+            return null;
+        }
+    }
+
+    private void release(String roomId, String token) {
+        try {
+            cacheRepository.releaseLease(roomId, token);
+        } catch (DataAccessException e) {
+            // lease 는 ttl 이후 만료됩니다.
+            log.warn("fail to release chat stream lease. roomId={}", roomId, e);
+        }
+    }
+}
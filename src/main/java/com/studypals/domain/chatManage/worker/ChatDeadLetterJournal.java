@@ -0,0 +1,82 @@
+package com.studypals.domain.chatManage.worker;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studypals.domain.chatManage.entity.ChatMessage;
+
+/**
+ * mongoDB 에 저장하지 못한 채팅 메시지를 기록하는 로컬 dead-letter 파일입니다.
+ * <pre>
+ * - 위치 : {@code ${chat.journal.dir}/dead-letter.jsonl}
+ * - 형식 : 메시지 당 한 줄의 json ({@code failedAt}, {@code error}, {@code message})
+ * - 기록이 끝나면 디스크에 flush 하므로, 반환된 이후에는 재시작 후에도 남아 있습니다.
+ * </pre>
+ * {@link ReactiveChatSaveWorker} 는 재시도로 해결되지 않는 배치를 이곳에 기록한 뒤 저널의 checkpoint 를 옮깁니다.
+ * 기록된 메시지는 원인을 해결한 뒤 운영자가 다시 저장합니다.
+ * <p>
+ * 모든 메서드는 인스턴스 단위로 동기화됩니다.
+ *
+ * @author jack8
+ * @see ReactiveChatSaveWorker
+ * @see ChatMessageJournal
+ * @since 2026-02-01
+ */
+@Component
+public class ChatDeadLetterJournal {
+
+    private static final String FILE_NAME = "dead-letter.jsonl";
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * dead-letter 파일의 한 줄입니다.
+     * @param failedAt 기록한 시각
+     * @param error 저장에 실패한 원인
+     * @param message 저장하지 못한 메시지
+     */
+    record Entry(String failedAt, String error, ChatMessage message) {}
+
+    public ChatDeadLetterJournal(@Value("${chat.journal.dir:./chat-journal}") String dir, ObjectMapper objectMapper) {
+        this.path = Path.of(dir).resolve(FILE_NAME);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 메시지 목록을 dead-letter 파일 끝에 기록합니다.
+     * @param messages 저장하지 못한 메시지 목록
+     * @param cause 저장에 실패한 원인
+     * @throws IOException 직렬화 혹은 파일 기록에 실패한 경우
+     */
+    public synchronized void write(List<ChatMessage> messages, Throwable cause) throws IOException {
+        String failedAt = Instant.now().toString();
+        String error = cause == null ? null : cause.getClass().getName() + ": " + cause.getMessage();
+
+        StringBuilder lines = new StringBuilder();
+        for (ChatMessage message : messages) {
+            lines.append(objectMapper.writeValueAsString(new Entry(failedAt, error, message))).append('\n');
+        }
+
+        Files.createDirectories(path.getParent());
+        try (FileChannel channel = FileChannel.open(
+                path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+}
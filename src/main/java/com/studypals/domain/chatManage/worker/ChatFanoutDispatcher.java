@@ -0,0 +1,202 @@
+package com.studypals.domain.chatManage.worker;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.*;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.studypals.domain.chatManage.dto.OutgoingMessage;
+import com.studypals.domain.chatManage.entity.ChatSseType;
+import com.studypals.global.annotations.Worker;
+import com.studypals.global.sse.SseEmitterManager;
+import com.studypals.global.sse.SseSendDto;
+
+/**
+ * <pre><code>
+ * 채팅방 단위로 새 메시지를 모아 SSE 로 일괄 전송(fan-out)합니다. {@code ScheduledExecutorService} 를 사용하여
+ * 데몬 스레드가 작업을 수행합니다. 작업 자체는 다음과 같은 과정을 따릅니다.
+ *
+ * 1. 메시지가 전송되면, 채팅방 별 대기열({@code pending}) 에 적재합니다.
+ * 2. {@code FLUSH_INTERVAL_MS (50)} 마다 채팅방 별 대기열을 비웁니다.
+ * 3. 채팅방의 멤버 목록은 로컬 캐시에서 채팅방 당 한 번만 조회합니다.
+ * 4. 채팅방 리스트 뷰를 갱신하기 위한 이벤트를 함께 담아, 채팅방 당 하나의 전송 작업을 sse 스레드 풀에 위임합니다.
+ * 5. 비워진 대기열은 map 에서 제거합니다.
+ * </code></pre>
+ *
+ * 채팅방 참여/탈퇴가 커밋되면 {@link #evictMembers(String)} 를 통해 모든 노드의 로컬 멤버 캐시를 비웁니다.
+ * 무효화 메시지는 redis pub/sub 채널({@code chat:members:evict})로 전달되며, 유실되더라도 캐시는 TTL 이후 갱신됩니다.
+ *
+ * 기존에는 메시지마다 멤버 목록을 redis 캐시에서 조회하고, 멤버 수 만큼 작업을 스레드 풀에 제출하였습니다.
+ * 해당 클래스를 통해 채팅방 당, 주기(tick) 당 한 번의 조회와 한 번의 작업 제출로 줄어듭니다.
+ *
+ * <p><b>외부 모듈:</b><br>
+ * caffeine 을 활용한 로컬 캐싱, redis pub/sub
+ *
+ * @author jack8
+ * @see SseEmitterManager
+ * @since 2026-01-12
+ */
+@Worker
+@Slf4j
+@RequiredArgsConstructor
+public class ChatFanoutDispatcher implements MessageListener {
+
+    // 멤버 캐시 무효화 채널
+    private static final String EVICT_CHANNEL = "chat:members:evict";
+    // 채팅방 별 대기열을 비우는 주기
+    private static final int FLUSH_INTERVAL_MS = 50;
+    // 로컬 멤버 캐시의 유지 시간. 무효화 메시지가 유실되었을 때 참여/탈퇴가 반영되기까지의 최대 지연입니다.
+    private static final int MEMBER_CACHE_TTL_SEC = 5;
+
+    private final ChatRoomReader chatRoomReader;
+    private final SseEmitterManager sseManager;
+    private final ChatRoomListView chatRoomListView;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    /**
+     * 채팅방 아이디 -> 전송 대기 중인 메시지
+     */
+    private final ConcurrentMap<String, Queue<SseSendDto>> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 채팅방 아이디 -> 소속 멤버 아이디. 짧은 시간 동안만 유지되는 로컬 캐시입니다.
+     */
+    private final Cache<String, List<Long>> members = Caffeine.newBuilder()
+            .expireAfterWrite(MEMBER_CACHE_TTL_SEC, TimeUnit.SECONDS)
+            .maximumSize(10_000)
+            .build();
+
+    private final ScheduledExecutorService scheduler = new ScheduledThreadPoolExecutor(1, r -> {
+        Thread t = new Thread(r, "chat-fanout-dispatcher");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /**
+     * scheduler 를 구동하고, 멤버 캐시 무효화 채널을 구독합니다.
+     */
+    @PostConstruct
+    public void startScheduler() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+        scheduler.scheduleWithFixedDelay(this::safeFlush, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 종료 전 남아있는 메시지를 전송하고 scheduler 를 종료합니다.
+     */
+    @PreDestroy
+    public void stopScheduler() {
+        scheduler.shutdown();
+        safeFlush();
+    }
+
+    /**
+     * 새 메시지를 채팅방 대기열에 넣습니다. 실제 전송은 다음 주기에 이루어집니다.
+     * @param roomId 채팅방 아이디
+     * @param message 전송할 메시지
+     */
+    public void enqueue(String roomId, OutgoingMessage message) {
+        SseSendDto dto = new SseSendDto(ChatSseType.NEW_MESSAGE.name(), message);
+        // 대기열 제거와 같은 key 에 대해 원자적으로 수행되어, 제거된 대기열에 메시지가 적재되지 않습니다.
+        pending.compute(roomId, (k, queue) -> {
+            if (queue == null) queue = new ConcurrentLinkedQueue<>();
+            queue.add(dto);
+            return queue;
+        });
+    }
+
+    /**
+     * 채팅방의 멤버 목록이 변경되었음을 알리고, 모든 노드의 로컬 멤버 캐시에서 제거합니다.
+     * 트랜잭션 내라면 커밋 이후 수행합니다. 커밋 이전에 제거하면, 변경 전 멤버 목록이 다시 캐싱될 수 있기 때문입니다.
+     * @param roomId 채팅방 아이디
+     */
+    public void evictMembers(String roomId) {
+        afterCommit(() -> {
+            members.invalidate(roomId);
+            try {
+                redisTemplate.convertAndSend(EVICT_CHANNEL, roomId);
+            } catch (Exception e) {
+                log.warn("fail to publish member cache eviction. roomId={}", roomId, e);
+            }
+        });
+    }
+
+    /**
+     * 다른 노드에서 발행된 멤버 캐시 무효화 메시지를 처리합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        members.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 스케쥴러 스레드가 예외로 인해 중단되지 않도록 감쌉니다.
+     */
+    private void safeFlush() {
+        try {
+            flushOnce();
+        } catch (Exception e) {
+            log.error("chat fan-out flush failed", e);
+        }
+    }
+
+    /**
+     * 채팅방 별 대기열을 비우고, 채팅방 당 하나의 전송 작업을 위임합니다.
+     */
+    private void flushOnce() {
+        for (Map.Entry<String, Queue<SseSendDto>> entry : pending.entrySet()) {
+            String roomId = entry.getKey();
+            Queue<SseSendDto> queue = entry.getValue();
+
+            List<SseSendDto> batch = new ArrayList<>();
+            List<OutgoingMessage> messages = new ArrayList<>();
+            SseSendDto dto;
+            while ((dto = queue.poll()) != null) {
+                batch.add(dto);
+                messages.add((OutgoingMessage) dto.content());
+            }
+
+            // 비워진 대기열을 제거합니다. 그 사이 적재된 메시지가 있다면 다음 주기에 전송됩니다.
+            pending.computeIfPresent(roomId, (k, q) -> q.isEmpty() ? null : q);
+            if (batch.isEmpty()) continue;
+
+            SseSendDto roomEvent = chatRoomListView.messageEvent(roomId, messages);
+            if (roomEvent != null) batch.add(roomEvent);
+
+            List<Long> memberIds = members.get(roomId, chatRoomReader::findJoinedMemberId);
+            sseManager.sendMessagesAsync(memberIds, batch);
+        }
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,207 @@
+package com.studypals.domain.chatManage.worker;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.studypals.domain.chatManage.dao.ChatMessageBuckets;
+import com.studypals.domain.chatManage.entity.ChatMessage;
+import com.studypals.domain.chatManage.entity.ChatMessageBucket;
+import com.studypals.global.annotations.Worker;
+
+/**
+ * <pre><code>
+ * 메시지 당 하나의 문서({@code chat_message})로 저장된 채팅 메시지를 구간 문서({@code chat_message_bucket})로 옮깁니다.
+ * {@code chat.mongo.bucket-migration=true} 인 경우에만 동작하며, 작업 자체는 다음과 같은 과정을 따릅니다.
+ *
+ * 1. 데몬 스레드가 주기적으로, 마지막으로 옮긴 메시지 ID(checkpoint) 이후의 메시지를 ID 순으로 {@code BATCH_SIZE} 개씩 읽습니다.
+ * 2. 읽은 메시지 중 구간 문서에 없는 메시지를 구간 별로 묶어 하나의 unordered bulk upsert 로 저장합니다.
+ * 3. checkpoint 를 갱신하고, 더 읽을 메시지가 없을 때까지 반복합니다.
+ * 4. checkpoint 보다 {@code chat.mongo.bucket-reconcile-window-ms} 이전부터의 메시지를 다시 읽어,
+ *    구간 문서에 없는 메시지를 저장합니다(reconcile).
+ * </code></pre>
+ *
+ * 메시지 ID 는 저장 전에 발급되므로, 저장이 늦어진 메시지는 이미 checkpoint 보다 작은 ID 로 저장될 수 있습니다.
+ * 이러한 메시지는 3 의 checkpoint 이후만 읽는 과정에서 누락되므로, 4 에서 다시 확인합니다.
+ * 저장 전에 구간 문서에 있는 메시지를 걸러내므로, 여러 노드가 같은 메시지를 옮기더라도 대부분 중복되지 않으며,
+ * 동시에 옮겨져 중복된 메시지는 조회 시 합쳐집니다.
+ * <p>
+ * 레이아웃을 전환하기 전까지 새로 저장되는 메시지도 다음 주기에 옮겨지므로, 전환 절차는 다음과 같습니다.
+ * 이관을 켜고 checkpoint 가 최신 메시지를 따라잡은 뒤 {@code chat.mongo.layout=bucket} 으로 전환하며,
+ * 전환 이후 한 주기가 지나 reconcile 이 끝나면 이관을 끕니다. 전체 메시지를 다시 확인해야 한다면
+ * {@link #reconcile(String)} 에 null 을 넘겨 실행합니다.
+ *
+ * @author jack8
+ * @see ChatMessageBucket
+ * @see ChatMessageBuckets
+ * @since 2026-01-27
+ */
+@Worker
+@Slf4j
+@RequiredArgsConstructor
+public class ChatMessageBucketMigrator {
+
+    // 한 번에 옮기는 메시지 수
+    static final int BATCH_SIZE = 1000;
+    private static final String CHECKPOINT_COLLECTION = "chat_message_migration";
+    private static final String CHECKPOINT_ID = "bucket";
+    private static final String CHECKPOINT_FIELD = "lastId";
+
+    @Value("${chat.mongo.bucket-migration:false}")
+    private boolean enabled;
+
+    @Value("${chat.mongo.bucket-migration-interval-ms:60000}")
+    private long intervalMillis;
+
+    @Value("${chat.mongo.bucket-reconcile-window-ms:600000}")
+    private long reconcileWindowMillis;
+
+    private final MongoTemplate mongoTemplate;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "chat-bucket-migrator");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @PostConstruct
+    public void startScheduler() {
+        if (!enabled) return;
+        scheduler.scheduleWithFixedDelay(this::migrateSafely, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * JVM 이 종료되기 전에 scheduler 를 안전하게 종료합니다.
+     */
+    @PreDestroy
+    public void stopScheduler() {
+        scheduler.shutdownNow();
+    }
+
+    private void migrateSafely() {
+        try {
+            int migrated = migrate();
+            if (migrated > 0) log.info("chat messages migrated to buckets. count={}", migrated);
+
+            String lastId = checkpoint();
+            if (lastId == null) return;
+            long from = Math.max(0L, ChatMessageBucket.millisOf(lastId) - reconcileWindowMillis);
+            int reconciled = reconcile(ChatMessageBucket.minIdAt(from));
+            if (reconciled > 0) log.info("late chat messages reconciled to buckets. count={}", reconciled);
+        } catch (RuntimeException e) {
+            // 예외가 전파되면 이후 주기가 실행되지 않으므로, 여기서 처리합니다.
+            log.error("fail to migrate chat messages to buckets", e);
+        }
+    }
+
+    /**
+     * checkpoint 이후의 메시지를 모두 옮깁니다.
+     * @return 확인한 메시지 수
+     */
+    public int migrate() {
+        int total = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            int migrated = migrateBatch();
+            total += migrated;
+            if (migrated < BATCH_SIZE) break;
+        }
+        return total;
+    }
+
+    /**
+     * checkpoint 이후의 메시지를 최대 {@code BATCH_SIZE} 개 옮기고, checkpoint 를 갱신합니다.
+     * @return 읽은 메시지 수
+     */
+    int migrateBatch() {
+        List<ChatMessage> messages = findAfter(checkpoint());
+        if (messages.isEmpty()) return 0;
+
+        upsertMissing(messages);
+
+        // 여러 노드가 동시에 옮기더라도 checkpoint 가 뒤로 가지 않도록 합니다.
+        mongoTemplate.upsert(
+                Query.query(where("_id").is(CHECKPOINT_ID)),
+                new Update().max(CHECKPOINT_FIELD, messages.get(messages.size() - 1).getId()),
+                CHECKPOINT_COLLECTION);
+        return messages.size();
+    }
+
+    /**
+     * 주어진 ID 이후의 메시지 중 구간 문서에 없는 메시지를 모두 저장합니다. checkpoint 는 갱신하지 않습니다.
+     * @param fromId 이 ID 이후의 메시지를 확인합니다. null 이라면 전체 메시지를 확인합니다.
+     * @return 저장한 메시지 수
+     */
+    public int reconcile(String fromId) {
+        int total = 0;
+        String lastId = fromId;
+        while (!Thread.currentThread().isInterrupted()) {
+            List<ChatMessage> messages = findAfter(lastId);
+            if (messages.isEmpty()) break;
+
+            total += upsertMissing(messages);
+            if (messages.size() < BATCH_SIZE) break;
+            lastId = messages.get(messages.size() - 1).getId();
+        }
+        return total;
+    }
+
+    private List<ChatMessage> findAfter(String lastId) {
+        Query query = lastId == null ? new Query() : Query.query(where("_id").gt(lastId));
+        query.with(Sort.by(Sort.Direction.ASC, "_id")).limit(BATCH_SIZE);
+        return mongoTemplate.find(query, ChatMessage.class);
+    }
+
+    /**
+     * 구간 문서에 없는 메시지만 하나의 unordered bulk upsert 로 저장합니다.
+     * @return 저장한 메시지 수
+     */
+    private int upsertMissing(List<ChatMessage> messages) {
+        Map<String, List<String>> chatIds = new HashMap<>();
+        for (ChatMessage message : messages) {
+            chatIds.computeIfAbsent(message.getRoomId(), k -> new ArrayList<>()).add(message.getId());
+        }
+
+        // 메시지 ID 만 읽어, 이미 구간 문서에 있는 메시지를 확인합니다.
+        Query query = Query.query(ChatMessageBuckets.bucketsOf(chatIds));
+        query.fields().include("messages.i");
+        Set<String> present = new HashSet<>();
+        for (ChatMessageBucket bucket : mongoTemplate.find(query, ChatMessageBucket.class)) {
+            for (ChatMessageBucket.Entry entry : bucket.getMessages()) present.add(entry.getChatId());
+        }
+
+        List<ChatMessage> missing = new ArrayList<>();
+        for (ChatMessage message : messages) {
+            if (!present.contains(message.getId())) missing.add(message);
+        }
+        if (missing.isEmpty()) return 0;
+
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatMessageBucket.class);
+        for (ChatMessageBuckets.Upsert upsert : ChatMessageBuckets.upserts(missing)) {
+            ops.upsert(upsert.query(), upsert.update());
+        }
+        ops.execute();
+        return missing.size();
+    }
+
+    private String checkpoint() {
+        Document checkpoint = mongoTemplate.findById(CHECKPOINT_ID, Document.class, CHECKPOINT_COLLECTION);
+        return checkpoint == null ? null : checkpoint.getString(CHECKPOINT_FIELD);
+    }
+}
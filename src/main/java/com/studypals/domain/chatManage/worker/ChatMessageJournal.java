@@ -0,0 +1,374 @@
+package com.studypals.domain.chatManage.worker;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.studypals.domain.chatManage.dto.ChatType;
+import com.studypals.domain.chatManage.entity.ChatMessage;
+import com.studypals.global.exceptions.errorCode.ChatErrorCode;
+import com.studypals.global.exceptions.exception.ChatException;
+
+/**
+ * 채팅 메시지에 대한 append-only 로컬 저널입니다. 메모리 맵 파일(segment) 에 메시지를 기록하고,
+ * 저장이 완료된 위치를 checkpoint 파일에 기록합니다.
+ * <pre>
+ * - 위치(position) 는 {@code segment * segmentSize + offset} 형태의 논리 오프셋입니다.
+ * - 레코드 : [int length][payload]. length 는 payload 를 모두 쓴 뒤에 기록되므로, 0 은 "아직 기록되지 않음" 입니다.
+ * - payload 끝의 채팅방 순번(seq)은 이후 추가된 필드로, 이전 형식의 레코드에는 없을 수 있습니다.
+ * - segment 의 남은 공간이 부족하면 -1 을 기록하고 다음 segment 로 넘어갑니다.
+ * - 커서 : write(기록 위치) / read(소비자에게 전달한 위치) / commit(저장이 완료된 위치, checkpoint)
+ * - checkpoint 이전의 segment 는 삭제됩니다.
+ * </pre>
+ * 재시작 시 checkpoint 부터 기록된 끝까지가 다시 읽히므로, 저장되지 않은 메시지는 재처리됩니다.
+ * 기록은 페이지 캐시에 반영되므로 프로세스 종료에는 안전하며, 종료 시 디스크에 flush 합니다.
+ * <p>
+ * 모든 메서드는 인스턴스 단위로 동기화됩니다.
+ *
+ * @author jack8
+ * @see ChatMessagePipeline
+ * @since 2026-01-16
+ */
+@Component
+@Slf4j
+public class ChatMessageJournal {
+
+    private static final int HEADER_SIZE = Integer.BYTES;
+    private static final int SEGMENT_END = -1;
+    private static final int NULL_LENGTH = -1;
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+
+    private final Path dir;
+    private final int segmentSize;
+
+    /** segment 번호 -> 메모리 맵 버퍼. commit 위치부터 write 위치까지의 segment 만 유지합니다. */
+    private final Map<Long, MappedByteBuffer> segments = new HashMap<>();
+
+    private final MappedByteBuffer checkpoint;
+
+    private long writePos;
+    private long readPos;
+    private long commitPos;
+
+    public ChatMessageJournal(
+            @Value("${chat.journal.dir:./chat-journal}") String dir,
+            @Value("${chat.journal.segment-size:67108864}") int segmentSize) {
+        this.dir = Path.of(dir);
+        this.segmentSize = segmentSize;
+
+        try {
+            Files.createDirectories(this.dir);
+            this.checkpoint = map(this.dir.resolve(CHECKPOINT_FILE), Long.BYTES);
+        } catch (IOException e) {
+            throw new IllegalStateException("fail to open chat journal: " + dir, e);
+        }
+
+        this.commitPos = checkpoint.getLong(0);
+        this.readPos = commitPos;
+        this.writePos = recoverWritePos();
+        deleteStaleSegments();
+
+        if (writePos != commitPos) {
+            log.info("chat journal has uncommitted messages. commit={}, write={}", commitPos, writePos);
+        }
+    }
+
+    /**
+     * 메시지를 저널 끝에 기록합니다. 해당 메서드가 반환되면 메시지는 재시작 후에도 다시 읽힐 수 있습니다.
+     * @param message 기록할 메시지
+     */
+    public synchronized void append(ChatMessage message) {
+        byte[] id = bytes(message.getId());
+        byte[] roomId = bytes(message.getRoomId());
+        byte[] content = bytes(message.getContent());
+
+        // id, type, roomId, sender, content, seq
+        int length = Short.BYTES + len(id) + 1 + Short.BYTES + len(roomId) + Long.BYTES
+                + Integer.BYTES + len(content) + Long.BYTES;
+        if (HEADER_SIZE + length > segmentSize) {
+            throw new ChatException(ChatErrorCode.CHAT_SEND_FAIL, "[ChatMessageJournal#append] message too large");
+        }
+
+        int offset = offset(writePos);
+        if (offset + HEADER_SIZE + length > segmentSize) {
+            if (segmentSize - offset >= HEADER_SIZE) buffer(segment(writePos)).putInt(offset, SEGMENT_END);
+            writePos = nextSegment(writePos);
+            offset = 0;
+        }
+
+        MappedByteBuffer buffer = buffer(segment(writePos));
+        // 이전 실행에서 중간에 종료된 레코드의 잔여 바이트가 다음 레코드로 읽히지 않도록, 다음 헤더를 먼저 비웁니다.
+        int next = offset + HEADER_SIZE + length;
+        if (segmentSize - next >= HEADER_SIZE) buffer.putInt(next, 0);
+
+        int pos = offset + HEADER_SIZE;
+        buffer.putShort(pos, (short) (id == null ? NULL_LENGTH : id.length));
+        pos = put(buffer, pos + Short.BYTES, id);
+        buffer.put(pos++, (byte) (message.getType() == null ? -1 : message.getType().ordinal()));
+        buffer.putShort(pos, (short) (roomId == null ? NULL_LENGTH : roomId.length));
+        pos = put(buffer, pos + Short.BYTES, roomId);
+        buffer.putLong(pos, message.getSender() == null ? Long.MIN_VALUE : message.getSender());
+        pos += Long.BYTES;
+        buffer.putInt(pos, content == null ? NULL_LENGTH : content.length);
+        pos = put(buffer, pos + Integer.BYTES, content);
+        buffer.putLong(pos, message.getSeq() == null ? Long.MIN_VALUE : message.getSeq());
+
+        // payload 를 모두 기록한 뒤 길이를 기록하여, 중간에 종료된 레코드는 읽히지 않도록 합니다.
+        buffer.putInt(offset, length);
+        writePos += HEADER_SIZE + length;
+    }
+
+    /**
+     * 아직 소비자에게 전달되지 않은 메시지가 없는지 확인합니다.
+     * @return 모두 전달되었다면 true
+     */
+    public synchronized boolean isDrained() {
+        return readPos == writePos;
+    }
+
+    /**
+     * 다음 메시지를 읽고 read 커서를 옮깁니다.
+     * @return 다음 메시지, 없으면 null
+     */
+    public synchronized ChatMessage readNext() {
+        readPos = skipSegmentEnd(readPos);
+        if (readPos >= writePos) return null;
+
+        ByteBuffer buffer = buffer(segment(readPos));
+        int offset = offset(readPos);
+        int length = buffer.getInt(offset);
+        ChatMessage message = decode(buffer, offset + HEADER_SIZE, length);
+
+        readPos += HEADER_SIZE + length;
+        return message;
+    }
+
+    /**
+     * 현재 read 커서를 반환합니다. 전달에 실패하여 {@link #rewind} 로 되돌릴 위치를 기억할 때 사용합니다.
+     * @return read 커서
+     */
+    public synchronized long readPosition() {
+        return readPos;
+    }
+
+    /**
+     * read 커서를 이전 위치로 되돌립니다. 읽은 메시지를 소비자에게 전달하지 못한 경우, 다음에 다시 읽히도록 합니다.
+     * @param pos {@link #readPosition} 으로 얻은 위치. commit 위치 이전으로는 되돌리지 않습니다.
+     */
+    public synchronized void rewind(long pos) {
+        readPos = Math.max(commitPos, Math.min(pos, readPos));
+    }
+
+    /**
+     * 다음 메시지를 읽지 않고 read 커서만 옮깁니다. 방금 기록한 메시지를 곧바로 전달하는 경우에 사용합니다.
+     */
+    public synchronized void skipNext() {
+        readPos = skipRecord(readPos);
+    }
+
+    /**
+     * 저장이 완료된 메시지 수 만큼 checkpoint 를 옮기고, 더 이상 필요 없는 segment 를 삭제합니다.
+     * 메시지는 전달된 순서대로 commit 되어야 합니다.
+     * @param count 저장이 완료된 메시지 수
+     */
+    public synchronized void commit(int count) {
+        for (int i = 0; i < count && commitPos < readPos; i++) {
+            commitPos = skipRecord(commitPos);
+        }
+        checkpoint.putLong(0, commitPos);
+        deleteSegmentsBefore(segment(commitPos));
+    }
+
+    /**
+     * 종료 시 기록된 내용을 디스크에 반영합니다.
+     */
+    @PreDestroy
+    public synchronized void close() {
+        segments.values().forEach(MappedByteBuffer::force);
+        checkpoint.force();
+    }
+
+    /**
+     * checkpoint 부터 기록된 레코드를 따라가며 write 위치를 복구합니다.
+     */
+    private long recoverWritePos() {
+        long pos = commitPos;
+        while (true) {
+            long segment = segment(pos);
+            if (!Files.exists(segmentPath(segment))) return pos;
+
+            int offset = offset(pos);
+            if (segmentSize - offset < HEADER_SIZE) {
+                pos = nextSegment(pos);
+                continue;
+            }
+
+            int length = buffer(segment).getInt(offset);
+            if (length == SEGMENT_END) {
+                pos = nextSegment(pos);
+            } else if (length <= 0) {
+                return pos;
+            } else {
+                pos += HEADER_SIZE + length;
+            }
+        }
+    }
+
+    private long skipRecord(long pos) {
+        pos = skipSegmentEnd(pos);
+        if (pos >= writePos) return pos;
+        return pos + HEADER_SIZE + buffer(segment(pos)).getInt(offset(pos));
+    }
+
+    private long skipSegmentEnd(long pos) {
+        if (pos >= writePos) return pos;
+
+        int offset = offset(pos);
+        if (segmentSize - offset < HEADER_SIZE || buffer(segment(pos)).getInt(offset) == SEGMENT_END) {
+            return nextSegment(pos);
+        }
+        return pos;
+    }
+
+    private ChatMessage decode(ByteBuffer buffer, int pos, int length) {
+        int end = pos + length;
+        short idLength = buffer.getShort(pos);
+        String id = string(buffer, pos + Short.BYTES, idLength);
+        pos += Short.BYTES + Math.max(idLength, 0);
+
+        byte type = buffer.get(pos++);
+
+        short roomIdLength = buffer.getShort(pos);
+        String roomId = string(buffer, pos + Short.BYTES, roomIdLength);
+        pos += Short.BYTES + Math.max(roomIdLength, 0);
+
+        long sender = buffer.getLong(pos);
+        pos += Long.BYTES;
+
+        int contentLength = buffer.getInt(pos);
+        String content = string(buffer, pos + Integer.BYTES, contentLength);
+        pos += Integer.BYTES + Math.max(contentLength, 0);
+
+        // 이전 형식의 레코드에는 순번이 없습니다.
+        long seq = end - pos >= Long.BYTES ? buffer.getLong(pos) : Long.MIN_VALUE;
+
+        return ChatMessage.builder()
+                .id(id)
+                .type(type < 0 ? null : ChatType.values()[type])
+                .roomId(roomId)
+                .sender(sender == Long.MIN_VALUE ? null : sender)
+                .content(content)
+                .seq(seq == Long.MIN_VALUE ? null : seq)
+                .build();
+    }
+
+    private MappedByteBuffer buffer(long segment) {
+        return segments.computeIfAbsent(segment, k -> {
+            try {
+                return map(segmentPath(k), segmentSize);
+            } catch (IOException e) {
+                throw new ChatException(
+                        ChatErrorCode.CHAT_SEND_FAIL, "[ChatMessageJournal#segment] fail to map segment " + k);
+            }
+        });
+    }
+
+    private void deleteSegmentsBefore(long segment) {
+        Iterator<Map.Entry<Long, MappedByteBuffer>> it = segments.entrySet().iterator();
+        while (it.hasNext()) {
+            long index = it.next().getKey();
+            if (index >= segment) continue;
+
+            it.remove();
+            try {
+                Files.deleteIfExists(segmentPath(index));
+            } catch (IOException e) {
+                log.warn("fail to delete chat journal segment. segment={}", index, e);
+            }
+        }
+    }
+
+    /**
+     * 이전 실행에서 삭제되지 못한, checkpoint 이전의 segment 파일을 정리합니다.
+     */
+    private void deleteStaleSegments() {
+        long first = segment(commitPos);
+        try (Stream<Path> files = Files.list(dir)) {
+            files.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())) < first;
+                    })
+                    .forEach(path -> {
+                        try {
+                            Files.deleteIfExists(path);
+                        } catch (IOException e) {
+                            log.warn("fail to delete chat journal segment. path={}", path, e);
+                        }
+                    });
+        } catch (IOException e) {
+            log.warn("fail to list chat journal segments. dir={}", dir, e);
+        }
+    }
+
+    private Path segmentPath(long segment) {
+        return dir.resolve(String.format("%020d%s", segment, SEGMENT_SUFFIX));
+    }
+
+    private long segment(long pos) {
+        return pos / segmentSize;
+    }
+
+    private int offset(long pos) {
+        return (int) (pos % segmentSize);
+    }
+
+    private long nextSegment(long pos) {
+        return (segment(pos) + 1) * segmentSize;
+    }
+
+    private static MappedByteBuffer map(Path path, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(
+                path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int len(byte[] value) {
+        return value == null ? 0 : value.length;
+    }
+
+    private static int put(ByteBuffer buffer, int pos, byte[] value) {
+        if (value == null) return pos;
+        buffer.put(pos, value);
+        return pos + value.length;
+    }
+
+    private static String string(ByteBuffer buffer, int pos, int length) {
+        if (length < 0) return null;
+        byte[] value = new byte[length];
+        buffer.get(pos, value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
@@ -1,7 +1,10 @@
 package com.studypals.domain.chatManage.worker;
 
+import jakarta.annotation.PostConstruct;
+
 import org.springframework.stereotype.Component;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import com.studypals.domain.chatManage.entity.ChatMessage;
@@ -15,29 +18,82 @@ import reactor.core.publisher.Sinks;
  * {@code publish} 를 사용하여 요청을 넣을 수 있습니다.
  * <br>
  * {@code getStream} 을 사용하여 Flux 스트림을 받을 수 있습니다.
+ * <br>
+ * {@code acknowledge} 를 사용하여 저장이 완료된 메시지 수를 알립니다.
+ * <p>
+ * 모든 메시지는 {@link ChatMessageJournal} 에 먼저 기록된 뒤 스트림으로 전달됩니다. 저장이 완료되지 않은(acknowledge 되지 않은)
+ * 메시지는 최대 {@code MAX_IN_FLIGHT} 개 까지만 메모리에 올라가며, 나머지는 저널에 남아 있다가 저장이 진행되는 만큼
+ * 저널에서 읽어 전달합니다. 재시작 시에는 checkpoint 이후의 메시지를 다시 전달합니다.
+ * <br>
+ * 스트림으로 전달하지 못한 메시지는 in-flight 수와 저널의 read 커서를 되돌려, 이후 다시 전달되도록 합니다.
+ * 따라서 acknowledge 되는 메시지 수와 저널의 commit 위치가 어긋나지 않습니다.
  *
  * <p><b>외부 모듈:</b><br>
  * spring webflux
  *
  * @author jack8
  * @see ChatMessage
+ * @see ChatMessageJournal
  * @since 2025-07-14
  */
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class ChatMessagePipeline {
 
+    // 메모리에 올라가 저장을 기다리는 메시지의 최대 개수
+    private static final int MAX_IN_FLIGHT = 10_000;
+
+    private final ChatMessageJournal journal;
+
     private final Sinks.Many<ChatMessage> sink = Sinks.many().unicast().onBackpressureBuffer();
 
+    // 스트림으로 전달되었으나 acknowledge 되지 않은 메시지 수. this 로 보호됩니다.
+    private int inFlight = 0;
+
     /**
-     * 채팅 메시지를 발행합니다. 추후 소비자가 이를 가공하여 처리합니다.
+     * 이전 실행에서 저장되지 못한 메시지를 스트림으로 다시 전달합니다.
+     */
+    @PostConstruct
+    public void replay() {
+        if (!journal.isDrained()) {
+            log.info("replay chat messages from journal");
+        }
+        drain();
+    }
+
+    /**
+     * 채팅 메시지를 저널에 기록한 뒤 발행합니다. 추후 소비자가 이를 가공하여 처리합니다.
+     * 해당 메서드가 반환되면 메시지는 유실되지 않습니다.
      * @param chatMessage 채팅 메시지
      */
     public void publish(ChatMessage chatMessage) {
-        Sinks.EmitResult result = sink.tryEmitNext(chatMessage);
-        if (result.isFailure()) {
-            log.error("fail to emit chat message: {}", result);
+        synchronized (this) {
+            // 밀린 메시지가 없다면, 저널에서 다시 읽지 않고 곧바로 전달합니다.
+            boolean direct = inFlight < MAX_IN_FLIGHT && journal.isDrained();
+            journal.append(chatMessage);
+
+            if (direct) {
+                long from = journal.readPosition();
+                journal.skipNext();
+                emit(chatMessage, from);
+                return;
+            }
+        }
+        drain();
+    }
+
+    /**
+     * 소비자가 저장을 완료한 메시지 수를 알립니다. 전달된 순서대로 호출되어야 하며,
+     * 저널의 checkpoint 를 옮기고 밀려 있던 메시지를 이어서 전달합니다.
+     * @param count 저장이 완료된 메시지 수
+     */
+    public void acknowledge(int count) {
+        synchronized (this) {
+            inFlight = Math.max(0, inFlight - count);
+            journal.commit(count);
         }
+        drain();
     }
 
     /**
@@ -48,4 +104,34 @@ public class ChatMessagePipeline {
     public Flux<ChatMessage> getStream() {
         return sink.asFlux();
     }
+
+    /**
+     * 메모리 한도 내에서 저널에 밀려 있는 메시지를 읽어 전달합니다.
+     */
+    private synchronized void drain() {
+        while (inFlight < MAX_IN_FLIGHT) {
+            long from = journal.readPosition();
+            ChatMessage message = journal.readNext();
+            if (message == null) return;
+            // 전달에 실패했다면, 같은 메시지를 반복해서 읽지 않도록 다음 drain 까지 멈춥니다.
+            if (!emit(message, from)) return;
+        }
+    }
+
+    /**
+     * 메시지를 스트림으로 전달합니다. 실패하면 in-flight 수와 저널의 read 커서를 전달 이전으로 되돌립니다.
+     * @param chatMessage 전달할 메시지
+     * @param from 메시지를 읽기 전의 저널 read 커서
+     * @return 전달에 성공했다면 true
+     */
+    private boolean emit(ChatMessage chatMessage, long from) {
+        inFlight++;
+        Sinks.EmitResult result = sink.tryEmitNext(chatMessage);
+        if (result.isSuccess()) return true;
+
+        inFlight--;
+        journal.rewind(from);
+        log.error("fail to emit chat message, keep in journal. result={}, id={}", result, chatMessage.getId());
+        return false;
+    }
 }
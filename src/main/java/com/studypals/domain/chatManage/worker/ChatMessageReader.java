@@ -2,10 +2,14 @@ package com.studypals.domain.chatManage.worker;
 
 import java.util.*;
 
+import org.springframework.data.domain.Limit;
+
 import lombok.RequiredArgsConstructor;
 
 import com.studypals.domain.chatManage.dao.ChatMessageCacheRepository;
 import com.studypals.domain.chatManage.dao.ChatMessageRepository;
+import com.studypals.domain.chatManage.dao.ChatSequenceRepository;
+import com.studypals.domain.chatManage.dto.ChatRoomSequence;
 import com.studypals.domain.chatManage.dto.ChatroomLatestInfo;
 import com.studypals.domain.chatManage.entity.ChatMessage;
 import com.studypals.global.annotations.Worker;
@@ -15,10 +19,15 @@ import com.studypals.global.annotations.Worker;
  * <p>
  * 캐시와 영속 저장소를 함께 활용하여 기준 메시지 ID 이후의 채팅 내역을 조회합니다.
  * 캐시가 비어 있으면 저장소에서 데이터를 가져오고, 일부 구간을 캐시에 적재해 이후 요청의 조회 비용을 줄입니다.
+ * 캐시 재구성은 {@link ChatCacheRebuilder} 를 통해 채팅방 단위로 한 번만 수행됩니다.
  * <p>
  * 빈 관리:<br>
  * - ChatMessageRepository : RDBMS 등에 저장된 채팅 메시지를 조회하는 레포지토리<br>
  * - ChatMessageCacheRepository : 채팅 메시지를 캐싱하고 조회하는 레포지토리<br>
+ * - ChatSequenceRepository : 채팅방 별 메시지 순번과 읽은 순번을 조회하는 레포지토리<br>
+ * - ChatCacheRebuilder : 비어 있는 캐시를 채팅방 단위로 한 번만 재구성하는 Worker<br>
+ * - ChatStreamRetention : 조회 깊이를 바탕으로 채팅방 별 캐시 길이를 재조정하는 Worker<br>
+ * - ChatNearCache : 자주 조회되는 채팅방의 최근 메시지를 노드 메모리에 유지하는 Worker<br>
  * <p>
  * 외부 모듈:<br>
  * - Redis 등 캐시 스토리지를 사용해 최근 메시지를 메모리 기반으로 빠르게 조회하는 구조를 전제로 합니다.<br>
@@ -34,43 +43,55 @@ import com.studypals.global.annotations.Worker;
 public class ChatMessageReader {
     private final ChatMessageRepository messageRepository;
     private final ChatMessageCacheRepository cacheRepository;
+    private final ChatSequenceRepository sequenceRepository;
+    private final ChatCacheRebuilder cacheRebuilder;
+    private final ChatStreamRetention streamRetention;
+    private final ChatNearCache nearCache;
 
     /**
      * 채팅방의 기준 메시지 ID를 포함하여 이후 메시지를 조회합니다.
      * <p>
      * 동작 순서는 다음과 같습니다.<br>
      * - 캐시에서 기준 메시지 ID 이후의 메시지를 우선 조회합니다.<br>
-     * - 캐시에 데이터가 없으면 전체 결과를 DB에서 조회해 반환하고, 일부 구간을 캐시에 저장합니다.<br>
+     * - 캐시에 데이터가 없으면 최신 구간으로 캐시를 재구성하고, 그보다 과거의 구간만 DB에서 조회합니다.<br>
      * - 캐시에 데이터가 있고 기준 ID가 캐시 범위 내부라면 캐시만 반환합니다.<br>
      * - 기준 ID가 캐시보다 더 과거라면 부족한 데이터만 DB에서 조회해 반환합니다.<br>
      * <p>
-     * todo : paging 하기
+     * 조회 개수에 제한이 없으므로, 페이지 단위 조회는 {@link #getHistoryBefore}, {@link #getHistoryAfter} 를 사용합니다.
+     * 조회한 메시지 수는 채팅방의 캐시 길이를 정하기 위해 {@link ChatStreamRetention} 에 기록됩니다.
      *
      * @param roomId 채팅방 ID
      * @param chatId 기준 메시지 ID
      * @return 기준 메시지 이후의 메시지를 포함한 리스트
      */
     public List<ChatMessage> getChatLog(String roomId, String chatId) {
-        // 캐시에서 기준 메시지 이후 구간을 조회
-        List<ChatMessage> cachedMessage = cacheRepository.fetchFromId(roomId, chatId);
-        int maxLen = cacheRepository.getMaxLen();
+        List<ChatMessage> result = readChatLog(roomId, chatId);
+        streamRetention.recordRead(roomId, result.size());
+        return result;
+    }
 
-        // 캐시에 데이터가 없을 경우 → 전체 구간을 DB에서 조회
+    private List<ChatMessage> readChatLog(String roomId, String chatId) {
+        // 캐시에서 기준 메시지 이후 구간을 조회. 자주 조회되는 채팅방은 로컬 ring buffer 에서 응답합니다.
+        List<ChatMessage> cachedMessage = nearCache.fetchFromId(roomId, chatId);
+
+        // 캐시에 데이터가 없을 경우 → 최신 구간으로 캐시를 재구성하고, 부족한 구간만 DB에서 조회
         if (cachedMessage.isEmpty()) {
-            List<ChatMessage> source = messageRepository.findRecent(roomId, chatId);
+            List<ChatMessage> recent = cacheRebuilder.loadRecent(roomId);
 
             // 조회 결과가 없으면 빈 리스트 반환
-            if (source == null || source.isEmpty()) return List.of();
+            if (recent.isEmpty()) return List.of();
 
-            // 캐시에 저장할 구간을 최대 길이까지만 자름
-            List<ChatMessage> forCached = new ArrayList<>(source.subList(0, Math.min(maxLen, source.size())));
+            String oldestId = recent.get(recent.size() - 1).getId();
+            if (chatId.compareTo(oldestId) >= 0) {
+                return recent.stream().filter(m -> m.getId().compareTo(chatId) >= 0).toList();
+            }
 
-            // DB 조회 결과는 내림차순이므로 캐시에 저장할 때는 순서를 뒤집어 오름차순으로 저장
-            Collections.reverse(forCached);
-            cacheRepository.saveAll(forCached);
+            // 최신 구간은 채팅방 별 최대 길이만큼 조회되므로, 가득 차지 않았다면 더 과거의 메시지는 없음
+            if (recent.size() < cacheRepository.getMaxLen(roomId)) return recent;
 
-            // DB 조회 전체 결과 반환
-            return source;
+            List<ChatMessage> merged = new ArrayList<>(recent);
+            merged.addAll(messageRepository.findRange(roomId, chatId, oldestId));
+            return merged;
         }
 
         // 캐시에 저장된 메시지 중 가장 오래된 ID
@@ -87,13 +108,108 @@ public class ChatMessageReader {
         merged.addAll(cachedMessage);
         merged.addAll(savedMessage);
 
-        // 만약 캐시에 100개 이하의 데이터가 들어있고, 실제 채팅 내역은 그 이상일 때, 캐시를 전부 채워줌
-        if (!savedMessage.isEmpty() && cachedMessage.size() < maxLen) {
-            rebuildCacheFromRecent(roomId, merged, maxLen);
+        // 만약 캐시에 채팅방 별 최대 길이보다 적은 데이터가 들어있고, 실제 채팅 내역은 그 이상일 때, 캐시를 전부 채워줌
+        if (!savedMessage.isEmpty()) {
+            int maxLen = cacheRepository.getMaxLen(roomId);
+            if (cachedMessage.size() < maxLen) rebuildCacheFromRecent(roomId, merged, maxLen);
         }
         return merged;
     }
 
+    /**
+     * 기준 메시지 ID 보다 이전의 메시지를 최신 순으로 최대 limit 개 조회합니다.
+     * <p>
+     * 캐시에 limit 개가 모두 있다면 캐시만으로 응답하고, 그렇지 않다면 (roomId, id) 인덱스를 사용하는 DB 범위 조회를
+     * 수행합니다. 페이지 조회는 캐시를 다시 채우지 않습니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param beforeId 기준 메시지 ID (미포함), null 이라면 가장 최신 메시지부터
+     * @param limit 최대 조회 개수
+     * @return 메시지 목록 (ID 내림차순)
+     */
+    public List<ChatMessage> getHistoryBefore(String roomId, String beforeId, int limit) {
+        Optional<List<ChatMessage>> cached = cacheRepository.fetchBefore(roomId, beforeId, limit);
+        if (cached.isPresent()) return cached.get();
+
+        if (beforeId == null) {
+            return messageRepository.findByRoomIdOrderByIdDesc(roomId, Limit.of(limit));
+        }
+        return messageRepository.findByRoomIdAndIdLessThanOrderByIdDesc(roomId, beforeId, Limit.of(limit));
+    }
+
+    /**
+     * 기준 메시지 ID 보다 이후의 메시지를 오래된 순으로 최대 limit 개 조회합니다.
+     * <p>
+     * 기준 ID 가 캐시 범위 안에 있다면 캐시만으로 응답하고, 그렇지 않다면 DB 범위 조회를 수행합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param afterId 기준 메시지 ID (미포함)
+     * @param limit 최대 조회 개수
+     * @return 메시지 목록 (ID 오름차순)
+     */
+    public List<ChatMessage> getHistoryAfter(String roomId, String afterId, int limit) {
+        Optional<List<ChatMessage>> cached = cacheRepository.fetchAfter(roomId, afterId, limit);
+        if (cached.isPresent()) return cached.get();
+
+        return messageRepository.findByRoomIdAndIdGreaterThanOrderByIdAsc(roomId, afterId, Limit.of(limit));
+    }
+
+    /**
+     * 유저의 각 채팅방에 대해, 읽지 않은 메시지 수와 최신 메시지 정보를 반환합니다.
+     * <p>
+     * 채팅방의 최신 순번과 유저가 읽은 순번을 한 번의 MGET 으로 조회하여, 순번으로 계산할 수 있는 채팅방은
+     * 정확한 값(100 개 이상 포함)을 사용합니다. 이러한 채팅방은 개수 계산이 필요 없으므로, 기준을 "0" 으로 넘겨
+     * 스트림 범위 조회를 생략합니다. 그 외의 채팅방은 기존과 같이 스트림에서 계산합니다(최대 100).
+     *
+     * @param userId 조회하는 유저 ID
+     * @param cursor 채팅방 별 마지막 메시지, 읽은 기록이 없다면 "0"
+     * @return 각 채팅방에 대한 언리드 카운트, 최신 메시지 정보
+     */
+    public Map<String, ChatroomLatestInfo> getLatestInfo(Long userId, Map<String, String> cursor) {
+        Map<String, ChatRoomSequence> sequences = sequenceRepository.findAll(userId, cursor.keySet());
+
+        Map<String, Long> exactUnread = new HashMap<>();
+        Map<String, String> latestCursor = new HashMap<>(cursor);
+        for (Map.Entry<String, String> entry : cursor.entrySet()) {
+            ChatRoomSequence sequence = sequences.get(entry.getKey());
+            Long unread = sequence == null ? null : sequence.unread("0".equals(entry.getValue()));
+            if (unread == null) continue;
+
+            exactUnread.put(entry.getKey(), unread);
+            latestCursor.put(entry.getKey(), "0");
+        }
+
+        Map<String, ChatroomLatestInfo> result = getLatestInfo(latestCursor);
+        exactUnread.forEach((roomId, unread) -> {
+            ChatroomLatestInfo info = result.get(roomId);
+            if (info != null) info.setCnt(unread);
+        });
+        return result;
+    }
+
+    /**
+     * 채팅방 별 메시지 ID 에 대해 메시지 순번을 조회합니다. 캐시에서 먼저 찾고, 없는 메시지는 DB 에서 찾습니다.
+     * 순번이 도입되기 전의 메시지는 결과에 포함되지 않습니다.
+     *
+     * @param chatIds key: 채팅방 ID, value: 순번을 조회할 채팅 메시지 ID 목록
+     * @return key: 채팅 메시지 ID, value: 메시지 순번
+     */
+    public Map<String, Long> findSequences(Map<String, ? extends Collection<String>> chatIds) {
+        Map<String, Long> result = new HashMap<>(cacheRepository.findSequences(chatIds));
+
+        Map<String, List<String>> missing = new HashMap<>();
+        chatIds.forEach((roomId, ids) -> {
+            List<String> roomMissing = ids.stream().filter(id -> !result.containsKey(id)).toList();
+            if (!roomMissing.isEmpty()) missing.put(roomId, roomMissing);
+        });
+        if (missing.isEmpty()) return result;
+
+        for (ChatMessage message : messageRepository.findAllInRooms(missing)) {
+            if (message.getSeq() != null) result.put(message.getId(), message.getSeq());
+        }
+        return result;
+    }
+
     /**
      *
      * @param cursor 채팅방 별 마지막 메시지, 모두 유효한 값을 가지고 와야한다.
@@ -114,45 +230,31 @@ public class ChatMessageReader {
             }
 
             if (cached.getCnt() < 0) {
-                Optional<ChatMessage> latestMessageOp = messageRepository.findTopByRoomIdOrderByIdDesc(entry.getKey());
+                String roomId = entry.getKey();
+                List<ChatMessage> recent = cacheRebuilder.loadRecent(roomId);
 
-                if (latestMessageOp.isEmpty()) {
+                if (recent.isEmpty()) {
                     it.remove();
                     continue;
                 }
 
-                ChatMessage message = latestMessageOp.get();
-
-                String roomId = entry.getKey();
+                // 최신 구간은 ID 내림차순이므로 첫 요소가 최신 메시지
+                ChatMessage message = recent.get(0);
                 String baseId = cursor.get(roomId);
 
-                if (message.getId().equals(baseId)) {
-                    // 기준 ID == 최신 ID → unread = 0, 메시지 1개만 캐시에
-                    cacheRepository.save(message);
-                    entry.setValue(new ChatroomLatestInfo(
-                            0, message.getId(), message.getType(), message.getContent(), message.getSender()));
+                long unread = 0L;
+                if (baseId == null || "0".equals(baseId)) {
+                    unread = recent.size();
                 } else {
-                    List<ChatMessage> messages =
-                            new ArrayList<>(messageRepository.findTop100ByRoomIdOrderByIdDesc(roomId));
-                    Collections.reverse(messages);
-                    cacheRepository.clear(roomId);
-                    cacheRepository.saveAll(messages);
-
-                    long unread = 0L;
-                    if (baseId == null || "0".equals(baseId)) {
-                        unread = messages.size();
-                    } else {
-                        for (ChatMessage m : messages) {
-                            if (m.getId().compareTo(baseId) > 0) {
-                                unread++;
-                            }
+                    for (ChatMessage m : recent) {
+                        if (m.getId().compareTo(baseId) > 0) {
+                            unread++;
                         }
                     }
-                    if (unread > 100) unread = 100;
-
-                    entry.setValue(new ChatroomLatestInfo(
-                            unread, message.getId(), message.getType(), message.getContent(), message.getSender()));
                 }
+
+                entry.setValue(new ChatroomLatestInfo(
+                        unread, message.getId(), message.getType(), message.getContent(), message.getSender()));
             } else {
                 long cnt = cached.getCnt();
                 cnt = cnt > 100 ? 100 : cnt;
@@ -168,17 +270,14 @@ public class ChatMessageReader {
     }
 
     /**
-     * 캐시에 데이터가 올바르지 않게 들어가 있는 경우, 캐시 내역을 삭제하고, 데이터를 집어 넣습니다.
+     * 캐시에 최신 구간이 모두 들어 있지 않은 경우, 부족한 데이터를 캐시에 병합합니다.
      * @param roomId 초기화 및 정상화 할 캐시 key
      * @param source 정상화 시 넣을 데이터
      * @param maxLen 캐시 최대 길이
      */
     private void rebuildCacheFromRecent(String roomId, List<ChatMessage> source, int maxLen) {
 
-        if (source == null || source.isEmpty()) {
-            cacheRepository.clear(roomId); // 방 캐시 전체 삭제
-            return;
-        }
+        if (source == null || source.isEmpty()) return;
 
         // 복사본 생성
         List<ChatMessage> copy = new ArrayList<>(source);
@@ -189,8 +288,7 @@ public class ChatMessageReader {
         int size = copy.size();
         List<ChatMessage> forCache = new ArrayList<>(copy.subList(Math.max(size - maxLen, 0), size));
 
-        // 기존 캐시 초기화 후 재저장
-        cacheRepository.clear(roomId);
-        cacheRepository.saveAll(forCache);
+        // 캐시에 없는 메시지만 병합 (다른 곳에서 재구성 중이라면 생략)
+        cacheRebuilder.repopulate(roomId, forCache);
     }
 }
@@ -0,0 +1,466 @@
+package com.studypals.domain.chatManage.worker;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.studypals.domain.chatManage.dao.ChatMessageCacheRepository;
+import com.studypals.domain.chatManage.dao.ChatSequenceRepository;
+import com.studypals.domain.chatManage.entity.ChatMessage;
+import com.studypals.domain.chatManage.entity.ChatMessageIds;
+import com.studypals.global.annotations.Worker;
+
+/**
+ * <pre><code>
+ * 자주 조회되는 채팅방의 최근 메시지를 노드 메모리에 유지하여, 채팅 내역 조회를 redis 왕복 없이 처리합니다.
+ * 작업 자체는 다음과 같은 과정을 따릅니다.
+ *
+ * 1. {@code HOT_WINDOW_SEC} 동안 {@code HOT_READS} 번 이상 조회된 채팅방은 로컬 ring buffer 를 만들고,
+ *    해당 채팅방의 메시지 피드 채널({@code chat:msg:feed:{roomId}})을 구독합니다.
+ * 2. ring buffer 가 비어 있거나 조회 범위를 벗어난 경우, redis stream 에서 조회한 결과로 ring buffer 를 채웁니다.
+ * 3. 메시지가 전송되면 로컬 ring buffer 에 추가하고, 피드 채널로 발행하여 다른 노드의 ring buffer 에도 추가되도록 합니다.
+ * 4. 조회 범위가 ring buffer 안에 있다면, redis 를 거치지 않고 ring buffer 에서 응답합니다.
+ * </code></pre>
+ *
+ * 발행은 전송 스레드에서 대기열에 넣기만 하고, 데몬 스레드가 대기열을 비우며 하나의 파이프라인으로 발행합니다.
+ * 또한 어느 노드에서도 피드를 구독하지 않는 채팅방은 발행하지 않습니다. 이를 위해 각 노드는 ring buffer 를 가진 채팅방을
+ * 주기적으로 {@code chat:msg:feed:rooms} 에 만료 시각과 함께 기록하고, 기록된 채팅방 목록을 노드 메모리로 가져옵니다.
+ * 목록이 갱신되기 전까지 유실되는 피드는 아래와 같이 redis 조회로 대체됩니다.
+ * <br>
+ * 피드 채널 구독/해제는 블로킹 호출이므로, ring buffer 캐시의 갱신 함수 밖에서 채팅방 단위 잠금을 잡고 수행합니다.
+ *
+ * 메시지는 채팅방 순번(seq) 이 연속인 경우에만 ring buffer 에 추가됩니다. 순서가 어긋나 도착한 메시지는 앞선 메시지를
+ * 기다리며, 그동안의 조회는 redis 에서 처리됩니다. 또한 ring buffer 를 채운 시점의 채팅방 최신 순번까지 모두
+ * 받기 전에는 응답하지 않습니다. 따라서 피드 메시지가 유실되더라도, ring buffer 가 오래된 내역을 응답하지 않습니다.
+ * <br>
+ * 메시지 ID 는 순번보다 먼저 발급되므로, 동시에 전송된 메시지는 순번과 ID 의 순서가 다를 수 있습니다. ring buffer 는
+ * 순번 순서로 유지하고, 조회 시 ID 로 걸러 정렬합니다. ring buffer 밖의 메시지 중 가장 큰 ID 보다 큰 기준 ID 에 대해서만
+ * 응답하므로, 순서가 뒤바뀐 메시지가 ring buffer 경계에 걸치더라도 누락되지 않습니다.
+ *
+ * <p><b>외부 모듈:</b><br>
+ * caffeine 을 활용한 로컬 캐싱, redis pub/sub
+ *
+ * @author jack8
+ * @see ChatMessageReader
+ * @see ChatMessageCacheRepository
+ * @since 2026-01-25
+ */
+@Worker
+@Slf4j
+@RequiredArgsConstructor
+public class ChatNearCache {
+
+    private static final String CHANNEL_PREFIX = "chat:msg:feed:";
+    // 피드를 구독 중인 채팅방 (member: roomId, score: 만료 시각 epoch ms)
+    private static final String FEED_ROOMS_KEY = "chat:msg:feed:rooms";
+    // 피드 구독 채팅방 목록을 갱신하는 주기와, 갱신되지 않은 구독이 만료되기까지의 시간
+    private static final long FEED_REFRESH_MILLIS = 5_000;
+    private static final long FEED_TTL_MILLIS = FEED_REFRESH_MILLIS * 3;
+    // 채팅방 당 유지하는 최근 메시지 수
+    static final int CAPACITY = 200;
+    // 순서가 어긋나 도착한 메시지를 기다리는 최대 개수. 넘는다면 ring buffer 를 비우고 다시 채웁니다.
+    static final int MAX_AHEAD = 32;
+    // HOT_WINDOW_SEC 동안 HOT_READS 번 이상 조회된 채팅방만 로컬에 유지합니다.
+    static final int HOT_READS = 3;
+    private static final int HOT_WINDOW_SEC = 10;
+    // 로컬에 유지하는 최대 채팅방 수와, 조회가 없는 채팅방을 제거하기까지의 시간
+    private static final int MAX_ROOMS = 500;
+    private static final int IDLE_SEC = 300;
+
+    private final ChatMessageCacheRepository cacheRepository;
+    private final ChatSequenceRepository sequenceRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * 채팅방 아이디 -> 최근 조회 횟수
+     */
+    private final Cache<String, AtomicInteger> reads = Caffeine.newBuilder()
+            .expireAfterWrite(HOT_WINDOW_SEC, TimeUnit.SECONDS)
+            .maximumSize(10_000)
+            .build();
+
+    /**
+     * 채팅방 아이디 -> 최근 메시지 ring buffer
+     */
+    private final Cache<String, Ring> rings = Caffeine.newBuilder()
+            .maximumSize(MAX_ROOMS)
+            .expireAfterAccess(IDLE_SEC, TimeUnit.SECONDS)
+            .removalListener((String roomId, Ring ring, RemovalCause cause) -> syncSubscription(roomId))
+            .build();
+
+    /**
+     * 채팅방 아이디 -> 피드 채널에 등록된 listener. {@link #syncSubscription} 에서만 변경됩니다.
+     */
+    private final Map<String, MessageListener> subscribed = new ConcurrentHashMap<>();
+
+    /**
+     * 채팅방 단위 구독 상태 변경을 직렬화하는 잠금
+     */
+    private final Object[] subscriptionLocks = createLocks(64);
+
+    /**
+     * 어느 노드에서든 피드를 구독 중인 채팅방. 마지막으로 갱신한 시점의 목록입니다.
+     */
+    private volatile Set<String> feedRooms = Set.of();
+
+    /**
+     * 발행을 기다리는 메시지와, 대기열을 비우는 작업이 예약되었는지 여부
+     */
+    private final Queue<ChatMessage> pending = new ConcurrentLinkedQueue<>();
+
+    private final AtomicBoolean flushing = new AtomicBoolean(false);
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "chat-near-cache");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /**
+     * 피드 채널로 발행되는 메시지입니다.
+     * @param origin 발행한 노드의 식별자
+     * @param message 전송된 메시지
+     */
+    record Feed(String origin, ChatMessage message) {}
+
+    @PostConstruct
+    public void startScheduler() {
+        executor.scheduleWithFixedDelay(
+                this::refreshFeedRooms, FEED_REFRESH_MILLIS, FEED_REFRESH_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * JVM 이 종료되기 전에 executor 를 안전하게 종료합니다.
+     */
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+
+    /**
+     * 특정 채팅방에서 기준 메시지 ID 를 포함하여 이후의 메시지를 조회합니다. 결과는 {@link
+     * ChatMessageCacheRepository#fetchFromId} 와 같습니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param chatId 기준 메시지 ID
+     * @return 기준 ID를 포함한 이후 구간의 메시지 목록 (최신 → 오래된 순)
+     */
+    public List<ChatMessage> fetchFromId(String roomId, String chatId) {
+        Ring ring = rings.getIfPresent(roomId);
+        if (ring == null && isHot(roomId)) ring = open(roomId);
+        if (ring == null) return cacheRepository.fetchFromId(roomId, chatId);
+
+        List<ChatMessage> local = ring.read(chatId);
+        if (local != null) return local;
+
+        // stream 을 조회하기 전의 최신 순번을 먼저 조회합니다. ring buffer 는 해당 순번까지 채워진 이후에만 응답합니다.
+        Long head = sequenceRepository.findLatest(roomId);
+        List<ChatMessage> cached = cacheRepository.fetchFromId(roomId, chatId);
+        ring.load(cached, head);
+        return cached;
+    }
+
+    /**
+     * 로컬 ring buffer 로 응답할 수 있는 경우에만 기준 메시지 ID 이후의 메시지를 반환합니다. 조회 횟수를 세지 않고,
+     * redis 를 조회하지 않으므로 논블로킹 조회 경로에서 사용합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param chatId 기준 메시지 ID
+     * @return 기준 ID를 포함한 이후 구간의 메시지 목록 (최신 → 오래된 순), 응답할 수 없다면 null
+     */
+    public List<ChatMessage> peek(String roomId, String chatId) {
+        Ring ring = rings.getIfPresent(roomId);
+        return ring == null ? null : ring.read(chatId);
+    }
+
+    /**
+     * 전송된 메시지를 로컬 ring buffer 에 추가하고, 피드를 구독 중인 채팅방이라면 발행 대기열에 넣습니다.
+     * 발행은 데몬 스레드에서 수행되므로, 발행에 실패하더라도 전송을 막지 않습니다.
+     * @param message 채팅방 순번이 부여된 메시지
+     */
+    public void publish(ChatMessage message) {
+        Ring ring = rings.getIfPresent(message.getRoomId());
+        if (ring != null) ring.offer(message);
+
+        if (!feedRooms.contains(message.getRoomId())) return;
+        pending.offer(message);
+        triggerFlushAsync();
+    }
+
+    /**
+     * 데몬 스레드의 발행 작업을 유발합니다. 이미 요청된 작업이 있다면, 해당 작업이 이 메시지도 처리합니다.
+     */
+    private void triggerFlushAsync() {
+        if (!flushing.compareAndSet(false, true)) return;
+
+        executor.execute(() -> {
+            try {
+                flushOnce();
+            } finally {
+                flushing.set(false);
+            }
+            // flag 를 내리는 사이에 들어온 메시지를 놓치지 않도록 합니다.
+            if (!pending.isEmpty()) triggerFlushAsync();
+        });
+    }
+
+    /**
+     * 대기열의 메시지를 들어온 순서대로 하나의 파이프라인으로 발행합니다.
+     */
+    private void flushOnce() {
+        List<String> channels = new ArrayList<>();
+        List<String> bodies = new ArrayList<>();
+        ChatMessage message;
+        while ((message = pending.poll()) != null) {
+            try {
+                bodies.add(objectMapper.writeValueAsString(new Feed(nodeId, message)));
+                channels.add(CHANNEL_PREFIX + message.getRoomId());
+            } catch (Exception e) {
+                log.warn("fail to encode chat feed. roomId={}", message.getRoomId(), e);
+            }
+        }
+        if (channels.isEmpty()) return;
+
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Void>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Void execute(RedisOperations operations) throws DataAccessException {
+                    for (int i = 0; i < channels.size(); i++) {
+                        operations.convertAndSend(channels.get(i), bodies.get(i));
+                    }
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("fail to publish chat feed. count={}", channels.size(), e);
+        }
+    }
+
+    /**
+     * 현재 노드가 ring buffer 를 가진 채팅방의 구독 만료 시각을 연장하고, 모든 노드의 피드 구독 채팅방 목록을 가져옵니다.
+     */
+    void refreshFeedRooms() {
+        try {
+            long now = System.currentTimeMillis();
+            ZSetOperations<String, String> zSetOps = redisTemplate.opsForZSet();
+
+            Set<ZSetOperations.TypedTuple<String>> local = new HashSet<>();
+            for (String roomId : rings.asMap().keySet()) {
+                local.add(new DefaultTypedTuple<>(roomId, (double) (now + FEED_TTL_MILLIS)));
+            }
+            if (!local.isEmpty()) zSetOps.add(FEED_ROOMS_KEY, local);
+
+            zSetOps.removeRangeByScore(FEED_ROOMS_KEY, Double.NEGATIVE_INFINITY, now);
+            Set<String> rooms = zSetOps.rangeByScore(FEED_ROOMS_KEY, now, Double.POSITIVE_INFINITY);
+            feedRooms = rooms == null ? Set.of() : Set.copyOf(rooms);
+        } catch (RuntimeException e) {
+            log.warn("fail to refresh chat feed rooms", e);
+        }
+    }
+
+    private boolean isHot(String roomId) {
+        return reads.get(roomId, k -> new AtomicInteger()).incrementAndGet() >= HOT_READS;
+    }
+
+    /**
+     * ring buffer 를 만들고, 채팅방의 피드 채널을 구독합니다. 다른 스레드가 먼저 만들었다면 해당 ring buffer 를 사용합니다.
+     * 구독은 캐시에 등록한 뒤 갱신 함수 밖에서 수행하며, 구독 채팅방 목록에는 데몬 스레드에서 바로 기록합니다.
+     */
+    private Ring open(String roomId) {
+        Ring created = new Ring();
+        created.listener = (message, pattern) -> {
+            try {
+                Feed feed = objectMapper.readValue(message.getBody(), Feed.class);
+                if (!nodeId.equals(feed.origin())) created.offer(feed.message());
+            } catch (Exception e) {
+                log.warn("fail to handle chat feed. roomId={}", roomId, e);
+            }
+        };
+
+        Ring ring = rings.asMap().putIfAbsent(roomId, created);
+        if (ring != null) return ring;
+
+        syncSubscription(roomId);
+        executor.execute(this::refreshFeedRooms);
+        return created;
+    }
+
+    /**
+     * 채팅방 피드 채널의 구독 상태를 현재 ring buffer 에 맞춥니다. ring buffer 가 추가, 제거될 때 호출되며,
+     * 잠금 안에서 ring buffer 를 다시 확인하므로 추가와 제거가 경합하더라도 어긋나지 않습니다.
+     */
+    private void syncSubscription(String roomId) {
+        synchronized (subscriptionLocks[Math.floorMod(roomId.hashCode(), subscriptionLocks.length)]) {
+            Ring ring = rings.asMap().get(roomId);
+            MessageListener wanted = ring == null ? null : ring.listener;
+            MessageListener current = subscribed.get(roomId);
+            if (wanted == current) return;
+
+            ChannelTopic topic = new ChannelTopic(CHANNEL_PREFIX + roomId);
+            if (current != null) {
+                listenerContainer.removeMessageListener(current, topic);
+                subscribed.remove(roomId);
+            }
+            if (wanted != null) {
+                listenerContainer.addMessageListener(wanted, topic);
+                subscribed.put(roomId, wanted);
+            }
+        }
+    }
+
+    private static Object[] createLocks(int size) {
+        Object[] locks = new Object[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+    /**
+     * 채팅방 하나의 최근 메시지를 순번 순서로 유지합니다. 모든 연산은 this 로 보호됩니다.
+     */
+    static final class Ring {
+        // 오래된 → 최신 순
+        private final ArrayDeque<ChatMessage> messages = new ArrayDeque<>();
+        // 순번 -> 앞선 메시지를 기다리는 메시지
+        private final TreeMap<Long, ChatMessage> ahead = new TreeMap<>();
+        private boolean loaded = false;
+        private long lastSeq;
+        // ring buffer 에서 밀려난 메시지 중 가장 큰 ID. 밀려난 메시지가 없다면 null
+        private String floor;
+        // ring buffer 를 채운 시점의 채팅방 최신 순번
+        private long head;
+
+        MessageListener listener;
+
+        /**
+         * ring buffer 로 응답할 수 있다면, 기준 ID 이상의 메시지를 최신 순으로 반환합니다.
+         * @return 메시지 목록 (ID 내림차순), 응답할 수 없다면 null
+         */
+        synchronized List<ChatMessage> read(String chatId) {
+            if (!loaded || lastSeq < head || !ahead.isEmpty() || messages.isEmpty()) return null;
+            if (!covers(chatId)) return null;
+
+            List<ChatMessage> result = new ArrayList<>();
+            Iterator<ChatMessage> it = messages.descendingIterator();
+            while (it.hasNext()) {
+                ChatMessage message = it.next();
+                if (ChatMessageIds.compare(message.getId(), chatId) >= 0) result.add(message);
+            }
+            result.sort((a, b) -> ChatMessageIds.compare(b.getId(), a.getId()));
+            return result;
+        }
+
+        /**
+         * ring buffer 이전의 메시지가 모두 기준 ID 보다 작은지 확인합니다.
+         * 채운 이후 밀려난 메시지가 없다면, ring buffer 이전의 메시지는 모두 채울 때의 가장 오래된 메시지보다 ID 가 작습니다.
+         * 밀려난 메시지가 있다면, ring buffer 이전의 메시지는 모두 {@code floor} 이하의 ID 를 가집니다.
+         */
+        private boolean covers(String chatId) {
+            if (floor == null) return ChatMessageIds.compare(chatId, messages.peekFirst().getId()) >= 0;
+            return ChatMessageIds.compare(chatId, floor) > 0;
+        }
+
+        /**
+         * 새 메시지를 추가합니다. 순번이 없다면 ring buffer 를 비웁니다.
+         */
+        synchronized void offer(ChatMessage message) {
+            if (message.getSeq() == null) {
+                reset();
+                return;
+            }
+            if (loaded && message.getSeq() <= lastSeq) return;
+
+            ahead.put(message.getSeq(), message);
+            if (!loaded) {
+                // 채워지기 전이라면, 채운 이후에 이어 붙일 수 있도록 최근 메시지만 남겨둡니다.
+                if (ahead.size() > MAX_AHEAD) ahead.pollFirstEntry();
+                return;
+            }
+            drain();
+        }
+
+        /**
+         * redis stream 에서 조회한 메시지로 ring buffer 를 다시 채웁니다. 최신 메시지부터 순번이 연속인 구간만 사용합니다.
+         * @param newestFirst 조회한 메시지 (최신 → 오래된 순)
+         * @param head 조회 전의 채팅방 최신 순번
+         */
+        synchronized void load(List<ChatMessage> newestFirst, Long head) {
+            messages.clear();
+            loaded = false;
+            floor = null;
+
+            List<ChatMessage> window = new ArrayList<>();
+            for (ChatMessage message : newestFirst) {
+                Long seq = message.getSeq();
+                if (seq == null) break;
+                if (!window.isEmpty() && seq != window.get(window.size() - 1).getSeq() - 1) break;
+
+                window.add(message);
+                if (window.size() == CAPACITY) break;
+            }
+            if (window.isEmpty()) return;
+
+            for (int i = window.size() - 1; i >= 0; i--) {
+                messages.addLast(window.get(i));
+            }
+            this.lastSeq = window.get(0).getSeq();
+            this.head = head == null ? 0 : head;
+            this.loaded = true;
+            drain();
+        }
+
+        /**
+         * 앞선 메시지가 도착한 메시지를 순번 순서대로 이어 붙입니다. ID 의 순서는 확인하지 않습니다.
+         */
+        private void drain() {
+            while (!ahead.isEmpty() && ahead.firstKey() <= lastSeq + 1) {
+                ChatMessage message = ahead.pollFirstEntry().getValue();
+                if (message.getSeq() <= lastSeq) continue;
+
+                messages.addLast(message);
+                lastSeq = message.getSeq();
+                if (messages.size() > CAPACITY) evict();
+            }
+            if (ahead.size() > MAX_AHEAD) reset();
+        }
+
+        private void evict() {
+            String id = messages.pollFirst().getId();
+            if (floor == null || ChatMessageIds.compare(id, floor) > 0) floor = id;
+        }
+
+        private void reset() {
+            messages.clear();
+            ahead.clear();
+            loaded = false;
+            floor = null;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.studypals.domain.chatManage.worker;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.studypals.domain.chatManage.dao.ChatReadCursorRepository;
+import com.studypals.domain.chatManage.dao.ChatRoomMemberJdbcRepository;
+import com.studypals.domain.chatManage.dto.ChatReadCursor;
+import com.studypals.global.annotations.Worker;
+
+/**
+ * <pre><code>
+ * Redis 에 저장된 채팅 읽음 커서({@code lastRead:{roomId}})를 {@code chat_room_member.last_read_message} 에
+ * 주기적으로 반영합니다(write-behind). 작업 자체는 다음과 같은 과정을 따릅니다.
+ *
+ * 1. {@link ChatStateUpdater} 가 읽음 커서를 저장할 때, 해당 채팅방을 변경(dirty) 목록에 기록합니다.
+ * 2. 데몬 스레드가 주기적으로 변경 목록에서 채팅방을 최대 {@code ROOM_BATCH_SIZE} 개씩 꺼냅니다.
+ * 3. 꺼낸 채팅방의 커서를 하나의 파이프라인으로 조회하고, JDBC batch 로 DB 를 갱신합니다.
+ * 4. 반영이 끝난 채팅방의 커서에 만료 시간({@code CURSOR_TTL})을 설정하여, 오래된 커서가 Redis 에 남지 않도록 합니다.
+ * 5. 반영에 실패한 경우, 꺼낸 채팅방을 다시 변경 목록에 기록합니다.
+ * </code></pre>
+ *
+ * 커서가 만료되기 전에 다시 변경되면 다시 반영되며 만료 시간도 갱신됩니다. 만료된 커서는 이미 DB 에 반영된 값이므로,
+ * 조회 시에는 DB 값을 사용합니다.
+ *
+ * @author jack8
+ * @see ChatStateUpdater
+ * @see ChatReadCursorRepository
+ * @see ChatRoomMemberJdbcRepository
+ * @since 2026-01-22
+ */
+@Worker
+@Slf4j
+@RequiredArgsConstructor
+public class ChatReadCursorPersister {
+
+    // 한 번에 꺼내는 채팅방 수
+    private static final int ROOM_BATCH_SIZE = 200;
+    // 한 주기에 반복하는 최대 횟수. 변경 목록이 많더라도 한 주기가 너무 길어지지 않도록 합니다.
+    private static final int MAX_ROUNDS = 50;
+    // DB 에 반영된 커서의 만료 시간
+    private static final Duration CURSOR_TTL = Duration.ofDays(3);
+
+    @Value("${chat.cursor.persist-interval-ms:5000}")
+    private long persistIntervalMillis;
+
+    private final ChatReadCursorRepository readCursorRepository;
+    private final ChatRoomMemberJdbcRepository chatRoomMemberJdbcRepository;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "chat-cursor-persister");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @PostConstruct
+    public void startScheduler() {
+        scheduler.scheduleWithFixedDelay(
+                this::persistSafely, persistIntervalMillis, persistIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * JVM 이 종료되기 전에 scheduler 를 안전하게 종료합니다.
+     */
+    @PreDestroy
+    public void stopScheduler() {
+        scheduler.shutdown();
+    }
+
+    private void persistSafely() {
+        try {
+            for (int i = 0; i < MAX_ROUNDS; i++) {
+                if (persistOnce() < ROOM_BATCH_SIZE) return;
+            }
+        } catch (RuntimeException e) {
+            // 예외가 전파되면 이후 주기가 실행되지 않으므로, 여기서 처리합니다.
+            log.error("fail to persist chat read cursors", e);
+        }
+    }
+
+    /**
+     * 변경 목록에서 채팅방을 꺼내 DB 에 반영합니다.
+     * @return 꺼낸 채팅방 수
+     */
+    int persistOnce() {
+        List<String> roomIds = readCursorRepository.popDirty(ROOM_BATCH_SIZE);
+        if (roomIds.isEmpty()) return 0;
+
+        try {
+            Map<String, Map<String, String>> cursors = readCursorRepository.findAll(roomIds);
+
+            List<ChatReadCursor> updates = new ArrayList<>();
+            cursors.forEach((roomId, users) -> users.forEach(
+                    (userId, chatId) -> updates.add(new ChatReadCursor(roomId, Long.parseLong(userId), chatId))));
+            chatRoomMemberJdbcRepository.updateLastReadMessages(updates);
+
+            readCursorRepository.expire(cursors.keySet(), CURSOR_TTL);
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 반영하도록 변경 목록에 되돌립니다.
+            readCursorRepository.markDirty(roomIds);
+            throw e;
+        }
+        return roomIds.size();
+    }
+}
@@ -0,0 +1,430 @@
+package com.studypals.domain.chatManage.worker;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.studypals.domain.chatManage.dto.ChatRoomListEvent;
+import com.studypals.domain.chatManage.dto.ChatRoomListPatch;
+import com.studypals.domain.chatManage.dto.ChatRoomListRes;
+import com.studypals.domain.chatManage.dto.ChatroomLatestInfo;
+import com.studypals.domain.chatManage.dto.OutgoingMessage;
+import com.studypals.domain.chatManage.entity.ChatMessageIds;
+import com.studypals.domain.chatManage.entity.ChatRoom;
+import com.studypals.domain.chatManage.entity.ChatSseType;
+import com.studypals.global.annotations.Worker;
+import com.studypals.global.sse.SseEmitterManager;
+import com.studypals.global.sse.SseLocalHandler;
+import com.studypals.global.sse.SseSendDto;
+
+/**
+ * <pre><code>
+ * SSE 로 연결된 유저의 채팅방 리스트를 메모리에 유지하고, 변경분만 patch 로 전송합니다.
+ * 기존에는 연결마다 mysql 조인, redis 커서 조회, stream 메타 조회(및 mongo 대체 조회) 전체를 다시 수행하였습니다.
+ * 해당 클래스는 다음과 같은 과정을 따릅니다.
+ *
+ * 1. 유저가 현재 노드에 처음 연결되면, 전체 조회를 한 번 수행하여 뷰를 만듭니다. 이미 뷰가 있다면 그대로 반환합니다.
+ * 2. 새 메시지, 읽음, 참여/탈퇴가 발생하면 {@link ChatRoomListEvent} 를 채팅방 멤버에게 발행합니다.
+ * 3. 이벤트는 SSE 전달 경로(노드 간 버스 포함)를 따라 유저가 연결된 노드로 전달되고,
+ *    해당 노드에서 뷰에 반영된 뒤 변경된 채팅방 하나만 {@link ChatRoomListPatch} 로 전송됩니다.
+ * 4. 유저의 마지막 세션이 종료되면 뷰를 제거합니다. 다음 연결 시 다시 만들어집니다.
+ * </code></pre>
+ *
+ * 뷰를 만드는 동안 도착한 이벤트는 보관해 두었다가, 전체 조회 결과에 이어서 반영합니다. 이때 이미 조회 결과에 포함된
+ * 메시지는 메시지 ID 로 걸러냅니다.
+ * <p>
+ * 읽지 않은 메시지 수를 다시 계산해야 하는 이벤트(최신 이전까지의 읽음, 새로 참여한 채팅방)는 redis/mongo 조회가 필요합니다.
+ * 이러한 조회는 뷰의 잠금 밖에서 먼저 수행하고, 잠금 안에서는 조회 결과를 반영만 합니다.
+ * 다른 노드에서 도착한 이벤트는 채팅방 멤버마다 같은 json 으로 전달되므로, 파싱 결과를 잠시 보관하여 한 번만 파싱합니다.
+ *
+ * @author jack8
+ * @see SseEmitterManager
+ * @see ChatFanoutDispatcher
+ * @since 2026-01-23
+ */
+@Worker
+@RequiredArgsConstructor
+public class ChatRoomListView implements SseLocalHandler {
+
+    private final SseEmitterManager sseManager;
+    private final ChatRoomReader chatRoomReader;
+    private final ChatMessageReader chatMessageReader;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 유저 아이디 -> 채팅방 리스트 뷰. 현재 노드에 연결된 유저에 대해서만 유지됩니다.
+     */
+    private final ConcurrentMap<Long, UserView> views = new ConcurrentHashMap<>();
+
+    /**
+     * 다른 노드에서 도착한 이벤트 json -> 파싱된 이벤트. 같은 이벤트는 채팅방 멤버 수만큼 연속해서 도착합니다.
+     */
+    private final Cache<String, ChatRoomListEvent> parsed = Caffeine.newBuilder()
+            .maximumSize(1_024)
+            .expireAfterWrite(Duration.ofSeconds(10))
+            .build();
+
+    /**
+     * 뷰의 잠금 밖에서 미리 조회한, 채팅방 하나의 최신 정보입니다.
+     * @param info 조회 결과, 채팅방 정보가 없다면 null
+     */
+    private record Lookup(ChatroomLatestInfo info) {}
+
+    /**
+     * 한 유저의 채팅방 리스트입니다. 모든 접근은 인스턴스 단위로 동기화됩니다.
+     */
+    static final class UserView {
+        // 채팅방 아이디 -> 채팅방 정보. 전체 조회 결과의 순서를 유지하며, 새로 참여한 채팅방은 뒤에 추가됩니다.
+        private final Map<String, ChatRoomListRes.ChatRoomInfo> rooms = new LinkedHashMap<>();
+        // 뷰를 만드는 동안 도착한 이벤트
+        private final List<ChatRoomListEvent> backlog = new ArrayList<>();
+        private boolean loaded = false;
+
+        private ChatRoomListRes toRes() {
+            return new ChatRoomListRes(List.copyOf(rooms.values()));
+        }
+    }
+
+    @PostConstruct
+    public void register() {
+        sseManager.registerHandler(ChatSseType.ROOM_EVENT.name(), this);
+    }
+
+    /**
+     * 유저의 채팅방 리스트를 반환합니다. 뷰가 없다면 loader 로 전체 조회를 수행하여 만듭니다.
+     * @param userId 유저 아이디
+     * @param loader 전체 조회
+     * @return 채팅방 리스트
+     */
+    public ChatRoomListRes snapshot(Long userId, Supplier<ChatRoomListRes> loader) {
+        UserView view = views.computeIfAbsent(userId, k -> new UserView());
+        synchronized (view) {
+            if (view.loaded) return view.toRes();
+        }
+
+        // 전체 조회는 잠금 밖에서 수행하고, 그동안 도착한 이벤트는 backlog 에 쌓입니다.
+        ChatRoomListRes full = loader.get();
+
+        // backlog 에 필요한 조회도 잠금 밖에서 수행합니다. 조회하는 동안 새로 쌓인 이벤트가 있다면 다시 조회합니다.
+        Map<ChatRoomListEvent, Lookup> lookups = new IdentityHashMap<>();
+        ChatRoomListRes result;
+        while (true) {
+            List<ChatRoomListEvent> missing = new ArrayList<>();
+            synchronized (view) {
+                if (!view.loaded) {
+                    for (ChatRoomListEvent event : view.backlog) {
+                        if (mayNeedLookup(userId, event) && !lookups.containsKey(event)) missing.add(event);
+                    }
+                }
+                if (missing.isEmpty()) {
+                    if (!view.loaded) load(userId, view, full, lookups);
+                    result = view.toRes();
+                    break;
+                }
+            }
+            for (ChatRoomListEvent event : missing) {
+                lookups.put(event, lookup(userId, event));
+            }
+        }
+
+        // 조회 도중 연결이 끊겼다면 뷰를 유지하지 않습니다.
+        if (!sseManager.isConnected(userId)) views.remove(userId, view);
+        return result;
+    }
+
+    /**
+     * 채팅방에 새로 전송된 메시지에 대한 이벤트를 생성합니다. 메시지 목록은 전송된 순서여야 합니다.
+     * @param roomId 채팅방 아이디
+     * @param messages 새 메시지 목록
+     * @return 채팅방 멤버에게 전송할 이벤트, 메시지가 없다면 null
+     */
+    public SseSendDto messageEvent(String roomId, List<OutgoingMessage> messages) {
+        if (messages.isEmpty()) return null;
+
+        // 메시지를 보낸 유저는 자신의 마지막 메시지까지 읽은 것으로 봅니다.
+        Map<Long, Integer> readAfter = new HashMap<>();
+        for (int i = 0; i < messages.size(); i++) {
+            readAfter.put(messages.get(i).getSender(), messages.size() - 1 - i);
+        }
+
+        OutgoingMessage latest = messages.get(messages.size() - 1);
+        ChatRoomListEvent event = ChatRoomListEvent.message(
+                roomId, latest.getId(), latest.getContent(), latest.getSender(), messages.size(), readAfter);
+        return new SseSendDto(ChatSseType.ROOM_EVENT.name(), event);
+    }
+
+    /**
+     * 읽음 처리 결과를 각 유저에게 발행합니다. 유저마다 내용이 다르므로, 한 번의 flush 결과를 하나의 전송으로 묶습니다.
+     * @param messages roomId -> (userId -> chatId)
+     */
+    public void publishReads(Map<String, Map<String, String>> messages) {
+        Map<Long, List<SseSendDto>> byUser = new HashMap<>();
+        for (Map.Entry<String, Map<String, String>> room : messages.entrySet()) {
+            for (Map.Entry<String, String> user : room.getValue().entrySet()) {
+                SseSendDto dto = new SseSendDto(
+                        ChatSseType.ROOM_EVENT.name(), ChatRoomListEvent.read(room.getKey(), user.getValue()));
+                byUser.computeIfAbsent(Long.valueOf(user.getKey()), k -> new ArrayList<>()).add(dto);
+            }
+        }
+
+        sseManager.sendEachAsync(byUser);
+    }
+
+    /**
+     * 채팅방 참여를 채팅방 멤버에게 발행합니다. 트랜잭션 내라면 커밋 이후 발행합니다.
+     * @param chatRoom 참여한 채팅방
+     * @param memberId 참여한 유저
+     */
+    public void publishJoin(ChatRoom chatRoom, Long memberId) {
+        ChatRoomListEvent event = ChatRoomListEvent.join(
+                chatRoom.getId(), memberId, chatRoom.getName(), chatRoom.getImageUrl(), totalMember(chatRoom, 1));
+        afterCommit(() -> publishToRoom(chatRoom.getId(), memberId, event));
+    }
+
+    /**
+     * 채팅방 탈퇴를 채팅방 멤버와 탈퇴한 유저에게 발행합니다. 트랜잭션 내라면 커밋 이후 발행합니다.
+     * @param chatRoom 탈퇴한 채팅방
+     * @param memberId 탈퇴한 유저
+     */
+    public void publishLeave(ChatRoom chatRoom, Long memberId) {
+        ChatRoomListEvent event = ChatRoomListEvent.leave(chatRoom.getId(), memberId, totalMember(chatRoom, -1));
+        afterCommit(() -> publishToRoom(chatRoom.getId(), memberId, event));
+    }
+
+    @Override
+    public SseSendDto handle(Long userId, SseSendDto dto) {
+        UserView view = views.get(userId);
+        if (view == null) return null;
+
+        ChatRoomListEvent event = read(dto.content());
+        ChatRoomListPatch patch;
+        Lookup lookup = null;
+        while (true) {
+            synchronized (view) {
+                if (!view.loaded) {
+                    view.backlog.add(event);
+                    return null;
+                }
+                if (lookup != null || !needsLookup(userId, view, event)) {
+                    patch = apply(userId, view, event, false, lookup);
+                    break;
+                }
+            }
+            // 조회는 잠금 밖에서 수행하고, 다시 잠금을 얻어 반영합니다.
+            lookup = lookup(userId, event);
+        }
+        return patch == null ? null : new SseSendDto(ChatSseType.ROOM_PATCH.name(), patch);
+    }
+
+    @Override
+    public void onDisconnect(Long userId) {
+        views.remove(userId);
+    }
+
+    /**
+     * 전체 조회 결과와 backlog 를 뷰에 반영합니다. 반드시 view 에 대한 잠금을 보유한 상태로 호출해야 합니다.
+     * @param lookups backlog 이벤트 별로 미리 조회한 결과
+     */
+    private void load(Long userId, UserView view, ChatRoomListRes full, Map<ChatRoomListEvent, Lookup> lookups) {
+        for (ChatRoomListRes.ChatRoomInfo room : full.rooms()) {
+            view.rooms.put(room.roomId(), room);
+        }
+        view.loaded = true;
+        for (ChatRoomListEvent event : view.backlog) {
+            apply(userId, view, event, true, lookups.get(event));
+        }
+        view.backlog.clear();
+    }
+
+    /**
+     * 현재 뷰에 이벤트를 반영하기 위해 조회가 필요한지 확인합니다. 반드시 view 에 대한 잠금을 보유한 상태로 호출해야 합니다.
+     */
+    private boolean needsLookup(Long userId, UserView view, ChatRoomListEvent event) {
+        ChatRoomListRes.ChatRoomInfo room = view.rooms.get(event.roomId());
+        return switch (event.op()) {
+            case READ -> room != null && event.chatId() != null && !readToLatest(room, event);
+            case JOIN -> room == null && userId.equals(event.memberId());
+            case MESSAGE, LEAVE -> false;
+        };
+    }
+
+    /**
+     * 뷰의 상태와 관계 없이, 이벤트를 반영하는 데 조회가 필요할 수 있는지 확인합니다. backlog 에 사용합니다.
+     */
+    private boolean mayNeedLookup(Long userId, ChatRoomListEvent event) {
+        return switch (event.op()) {
+            case READ -> event.chatId() != null;
+            case JOIN -> userId.equals(event.memberId());
+            case MESSAGE, LEAVE -> false;
+        };
+    }
+
+    /**
+     * 이벤트를 반영하는 데 필요한 채팅방 정보를 조회합니다. 뷰의 잠금 밖에서 호출해야 합니다.
+     */
+    private Lookup lookup(Long userId, ChatRoomListEvent event) {
+        // 새로 참여한 채팅방은 읽은 기록이 없으므로 "0" 을 기준으로 계산합니다.
+        String cursor = event.op() == ChatRoomListEvent.Op.READ ? event.chatId() : "0";
+        ChatroomLatestInfo info = chatMessageReader
+                .getLatestInfo(userId, Map.of(event.roomId(), cursor))
+                .get(event.roomId());
+        return new Lookup(info);
+    }
+
+    /**
+     * 이벤트를 뷰에 반영합니다. 반드시 view 에 대한 잠금을 보유한 상태로 호출해야 합니다.
+     * @param dedupe 이미 반영된 메시지일 수 있는지 여부. backlog 를 반영할 때 사용합니다.
+     * @param lookup 미리 조회한 채팅방 정보. 조회가 필요하지 않다면 null
+     * @return 변경된 채팅방에 대한 patch, 변경이 없다면 null
+     */
+    private ChatRoomListPatch apply(
+            Long userId, UserView view, ChatRoomListEvent event, boolean dedupe, Lookup lookup) {
+        String roomId = event.roomId();
+        if (event.op() == ChatRoomListEvent.Op.LEAVE && userId.equals(event.memberId())) {
+            return view.rooms.remove(roomId) == null ? null : ChatRoomListPatch.remove(roomId);
+        }
+
+        ChatRoomListRes.ChatRoomInfo room = view.rooms.get(roomId);
+        ChatRoomListRes.ChatRoomInfo updated =
+                switch (event.op()) {
+                    case MESSAGE -> room == null ? null : applyMessage(userId, room, event, dedupe);
+                    case READ -> room == null ? null : applyRead(room, event, lookup);
+                    case JOIN -> applyJoin(userId, room, event, lookup);
+                    case LEAVE -> withTotalMember(room, event.totalMember());
+                };
+        if (updated == null || updated.equals(room)) return null;
+
+        view.rooms.put(roomId, updated);
+        return ChatRoomListPatch.upsert(updated);
+    }
+
+    private ChatRoomListRes.ChatRoomInfo applyMessage(
+            Long userId, ChatRoomListRes.ChatRoomInfo room, ChatRoomListEvent event, boolean dedupe) {
+        boolean newer = room.chatId() == null || ChatMessageIds.compare(event.chatId(), room.chatId()) > 0;
+        if (dedupe && !newer) return null;
+
+        Integer after = event.readAfter() == null ? null : event.readAfter().get(userId);
+        long base = room.unread() == null || room.unread() < 0 ? 0 : room.unread();
+        long unread = after != null ? after : base + event.count();
+
+        // 순서가 뒤바뀌어 도착한 메시지라면 개수만 반영합니다.
+        if (!newer) return withUnread(room, unread);
+        return new ChatRoomListRes.ChatRoomInfo(
+                room.roomId(),
+                room.name(),
+                room.url(),
+                room.totalMember(),
+                unread,
+                event.content(),
+                event.chatId(),
+                event.sender());
+    }
+
+    private ChatRoomListRes.ChatRoomInfo applyRead(
+            ChatRoomListRes.ChatRoomInfo room, ChatRoomListEvent event, Lookup lookup) {
+        if (event.chatId() == null) return null;
+        if (readToLatest(room, event)) return withUnread(room, 0);
+
+        // 최신 메시지 이전까지만 읽었다면, 해당 채팅방 하나에 대해서 미리 조회한 값을 사용합니다.
+        ChatroomLatestInfo info = lookup == null ? null : lookup.info();
+        return info == null ? null : withUnread(room, info.getCnt());
+    }
+
+    private ChatRoomListRes.ChatRoomInfo applyJoin(
+            Long userId, ChatRoomListRes.ChatRoomInfo room, ChatRoomListEvent event, Lookup lookup) {
+        if (room != null || !userId.equals(event.memberId())) return withTotalMember(room, event.totalMember());
+
+        ChatroomLatestInfo info = lookup == null ? null : lookup.info();
+        return new ChatRoomListRes.ChatRoomInfo(
+                event.roomId(),
+                event.name(),
+                event.url(),
+                event.totalMember(),
+                info != null ? info.getCnt() : -1,
+                info != null ? info.getContent() : null,
+                info != null ? info.getId() : null,
+                info != null ? info.getSender() : null);
+    }
+
+    private static boolean readToLatest(ChatRoomListRes.ChatRoomInfo room, ChatRoomListEvent event) {
+        return room.chatId() == null || ChatMessageIds.compare(event.chatId(), room.chatId()) >= 0;
+    }
+
+    private ChatRoomListRes.ChatRoomInfo withUnread(ChatRoomListRes.ChatRoomInfo room, long unread) {
+        return new ChatRoomListRes.ChatRoomInfo(
+                room.roomId(),
+                room.name(),
+                room.url(),
+                room.totalMember(),
+                unread,
+                room.content(),
+                room.chatId(),
+                room.sender());
+    }
+
+    private ChatRoomListRes.ChatRoomInfo withTotalMember(ChatRoomListRes.ChatRoomInfo room, Integer totalMember) {
+        if (room == null || totalMember == null) return null;
+        return new ChatRoomListRes.ChatRoomInfo(
+                room.roomId(),
+                room.name(),
+                room.url(),
+                totalMember,
+                room.unread(),
+                room.content(),
+                room.chatId(),
+                room.sender());
+    }
+
+    /**
+     * 로컬 이벤트는 원본 객체로, 다른 노드에서 도착한 이벤트는 json 문자열로 전달됩니다.
+     * 같은 json 은 한 번만 파싱합니다. 이벤트는 불변이므로 여러 유저의 뷰에서 함께 사용합니다.
+     */
+    private ChatRoomListEvent read(Object content) {
+        if (content instanceof ChatRoomListEvent event) return event;
+        return parsed.get((String) content, this::parse);
+    }
+
+    private ChatRoomListEvent parse(String json) {
+        try {
+            return objectMapper.readValue(json, ChatRoomListEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("invalid chat room list event", e);
+        }
+    }
+
+    private void publishToRoom(String roomId, Long memberId, ChatRoomListEvent event) {
+        Set<Long> targets = new LinkedHashSet<>(chatRoomReader.findJoinedMemberId(roomId));
+        targets.add(memberId);
+        sseManager.sendMessagesAsync(targets, List.of(new SseSendDto(ChatSseType.ROOM_EVENT.name(), event)));
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private static Integer totalMember(ChatRoom chatRoom, int delta) {
+        return chatRoom.getTotalMember() == null ? null : chatRoom.getTotalMember() + delta;
+    }
+}
@@ -83,6 +83,7 @@ public class ChatRoomReader {
     /**
      * 캐시된 사용자의 메시지 커서 기록을 반환합니다. redis 에 저장된 데이터를 호출하며, 오래된 데이터는 없을 수 있습니다.
      * 따라서, 완전한 데이터를 위해서는 영속화된 데이터와의 비교가 필요합니다.
+     * 커서는 {@link ChatReadCursorPersister} 에 의해 주기적으로 DB 에 반영되며, 반영된 이후 만료됩니다.
      * @param roomId 검색할 채팅방 아이디
      * @return 해당 채팅방에 대한 정보
      */
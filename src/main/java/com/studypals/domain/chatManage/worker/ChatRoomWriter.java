@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 
 import com.studypals.domain.chatManage.dao.ChatRoomMemberRepository;
 import com.studypals.domain.chatManage.dao.ChatRoomRepository;
+import com.studypals.domain.chatManage.dao.ChatSequenceRepository;
 import com.studypals.domain.chatManage.dto.CreateChatRoomDto;
 import com.studypals.domain.chatManage.entity.ChatCacheValue;
 import com.studypals.domain.chatManage.entity.ChatRoom;
@@ -32,6 +33,9 @@ public class ChatRoomWriter {
 
     private final ChatRoomRepository chatRoomRepository;
     private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final ChatRoomListView chatRoomListView;
+    private final ChatFanoutDispatcher chatFanoutDispatcher;
+    private final ChatSequenceRepository chatSequenceRepository;
 
     /**
      * 채팅방을 생성합니다. 예외를 정의해 두었습니다.
@@ -64,7 +68,7 @@ public class ChatRoomWriter {
      * @param member 참가할 멤버
      * @throws ChatException CHAT_ROOM_JOIN_FAIL / 채팅방 참여가 실패
      */
-    @CacheEvict(value = ChatCacheValue.JOINED_MEMBER, key = "#member.id")
+    @CacheEvict(value = ChatCacheValue.JOINED_MEMBER, key = "#chatRoom.id")
     public void joinAsAdmin(ChatRoom chatRoom, Member member) {
         internalJoin(chatRoom, member, ChatRoomRole.ADMIN);
     }
@@ -75,7 +79,7 @@ public class ChatRoomWriter {
      * @param member 참가할 멤버
      * @throws ChatException CHAT_ROOM_JOIN_FAIL / 채팅방 참여가 실패
      */
-    @CacheEvict(value = ChatCacheValue.JOINED_MEMBER, key = "#member.id")
+    @CacheEvict(value = ChatCacheValue.JOINED_MEMBER, key = "#chatRoom.id")
     public void join(ChatRoom chatRoom, Member member) {
         internalJoin(chatRoom, member, ChatRoomRole.MEMBER);
     }
@@ -87,7 +91,7 @@ public class ChatRoomWriter {
      * @throws ChatException CHAT_ROOM_NOT_FOUND / 해당 member 가 속한 chatroom 을 찾을 수 없음(속해있지 않거나,id가 잘못됨)
      * @throws ChatException CHAT_ROOM_ADMIN_LEAVE / admin 이 채팅방 탈퇴를 시도하는 경우
      */
-    @CacheEvict(value = ChatCacheValue.JOINED_MEMBER, key = "#member.id")
+    @CacheEvict(value = ChatCacheValue.JOINED_MEMBER, key = "#chatRoom.id")
     public void leave(ChatRoom chatRoom, Member member) {
         int updated = chatRoomRepository.decreaseChatMember(chatRoom.getId());
         if (updated == 0) {
@@ -108,6 +112,11 @@ public class ChatRoomWriter {
                     ChatErrorCode.CHAT_ROOM_ADMIN_LEAVE, "[ChatRoomWriter#leave] admin try to leave chatRoom");
         }
         chatRoomMemberRepository.delete(chatRoomMember);
+        chatSequenceRepository.deleteReadSequence(chatRoom.getId(), member.getId());
+
+        // 커밋 이후 fan-out 멤버 캐시를 비우고, 채팅방 멤버의 채팅방 리스트에 반영
+        chatFanoutDispatcher.evictMembers(chatRoom.getId());
+        chatRoomListView.publishLeave(chatRoom, member.getId());
     }
 
     /**
@@ -139,5 +148,9 @@ public class ChatRoomWriter {
             throw new ChatException(
                     ChatErrorCode.CHAT_ROOM_JOIN_FAIL, "[ChatRoomWriter#internalJoin]" + e.getMessage());
         }
+
+        // 커밋 이후 fan-out 멤버 캐시를 비우고, 채팅방 멤버의 채팅방 리스트에 반영
+        chatFanoutDispatcher.evictMembers(chatRoom.getId());
+        chatRoomListView.publishJoin(chatRoom, member.getId());
     }
 }
@@ -0,0 +1,73 @@
+package com.studypals.domain.chatManage.worker;
+
+/**
+ * {@link ReactiveChatSaveWorker} 의 배치 크기와 flush 주기를 결정합니다.
+ * <p>
+ * 저장 지연 시간(EWMA)과 대기 중인 메시지 수를 바탕으로 아래와 같이 조정합니다.
+ * <pre>
+ * - 지연 시간이 목표를 넘는 경우 : 배치 크기를 절반으로 줄이고, flush 주기를 늘립니다.
+ * - 대기 메시지가 배치 크기 이상 : 배치 크기를 두 배로 늘리고, flush 주기를 절반으로 줄입니다.
+ * - 그 외(한가한 경우)          : flush 주기를 조금씩 늘려 작은 배치가 자주 나가지 않도록 합니다.
+ * </pre>
+ * 저장에 실패한 경우에는 배치 크기를 절반으로 줄입니다. 모든 값은 최소/최대 범위 내에서만 움직입니다.
+ *
+ * @author jack8
+ * @see ReactiveChatSaveWorker
+ * @since 2026-01-17
+ */
+class ChatSaveBatchPolicy {
+
+    static final int MIN_BATCH_SIZE = 64;
+    static final int MAX_BATCH_SIZE = 2048;
+    static final long MIN_FLUSH_INTERVAL = 20;
+    static final long MAX_FLUSH_INTERVAL = 500;
+
+    // 한 배치의 저장에 허용하는 목표 지연 시간(ms)
+    private static final double TARGET_LATENCY = 200;
+    // 한가할 때 flush 주기를 늘리는 폭(ms)
+    private static final long IDLE_INTERVAL_STEP = 10;
+    private static final double EWMA_WEIGHT = 0.2;
+
+    private volatile int batchSize = 512;
+    private volatile long flushIntervalMillis = 100;
+    private volatile double latencyMillis = -1;
+
+    int batchSize() {
+        return batchSize;
+    }
+
+    long flushIntervalMillis() {
+        return flushIntervalMillis;
+    }
+
+    double latencyMillis() {
+        return Math.max(0, latencyMillis);
+    }
+
+    /**
+     * 배치 저장이 끝났음을 알립니다.
+     * @param elapsedMillis 해당 배치의 저장에 걸린 시간
+     * @param queueDepth 저장을 기다리는 메시지 수
+     */
+    synchronized void onWriteCompleted(long elapsedMillis, int queueDepth) {
+        latencyMillis =
+                latencyMillis < 0 ? elapsedMillis : latencyMillis + EWMA_WEIGHT * (elapsedMillis - latencyMillis);
+
+        if (latencyMillis > TARGET_LATENCY) {
+            batchSize = Math.max(MIN_BATCH_SIZE, batchSize / 2);
+            flushIntervalMillis = Math.min(MAX_FLUSH_INTERVAL, flushIntervalMillis * 2);
+        } else if (queueDepth >= batchSize) {
+            batchSize = Math.min(MAX_BATCH_SIZE, batchSize * 2);
+            flushIntervalMillis = Math.max(MIN_FLUSH_INTERVAL, flushIntervalMillis / 2);
+        } else {
+            flushIntervalMillis = Math.min(MAX_FLUSH_INTERVAL, flushIntervalMillis + IDLE_INTERVAL_STEP);
+        }
+    }
+
+    /**
+     * 배치 저장이 실패했음을 알립니다.
+     */
+    synchronized void onWriteFailed() {
+        batchSize = Math.max(MIN_BATCH_SIZE, batchSize / 2);
+    }
+}
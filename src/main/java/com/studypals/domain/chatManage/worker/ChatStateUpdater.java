@@ -1,6 +1,9 @@
 package com.studypals.domain.chatManage.worker;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -18,6 +21,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.studypals.domain.chatManage.dao.ChatReadCursorRepository;
+import com.studypals.domain.chatManage.dao.ChatSequenceRepository;
 import com.studypals.domain.chatManage.dao.UserLastReadMessageRepository;
 import com.studypals.domain.chatManage.dto.ChatType;
 import com.studypals.domain.chatManage.dto.ChatUpdateDto;
@@ -29,13 +34,22 @@ import com.studypals.global.annotations.Worker;
  * 각 채팅방 별로, 채팅 읽음 내역을 저장 및 발송합니다. {@code ScheduledExecutorService} 를 사용하여
  * 데몬 스레드가 작업을 수행합니다. 작업 자체는 다음과 같은 과정을 따릅니다.
  *
- * 1. 사용자의 "읽음 완료" 메시지를 받으면, 이를 가공하여 {@code buckets} 에 저장합니다.
- * 2. 이때, {@code MAX_BATCH_SIZE (1024)} 이상의 메시지가 쌓이면 flush 를 시작합니다.
- * 3. flush 하는 경우, buckets 의 snapshot 을 복사하고 초기화합니다.
- * 4. 초기화 후 저장에 용이한 형태로 가공합니다.
- * 5. 해당 데이터를 각 유저에게 보내고, Redis 에 해당 내용을 저장합니다.
+ * 1. 사용자의 "읽음 완료" 메시지를 받으면, 채팅방 ID 의 해시로 고른 {@code shard} 의 버퍼에 저장합니다.
+ * 2. 이때, shard 에 {@code MAX_BATCH_SIZE (1024)} 이상의 메시지가 쌓이면 해당 shard 의 flush 를 시작합니다.
+ * 3. flush 하는 경우, shard 의 버퍼를 비어 있는 예비 버퍼와 교체(swap)합니다. 복사하지 않습니다.
+ * 4. 교체된 버퍼를 저장에 용이한 형태로 가공합니다.
+ * 5. 해당 데이터를 각 유저에게 보내고, Redis 에 shard 단위로 한 번의 파이프라인으로 저장합니다.
+ * 6. 읽은 메시지의 채팅방 내 순번을 찾아, 읽지 않은 메시지 수 계산을 위해 함께 저장합니다.
+ * 7. 저장한 채팅방을 변경 목록에 기록하여, {@link ChatReadCursorPersister} 가 DB 에 반영하도록 합니다.
  * </code></pre>
  *
+ * 전송 시에는 해당 채팅방에 마지막으로 전송한 이후 변경된 커서만 {@code {"userId":"chatId"}} 형태로 보냅니다.
+ * 또한 채팅방 별로 {@code chat.state.broadcast-interval-ms} 에 한 번만 전송하며, 그 사이의 변경은 모아 두었다가
+ * 다음 flush 에서 함께 전송합니다. 저장은 전송 주기와 무관하게 매 flush 마다 수행됩니다.
+ *
+ * 각 shard 는 자신의 lock 과 flush 여부만을 가지므로, 서로 다른 shard 의 갱신과 flush 는 병렬로 진행됩니다.
+ * 같은 채팅방은 항상 같은 shard 에 속하므로, 채팅방 내의 읽음 내역 순서는 유지됩니다.
+ *
  * @author jack8
  * @since 2025-11-28
  */
@@ -43,46 +57,121 @@ import com.studypals.global.annotations.Worker;
 @RequiredArgsConstructor
 public class ChatStateUpdater {
 
-    // bucket 에 들어가는 최대 데이터 크기
+    // shard 에 들어가는 최대 데이터 크기
     private static final int MAX_BATCH_SIZE = 1024;
     // scheduler 가 실행되는 주기
     private static final int MAX_WAIT_MS = 500;
+    // shard(및 flush 스레드) 개수
+    private static final int SHARD_COUNT = Math.max(2, Runtime.getRuntime().availableProcessors());
+    // 채팅방 별 전송 상태를 유지하는 시간
+    private static final Duration BROADCAST_STATE_TTL = Duration.ofMinutes(10);
     // 채팅 전송 시 주소 prefix
     @Value("${chat.subscribe.address.default}")
     private String DESTINATION_PREFIX;
+    // 채팅방 별 읽음 내역 전송 최소 간격
+    @Value("${chat.state.broadcast-interval-ms:1000}")
+    private long broadcastIntervalMillis;
 
-    // 멀티 스레딩 사용 시 스레딩 식별자 - deprecated 됨(1개의 스레드사용)
-    @Deprecated
+    // 멀티 스레딩 사용 시 스레딩 식별자
     private static final AtomicInteger COUNTER = new AtomicInteger();
-    // 현재 flushing 작업 중인지에 대한 여부
-    private final AtomicBoolean flushing = new AtomicBoolean(false);
 
-    // bucket 에서 key 로서 사용되는 객체.
+    // 버퍼에서 key 로서 사용되는 객체.
     private record PairKey(String roomId, Long userId) {}
 
     private final UserLastReadMessageRepository userLastReadMessageRepository;
     private final SimpMessageSendingOperations template;
     private final ObjectMapper objectMapper;
+    private final ChatMessageReader chatMessageReader;
+    private final ChatSequenceRepository chatSequenceRepository;
+    private final ChatReadCursorRepository chatReadCursorRepository;
+    private final ChatRoomListView chatRoomListView;
 
     /**
-     * scheduler 정의.
+     * scheduler 정의. shard 개수만큼 스레드를 사용합니다.
      */
     private final ScheduledExecutorService scheduler = new ScheduledThreadPoolExecutor(
-            1,
+            SHARD_COUNT,
             r -> {
-                Thread t = new Thread(r, "chat-state-updater");
+                Thread t = new Thread(r, "chat-state-updater-" + COUNTER.getAndIncrement());
                 t.setDaemon(true);
                 return t;
             },
             new ThreadPoolExecutor.CallerRunsPolicy());
 
     /**
-     * 읽음 내역이 도착하여 임시로 저장되는 장소입니다. <br>
-     * caffeine 을 사용한 내장 메모리 캐시입니다.
+     * 읽음 내역이 도착하여 임시로 저장되는 장소입니다. 채팅방 ID 의 해시로 나뉩니다. <br>
      * key -> roomId , userId    ///     value -> chatId <br>
      */
-    private final Cache<PairKey, String> buckets =
-            Caffeine.newBuilder().maximumSize(1_000_000).build();
+    private final Shard[] shards = createShards();
+
+    /**
+     * 하나의 shard 입니다. 갱신은 {@code active} 에 쌓이고, flush 시 {@code spare} 와 교체됩니다.
+     * lock 은 버퍼 교체와 삽입 사이에서만 잡히므로, 교체에 걸리는 시간은 쌓인 데이터 양과 무관합니다.
+     */
+    private static final class Shard {
+        private final Object lock = new Object();
+        // 현재 flush 작업 중인지에 대한 여부
+        private final AtomicBoolean flushing = new AtomicBoolean(false);
+        private Map<PairKey, String> active = new HashMap<>();
+        private Map<PairKey, String> spare = new HashMap<>();
+
+        // 아래 필드는 flush 중인 스레드만 접근합니다.
+        // 전송 간격 때문에 보류된 채팅방 별 커서 : roomId -> (userId -> chatId)
+        private final Map<String, Map<String, String>> pending = new HashMap<>();
+        // 채팅방 별 마지막 전송 상태
+        private final Cache<String, RoomBroadcast> broadcasts = Caffeine.newBuilder()
+                .expireAfterAccess(BROADCAST_STATE_TTL)
+                .maximumSize(100_000)
+                .build();
+        // 보류된 전송이 있는지에 대한 여부
+        private volatile boolean deferred = false;
+
+        private int put(PairKey key, String chatId) {
+            synchronized (lock) {
+                active.put(key, chatId);
+                return active.size();
+            }
+        }
+
+        private boolean needsFlush() {
+            if (deferred) return true;
+            synchronized (lock) {
+                return !active.isEmpty();
+            }
+        }
+
+        private Map<PairKey, String> swap() {
+            synchronized (lock) {
+                Map<PairKey, String> drained = active;
+                active = spare;
+                spare = null;
+                return drained;
+            }
+        }
+
+        private void recycle(Map<PairKey, String> drained) {
+            drained.clear();
+            synchronized (lock) {
+                spare = drained;
+            }
+        }
+    }
+
+    /**
+     * 하나의 채팅방에 마지막으로 전송한 커서와 그 시각입니다.
+     */
+    private static final class RoomBroadcast {
+        private final Map<String, String> cursors = new HashMap<>();
+        private long sentAt = Long.MIN_VALUE;
+    }
+
+    private static Shard[] createShards() {
+        Shard[] created = new Shard[SHARD_COUNT];
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            created[i] = new Shard();
+        }
+        return created;
+    }
 
     /**
      * scheduler 를 구동합니다. 지정할 작업, 실행 주기에 대해 정의합니다.
@@ -91,9 +180,9 @@ public class ChatStateUpdater {
     public void startScheduler() {
         scheduler.scheduleAtFixedRate(
                 () -> {
-                    // flush 필요할 때만 실행
-                    if (buckets.estimatedSize() > 0) {
-                        triggerFlushAsync();
+                    // flush 필요한 shard 만 실행
+                    for (Shard shard : shards) {
+                        if (shard.needsFlush()) triggerFlushAsync(shard);
                     }
                 },
                 MAX_WAIT_MS,
@@ -115,90 +204,150 @@ public class ChatStateUpdater {
      * @param dto 채팅방 아이디, 사용자 아이디, 채팅 아이디
      */
     public void update(ChatUpdateDto dto) {
-        PairKey keys = new PairKey(dto.roomId(), dto.userId());
-        buckets.put(keys, dto.chatId());
+        Shard shard = shardOf(dto.roomId());
+        int size = shard.put(new PairKey(dto.roomId(), dto.userId()), dto.chatId());
 
         // 배치 크기가 커지면, 스케쥴러의 스레드가 작업을 진행하도록 강제합니다.
-        if (buckets.estimatedSize() >= MAX_BATCH_SIZE) {
-            triggerFlushAsync();
+        if (size >= MAX_BATCH_SIZE) {
+            triggerFlushAsync(shard);
         }
     }
 
+    private Shard shardOf(String roomId) {
+        return shards[Math.floorMod(roomId.hashCode(), shards.length)];
+    }
+
     /**
      * scheduler 의 데몬 스레드 작업을 유발합니다.
-     * 단, 시스템 전역에서 동시에 한 번만 진행되어야 합니다.
+     * 단, 하나의 shard 에 대해서는 동시에 한 번만 진행되어야 합니다.
      */
-    private void triggerFlushAsync() {
-        if (!flushing.compareAndSet(false, true)) {
-            // 이미 누군가 flush 중이면 패스
+    private void triggerFlushAsync(Shard shard) {
+        if (!shard.flushing.compareAndSet(false, true)) {
+            // 이미 누군가 해당 shard 를 flush 중이면 패스
             return;
         }
 
         scheduler.execute(() -> {
             try {
-                flushOnce();
+                flushShard(shard);
             } finally {
-                flushing.set(false);
+                shard.flushing.set(false);
             }
         });
     }
 
     /**
-     * 실질적인 로직이 포함되는 메서드입니다. 복사 - 전송 - 저장에 대한 내용이 포함되어 있습니다.
+     * 실질적인 로직이 포함되는 메서드입니다. 교체 - 전송 - 저장에 대한 내용이 포함되어 있습니다.
      */
-    private void flushOnce() {
-        // snapshot 을 복사하고, 크기를 검사하여 값이 없으면 종료합니다.
-        Map<PairKey, String> snapshot = snapshotAndClear();
-        if (snapshot.isEmpty()) {
-            return;
-        }
+    private void flushShard(Shard shard) {
+        // 버퍼를 교체하고, 크기를 검사하여 값이 없으면 보류된 전송만 처리합니다.
+        Map<PairKey, String> drained = shard.swap();
+        try {
+            if (drained.isEmpty()) {
+                if (shard.deferred) sendToClients(shard, Map.of());
+                return;
+            }
 
-        // roomId -> (userId -> chatId) / 적절한 데이터로 변환합니다.
-        Map<String, Map<String, String>> messages = new HashMap<>();
-        for (Map.Entry<PairKey, String> e : snapshot.entrySet()) {
-            PairKey key = e.getKey();
-            String chatId = e.getValue();
+            // roomId -> (userId -> chatId) / 적절한 데이터로 변환합니다.
+            Map<String, Map<String, String>> messages = new HashMap<>();
+            for (Map.Entry<PairKey, String> e : drained.entrySet()) {
+                PairKey key = e.getKey();
+                String chatId = e.getValue();
 
-            messages.computeIfAbsent(key.roomId(), k -> new HashMap<>()).put(String.valueOf(key.userId()), chatId);
-        }
+                messages.computeIfAbsent(key.roomId(), k -> new HashMap<>()).put(String.valueOf(key.userId()), chatId);
+            }
+
+            // 1) 브로드캐스트 및 각 유저의 채팅방 리스트 갱신
+            sendToClients(shard, messages);
+            chatRoomListView.publishReads(messages);
 
-        // 1) 브로드캐스트
-        sendToClients(messages);
+            // 2) 캐시 저장 및 DB 반영 대상으로 기록
+            userLastReadMessageRepository.saveMapById(messages);
+            chatReadCursorRepository.markDirty(messages.keySet());
 
-        // 2) 캐시 저장
-        userLastReadMessageRepository.saveMapById(messages);
+            // 3) 읽은 순번 저장
+            saveReadSequences(messages);
+        } finally {
+            shard.recycle(drained);
+        }
     }
 
     /**
-     * bucket 에 대한 복사본을 만들어 반환합니다. flush 중 도착하는 메시지의 정상적인
-     * 저장을 위해, 복사를 하고, bucket 을 지웁니다. 단, snapshot에 포함되어 있는 데이터만 지웁니다.
-     * @return 복사된 bucket 의 snapshot
+     * 읽은 메시지의 순번을 찾아 저장합니다. 순번이 없는 메시지(순번 도입 이전)는 건너뜁니다.
+     * @param messages roomId -> (userId -> chatId)
      */
-    private Map<PairKey, String> snapshotAndClear() {
+    private void saveReadSequences(Map<String, Map<String, String>> messages) {
+        Map<String, Collection<String>> chatIds = new HashMap<>();
+        messages.forEach((roomId, users) -> chatIds.put(roomId, users.values()));
+        Map<String, Long> sequences = chatMessageReader.findSequences(chatIds);
 
-        Map<PairKey, String> snapshot = new HashMap<>(buckets.asMap());
-        // 동일한 key-value 인 경우에만 지움
-        snapshot.forEach((k, v) -> buckets.asMap().remove(k, v));
-        return snapshot;
+        Map<String, Map<String, Long>> readSequences = new HashMap<>();
+        messages.forEach((roomId, users) -> users.forEach((userId, chatId) -> {
+            Long seq = sequences.get(chatId);
+            if (seq != null) readSequences.computeIfAbsent(roomId, k -> new HashMap<>()).put(userId, seq);
+        }));
+
+        chatSequenceRepository.saveReadSequences(readSequences);
     }
 
     /**
-     * 채팅 읽음 내역을 현재 접속 중인 사용자에게 전송합니다. json 방식으로 전송되며,
-     * 사용자의 아이디에 따른 채팅 아이디 리스트가 전송됩니다.
+     * 채팅 읽음 내역을 현재 접속 중인 사용자에게 전송합니다. 마지막 전송 이후 변경된 커서만 전송하며,
+     * 전송 간격이 지나지 않은 채팅방은 다음 flush 로 보류합니다.
+     * @param shard 전송 상태를 가진 shard
      * @param messages 가공된 읽음 데이터
      */
-    private void sendToClients(Map<String, Map<String, String>> messages) {
-        for (Map.Entry<String, Map<String, String>> entry : messages.entrySet()) {
+    private void sendToClients(Shard shard, Map<String, Map<String, String>> messages) {
+        messages.forEach((roomId, users) -> shard.pending.computeIfAbsent(roomId, k -> new HashMap<>()).putAll(users));
+
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<String, Map<String, String>>> it = shard.pending.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Map<String, String>> entry = it.next();
             String roomId = entry.getKey();
-            Map<String, String> userLastReads = entry.getValue();
+            RoomBroadcast last = shard.broadcasts.get(roomId, k -> new RoomBroadcast());
+            if (last.sentAt != Long.MIN_VALUE && now - last.sentAt < broadcastIntervalMillis) continue;
+            it.remove();
+
+            // 마지막 전송 이후 변경된 커서만 남깁니다.
+            Map<String, String> delta = new HashMap<>();
+            entry.getValue().forEach((userId, chatId) -> {
+                if (!chatId.equals(last.cursors.put(userId, chatId))) delta.put(userId, chatId);
+            });
+            if (delta.isEmpty()) continue;
 
+            last.sentAt = now;
             try {
-                OutgoingMessage outgoingMessage = new OutgoingMessage(
-                        null, roomId, ChatType.STAT, objectMapper.writeValueAsString(userLastReads), null);
+                OutgoingMessage outgoingMessage =
+                        new OutgoingMessage(null, roomId, ChatType.STAT, encodeCursors(delta), null);
                 template.convertAndSend(DESTINATION_PREFIX + roomId, outgoingMessage);
             } catch (JsonProcessingException e) {
                 e.printStackTrace();
             }
         }
+        shard.deferred = !shard.pending.isEmpty();
+    }
+
+    /**
+     * 커서를 json 객체 문자열로 만듭니다. 채팅 ID 는 대부분 16진수 문자열이므로 직접 이어 붙이며,
+     * 이스케이프가 필요한 값이 있는 경우에만 ObjectMapper 를 사용합니다.
+     * @param cursors userId -> chatId
+     * @return {@code {"userId":"chatId", ...}}
+     */
+    private String encodeCursors(Map<String, String> cursors) throws JsonProcessingException {
+        StringBuilder sb = new StringBuilder(cursors.size() * 32).append('{');
+        for (Map.Entry<String, String> e : cursors.entrySet()) {
+            if (!isPlain(e.getValue())) return objectMapper.writeValueAsString(cursors);
+            if (sb.length() > 1) sb.append(',');
+            sb.append('"').append(e.getKey()).append("\":\"").append(e.getValue()).append('"');
+        }
+        return sb.append('}').toString();
+    }
+
+    private static boolean isPlain(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!(c >= '0' && c <= '9') && !(c >= 'a' && c <= 'z') && !(c >= 'A' && c <= 'Z')) return false;
+        }
+        return true;
     }
 }
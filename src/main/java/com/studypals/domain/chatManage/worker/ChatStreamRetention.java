@@ -0,0 +1,160 @@
+package com.studypals.domain.chatManage.worker;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.studypals.domain.chatManage.dao.ChatMessageCacheRepository;
+import com.studypals.domain.chatManage.dto.ChatStreamUsage;
+import com.studypals.global.annotations.Worker;
+
+/**
+ * <pre><code>
+ * 채팅방 별 redis stream 캐시의 최대 길이를 주기적으로 재조정합니다. 작업 자체는 다음과 같은 과정을 따릅니다.
+ *
+ * 1. {@link ChatMessageReader} 가 채팅 내역을 조회할 때, 최신 메시지로부터 조회한 메시지 수(조회 깊이)를 기록합니다.
+ * 2. 데몬 스레드가 주기적으로 노드에 모인 조회 깊이를 redis 에 반영합니다.
+ * 3. 재조정 lease 를 얻은 노드 하나만, 캐시된 채팅방의 사용 현황을 수집하여 {@link ChatStreamRetentionPolicy} 로
+ *    채팅방 별 최대 길이와 제거할 채팅방을 결정합니다.
+ * 4. 제거할 채팅방의 캐시를 삭제하고, 최대 길이가 바뀐 채팅방의 stream 을 자릅니다.
+ * </code></pre>
+ *
+ * 아직 DB 에 저장되지 않은 메시지가 캐시와 함께 삭제되지 않도록, 수집 이후 접근이 있었거나 마지막 접근이
+ * {@code chat.cache.evict-grace-ms} 이내인 채팅방은 제거하지 않고 다음 주기로 넘깁니다.
+ *
+ * 모든 채팅방의 최대 길이 합은 {@code chat.cache.budget-entries} 를 넘지 않으며, 메시지는 추가 시점에 채팅방 별
+ * 최대 길이로 트리밍됩니다. lease 는 해제하지 않고 만료되도록 두어, 한 주기에 한 번만 재조정되도록 합니다.
+ *
+ * @author jack8
+ * @see ChatStreamRetentionPolicy
+ * @see ChatMessageCacheRepository
+ * @since 2026-01-24
+ */
+@Worker
+@Slf4j
+@RequiredArgsConstructor
+public class ChatStreamRetention {
+
+    // 재조정 lease 의 이름. 채팅방 ID 와 겹치지 않습니다.
+    private static final String LEASE_NAME = "retention";
+
+    @Value("${chat.cache.retention-interval-ms:60000}")
+    private long intervalMillis;
+
+    @Value("${chat.cache.budget-entries:100000}")
+    private long budgetEntries;
+
+    @Value("${chat.cache.evict-grace-ms:300000}")
+    private long evictGraceMillis;
+
+    private final ChatMessageCacheRepository cacheRepository;
+
+    /**
+     * 아직 redis 에 반영되지 않은 채팅방 별 조회 깊이
+     */
+    private final ConcurrentMap<String, Integer> depths = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "chat-stream-retention");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private ChatStreamRetentionPolicy policy;
+
+    @PostConstruct
+    public void startScheduler() {
+        policy = new ChatStreamRetentionPolicy(budgetEntries, cacheRepository.getMaxLen());
+        scheduler.scheduleWithFixedDelay(this::runSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * JVM 이 종료되기 전에 scheduler 를 안전하게 종료합니다.
+     */
+    @PreDestroy
+    public void stopScheduler() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * 채팅방에서 조회한 구간의 깊이를 기록합니다. 다음 주기에 redis 에 반영됩니다.
+     * @param roomId 채팅방 ID
+     * @param depth 최신 메시지로부터 조회한 메시지 수
+     */
+    public void recordRead(String roomId, int depth) {
+        if (depth <= 0) return;
+        depths.merge(roomId, depth, Math::max);
+    }
+
+    private void runSafely() {
+        try {
+            flushReads();
+            rebalance();
+        } catch (RuntimeException e) {
+            // 예외가 전파되면 이후 주기가 실행되지 않으므로, 여기서 처리합니다.
+            log.error("fail to rebalance chat stream retention", e);
+        }
+    }
+
+    /**
+     * 노드에 모인 조회 깊이를 redis 에 반영합니다. 실패한 경우 다음 주기에 다시 반영합니다.
+     */
+    void flushReads() {
+        if (depths.isEmpty()) return;
+
+        Map<String, Integer> drained = new HashMap<>();
+        for (String roomId : depths.keySet()) {
+            Integer depth = depths.remove(roomId);
+            if (depth != null) drained.put(roomId, depth);
+        }
+
+        try {
+            cacheRepository.recordReads(drained);
+        } catch (RuntimeException e) {
+            drained.forEach(this::recordRead);
+            throw e;
+        }
+    }
+
+    /**
+     * lease 를 얻은 경우, 채팅방 별 최대 길이를 재조정합니다.
+     */
+    void rebalance() {
+        String token = cacheRepository.tryLease(LEASE_NAME, Duration.ofMillis(intervalMillis * 9 / 10));
+        if (token == null) return;
+
+        List<ChatStreamUsage> usages = cacheRepository.collectUsages();
+        if (usages.isEmpty()) return;
+
+        long now = System.currentTimeMillis();
+        ChatStreamRetentionPolicy.Plan plan = policy.plan(usages, now);
+        int evicted = cacheRepository.evict(plan.evicted(), now - evictGraceMillis);
+
+        for (ChatStreamRetentionPolicy.Resize resize : plan.resized()) {
+            try {
+                cacheRepository.resize(resize.roomId(), resize.maxLen(), resize.writes());
+            } catch (RuntimeException e) {
+                log.warn("fail to resize chat stream. roomId={}", resize.roomId(), e);
+            }
+        }
+        log.debug(
+                "chat stream retention rebalanced. rooms={}, resized={}, evicted={}",
+                usages.size(),
+                plan.resized().size(),
+                evicted);
+    }
+}
@@ -0,0 +1,103 @@
+package com.studypals.domain.chatManage.worker;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import com.studypals.domain.chatManage.dto.ChatStreamUsage;
+
+/**
+ * {@link ChatStreamRetention} 이 채팅방 별 redis stream 의 최대 길이를 결정하는 정책입니다.
+ * <pre>
+ * 1. 목표 길이 : max(조회 깊이 * DEPTH_HEADROOM, 주기 당 추가된 메시지 수 * RATE_WINDOWS) 를 MIN_LEN ~ MAX_LEN 로 제한
+ * 2. 목표가 현재 길이보다 크다면 바로 늘리고, 작다면 한 주기에 절반까지만 줄입니다.
+ * 3. 마지막 접근이 최근인 채팅방부터 전체 예산(메시지 수)을 배분합니다.
+ * 4. 남은 예산이 MIN_LEN 보다 작거나, IDLE_MILLIS 동안 접근이 없는 채팅방은 캐시에서 제거합니다. (LRU)
+ * </pre>
+ * 조회 깊이는 자주 과거를 조회하는 채팅방이, 추가된 메시지 수는 메시지가 빠르게 쌓이는 채팅방이 더 긴 stream 을
+ * 유지하도록 합니다. 둘 다 없는 채팅방은 점차 MIN_LEN 까지 줄어듭니다.
+ *
+ * @author jack8
+ * @see ChatStreamRetention
+ * @since 2026-01-24
+ */
+class ChatStreamRetentionPolicy {
+
+    static final int MIN_LEN = 20;
+    // 저장소가 한 번의 범위 조회로 가져오는 최대 메시지 수와 같습니다.
+    static final int MAX_LEN = 1000;
+    static final long IDLE_MILLIS = Duration.ofDays(3).toMillis();
+
+    // 조회 깊이에 더해 여유를 두는 비율
+    private static final double DEPTH_HEADROOM = 1.25;
+    // 추가된 메시지를 몇 주기 분량만큼 유지할지
+    private static final int RATE_WINDOWS = 5;
+
+    private final long budget;
+    private final int defaultLen;
+
+    /**
+     * @param budget 모든 채팅방의 stream 길이 합의 상한
+     * @param defaultLen 최대 길이가 정해지지 않은 채팅방의 길이
+     */
+    ChatStreamRetentionPolicy(long budget, int defaultLen) {
+        this.budget = budget;
+        this.defaultLen = defaultLen;
+    }
+
+    /**
+     * 채팅방 별 사용 현황으로 최대 길이를 변경할 채팅방과 제거할 채팅방을 결정합니다.
+     *
+     * @param usages 채팅방 별 사용 현황
+     * @param now 현재 시각 (epoch ms)
+     * @return 재조정 결과
+     */
+    Plan plan(List<ChatStreamUsage> usages, long now) {
+        List<ChatStreamUsage> byRecent = new ArrayList<>(usages);
+        byRecent.sort(Comparator.comparingLong(ChatStreamUsage::lastAccess).reversed());
+
+        List<Resize> resized = new ArrayList<>();
+        List<ChatStreamUsage> evicted = new ArrayList<>();
+        long used = 0;
+        for (ChatStreamUsage usage : byRecent) {
+            long remain = budget - used;
+            if (now - usage.lastAccess() > IDLE_MILLIS || remain < MIN_LEN) {
+                evicted.add(usage);
+                continue;
+            }
+
+            int next = (int) Math.min(nextLen(usage), remain);
+            used += next;
+            if (usage.maxLen() == null || usage.maxLen() != next || usage.writes() > 0) {
+                resized.add(new Resize(usage.roomId(), next, usage.writes()));
+            }
+        }
+        return new Plan(resized, evicted);
+    }
+
+    /**
+     * 예산을 고려하지 않은 채팅방의 다음 최대 길이를 계산합니다.
+     */
+    int nextLen(ChatStreamUsage usage) {
+        int current = usage.maxLen() == null ? defaultLen : usage.maxLen();
+        long target = Math.max((long) Math.ceil(usage.depth() * DEPTH_HEADROOM), usage.writes() * RATE_WINDOWS);
+        target = Math.max(MIN_LEN, Math.min(MAX_LEN, target));
+
+        if (target >= current) return (int) target;
+        return (int) Math.max(target, current / 2);
+    }
+
+    /**
+     * @param resized 최대 길이를 변경할 채팅방
+     * @param evicted 캐시에서 제거할 채팅방의 사용 현황
+     */
+    record Plan(List<Resize> resized, List<ChatStreamUsage> evicted) {}
+
+    /**
+     * @param roomId 채팅방 ID
+     * @param maxLen 변경할 최대 길이
+     * @param writes 사용 현황 수집 시 확인한 추가 메시지 수
+     */
+    record Resize(String roomId, int maxLen, long writes) {}
+}
@@ -0,0 +1,175 @@
+package com.studypals.domain.chatManage.worker;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.studypals.domain.chatManage.dao.ChatMessageCacheRepository;
+import com.studypals.domain.chatManage.dao.ChatMessageCacheRepository.SaveResult;
+import com.studypals.domain.chatManage.entity.ChatMessage;
+import com.studypals.domain.chatManage.entity.ChatMessageIds;
+import com.studypals.global.annotations.Worker;
+
+/**
+ * <pre><code>
+ * 채팅 메시지를 전송 시점에 redis stream 캐시에 기록합니다(write-through). mongo 저장은 계속 비동기로 수행됩니다.
+ * 작업 자체는 다음과 같은 과정을 따릅니다.
+ *
+ * 1. 메시지가 전송되면, 대기열({@code pending}) 에 적재하고 데몬 스레드에 flush 를 요청합니다.
+ * 2. 데몬 스레드는 대기열을 비우고, 메시지 ID 순으로 정렬하여 채팅방 단위로 한 번에 XADD 합니다.
+ * 3. 더 작은 ID 여서 추가되지 않은 메시지가 있는 채팅방은, 해당 채팅방의 메시지를 병합({@code merge}) 으로 다시 추가합니다.
+ * 4. redis 오류로 저장하지 못한 경우에만, 해당 채팅방의 캐시를 비워 이후 조회가 DB 에서 다시 채우도록 합니다.
+ * </code></pre>
+ *
+ * stream 의 엔트리 ID 는 증가하는 순서로만 추가할 수 있습니다. 정렬은 한 노드의 배치 안에서만 이루어지므로, 여러 노드가
+ * 같은 채팅방에 거의 동시에 전송한 경우 더 작은 ID 가 늦게 도착하여 추가되지 않을 수 있습니다. 이는 정상적인 경합이므로
+ * 캐시를 비우지 않고, ID 순서와 무관하게 엔트리를 끼워 넣는 병합 스크립트로 다시 추가하여 구멍을 남기지 않습니다.
+ * <br>
+ * {@code chat.cache.write-mode=through} 인 경우에만 전송 시점에 기록하며, 그 외에는 {@link ReactiveChatSaveWorker} 가
+ * mongo 저장 이후 {@link #write(List)} 로 캐시를 채웁니다.
+ *
+ * @author jack8
+ * @see ChatMessageCacheRepository
+ * @see ReactiveChatSaveWorker
+ * @since 2026-01-18
+ */
+@Worker
+@Slf4j
+@RequiredArgsConstructor
+public class ChatStreamWriter {
+
+    @Value("${chat.cache.write-mode:through}")
+    private String writeMode;
+
+    private final ChatMessageCacheRepository cacheRepository;
+
+    // 현재 flush 가 요청되었는지에 대한 여부
+    private final AtomicBoolean flushing = new AtomicBoolean(false);
+
+    /**
+     * stream 에 기록되기를 기다리는 메시지
+     */
+    private final Queue<ChatMessage> pending = new ConcurrentLinkedQueue<>();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "chat-stream-writer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public boolean isWriteThrough() {
+        return "through".equalsIgnoreCase(writeMode);
+    }
+
+    /**
+     * JVM 이 종료되기 전에 executor 를 안전하게 종료합니다.
+     */
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+
+    /**
+     * 메시지를 redis stream 에 기록하도록 요청합니다. write-through 모드가 아니라면 무시합니다.
+     * @param message 전송된 채팅 메시지
+     */
+    public void append(ChatMessage message) {
+        if (!isWriteThrough()) return;
+
+        pending.offer(message);
+        triggerFlushAsync();
+    }
+
+    /**
+     * 데몬 스레드의 flush 작업을 유발합니다. 이미 요청된 flush 가 있다면, 해당 flush 가 이 메시지도 처리합니다.
+     */
+    private void triggerFlushAsync() {
+        if (!flushing.compareAndSet(false, true)) return;
+
+        executor.execute(() -> {
+            try {
+                flushOnce();
+            } finally {
+                flushing.set(false);
+            }
+            // flag 를 내리는 사이에 들어온 메시지를 놓치지 않도록 합니다.
+            if (!pending.isEmpty()) triggerFlushAsync();
+        });
+    }
+
+    /**
+     * 대기열의 메시지를 ID 순으로 정렬하여 채팅방 단위로 저장합니다.
+     */
+    private void flushOnce() {
+        List<ChatMessage> batch = new ArrayList<>();
+        ChatMessage message;
+        while ((message = pending.poll()) != null) {
+            batch.add(message);
+        }
+        if (batch.isEmpty()) return;
+
+        batch.sort((a, b) -> ChatMessageIds.compare(a.getId(), b.getId()));
+        write(batch);
+    }
+
+    /**
+     * 메시지를 stream 에 저장합니다. 추가되지 않은 메시지는 병합으로 다시 추가하고, redis 오류로 저장하지 못한 채팅방의
+     * 캐시는 비웁니다.
+     * @param batch 저장할 메시지 (ID 오름차순)
+     */
+    void write(List<ChatMessage> batch) {
+        SaveResult result;
+        try {
+            result = cacheRepository.saveAll(batch);
+        } catch (RuntimeException e) {
+            Set<String> rooms = new HashSet<>();
+            batch.forEach(each -> rooms.add(each.getRoomId()));
+            log.warn("fail to write chat stream, invalidate rooms. rooms={}", rooms, e);
+            rooms.forEach(this::invalidate);
+            return;
+        }
+
+        if (!result.rejected().isEmpty()) mergeRejected(batch, result.rejected());
+        result.failed().forEach((roomId, e) -> {
+            log.warn("fail to write chat stream, invalidate room. roomId={}", roomId, e);
+            invalidate(roomId);
+        });
+    }
+
+    /**
+     * 더 작은 ID 로 인해 추가되지 않은 메시지가 있는 채팅방에 대해, 배치의 메시지를 병합합니다.
+     * 이미 stream 에 있는 메시지는 병합 스크립트가 건너뜁니다.
+     */
+    private void mergeRejected(List<ChatMessage> batch, Set<String> rooms) {
+        Map<String, List<ChatMessage>> byRoom = new LinkedHashMap<>();
+        for (ChatMessage message : batch) {
+            if (rooms.contains(message.getRoomId())) {
+                byRoom.computeIfAbsent(message.getRoomId(), k -> new ArrayList<>()).add(message);
+            }
+        }
+
+        byRoom.forEach((roomId, messages) -> {
+            try {
+                cacheRepository.merge(roomId, messages);
+            } catch (RuntimeException e) {
+                log.warn("fail to merge rejected chat stream entries, invalidate room. roomId={}", roomId, e);
+                invalidate(roomId);
+            }
+        });
+    }
+
+    private void invalidate(String roomId) {
+        try {
+            cacheRepository.clear(roomId);
+        } catch (RuntimeException e) {
+            log.error("fail to invalidate chat stream. roomId={}", roomId, e);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.studypals.domain.chatManage.worker;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.studypals.domain.chatManage.dao.ChatMessageReactiveRepository;
+import com.studypals.domain.chatManage.dao.ChatReactiveCacheRepository;
+import com.studypals.domain.chatManage.entity.ChatMessage;
+import com.studypals.global.annotations.Worker;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 채팅방 진입 시의 채팅 내역과 캐시된 읽음 커서를 논블로킹 방식으로 조회합니다. 채팅 내역은
+ * {@link ChatMessageReader#getChatLog} 와 같습니다.
+ * <p>
+ * 동작 순서는 다음과 같습니다.<br>
+ * - 로컬 ring buffer({@link ChatNearCache}) 로 응답할 수 있다면 그대로 반환합니다.<br>
+ * - reactive redis 로 캐시에서 기준 메시지 ID 이후의 메시지를 조회합니다.<br>
+ * - 캐시가 비어 있다면 reactive mongo 에서 최신 구간을 조회하고, 캐시 재구성은 별도 스케줄러에 맡깁니다.<br>
+ * - 기준 ID 가 캐시보다 더 과거라면 부족한 구간만 reactive mongo 에서 조회해 이어 붙입니다.<br>
+ * <p>
+ * 캐시 재구성은 블로킹 연산인 {@link ChatCacheRebuilder#repopulate} 를 사용하므로, 응답을 기다리지 않고
+ * {@code boundedElastic} 스케줄러에서 수행합니다. 재구성 lease 를 얻지 못하면 생략되므로, 동시에 진입하는 요청이
+ * 많더라도 캐시는 한 번만 다시 채워집니다.
+ *
+ * <p><b>빈 관리:</b><br>
+ * - ChatReactiveCacheRepository : 캐시된 메시지와 채팅방 별 캐시 최대 길이를 논블로킹으로 조회하는 레포지토리<br>
+ * - ChatMessageReactiveRepository : 저장된 메시지를 논블로킹으로 조회하는 레포지토리<br>
+ * - ChatCacheRebuilder, ChatStreamRetention, ChatNearCache<br>
+ *
+ * <p><b>외부 모듈:</b><br>
+ * reactive redis, reactive mongo
+ *
+ * @author jack8
+ * @see ChatMessageReader
+ * @since 2026-01-28
+ */
+@Worker
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveChatLogReader {
+
+    private final ChatReactiveCacheRepository reactiveCacheRepository;
+    private final ChatMessageReactiveRepository messageReactiveRepository;
+    private final ChatCacheRebuilder cacheRebuilder;
+    private final ChatStreamRetention streamRetention;
+    private final ChatNearCache nearCache;
+
+    /**
+     * 채팅방의 기준 메시지 ID를 포함하여 이후 메시지를 조회합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param chatId 기준 메시지 ID
+     * @return 기준 메시지 이후의 메시지 목록 (ID 내림차순)
+     */
+    public Mono<List<ChatMessage>> getChatLog(String roomId, String chatId) {
+        return readChatLog(roomId, chatId)
+                .doOnNext(result -> streamRetention.recordRead(roomId, result.size()));
+    }
+
+    /**
+     * 채팅방의 캐시된 읽음 커서를 조회합니다. {@link ChatRoomReader#getCachedCursor} 의 논블로킹 버전입니다.
+     *
+     * @param roomId 채팅방 ID
+     * @return userId -> 마지막으로 읽은 채팅 ID
+     */
+    public Mono<Map<Long, String>> getCachedCursor(String roomId) {
+        return reactiveCacheRepository.findCursors(roomId);
+    }
+
+    private Mono<List<ChatMessage>> readChatLog(String roomId, String chatId) {
+        List<ChatMessage> local = nearCache.peek(roomId, chatId);
+        if (local != null) return Mono.just(local);
+
+        // 캐시 조회와 채팅방 별 최대 길이 조회는 서로 독립적이므로 함께 요청합니다.
+        return Mono.zip(reactiveCacheRepository.fetchFromId(roomId, chatId), reactiveCacheRepository.findMaxLen(roomId))
+                .flatMap(tuple -> readChatLog(roomId, chatId, tuple.getT1(), tuple.getT2()));
+    }
+
+    private Mono<List<ChatMessage>> readChatLog(String roomId, String chatId, List<ChatMessage> cached, int maxLen) {
+        if (cached.isEmpty()) return readFromStore(roomId, chatId, maxLen);
+
+        // 기준 ID가 캐시 범위 안에 있다면 캐시 데이터만으로 충분
+        String oldestId = cached.get(cached.size() - 1).getId();
+        if (chatId.compareTo(oldestId) >= 0) return Mono.just(cached);
+
+        return messageReactiveRepository
+                .findRange(roomId, chatId, oldestId)
+                .collectList()
+                .map(saved -> {
+                    List<ChatMessage> merged = merge(cached, saved);
+                    // 캐시가 가득 차지 않았는데 더 과거의 메시지가 있다면, 캐시를 최신 구간으로 채웁니다.
+                    if (!saved.isEmpty() && cached.size() < maxLen) {
+                        repopulate(roomId, merged.subList(0, Math.min(maxLen, merged.size())));
+                    }
+                    return merged;
+                });
+    }
+
+    /**
+     * 캐시가 비어 있는 경우, 저장소에서 최신 구간을 조회하고 캐시 재구성을 요청합니다.
+     */
+    private Mono<List<ChatMessage>> readFromStore(String roomId, String chatId, int maxLen) {
+        return messageReactiveRepository
+                .findLatest(roomId, maxLen)
+                .collectList()
+                .flatMap(recent -> {
+                    if (recent.isEmpty()) return Mono.just(List.<ChatMessage>of());
+                    repopulate(roomId, recent);
+
+                    String oldestId = recent.get(recent.size() - 1).getId();
+                    if (chatId.compareTo(oldestId) >= 0) {
+                        return Mono.just(recent.stream()
+                                .filter(m -> m.getId().compareTo(chatId) >= 0)
+                                .toList());
+                    }
+
+                    // 최신 구간이 가득 차지 않았다면 더 과거의 메시지는 없음
+                    if (recent.size() < maxLen) return Mono.just(recent);
+
+                    return messageReactiveRepository
+                            .findRange(roomId, chatId, oldestId)
+                            .collectList()
+                            .map(saved -> merge(recent, saved));
+                });
+    }
+
+    private void repopulate(String roomId, List<ChatMessage> newestFirst) {
+        List<ChatMessage> ascending = new ArrayList<>(newestFirst);
+        Collections.reverse(ascending);
+
+        Mono.fromRunnable(() -> cacheRebuilder.repopulate(roomId, ascending))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(null, e -> log.warn("fail to repopulate chat cache. roomId={}", roomId, e));
+    }
+
+    private static List<ChatMessage> merge(List<ChatMessage> newer, List<ChatMessage> older) {
+        List<ChatMessage> merged = new ArrayList<>(newer.size() + older.size());
+        merged.addAll(newer);
+        merged.addAll(older);
+        return merged;
+    }
+}
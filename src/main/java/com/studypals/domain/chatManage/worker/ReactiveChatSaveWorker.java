@@ -1,43 +1,77 @@
 package com.studypals.domain.chatManage.worker;
 
 import java.time.Duration;
-import java.util.HashMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
-import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import com.studypals.domain.chatManage.dao.ChatMessageCacheRepository;
 import com.studypals.domain.chatManage.dao.ChatMessageReactiveRepository;
 import com.studypals.domain.chatManage.entity.ChatMessage;
+import com.studypals.domain.chatManage.entity.ChatMessageIds;
 import com.studypals.global.annotations.Worker;
 
-import reactor.core.publisher.BufferOverflowStrategy;
-import reactor.core.publisher.Flux;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
 /**
  * {@link ChatMessagePipeline} 에서 flux 파이프라인을 받아, 채팅 메시지를 mongoDB에
  * 비동기적으로 저장합니다. 가장 최신의 메시지에 대해 redis에 갱신합니다.
  * <p>
- * 하나의 워커 스레드가 daemon으로 등록되어 JVM 백그라운드에서 해당 작업을 지속하여 수행합니다. user thread 와 다르게,
- * jvm이 종료 시 강제로 스레드 역시 종료되며, interruptException 과 같은 의도적인 중지를 제외하고는, 장애를 복구하고
- * 작업을 지속합니다.
+ * 배치 구성은 하나의 daemon 스레드({@code chat-save-flusher})에서 수행합니다. 스트림으로 전달된 메시지는 대기열에
+ * 쌓이며, 대기열이 배치 크기만큼 차거나 flush 주기가 지나면 배치로 묶어 저장합니다. 배치 크기와 flush 주기는
+ * {@link ChatSaveBatchPolicy} 가 저장 지연 시간과 대기열 길이를 보고 조정합니다.
  * <br>
- * 상기 명시된 chatMessagePipline 으로부터 Flux 스트림을 받습니다. 스트림에 512개의 데이터가 쌓이거나(생산자가 구독 없이
- * 데이터를 생산했거나), 0.5초가 지나면 해당 스트림의 데이터를 subscribe 하여 처리합니다.
+ * 배치는 unordered bulk write(insertMany) 로 reactive mongo DB 에 저장합니다. write-behind 모드에서는 저장된 배치를
+ * acknowledge 한 뒤, {@code boundedElastic} 스레드에서 {@link ChatStreamWriter} 를 통해 redis 캐시에 기록합니다.
+ * 캐시 기록은 저장의 재시도, dead-letter 와 분리되어 있으므로, redis 오류가 이미 저장된 메시지를 다시 저장하거나
+ * dead-letter 로 기록하게 만들지 않습니다. write-through 모드에서는 전송 시점에 이미 캐시를 채웠으므로 기록하지 않습니다.
+ * 동시에 저장 중인 배치는 최대 {@code MAX_IN_FLIGHT_BATCHES} 개로 제한되어 mongo 에 가해지는 부하를 제한합니다.
  * <br>
- * 이 경우, saveAll 을 이용해 배치 처리된 데이터를 reactive mongo DB 에 저장하고 각 채팅방 별 가장 최신의
- * 메시지를 redis에 갱신합니다.
+ * 일시적인 오류(연결 실패, 시간 초과 등)로 저장에 실패한 배치는 최대 {@code MAX_RETRIES} 번 재시도합니다.
+ * 재시도로 해결되지 않거나 재시도해도 소용없는 오류(매핑, 검증 오류 등)라면 {@link ChatDeadLetterJournal} 에 기록합니다.
+ * 저장 혹은 dead-letter 기록이 끝난 배치는 순서대로 pipeline 에 acknowledge 되어 저널의 checkpoint 가 옮겨집니다.
+ * 따라서 하나의 배치가 이후 배치의 저장과 checkpoint 를 막지 않습니다.
  * <br>
- * TODO : redis에 갱신하기 위해 가장 최신의 메시지를 추리는 방식에 대한 성능 테스트 및 개선이 필요할 수 있습니다.
+ * 아래 지표를 micrometer global registry 에 등록합니다.
+ * <pre>
+ * - chat.save.batch.size         : 현재 배치 크기
+ * - chat.save.flush.interval     : 현재 flush 주기(ms)
+ * - chat.save.queue.depth        : 저장을 기다리는 메시지 수
+ * - chat.save.in-flight.batches  : 저장 중인 배치 수
+ * - chat.save.write.latency      : 배치 저장 지연 시간
+ * - chat.save.messages           : 저장된 메시지 수
+ * - chat.save.dead-letters       : dead-letter 로 기록된 메시지 수
+ * </pre>
  * <p><b>외부 모듈:</b><br>
- * reative mongo, reactive redis, spring webflux
+ * reative mongo, spring webflux, micrometer
  *
  * @author jack8
  * @see ChatMessagePipeline
+ * @see ChatSaveBatchPolicy
  * @since 2025-07-14
  */
 @Worker
@@ -45,54 +79,213 @@ import reactor.core.publisher.Flux;
 @RequiredArgsConstructor
 public class ReactiveChatSaveWorker {
 
+    // 동시에 저장 중일 수 있는 배치의 최대 개수
+    private static final int MAX_IN_FLIGHT_BATCHES = 4;
+    // 일시적인 오류에 대한 최대 재시도 횟수
+    private static final int MAX_RETRIES = 5;
+
     private final ChatMessageReactiveRepository chatMessageReactiveRepository;
-    private final ChatMessageCacheRepository cacheRepository;
 
     private final ChatMessagePipeline chatMessagePipeline;
+    private final ChatStreamWriter chatStreamWriter;
+    private final ChatDeadLetterJournal deadLetterJournal;
+
+    private final ChatSaveBatchPolicy policy = new ChatSaveBatchPolicy();
+    private final Scheduler flusher = Schedulers.newSingle("chat-save-flusher", true);
+
+    private final Queue<ChatMessage> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Semaphore batchPermits = new Semaphore(MAX_IN_FLIGHT_BATCHES);
+
+    // 저장 요청된 순서대로의 배치. acknowledge 순서를 보장하기 위해 사용하며, 자기 자신으로 보호됩니다.
+    private final Deque<Batch> inFlight = new ArrayDeque<>();
+
+    private final Timer writeTimer = Timer.builder("chat.save.write.latency").register(Metrics.globalRegistry);
+    private final Counter savedCounter = Counter.builder("chat.save.messages").register(Metrics.globalRegistry);
+    private final Counter deadLetterCounter =
+            Counter.builder("chat.save.dead-letters").register(Metrics.globalRegistry);
 
     /**
-     * 빈에 올라가는 동시에, Flux 기반의 메시지 스트림을 정의합니다. maxBufferSize 만큼의 데이터가 쌓이거나,
-     * maxBufferTime 이 지나면 {@code saveBatchAndCacheLatest} 메서드가 호출됩니다.
+     * 저장을 요청한 배치입니다. 저장이 끝나면 {@code done} 이 표시됩니다.
+     */
+    private static final class Batch {
+        private final int size;
+        private boolean done;
+
+        private Batch(int size) {
+            this.size = size;
+        }
+    }
+
+    /**
+     * 빈에 올라가는 동시에, 메시지 스트림을 구독하고 flush 타이머를 시작합니다.
      * <pre>
-     *     - backpressure 가 존재합니다.
-     *     - 버퍼가 비어 있으면 넘어갑니다.
+     *     - backpressure 는 pipeline 의 in-flight 제한으로 처리합니다.
+     *     - 대기열이 배치 크기만큼 차면 곧바로, 그렇지 않으면 flush 주기마다 저장합니다.
+     *     - 저장이 끝난 배치는 순서대로 acknowledge 됩니다.
      * </pre>
      */
     @PostConstruct
     public void init() {
-        Flux<ChatMessage> messageStream = chatMessagePipeline.getStream();
-
-        int maxBufferSize = 512;
-        int maxBufferTime = 500;
-        messageStream
-                .onBackpressureBuffer(
-                        10_000, msg -> log.error("chat message dropeed: {}", msg), BufferOverflowStrategy.DROP_LATEST)
-                .bufferTimeout(maxBufferSize, Duration.ofMillis(maxBufferTime))
-                .filter(batch -> !batch.isEmpty())
-                .flatMap(this::saveBatchAndCacheLatest)
-                .subscribe();
+        MeterRegistry registry = Metrics.globalRegistry;
+        Gauge.builder("chat.save.batch.size", policy, ChatSaveBatchPolicy::batchSize).register(registry);
+        Gauge.builder("chat.save.flush.interval", policy, ChatSaveBatchPolicy::flushIntervalMillis)
+                .baseUnit("milliseconds")
+                .register(registry);
+        Gauge.builder("chat.save.queue.depth", pendingCount, AtomicInteger::get).register(registry);
+        Gauge.builder("chat.save.in-flight.batches", batchPermits, p -> MAX_IN_FLIGHT_BATCHES - p.availablePermits())
+                .register(registry);
+
+        chatMessagePipeline.getStream().subscribe(this::enqueue);
+        scheduleTick();
+    }
+
+    @PreDestroy
+    public void close() {
+        // 저장되지 못한 메시지는 저널에 남아 있으므로, 재시작 시 다시 저장됩니다.
+        flusher.dispose();
+    }
+
+    private void enqueue(ChatMessage message) {
+        pending.offer(message);
+        if (pendingCount.incrementAndGet() >= policy.batchSize()) {
+            requestFlush();
+        }
+    }
+
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            flusher.schedule(() -> flush(false));
+        }
+    }
+
+    private void scheduleTick() {
+        flusher.schedule(
+                () -> {
+                    flush(true);
+                    scheduleTick();
+                },
+                policy.flushIntervalMillis(),
+                TimeUnit.MILLISECONDS);
     }
 
     /**
-     * 비동기적 dao 인 {@code MongoReactiveRepository} 인 {@link ChatMessageReactiveRepository} 에 대해,
-     * 벌크 데이터 저장을 시도합니다.
-     * @param messages 저장할 {@code ChatMessage} 에 대한 리스트
-     * @return 저장된 ChatMessage 들에 대한 Flux 파이프라인
+     * 대기열의 메시지를 배치로 묶어 저장을 요청합니다. flusher 스레드에서만 호출됩니다.
+     * @param force 배치 크기에 못 미치더라도 저장할지 여부(flush 주기 도달)
      */
-    private Flux<ChatMessage> saveBatchAndCacheLatest(List<ChatMessage> messages) {
-        // saveAll 시 저장된 데이터에 대해, 이후 처리를 수행합니다. List 로 모읍니다.
-        return chatMessageReactiveRepository.saveAll(messages).collectList().flatMapMany(savedMessages -> {
-            Map<String, ChatMessage> latestByRoom = new HashMap<>();
-
-            // 채팅방에 대해 - 가장 마지막 메시지를 저장합니다. 모든 메시지에 대해, 크기 비교를 통해 더 큰 값이(최신값) 들어옵니다.
-            for (ChatMessage msg : savedMessages) {
-                latestByRoom.merge(msg.getRoomId(), msg, (a, b) -> a.getId().compareTo(b.getId()) < 0 ? b : a);
+    private void flush(boolean force) {
+        flushRequested.set(false);
+
+        while (pendingCount.get() > 0) {
+            int batchSize = policy.batchSize();
+            if (!force && pendingCount.get() < batchSize) return;
+            // 저장 중인 배치가 가득 찼다면, 배치 저장이 끝날 때 다시 요청됩니다.
+            if (!batchPermits.tryAcquire()) return;
+
+            List<ChatMessage> messages = new ArrayList<>(Math.min(batchSize, pendingCount.get()));
+            ChatMessage message;
+            while (messages.size() < batchSize && (message = pending.poll()) != null) {
+                messages.add(message);
+            }
+            pendingCount.addAndGet(-messages.size());
+
+            Batch batch = new Batch(messages.size());
+            synchronized (inFlight) {
+                inFlight.addLast(batch);
             }
-            cacheRepository.saveAll(savedMessages); // 캐시에 해당 데이터를 전부 저장합니다.
+            saveOrDeadLetter(messages).subscribe(saved -> {
+                complete(batch);
+                if (saved) cacheBehind(messages);
+            });
+        }
+    }
+
+    /**
+     * 배치 저장이 끝났음을 표시하고, 앞선 배치가 모두 끝난 배치까지 순서대로 acknowledge 합니다.
+     */
+    private void complete(Batch batch) {
+        batchPermits.release();
+        synchronized (inFlight) {
+            batch.done = true;
+            while (!inFlight.isEmpty() && inFlight.peekFirst().done) {
+                chatMessagePipeline.acknowledge(inFlight.pollFirst().size);
+            }
+        }
+        requestFlush();
+    }
+
+    /**
+     * 배치를 저장합니다. 일시적인 오류라면 최대 {@code MAX_RETRIES} 번 재시도하고, 그래도 실패하거나 재시도할 수 없는
+     * 오류라면 dead-letter 로 기록합니다. 어느 쪽이든 배치는 처리된 것으로 보고, 전달된 순서대로 pipeline 에
+     * acknowledge 됩니다.
+     * @param messages 저장할 {@code ChatMessage} 에 대한 리스트
+     * @return 저장되었다면 true, dead-letter 로 기록되었다면 false
+     */
+    private Mono<Boolean> saveOrDeadLetter(List<ChatMessage> messages) {
+        return Mono.defer(() -> {
+                    long start = System.nanoTime();
+                    return chatMessageReactiveRepository
+                            .insertAllUnordered(messages)
+                            .then(Mono.fromRunnable(() -> record(messages.size(), System.nanoTime() - start)))
+                            .doOnError(e -> policy.onWriteFailed());
+                })
+                .thenReturn(true)
+                .retryWhen(Retry.backoff(MAX_RETRIES, Duration.ofMillis(200))
+                        .maxBackoff(Duration.ofSeconds(10))
+                        .filter(ReactiveChatSaveWorker::isTransient)
+                        .doBeforeRetry(signal -> log.warn(
+                                "fail to save chat messages, retry. size={}", messages.size(), signal.failure())))
+                .onErrorResume(e -> deadLetter(messages, Exceptions.isRetryExhausted(e) ? e.getCause() : e));
+    }
+
+    /**
+     * 저장하지 못한 배치를 dead-letter 로 기록합니다. 기록마저 실패한다면 메시지 ID 를 로그로 남기고 넘어갑니다.
+     * @param messages 저장하지 못한 메시지 목록
+     * @param cause 저장에 실패한 원인
+     * @return 항상 false
+     */
+    private Mono<Boolean> deadLetter(List<ChatMessage> messages, Throwable cause) {
+        log.error("fail to save chat messages, move to dead letter. size={}", messages.size(), cause);
+        return Mono.fromCallable(() -> {
+                    deadLetterJournal.write(messages, cause);
+                    deadLetterCounter.increment(messages.size());
+                    return false;
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .retryWhen(Retry.backoff(MAX_RETRIES, Duration.ofMillis(200)))
+                .onErrorResume(e -> {
+                    List<String> ids = messages.stream().map(ChatMessage::getId).toList();
+                    log.error("fail to write chat dead letter, drop messages. ids={}", ids, e);
+                    return Mono.just(false);
+                });
+    }
+
+    /**
+     * 재시도로 해결될 수 있는 오류인지 확인합니다.
+     */
+    private static boolean isTransient(Throwable e) {
+        return e instanceof TransientDataAccessException || e instanceof DataAccessResourceFailureException;
+    }
+
+    private void record(int size, long elapsedNanos) {
+        writeTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        savedCounter.increment(size);
+        policy.onWriteCompleted(TimeUnit.NANOSECONDS.toMillis(elapsedNanos), pendingCount.get());
+    }
+
+    /**
+     * write-behind 모드라면, 저장된 배치를 {@code boundedElastic} 스레드에서 redis 캐시에 기록합니다.
+     * 기록 실패는 {@link ChatStreamWriter} 가 처리하며, 배치의 저장 결과에 영향을 주지 않습니다.
+     * @param messages 저장된 메시지 목록
+     */
+    private void cacheBehind(List<ChatMessage> messages) {
+        if (chatStreamWriter.isWriteThrough()) return;
 
-            // 이후 해당 값은 단순한 key-value 쌍에 대해 redis 에 저장합니다.
-            // todo : 해당하는 redis 도 적절히 변경 필요할듯 , 혹은, cache 에서 가져오면 될 것 같은데?
-            return Flux.fromIterable(latestByRoom.entrySet()).thenMany(Flux.fromIterable(savedMessages));
-        });
+        List<ChatMessage> sorted = new ArrayList<>(messages);
+        sorted.sort((a, b) -> ChatMessageIds.compare(a.getId(), b.getId()));
+        Mono.fromRunnable(() -> chatStreamWriter.write(sorted))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(null, e -> log.warn("fail to write chat stream behind. size={}", sorted.size(), e));
     }
 }
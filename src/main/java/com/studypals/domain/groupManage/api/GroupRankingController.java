@@ -1,5 +1,6 @@
 package com.studypals.domain.groupManage.api;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.http.ResponseEntity;
@@ -7,11 +8,13 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import lombok.RequiredArgsConstructor;
 
 import com.studypals.domain.groupManage.dto.GroupMemberRankingDto;
+import com.studypals.domain.groupManage.dto.GroupRankingPageRes;
 import com.studypals.domain.groupManage.entity.GroupRankingPeriod;
 import com.studypals.domain.groupManage.service.GroupRankingService;
 import com.studypals.global.responses.CommonResponse;
@@ -22,6 +25,8 @@ import com.studypals.global.responses.ResponseCode;
  * 그룹 랭킹 조회 엔드포인트입니다.
  * <pre>
  *     - GET /groups/rank/{groupId}/{period} : 특정 그룹에 대한 일간/주간/월간 랭킹을 조회합니다. (최대 유저는 99명)
+ *     - GET /groups/rank/{groupId}/{period}/top : 순위가 계산된 랭킹을 페이지 단위로 조회합니다. (본인 순위 포함)
+ *     - GET /groups/rank/{groupId}/{period}/history : 날짜가 속한 지난 기간의 랭킹을 페이지 단위로 조회합니다.
  * </pre>
  *
  * @author sleepyhoon
@@ -39,4 +44,28 @@ public class GroupRankingController {
         List<GroupMemberRankingDto> response = groupRankingService.getGroupRanking(userId, groupId, period);
         return ResponseEntity.ok(CommonResponse.success(ResponseCode.GROUP_RANKING, response));
     }
+
+    @GetMapping("/rank/{groupId}/{period}/top")
+    public ResponseEntity<Response<GroupRankingPageRes>> getGroupRankingPage(
+            @PathVariable Long groupId,
+            @PathVariable GroupRankingPeriod period,
+            @RequestParam(required = false, name = "page") Integer page,
+            @RequestParam(required = false, name = "size") Integer size,
+            @AuthenticationPrincipal Long userId) {
+        GroupRankingPageRes response = groupRankingService.getGroupRankingPage(userId, groupId, period, page, size);
+        return ResponseEntity.ok(CommonResponse.success(ResponseCode.GROUP_RANKING, response));
+    }
+
+    @GetMapping("/rank/{groupId}/{period}/history")
+    public ResponseEntity<Response<GroupRankingPageRes>> getGroupRankingHistory(
+            @PathVariable Long groupId,
+            @PathVariable GroupRankingPeriod period,
+            @RequestParam(name = "date") LocalDate date,
+            @RequestParam(required = false, name = "page") Integer page,
+            @RequestParam(required = false, name = "size") Integer size,
+            @AuthenticationPrincipal Long userId) {
+        GroupRankingPageRes response =
+                groupRankingService.getGroupRankingHistory(userId, groupId, period, date, page, size);
+        return ResponseEntity.ok(CommonResponse.success(ResponseCode.GROUP_RANKING, response));
+    }
 }
@@ -1,5 +1,6 @@
 package com.studypals.domain.groupManage.dao;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -51,4 +52,16 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, Long>,
     WHERE gm.group.id = :groupId
     """)
     List<GroupMember> findGroupMembers(@Param("groupId") Long groupId);
+
+    @Query("""
+    SELECT gm
+    FROM GroupMember gm
+    JOIN FETCH gm.member
+    WHERE gm.group.id = :groupId AND gm.member.id IN :memberIds
+    """)
+    List<GroupMember> findGroupMembersIn(
+            @Param("groupId") Long groupId, @Param("memberIds") Collection<Long> memberIds);
+
+    @Query("SELECT gm.group.id FROM GroupMember gm WHERE gm.member.id = :memberId")
+    List<Long> findGroupIdsByMemberId(@Param("memberId") Long memberId);
 }
@@ -0,0 +1,55 @@
+package com.studypals.domain.groupManage.dao;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+import com.studypals.domain.groupManage.dao.StudyTimeRankingRepository.RankedScore;
+
+/**
+ * {@code study_time_ranking_archive} 테이블에 대한 대량 저장을 JDBC batch 로 수행합니다.
+ * <p>
+ * 같은 그룹, 기간, 멤버의 행이 이미 있다면 덮어씁니다. 따라서 보관 작업이 중간에 실패하여 다시 실행되더라도
+ * 행이 중복되지 않습니다.
+ *
+ * @author sleepyhoon
+ * @see com.studypals.domain.groupManage.entity.StudyTimeRankingArchive StudyTimeRankingArchive
+ * @since 2026-01-29
+ */
+@Repository
+@RequiredArgsConstructor
+public class StudyTimeRankingArchiveJdbcRepository {
+
+    // 한 번의 batch 로 전송할 최대 행 수
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPSERT_RANKING =
+            """
+            INSERT INTO study_time_ranking_archive (group_id, period_key, member_id, ranking, study_time)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE ranking = VALUES(ranking), study_time = VALUES(study_time)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 한 그룹의 한 기간 랭킹을 일괄 저장합니다. {@code BATCH_SIZE} 단위로 나누어 전송합니다.
+     * @param groupId 그룹 ID
+     * @param periodKey 랭킹 기간 (예: daily:20251225)
+     * @param scores 순위가 매겨진 랭킹 항목
+     */
+    public void upsertAll(Long groupId, String periodKey, List<RankedScore> scores) {
+        if (scores.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(UPSERT_RANKING, scores, BATCH_SIZE, (ps, score) -> {
+            ps.setLong(1, groupId);
+            ps.setString(2, periodKey);
+            ps.setLong(3, score.userId());
+            ps.setLong(4, score.rank());
+            ps.setLong(5, score.seconds());
+        });
+    }
+}
@@ -0,0 +1,38 @@
+package com.studypals.domain.groupManage.dao;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.studypals.domain.groupManage.entity.StudyTimeRankingArchive;
+
+/**
+ * {@link StudyTimeRankingArchive} 에 대한 dao 클래스입니다.
+ * <p>
+ * 기간이 끝난 그룹 랭킹을 조회합니다. 저장은 {@link StudyTimeRankingArchiveJdbcRepository} 를 사용합니다.
+ *
+ * <p><b>상속 정보:</b><br>
+ * JpaRepository 의 구현체입니다.
+ *
+ * @author sleepyhoon
+ * @see StudyTimeRankingArchive
+ * @since 2026-01-29
+ */
+@Repository
+public interface StudyTimeRankingArchiveRepository extends JpaRepository<StudyTimeRankingArchive, Long> {
+
+    List<StudyTimeRankingArchive> findByGroupIdAndPeriodKeyOrderByRankingAscMemberIdAsc(
+            Long groupId, String periodKey, Pageable pageable);
+
+    Optional<StudyTimeRankingArchive> findByGroupIdAndPeriodKeyAndMemberId(
+            Long groupId, String periodKey, Long memberId);
+
+    boolean existsByGroupIdAndPeriodKey(Long groupId, String periodKey);
+
+    long countByGroupIdAndPeriodKey(Long groupId, String periodKey);
+
+    long countByGroupIdAndPeriodKeyAndStudyTimeGreaterThan(Long groupId, String periodKey, Long studyTime);
+}
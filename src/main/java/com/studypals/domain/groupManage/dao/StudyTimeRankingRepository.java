@@ -0,0 +1,124 @@
+package com.studypals.domain.groupManage.dao;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.studypals.domain.groupManage.entity.GroupRankingPeriod;
+
+/**
+ * 일간/주간/월간 유저 공부 시간 랭킹을 저장·조회하기 위한 인터페이스입니다.
+ * <p>
+ * 기간 별로 하나의 랭킹(유저 ID -> 누적 공부 시간(초))을 유지하며, 공부 시간은 읽지 않고 원자적으로 증가시킵니다.
+ * 따라서 같은 유저에 대한 동시 갱신이 서로를 덮어쓰지 않습니다.
+ * <br>
+ * 그룹 랭킹 페이지 조회를 위해, 유저가 속한 그룹 별 랭킹도 같은 방식으로 함께 유지합니다.
+ * <br>
+ * 기간이 끝난 랭킹은 보관 작업이 저장된 랭킹 목록을 조회하여 옮긴 뒤 삭제합니다.
+ *
+ * @author sleepyhoon
+ * @see StudyTimeRankingRepositoryImpl
+ * @since 2026-01-28
+ */
+public interface StudyTimeRankingRepository {
+
+    /**
+     * 랭킹에 더할 공부 시간입니다.
+     * @param period 랭킹 기간
+     * @param date 공부한 날짜(business date)
+     * @param userId 유저 ID
+     * @param seconds 더할 공부 시간(초)
+     * @param groupIds 함께 갱신할 그룹 랭킹의 그룹 ID 목록
+     */
+    record Increment(GroupRankingPeriod period, LocalDate date, Long userId, long seconds, List<Long> groupIds) {}
+
+    /**
+     * 순위가 매겨진 랭킹 항목입니다.
+     * @param userId 유저 ID
+     * @param rank 순위. 자신보다 공부 시간이 긴 유저 수 + 1 이므로, 공부 시간이 같다면 순위도 같습니다.
+     * @param seconds 누적 공부 시간(초)
+     */
+    record RankedScore(Long userId, long rank, long seconds) {}
+
+    /**
+     * 그룹 랭킹의 한 페이지입니다.
+     * @param total 랭킹에 기록된 유저 수
+     * @param entries 페이지에 포함된 항목 (순위 오름차순)
+     * @param mine 조회한 유저의 항목. 기록이 없다면 공부 시간 0 기준의 순위
+     */
+    record RankingPage(long total, List<RankedScore> entries, RankedScore mine) {}
+
+    /**
+     * 저장된 하나의 랭킹을 가리킵니다.
+     * @param groupId 그룹 ID. 전체 유저 랭킹이라면 null
+     * @param period 랭킹 기간
+     * @param periodKey 기간을 나타내는 키 (예: daily:20251225)
+     */
+    record RankingKey(Long groupId, GroupRankingPeriod period, String periodKey) {}
+
+    /**
+     * 공부 시간을 한 번의 파이프라인으로 모두 더하고, 갱신된 기간의 만료 시간을 다시 설정합니다.
+     * @param increments 더할 공부 시간 목록
+     */
+    void incrementAll(List<Increment> increments);
+
+    /**
+     * 주어진 유저들의 기간 내 누적 공부 시간을 조회합니다.
+     * @param period 랭킹 기간
+     * @param date 기간에 포함되는 날짜
+     * @param userIds 조회할 유저 ID 목록
+     * @return 유저 ID -> 누적 공부 시간(초). 기록이 없는 유저는 포함되지 않습니다.
+     */
+    Map<Long, Long> findScores(GroupRankingPeriod period, LocalDate date, Collection<Long> userIds);
+
+    /**
+     * 그룹 랭킹의 한 페이지와, 조회한 유저의 순위를 한 번의 요청으로 조회합니다.
+     * 그룹의 멤버 수와 관계없이 페이지 크기에 비례하는 비용으로 조회됩니다.
+     * @param period 랭킹 기간
+     * @param date 기간에 포함되는 날짜
+     * @param groupId 그룹 ID
+     * @param userId 조회하는 유저 ID
+     * @param offset 페이지 시작 위치 (0 부터)
+     * @param count 페이지 크기
+     * @return 랭킹 페이지
+     */
+    RankingPage findPage(GroupRankingPeriod period, LocalDate date, Long groupId, Long userId, long offset, int count);
+
+    /**
+     * 그룹에 새로 참여한 유저의 기간 별 누적 공부 시간을 그룹 랭킹에 옮깁니다.
+     * @param groupId 그룹 ID
+     * @param userId 참여한 유저 ID
+     * @param date 기준 날짜
+     */
+    void copyToGroup(Long groupId, Long userId, LocalDate date);
+
+    /**
+     * 저장된 모든 랭킹을 조회합니다. 키 목록은 SCAN 으로 나누어 조회하므로 Redis 를 오래 점유하지 않습니다.
+     * @return 저장된 랭킹 목록
+     */
+    List<RankingKey> findAllKeys();
+
+    /**
+     * 하나의 랭킹 전체를 순위 순서대로 조회합니다.
+     * @param key 조회할 랭킹
+     * @return 순위가 매겨진 랭킹 항목 (순위 오름차순)
+     */
+    List<RankedScore> findAll(RankingKey key);
+
+    /**
+     * 하나의 랭킹을 삭제합니다.
+     * @param key 삭제할 랭킹
+     */
+    void delete(RankingKey key);
+
+    /**
+     * 이전 hash({@code studyTimeStats:*}) 에 저장된 공부 시간을 같은 기간의 전체 랭킹과, 유저가 현재 속한 그룹의 랭킹에
+     * 더하고 hash 에서 삭제합니다. 이전 버전은 그룹 랭킹을 따로 저장하지 않았으므로, 그룹 랭킹에도 함께 더해야 합니다.
+     * 하나의 항목은 한 번만 더해지므로, 여러 번 또는 여러 노드에서 실행하더라도 결과는 같습니다.
+     * @param groupIdsOf 유저 ID -> 유저가 속한 그룹 ID 목록
+     * @return 옮긴 hash 수
+     */
+    int migrateLegacy(Function<Long, List<Long>> groupIdsOf);
+}
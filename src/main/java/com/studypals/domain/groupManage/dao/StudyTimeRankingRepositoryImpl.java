@@ -0,0 +1,312 @@
+package com.studypals.domain.groupManage.dao;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.FileCopyUtils;
+
+import lombok.RequiredArgsConstructor;
+
+import com.studypals.domain.groupManage.entity.GroupRankingPeriod;
+
+/**
+ * Redis 의 sorted set 으로 공부 시간 랭킹을 관리합니다. 키 구조는 다음과 같습니다.
+ * <pre>
+ *     studyTimeRank:daily:20251225   -> 일간 랭킹 (member: userId, score: 공부 시간(초))
+ *     studyTimeRank:weekly:2025W52   -> 주간 랭킹
+ *     studyTimeRank:monthly:202512   -> 월간 랭킹
+ *     studyTimeRank:group:{groupId}:daily:20251225 -> 그룹 내 일간 랭킹 (주간, 월간도 같은 형식)
+ * </pre>
+ * 갱신은 ZINCRBY 로 수행하므로 읽기-수정-쓰기 경합이 없으며, 모든 기간(및 그룹)의 갱신과 만료 시간 설정을 하나의
+ * 파이프라인으로 보냅니다. 만료 시간은 {@link GroupRankingPeriod#getRetention()} 을 따릅니다.
+ * <br>
+ * 그룹 랭킹 페이지는 lua script 로 ZREVRANGE 와 ZCOUNT 를 함께 수행하여, 동점을 고려한 순위를 한 번에 계산합니다.
+ * <br>
+ * 기간이 끝난 랭킹은 {@link com.studypals.domain.groupManage.worker.GroupRankingArchiver GroupRankingArchiver} 가
+ * SCAN 으로 찾아 DB 로 옮긴 뒤 삭제합니다.
+ * <br>
+ * 이전에 hash({@code studyTimeStats:{period key}}) 로 저장된 공부 시간은 {@link #migrateLegacy(Function)} 로 같은
+ * 기간의 전체 랭킹과, 유저가 현재 속한 그룹의 랭킹에 더한 뒤 삭제합니다.
+ *
+ * @author sleepyhoon
+ * @see StudyTimeRankingRepository
+ * @since 2026-01-28
+ */
+@Repository
+@RequiredArgsConstructor
+public class StudyTimeRankingRepositoryImpl implements StudyTimeRankingRepository {
+
+    private static final String KEY_PREFIX = "studyTimeRank:";
+    private static final String GROUP_KEY_PREFIX = KEY_PREFIX + "group:";
+    private static final String LEGACY_KEY_PREFIX = "studyTimeStats:";
+    // 한 번의 SCAN 으로 확인할 키 수
+    private static final int SCAN_COUNT = 500;
+    // 이전 hash 를 옮길 때, 한 번의 script 로 옮길 유저 수
+    private static final int LEGACY_BATCH_SIZE = 100;
+
+    /** 그룹 랭킹의 한 페이지와 조회한 유저의 순위를 조회합니다. */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> PAGE_SCRIPT = loadScript("redis/study_rank_page.lua", List.class);
+
+    /** 유저의 기간 별 누적 공부 시간을 그룹 랭킹에 옮깁니다. */
+    private static final RedisScript<Long> JOIN_SCRIPT = loadScript("redis/study_rank_join.lua", Long.class);
+
+    /** 이전 hash 에 저장된 공부 시간을 전체 랭킹과 그룹 랭킹에 옮깁니다. */
+    private static final RedisScript<Long> LEGACY_SCRIPT = loadScript("redis/study_rank_legacy.lua", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void incrementAll(List<Increment> increments) {
+        if (increments.isEmpty()) return;
+
+        redisTemplate.executePipelined(new SessionCallback<Void>() {
+            @Override
+            public Void execute(RedisOperations operations) throws DataAccessException {
+                ZSetOperations<String, String> zSetOps = operations.opsForZSet();
+                Map<String, GroupRankingPeriod> touched = new LinkedHashMap<>();
+                for (Increment increment : increments) {
+                    String member = String.valueOf(increment.userId());
+                    String key = key(increment.period(), increment.date());
+                    zSetOps.incrementScore(key, member, increment.seconds());
+                    touched.put(key, increment.period());
+
+                    for (Long groupId : increment.groupIds()) {
+                        String groupKey = groupKey(groupId, increment.period(), increment.date());
+                        zSetOps.incrementScore(groupKey, member, increment.seconds());
+                        touched.put(groupKey, increment.period());
+                    }
+                }
+                touched.forEach((key, period) -> operations.expire(key, period.getRetention()));
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public Map<Long, Long> findScores(GroupRankingPeriod period, LocalDate date, Collection<Long> userIds) {
+        if (userIds.isEmpty()) return Map.of();
+
+        List<Long> ids = new ArrayList<>(userIds);
+        Object[] members = ids.stream().map(String::valueOf).toArray();
+        // ZMSCORE 로 한 번에 조회합니다.
+        List<Double> scores = redisTemplate.opsForZSet().score(key(period, date), members);
+        if (scores == null) return Map.of();
+
+        Map<Long, Long> result = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Double score = scores.get(i);
+            if (score != null) result.put(ids.get(i), score.longValue());
+        }
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public RankingPage findPage(
+            GroupRankingPeriod period, LocalDate date, Long groupId, Long userId, long offset, int count) {
+        List<String> values = redisTemplate.execute(
+                PAGE_SCRIPT,
+                List.of(groupKey(groupId, period, date)),
+                String.valueOf(offset),
+                String.valueOf(count),
+                String.valueOf(userId));
+
+        long total = Long.parseLong(values.get(0));
+        RankedScore mine =
+                new RankedScore(userId, Long.parseLong(values.get(2)), (long) Double.parseDouble(values.get(1)));
+
+        List<RankedScore> entries = new ArrayList<>();
+        long rank = values.get(3).isEmpty() ? 0 : Long.parseLong(values.get(3));
+        String previous = null;
+        for (int i = 4; i + 1 < values.size(); i += 2) {
+            String score = values.get(i + 1);
+            // 점수가 바뀌면 순위는 (페이지 시작 위치 + 페이지 내 위치 + 1) 이 됩니다.
+            if (previous != null && !previous.equals(score)) rank = offset + (i - 4) / 2 + 1;
+            previous = score;
+            entries.add(new RankedScore(Long.parseLong(values.get(i)), rank, (long) Double.parseDouble(score)));
+        }
+        return new RankingPage(total, entries, mine);
+    }
+
+    @Override
+    public void copyToGroup(Long groupId, Long userId, LocalDate date) {
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(userId));
+        for (GroupRankingPeriod period : GroupRankingPeriod.values()) {
+            keys.add(key(period, date));
+            keys.add(groupKey(groupId, period, date));
+            args.add(String.valueOf(period.getRetention().toSeconds()));
+        }
+        redisTemplate.execute(JOIN_SCRIPT, keys, args.toArray());
+    }
+
+    @Override
+    public List<RankingKey> findAllKeys() {
+        List<RankingKey> keys = new ArrayList<>();
+        ScanOptions options =
+                ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(SCAN_COUNT).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                RankingKey key = parseKey(cursor.next());
+                if (key != null) keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    @Override
+    public List<RankedScore> findAll(RankingKey key) {
+        Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet().reverseRangeWithScores(toKey(key), 0, -1);
+        if (tuples == null) return List.of();
+
+        List<RankedScore> scores = new ArrayList<>(tuples.size());
+        long rank = 0;
+        Double previous = null;
+        for (TypedTuple<String> tuple : tuples) {
+            // 점수가 바뀌면 순위는 (앞선 항목 수 + 1) 이 됩니다.
+            if (!Objects.equals(previous, tuple.getScore())) rank = scores.size() + 1;
+            previous = tuple.getScore();
+            scores.add(new RankedScore(Long.parseLong(tuple.getValue()), rank, tuple.getScore().longValue()));
+        }
+        return scores;
+    }
+
+    @Override
+    public void delete(RankingKey key) {
+        redisTemplate.delete(toKey(key));
+    }
+
+    @Override
+    public int migrateLegacy(Function<Long, List<Long>> groupIdsOf) {
+        List<String> legacyKeys = new ArrayList<>();
+        ScanOptions options =
+                ScanOptions.scanOptions().match(LEGACY_KEY_PREFIX + "*").count(SCAN_COUNT).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) legacyKeys.add(cursor.next());
+        }
+
+        int migrated = 0;
+        for (String legacyKey : legacyKeys) {
+            String periodKey = legacyKey.substring(LEGACY_KEY_PREFIX.length());
+            GroupRankingPeriod period = periodOf(periodKey);
+            if (period == null) continue;
+
+            Map<String, String> entries = redisTemplate.<String, String>opsForHash().entries(legacyKey);
+            List<Map.Entry<String, String>> users = new ArrayList<>(entries.entrySet());
+            long moved = 0;
+            for (int from = 0; from < users.size(); from += LEGACY_BATCH_SIZE) {
+                List<Map.Entry<String, String>> batch =
+                        users.subList(from, Math.min(from + LEGACY_BATCH_SIZE, users.size()));
+                moved += migrateLegacyBatch(legacyKey, period, periodKey, batch, groupIdsOf);
+            }
+            if (moved > 0) migrated++;
+        }
+        return migrated;
+    }
+
+    /**
+     * 이전 hash 의 유저 일부를 하나의 script 로 옮깁니다. 유저 ID 로 해석할 수 없는 항목은 전체 랭킹에만 더합니다.
+     * @return 옮긴 유저 수
+     */
+    private long migrateLegacyBatch(
+            String legacyKey,
+            GroupRankingPeriod period,
+            String periodKey,
+            List<Map.Entry<String, String>> users,
+            Function<Long, List<Long>> groupIdsOf) {
+        List<String> keys = new ArrayList<>();
+        keys.add(legacyKey);
+        keys.add(KEY_PREFIX + periodKey);
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(period.getRetention().toSeconds()));
+
+        for (Map.Entry<String, String> user : users) {
+            List<Long> groupIds = groupIdsOfMember(user.getKey(), groupIdsOf);
+            args.add(user.getKey());
+            args.add(user.getValue());
+            args.add(String.valueOf(groupIds.size()));
+            for (Long groupId : groupIds) {
+                keys.add(GROUP_KEY_PREFIX + groupId + ":" + periodKey);
+            }
+        }
+        Long moved = redisTemplate.execute(LEGACY_SCRIPT, keys, args.toArray());
+        return moved == null ? 0 : moved;
+    }
+
+    private static List<Long> groupIdsOfMember(String member, Function<Long, List<Long>> groupIdsOf) {
+        try {
+            return groupIdsOf.apply(Long.parseLong(member));
+        } catch (NumberFormatException e) {
+            return List.of();
+        }
+    }
+
+    private static String key(GroupRankingPeriod period, LocalDate date) {
+        return KEY_PREFIX + period.getRedisKey(date);
+    }
+
+    private static String groupKey(Long groupId, GroupRankingPeriod period, LocalDate date) {
+        return GROUP_KEY_PREFIX + groupId + ":" + period.getRedisKey(date);
+    }
+
+    private static String toKey(RankingKey key) {
+        return key.groupId() == null
+                ? KEY_PREFIX + key.periodKey()
+                : GROUP_KEY_PREFIX + key.groupId() + ":" + key.periodKey();
+    }
+
+    /**
+     * 랭킹 키를 해석합니다. 형식이 맞지 않는 키라면 null 을 반환합니다.
+     */
+    private static RankingKey parseKey(String key) {
+        Long groupId = null;
+        String periodKey = key.substring(KEY_PREFIX.length());
+        if (key.startsWith(GROUP_KEY_PREFIX)) {
+            String rest = key.substring(GROUP_KEY_PREFIX.length());
+            int separator = rest.indexOf(':');
+            if (separator < 0) return null;
+            try {
+                groupId = Long.parseLong(rest.substring(0, separator));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            periodKey = rest.substring(separator + 1);
+        }
+        GroupRankingPeriod period = periodOf(periodKey);
+        return period == null ? null : new RankingKey(groupId, period, periodKey);
+    }
+
+    private static GroupRankingPeriod periodOf(String periodKey) {
+        for (GroupRankingPeriod period : GroupRankingPeriod.values()) {
+            if (periodKey.startsWith(period.getPrefix())) return period;
+        }
+        return null;
+    }
+
+    private static <T> RedisScript<T> loadScript(String path, Class<T> resultType) {
+        try (InputStreamReader reader =
+                new InputStreamReader(new ClassPathResource(path).getInputStream(), StandardCharsets.UTF_8)) {
+            return RedisScript.of(FileCopyUtils.copyToString(reader), resultType);
+        } catch (IOException e) {
+            throw new IllegalStateException("failed to load lua script");
+        }
+    }
+}
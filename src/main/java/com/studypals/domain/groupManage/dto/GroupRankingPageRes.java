@@ -0,0 +1,21 @@
+package com.studypals.domain.groupManage.dto;
+
+import java.util.List;
+
+import com.studypals.domain.groupManage.entity.GroupRole;
+
+/**
+ * 그룹 랭킹의 한 페이지를 반환하기 위해 사용되는 response dto 입니다.
+ * 순위는 서버에서 계산되며, 공부 시간이 같다면 같은 순위를 가집니다. (예: 1, 2, 2, 4)
+ *
+ * @param total 기간 내 공부 기록이 있는 멤버 수
+ * @param page 페이지 번호 (0 부터)
+ * @param size 페이지 크기
+ * @param ranks 페이지에 포함된 멤버 (순위 오름차순)
+ * @param me 조회한 유저의 순위. 기록이 없다면 공부 시간 0 기준의 순위
+ * @author sleepyhoon
+ * @since 2026-01-28
+ */
+public record GroupRankingPageRes(long total, int page, int size, List<RankEntry> ranks, RankEntry me) {
+    public record RankEntry(long rank, Long id, String nickname, String imageUrl, Long studyTime, GroupRole role) {}
+}
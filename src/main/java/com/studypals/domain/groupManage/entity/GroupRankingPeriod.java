@@ -1,5 +1,6 @@
 package com.studypals.domain.groupManage.entity;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.IsoFields;
@@ -11,20 +12,28 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public enum GroupRankingPeriod {
-    DAILY("daily:", date -> date.format(DateTimeFormatter.ofPattern("yyyyMMdd"))),
+    DAILY("daily:", date -> date.format(DateTimeFormatter.ofPattern("yyyyMMdd")), Duration.ofDays(3)),
 
-    WEEKLY("weekly:", date -> {
-        // ISO-8601 기준 주차 계산
-        int year = date.get(IsoFields.WEEK_BASED_YEAR);
-        int week = date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
-        return year + "W" + String.format("%02d", week);
-    }),
+    WEEKLY(
+            "weekly:",
+            date -> {
+                // ISO-8601 기준 주차 계산
+                int year = date.get(IsoFields.WEEK_BASED_YEAR);
+                int week = date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+                return year + "W" + String.format("%02d", week);
+            },
+            Duration.ofDays(15)),
 
-    MONTHLY("monthly:", date -> date.format(DateTimeFormatter.ofPattern("yyyyMM")));
+    MONTHLY("monthly:", date -> date.format(DateTimeFormatter.ofPattern("yyyyMM")), Duration.ofDays(63));
 
     private final String prefix;
     private final Function<LocalDate, String> formatter;
 
+    /**
+     * 마지막 갱신 이후 랭킹 키를 유지하는 기간입니다. 기간의 길이보다 길게 두어, 기간이 끝난 뒤에도 잠시 조회할 수 있습니다.
+     */
+    private final Duration retention;
+
     /**
      * TimeUtils에서 계산되어 주입된 businessDate를 기반으로 Redis Key 생성
      */
@@ -0,0 +1,54 @@
+package com.studypals.domain.groupManage.entity;
+
+import jakarta.persistence.*;
+
+import lombok.*;
+
+/**
+ * 기간이 끝난 그룹 랭킹을 보관하는 JPA entity 클래스입니다. study_time_ranking_archive 테이블과 매핑됩니다.
+ * <p>
+ * 한 행은 특정 기간의 그룹 랭킹에서 한 멤버의 순위와 공부 시간을 나타냅니다. 기간은 {@link GroupRankingPeriod#getRedisKey}
+ * 의 결과(예: {@code daily:20251225}) 를 그대로 사용하며, {@code (group_id, period_key, ranking)} 인덱스로
+ * 순위 순서대로 페이지를 조회합니다.
+ *
+ * <p><b>주요 생성자:</b><br>
+ * {@code Builder}  <br>
+ * builder 패턴을 통해 생성합니다. 보관 작업은 {@code StudyTimeRankingArchiveJdbcRepository} 가 batch 로 저장합니다.
+ *
+ * @author sleepyhoon
+ * @since 2026-01-29
+ */
+@Entity
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "study_time_ranking_archive",
+        uniqueConstraints = {@UniqueConstraint(columnNames = {"group_id", "period_key", "member_id"})},
+        indexes = {@Index(name = "idx_group_period_ranking", columnList = "group_id, period_key, ranking")})
+public class StudyTimeRankingArchive {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false, unique = true)
+    private Long id;
+
+    @Column(name = "group_id", nullable = false)
+    private Long groupId;
+
+    // 랭킹 기간 (예: daily:20251225, weekly:2025W52, monthly:202512)
+    @Column(name = "period_key", nullable = false, length = 20)
+    private String periodKey;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    // 기간이 끝난 시점의 순위. 공부 시간이 같다면 순위도 같습니다.
+    @Column(name = "ranking", nullable = false)
+    private Long ranking;
+
+    // 기간 내 누적 공부 시간(초)
+    @Column(name = "study_time", nullable = false)
+    private Long studyTime;
+}
@@ -50,6 +50,7 @@ public class GroupEntryServiceImpl implements GroupEntryService {
     private final GroupEntryCodeManager entryCodeManager;
     private final GroupEntryRequestReader entryRequestReader;
     private final GroupEntryRequestWriter entryRequestWriter;
+    private final GroupRankingWorker groupRankingWorker;
 
     private final ChatRoomWriter chatRoomWriter;
 
@@ -152,6 +153,7 @@ public class GroupEntryServiceImpl implements GroupEntryService {
     // 그룹 참여 시 공통 로직을 private 으로 분리
     private Long internalJoinGroup(Member member, Group group) {
         Long joinId = groupMemberWriter.createMember(member, group).getId();
+        groupRankingWorker.registerMember(group.getId(), member.getId());
 
         chatRoomWriter.join(group.getChatRoom(), member);
 
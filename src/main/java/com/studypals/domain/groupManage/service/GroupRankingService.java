@@ -1,8 +1,10 @@
 package com.studypals.domain.groupManage.service;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import com.studypals.domain.groupManage.dto.GroupMemberRankingDto;
+import com.studypals.domain.groupManage.dto.GroupRankingPageRes;
 import com.studypals.domain.groupManage.entity.GroupRankingPeriod;
 
 /**
@@ -27,4 +29,31 @@ public interface GroupRankingService {
      * @return
      */
     List<GroupMemberRankingDto> getGroupRanking(Long userId, Long groupId, GroupRankingPeriod period);
+
+    /**
+     * 그룹 랭킹을 공부 시간 순으로 한 페이지 조회합니다. 조회한 사용자의 순위도 함께 반환합니다.
+     * 그룹 전체 멤버를 조회하지 않으므로, 그룹의 크기와 관계없이 페이지 크기에 비례하는 비용이 듭니다.
+     * @param userId 조회를 시도하는 사용자 ID
+     * @param groupId 랭킹을 조회하려고 하는 그룹 ID
+     * @param period 조회하고 싶은 랭킹 종류 (daily/weekly/monthly)
+     * @param page 페이지 번호 (0 부터), 없다면 0
+     * @param size 페이지 크기, 없다면 기본값
+     * @return 순위가 포함된 랭킹 페이지
+     */
+    GroupRankingPageRes getGroupRankingPage(
+            Long userId, Long groupId, GroupRankingPeriod period, Integer page, Integer size);
+
+    /**
+     * 지난 기간의 그룹 랭킹을 공부 시간 순으로 한 페이지 조회합니다. 조회한 사용자의 순위도 함께 반환합니다.
+     * 기간이 끝난 랭킹은 보관된 DB 에서 조회합니다.
+     * @param userId 조회를 시도하는 사용자 ID
+     * @param groupId 랭킹을 조회하려고 하는 그룹 ID
+     * @param period 조회하고 싶은 랭킹 종류 (daily/weekly/monthly)
+     * @param date 조회하고 싶은 기간에 포함되는 날짜
+     * @param page 페이지 번호 (0 부터), 없다면 0
+     * @param size 페이지 크기, 없다면 기본값
+     * @return 순위가 포함된 랭킹 페이지
+     */
+    GroupRankingPageRes getGroupRankingHistory(
+            Long userId, Long groupId, GroupRankingPeriod period, LocalDate date, Integer page, Integer size);
 }
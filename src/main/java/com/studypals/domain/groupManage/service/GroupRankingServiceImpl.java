@@ -1,13 +1,20 @@
 package com.studypals.domain.groupManage.service;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 
+import com.studypals.domain.groupManage.dao.StudyTimeRankingRepository.RankedScore;
+import com.studypals.domain.groupManage.dao.StudyTimeRankingRepository.RankingPage;
 import com.studypals.domain.groupManage.dto.GroupMemberRankingDto;
+import com.studypals.domain.groupManage.dto.GroupRankingPageRes;
 import com.studypals.domain.groupManage.entity.GroupMember;
 import com.studypals.domain.groupManage.entity.GroupRankingPeriod;
 import com.studypals.domain.groupManage.worker.GroupAuthorityValidator;
@@ -36,6 +43,10 @@ public class GroupRankingServiceImpl implements GroupRankingService {
     private final GroupMemberReader groupMemberReader;
     private final GroupAuthorityValidator validator;
 
+    // 랭킹 페이지 크기
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Override
     public List<GroupMemberRankingDto> getGroupRanking(Long userId, Long groupId, GroupRankingPeriod period) {
         // 해당 유저가 속한 그룹인가?
@@ -60,4 +71,77 @@ public class GroupRankingServiceImpl implements GroupRankingService {
                 })
                 .toList();
     }
+
+    /**
+     * 그룹 랭킹의 한 페이지를 조회합니다.
+     * <p>
+     * 순위와 공부 시간은 그룹 랭킹 sorted set 에서 한 번에 조회하고, 페이지에 포함된 멤버와 조회한 유저의 프로필만
+     * DB 에서 조회합니다. 페이지 크기는 1 ~ {@value MAX_PAGE_SIZE} 사이로 제한됩니다.
+     */
+    @Override
+    public GroupRankingPageRes getGroupRankingPage(
+            Long userId, Long groupId, GroupRankingPeriod period, Integer page, Integer size) {
+        validator.isMemberOfGroup(userId, groupId);
+
+        int pageSize = toPageSize(size);
+        int pageNumber = toPageNumber(page);
+
+        RankingPage ranking =
+                groupRankingWorker.getRankingPage(groupId, userId, period, (long) pageNumber * pageSize, pageSize);
+
+        return toPageRes(groupId, ranking, pageNumber, pageSize);
+    }
+
+    @Override
+    public GroupRankingPageRes getGroupRankingHistory(
+            Long userId, Long groupId, GroupRankingPeriod period, LocalDate date, Integer page, Integer size) {
+        validator.isMemberOfGroup(userId, groupId);
+
+        int pageSize = toPageSize(size);
+        int pageNumber = toPageNumber(page);
+
+        RankingPage ranking = groupRankingWorker.getRankingPage(
+                groupId, userId, period, date, (long) pageNumber * pageSize, pageSize);
+
+        return toPageRes(groupId, ranking, pageNumber, pageSize);
+    }
+
+    private GroupRankingPageRes toPageRes(Long groupId, RankingPage ranking, int pageNumber, int pageSize) {
+        RankedScore mine = ranking.mine();
+        List<Long> memberIds = new ArrayList<>(
+                ranking.entries().stream().map(RankedScore::userId).toList());
+        memberIds.add(mine.userId());
+        Map<Long, GroupMember> profiles = groupMemberReader.getMemberProfiles(groupId, memberIds).stream()
+                .collect(Collectors.toMap(gm -> gm.getMember().getId(), Function.identity(), (a, b) -> a));
+
+        // 랭킹에 남아 있지만 더 이상 그룹 멤버가 아닌 유저는 제외합니다.
+        List<GroupRankingPageRes.RankEntry> ranks = ranking.entries().stream()
+                .filter(score -> profiles.containsKey(score.userId()))
+                .map(score -> toRankEntry(score, profiles.get(score.userId())))
+                .toList();
+
+        return new GroupRankingPageRes(
+                ranking.total(), pageNumber, pageSize, ranks, toRankEntry(mine, profiles.get(mine.userId())));
+    }
+
+    private static int toPageSize(Integer size) {
+        return size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(MAX_PAGE_SIZE, size));
+    }
+
+    private static int toPageNumber(Integer page) {
+        return page == null ? 0 : Math.max(0, page);
+    }
+
+    private static GroupRankingPageRes.RankEntry toRankEntry(RankedScore score, GroupMember groupMember) {
+        if (groupMember == null) {
+            return new GroupRankingPageRes.RankEntry(score.rank(), score.userId(), null, null, score.seconds(), null);
+        }
+        return new GroupRankingPageRes.RankEntry(
+                score.rank(),
+                score.userId(),
+                groupMember.getMember().getNickname(),
+                groupMember.getMember().getImageUrl(),
+                score.seconds(),
+                groupMember.getRole());
+    }
 }
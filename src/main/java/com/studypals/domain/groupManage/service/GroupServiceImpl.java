@@ -55,6 +55,7 @@ public class GroupServiceImpl implements GroupService {
     private final GroupGoalCalculator groupGoalCalculator;
 
     private final GroupHashTagWorker groupHashTagWorker;
+    private final GroupRankingWorker groupRankingWorker;
 
     // chat room worker class
     private final ChatRoomWriter chatRoomWriter;
@@ -74,6 +75,7 @@ public class GroupServiceImpl implements GroupService {
         Group group = groupWriter.create(dto);
         Member member = memberReader.getRef(userId);
         groupMemberWriter.createLeader(member, group);
+        groupRankingWorker.registerMember(group.getId(), userId);
 
         groupHashTagWorker.saveTags(group, dto.hashTags());
 
@@ -1,5 +1,6 @@
 package com.studypals.domain.groupManage.worker;
 
+import java.util.Collection;
 import java.util.List;
 
 import lombok.RequiredArgsConstructor;
@@ -41,6 +42,11 @@ public class GroupMemberReader {
         return groupMemberRepository.findGroupMembers(groupId);
     }
 
+    public List<GroupMember> getMemberProfiles(Long groupId, Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) return List.of();
+        return groupMemberRepository.findGroupMembersIn(groupId, memberIds);
+    }
+
     public List<GroupMemberProfileMappingDto> getTopNMemberProfileImages(List<Long> groupIds, int limit) {
         return groupMemberRepository.findTopNMemberInGroupIds(groupIds, limit);
     }
@@ -0,0 +1,128 @@
+package com.studypals.domain.groupManage.worker;
+
+import java.time.LocalDate;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.studypals.domain.groupManage.dao.GroupMemberRepository;
+import com.studypals.domain.groupManage.dao.StudyTimeRankingArchiveJdbcRepository;
+import com.studypals.domain.groupManage.dao.StudyTimeRankingRepository;
+import com.studypals.domain.groupManage.dao.StudyTimeRankingRepository.RankingKey;
+import com.studypals.domain.groupManage.entity.GroupRankingPeriod;
+import com.studypals.global.annotations.Worker;
+import com.studypals.global.utils.TimeUtils;
+
+/**
+ * <pre><code>
+ * 기간이 끝난 랭킹을 Redis 에서 DB({@code study_time_ranking_archive}) 로 옮깁니다. 작업 자체는 다음과 같은 과정을 따릅니다.
+ *
+ * 1. 데몬 스레드가 주기적으로 저장된 모든 랭킹 키를 SCAN 으로 조회합니다.
+ * 2. 기간이 끝난 그룹 랭킹은 순위를 계산하여 JDBC batch 로 DB 에 저장한 뒤, Redis 에서 삭제합니다.
+ * 3. 기간이 끝난 전체 유저 랭킹은 조회하는 곳이 없으므로 저장하지 않고 삭제합니다.
+ * </code></pre>
+ *
+ * 기간이 끝난 직후에도 이전 기간에 대한 공부 시간이 반영될 수 있으므로(자정을 넘긴 공부 등), 오늘과 어제가 속한 기간은
+ * 끝나지 않은 것으로 봅니다. 저장은 덮어쓰기로 수행되므로, 삭제 전에 실패하여 다시 실행되더라도 결과는 같습니다.
+ * 이 작업이 멈추더라도 랭킹 키는 {@link GroupRankingPeriod#getRetention()} 이후 만료됩니다.
+ * <p>
+ * 시작 시와 매 주기 시작 시에, 이전 hash({@code studyTimeStats:*}) 에 남은 공부 시간을 전체 랭킹과 유저가 현재 속한
+ * 그룹의 랭킹으로 옮깁니다.
+ * 순차 배포 중 이전 버전의 노드가 hash 에 더한 공부 시간도 다음 주기에 옮겨집니다.
+ *
+ * @author sleepyhoon
+ * @see StudyTimeRankingRepository
+ * @see StudyTimeRankingArchiveJdbcRepository
+ * @since 2026-01-29
+ */
+@Worker
+@Slf4j
+@RequiredArgsConstructor
+public class GroupRankingArchiver {
+
+    @Value("${group.ranking.archive-interval-ms:3600000}")
+    private long archiveIntervalMillis;
+
+    private final StudyTimeRankingRepository studyTimeRankingRepository;
+    private final StudyTimeRankingArchiveJdbcRepository archiveJdbcRepository;
+    private final GroupMemberRepository groupMemberRepository;
+    private final TimeUtils timeUtils;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "group-ranking-archiver");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @PostConstruct
+    public void startScheduler() {
+        scheduler.execute(this::migrateLegacySafely);
+        scheduler.scheduleWithFixedDelay(
+                this::archiveSafely, archiveIntervalMillis, archiveIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * JVM 이 종료되기 전에 scheduler 를 안전하게 종료합니다.
+     */
+    @PreDestroy
+    public void stopScheduler() {
+        scheduler.shutdown();
+    }
+
+    private void migrateLegacySafely() {
+        try {
+            int migrated = studyTimeRankingRepository.migrateLegacy(groupMemberRepository::findGroupIdsByMemberId);
+            if (migrated > 0) log.info("legacy study time stats migrated to rankings. keys={}", migrated);
+        } catch (RuntimeException e) {
+            log.error("fail to migrate legacy study time stats", e);
+        }
+    }
+
+    private void archiveSafely() {
+        migrateLegacySafely();
+        try {
+            archiveClosedPeriods();
+        } catch (RuntimeException e) {
+            // 예외가 전파되면 이후 주기가 실행되지 않으므로, 여기서 처리합니다.
+            log.error("fail to archive group rankings", e);
+        }
+    }
+
+    /**
+     * 기간이 끝난 랭킹을 DB 로 옮기고 Redis 에서 삭제합니다. 하나의 랭킹을 옮기는 데 실패하더라도 나머지는 계속 진행하며,
+     * 실패한 랭킹은 다음 주기에 다시 시도합니다.
+     * @return 삭제한 랭킹 수
+     */
+    int archiveClosedPeriods() {
+        LocalDate today = timeUtils.getToday();
+        int archived = 0;
+        for (RankingKey key : studyTimeRankingRepository.findAllKeys()) {
+            if (!isClosed(key, today)) continue;
+            try {
+                if (key.groupId() != null) {
+                    archiveJdbcRepository.upsertAll(
+                            key.groupId(), key.periodKey(), studyTimeRankingRepository.findAll(key));
+                }
+                studyTimeRankingRepository.delete(key);
+                archived++;
+            } catch (RuntimeException e) {
+                log.warn("fail to archive ranking. key: {}", key, e);
+            }
+        }
+        return archived;
+    }
+
+    private static boolean isClosed(RankingKey key, LocalDate today) {
+        GroupRankingPeriod period = key.period();
+        return !key.periodKey().equals(period.getRedisKey(today))
+                && !key.periodKey().equals(period.getRedisKey(today.minusDays(1)));
+    }
+}
@@ -1,24 +1,36 @@
 package com.studypals.domain.groupManage.worker;
 
 import java.time.LocalDate;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import lombok.RequiredArgsConstructor;
 
-import com.studypals.domain.groupManage.dao.StudyTimeStatsRepository;
+import com.studypals.domain.groupManage.dao.GroupMemberRepository;
+import com.studypals.domain.groupManage.dao.StudyTimeRankingArchiveRepository;
+import com.studypals.domain.groupManage.dao.StudyTimeRankingRepository;
+import com.studypals.domain.groupManage.dao.StudyTimeRankingRepository.Increment;
+import com.studypals.domain.groupManage.dao.StudyTimeRankingRepository.RankedScore;
+import com.studypals.domain.groupManage.dao.StudyTimeRankingRepository.RankingPage;
 import com.studypals.domain.groupManage.dto.UpdateStudyStatsDto;
 import com.studypals.domain.groupManage.entity.GroupMember;
 import com.studypals.domain.groupManage.entity.GroupRankingPeriod;
+import com.studypals.domain.groupManage.entity.StudyTimeRankingArchive;
 import com.studypals.global.annotations.Worker;
 import com.studypals.global.utils.TimeUtils;
 
 /**
  * group Ranking 도메인의 Worker 클래스입니다.
  *
- * <p>group Ranking 관련 조회 로직을 수행합니다.
+ * <p>group Ranking 관련 갱신 및 조회 로직을 수행합니다. 랭킹은 {@link StudyTimeRankingRepository} 의
+ * 기간 별 sorted set 에 저장되며, 유저가 속한 그룹 별 랭킹도 함께 갱신됩니다. 기간이 끝난 그룹 랭킹은
+ * {@link GroupRankingArchiver} 에 의해 DB 로 옮겨지며, 지난 기간의 랭킹은 DB 에서 조회합니다.
  *
  *
  * <p><b>빈 관리:</b><br>
@@ -31,37 +43,96 @@ import com.studypals.global.utils.TimeUtils;
 @RequiredArgsConstructor
 public class GroupRankingWorker {
 
-    private final StudyTimeStatsRepository studyTimeStatsRepository;
+    private final StudyTimeRankingRepository studyTimeRankingRepository;
+    private final GroupMemberRepository groupMemberRepository;
+    private final StudyTimeRankingArchiveRepository archiveRepository;
     private final TimeUtils timeUtils;
 
     /**
-     * Redis 내에 존재하는 일간/주간/월간 랭킹 값에서 해당 사용자의 공부 시간을 증가시킵니다.
-     * TODO: 최악의 경우 6회 반복할 수 있는데, 이를 비동기적으로 실행하거나, 반복문을 단축시킬 수 있다면 좋을 것입니다.
+     * 일간/주간/월간 랭킹과, 사용자가 속한 그룹의 랭킹에서 해당 사용자의 공부 시간을 증가시킵니다.
+     * 모든 갱신은 원자적 증가 연산으로, 하나의 파이프라인에서 수행됩니다.
      * @param updateStudyStats 수정할 유저 id, 날짜, 공부 시간
      */
     public void updateGroupRankings(List<UpdateStudyStatsDto> updateStudyStats) {
+        Map<Long, List<Long>> groupIds = new HashMap<>();
+        List<Increment> increments = new ArrayList<>();
         for (UpdateStudyStatsDto dto : updateStudyStats) {
-            List<String> redisKeys = Arrays.stream(GroupRankingPeriod.values())
-                    .map(period -> period.getRedisKey(dto.date()))
-                    .toList();
-            String userIdStr = String.valueOf(dto.id());
+            List<Long> userGroupIds = groupIds.computeIfAbsent(dto.id(), groupMemberRepository::findGroupIdsByMemberId);
+            for (GroupRankingPeriod period : GroupRankingPeriod.values()) {
+                increments.add(new Increment(period, dto.date(), dto.id(), dto.studyTime(), userGroupIds));
+            }
+        }
+        studyTimeRankingRepository.incrementAll(increments);
+    }
 
-            // 일간/주간/월간 3회를 걸쳐 업데이트
-            for (String key : redisKeys) {
-                Map<String, String> userRanking = studyTimeStatsRepository.findHashFieldsById(key, List.of(userIdStr));
-                String userStudyTimeStr = userRanking.get(userIdStr);
-                Long userStudyTime;
-                if (userStudyTimeStr == null) {
-                    userStudyTime = 0L;
-                } else {
-                    userStudyTime = Long.parseLong(userStudyTimeStr);
-                }
+    /**
+     * 그룹에 참여한 사용자의 기간 별 누적 공부 시간을 그룹 랭킹에 반영합니다. 트랜잭션 내부라면 커밋 이후에 반영됩니다.
+     * @param groupId 참여한 그룹 ID
+     * @param userId 참여한 사용자 ID
+     */
+    public void registerMember(Long groupId, Long userId) {
+        Runnable task = () -> studyTimeRankingRepository.copyToGroup(groupId, userId, timeUtils.getToday());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
 
-                userStudyTime += dto.studyTime();
+    /**
+     * 그룹 랭킹의 한 페이지와, 조회한 사용자의 순위를 조회합니다.
+     * @param groupId 그룹 ID
+     * @param userId 조회하는 사용자 ID
+     * @param period 랭킹 기간 정보
+     * @param offset 페이지 시작 위치 (0 부터)
+     * @param size 페이지 크기
+     * @return 랭킹 페이지
+     */
+    public RankingPage getRankingPage(Long groupId, Long userId, GroupRankingPeriod period, long offset, int size) {
+        return studyTimeRankingRepository.findPage(period, timeUtils.getToday(), groupId, userId, offset, size);
+    }
 
-                studyTimeStatsRepository.saveMapById(key, Map.of(userIdStr, String.valueOf(userStudyTime)));
-            }
+    /**
+     * 주어진 날짜가 속한 기간의 그룹 랭킹 한 페이지와, 조회한 사용자의 순위를 조회합니다.
+     * 이미 DB 로 옮겨진 기간이라면 DB 에서, 그렇지 않다면 Redis 에서 조회합니다.
+     * @param groupId 그룹 ID
+     * @param userId 조회하는 사용자 ID
+     * @param period 랭킹 기간 정보
+     * @param date 기간에 포함되는 날짜
+     * @param offset 페이지 시작 위치 (0 부터, size 의 배수)
+     * @param size 페이지 크기
+     * @return 랭킹 페이지
+     */
+    public RankingPage getRankingPage(
+            Long groupId, Long userId, GroupRankingPeriod period, LocalDate date, long offset, int size) {
+        String periodKey = period.getRedisKey(date);
+        if (periodKey.equals(period.getRedisKey(timeUtils.getToday()))
+                || !archiveRepository.existsByGroupIdAndPeriodKey(groupId, periodKey)) {
+            return studyTimeRankingRepository.findPage(period, date, groupId, userId, offset, size);
         }
+
+        List<RankedScore> entries = archiveRepository
+                .findByGroupIdAndPeriodKeyOrderByRankingAscMemberIdAsc(
+                        groupId, periodKey, PageRequest.of((int) (offset / size), size))
+                .stream()
+                .map(GroupRankingWorker::toRankedScore)
+                .toList();
+        long total = archiveRepository.countByGroupIdAndPeriodKey(groupId, periodKey);
+        // 기록이 없는 사용자는 공부 시간 0 기준의 순위를 가집니다.
+        RankedScore mine = archiveRepository
+                .findByGroupIdAndPeriodKeyAndMemberId(groupId, periodKey, userId)
+                .map(GroupRankingWorker::toRankedScore)
+                .orElseGet(() -> {
+                    long ranked = archiveRepository.countByGroupIdAndPeriodKeyAndStudyTimeGreaterThan(
+                            groupId, periodKey, 0L);
+                    return new RankedScore(userId, ranked + 1, 0);
+                });
+        return new RankingPage(total, entries, mine);
     }
 
     /**
@@ -76,14 +147,10 @@ public class GroupRankingWorker {
 
         LocalDate today = timeUtils.getToday();
 
-        String keyPrefix = period.getRedisKey(today);
-
-        List<String> userIds = groupMemberIds.stream().map(String::valueOf).toList();
+        return studyTimeRankingRepository.findScores(period, today, groupMemberIds);
+    }
 
-        return studyTimeStatsRepository.findHashFieldsById(keyPrefix, userIds).entrySet().stream()
-                .collect(Collectors.toMap(
-                        // String -> Long 타입 변환
-                        entry -> Long.parseLong(entry.getKey()),
-                        entry -> Long.parseLong(entry.getValue())));
+    private static RankedScore toRankedScore(StudyTimeRankingArchive archive) {
+        return new RankedScore(archive.getMemberId(), archive.getRanking(), archive.getStudyTime());
     }
 }
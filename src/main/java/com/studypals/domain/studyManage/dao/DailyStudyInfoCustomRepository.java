@@ -0,0 +1,28 @@
+package com.studypals.domain.studyManage.dao;
+
+import java.util.List;
+
+import com.studypals.domain.studyManage.dto.DailyStudySpan;
+
+/**
+ * {@link DailyStudyInfoRepository} 에 upsert 연산을 제공하는 인터페이스입니다.
+ *
+ * <p><b>상속 정보:</b><br>
+ * {@link DailyStudyInfoRepository} 가 상속하며, 구현은 {@link DailyStudyInfoCustomRepositoryImpl} 입니다.
+ *
+ * @author jack8
+ * @see DailyStudyInfoCustomRepositoryImpl
+ * @since 2026-01-31
+ */
+public interface DailyStudyInfoCustomRepository {
+
+    /**
+     * {@code uq_member_date} 유니크 키를 기준으로 하루의 공부 정보를 생성하거나 갱신합니다. 여러 날짜는 하나의 batch 로
+     * 전송됩니다.
+     * <p>
+     * 시작 시각은 처음 생성될 때만 저장되며, 종료 시각은 기존 값보다 늦은 경우에만 갱신됩니다. 시각은 하루의 기준
+     * 시각({@code TimeUtils.CUTOFF}) 부터 비교하므로, 자정 이후의 종료 시각이 자정 이전의 종료 시각보다 늦은 것으로 봅니다.
+     * @param spans 날짜 별 공부 시작 및 종료 시각
+     */
+    void upsertAll(List<DailyStudySpan> spans);
+}
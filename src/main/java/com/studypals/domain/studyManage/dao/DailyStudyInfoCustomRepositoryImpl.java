@@ -0,0 +1,58 @@
+package com.studypals.domain.studyManage.dao;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+import com.studypals.domain.studyManage.dto.DailyStudySpan;
+import com.studypals.global.utils.TimeUtils;
+
+/**
+ * {@link DailyStudyInfoCustomRepository} 의 구현 클래스입니다.
+ * <p>
+ * {@code INSERT ... ON DUPLICATE KEY UPDATE} 하나로 조회 없이 생성 혹은 갱신하며, JDBC batch 로 전송합니다.
+ * 따라서 동시에 같은 날짜의 공부 정보를 생성하더라도 유니크 제약 조건 예외가 발생하지 않습니다.
+ *
+ * <p><b>상속 정보:</b><br>
+ * {@link DailyStudyInfoCustomRepository} 의 구현 클래스입니다.
+ *
+ * @author jack8
+ * @see DailyStudyInfoRepository
+ * @since 2026-01-31
+ */
+@RequiredArgsConstructor
+public class DailyStudyInfoCustomRepositoryImpl implements DailyStudyInfoCustomRepository {
+
+    // 시각을 하루의 기준 시각부터의 초로 옮기기 위한 값. 기준 시각 자체는 하루의 끝(가장 늦은 시각)으로 봅니다.
+    private static final int CUTOFF_SHIFT = 24 * 60 * 60 - TimeUtils.CUTOFF.toSecondOfDay() - 1;
+
+    private static final String UPSERT_DAILY_INFO =
+            """
+            INSERT INTO daily_study_info (member_id, studied_date, start_time, end_time)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE end_time =
+                IF(end_time IS NULL
+                       OR MOD(TIME_TO_SEC(VALUES(end_time)) + %1$d, 86400) > MOD(TIME_TO_SEC(end_time) + %1$d, 86400),
+                   VALUES(end_time),
+                   end_time)
+            """
+                    .formatted(CUTOFF_SHIFT);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsertAll(List<DailyStudySpan> spans) {
+        if (spans.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(UPSERT_DAILY_INFO, spans, spans.size(), (ps, span) -> {
+            ps.setLong(1, span.memberId());
+            ps.setDate(2, Date.valueOf(span.studiedDate()));
+            ps.setObject(3, span.startTime(), Types.TIME);
+            ps.setObject(4, span.endTime(), Types.TIME);
+        });
+    }
+}
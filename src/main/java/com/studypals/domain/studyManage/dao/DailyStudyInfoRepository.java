@@ -11,13 +11,14 @@ import com.studypals.domain.studyManage.entity.DailyStudyInfo;
 
 /**
  * {@link DailyStudyInfo} 에 대한 JPA DAO 인터페이스입니다. <br>
+ * 공부 시작 및 종료 시 생성/갱신은 {@link DailyStudyInfoCustomRepository#upsertAll} 를 사용합니다.
  *
  * @author jack8
  * @see DailyStudyInfo
  * @since 2025-04-17
  */
 @Repository
-public interface DailyStudyInfoRepository extends JpaRepository<DailyStudyInfo, Long> {
+public interface DailyStudyInfoRepository extends JpaRepository<DailyStudyInfo, Long>, DailyStudyInfoCustomRepository {
 
     /**
      * 사용자 아이디와 공부 날짜(LocalDate) 에 대해 값을 찾아 반환합니다.
@@ -0,0 +1,133 @@
+package com.studypals.domain.studyManage.dao;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+import com.studypals.domain.studyManage.dto.StudyTimeIncrement;
+
+/**
+ * {@code study_time} 테이블에 공부 시간을 더하는 작업을 JDBC batch 로 수행합니다.
+ * <p>
+ * {@code (member_id, studied_date, study_key)} 유니크 키를 기준으로 한 {@code INSERT ... ON DUPLICATE KEY UPDATE}
+ * 하나로 기록을 생성하거나 공부 시간을 더합니다. 조회 후 저장하는 방식과 달리, 같은 기록에 대한 동시 갱신이 서로를 덮어쓰지
+ * 않습니다. 목표 시간은 처음 기록될 때만 저장됩니다.
+ * <p>
+ * 유니크 키는 {@code ddl-auto=update} 로 추가되는데, 이미 중복 기록이 있다면 추가에 실패하더라도 기동이 계속됩니다.
+ * 이 경우 {@link #mergeDuplicatesAndAddUniqueKey()} 로 중복 기록을 합친 뒤 유니크 키를 추가합니다.
+ *
+ * @author jack8
+ * @see com.studypals.domain.studyManage.entity.StudyTime StudyTime
+ * @since 2026-01-30
+ */
+@Repository
+@RequiredArgsConstructor
+public class StudyTimeJdbcRepository {
+
+    private static final String UPSERT_TIME =
+            """
+            INSERT INTO study_time (member_id, studied_date, study_category_id, name, goal, time)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE time = time + ?
+            """;
+
+    /** 공부 기록을 구분하는 유니크 키의 이름 */
+    public static final String UNIQUE_KEY = "uq_member_date_study";
+
+    // 여러 노드가 동시에 중복 기록을 합치지 않도록 잡는 MySQL named lock
+    private static final String MERGE_LOCK = "study_time_merge_duplicates";
+    private static final int MERGE_LOCK_TIMEOUT_SECONDS = 60;
+
+    private static final String COUNT_UNIQUE_KEY =
+            """
+            SELECT COUNT(*) FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'study_time' AND index_name = ?
+            """;
+
+    // 중복 기록 중 ID 가 가장 작은 기록에 공부 시간의 합을 저장합니다.
+    private static final String SUM_DUPLICATES =
+            """
+            UPDATE study_time t
+            JOIN (SELECT MIN(id) AS keep_id, SUM(time) AS total
+                  FROM study_time
+                  WHERE study_key IS NOT NULL
+                  GROUP BY member_id, studied_date, study_key
+                  HAVING COUNT(*) > 1) d ON t.id = d.keep_id
+            SET t.time = d.total
+            """;
+
+    // ID 가 가장 작은 기록을 제외한 중복 기록을 삭제합니다.
+    private static final String DELETE_DUPLICATES =
+            """
+            DELETE t FROM study_time t
+            JOIN study_time k
+              ON k.member_id = t.member_id AND k.studied_date = t.studied_date
+             AND k.study_key = t.study_key AND k.id < t.id
+            """;
+
+    private static final String ADD_UNIQUE_KEY =
+            "ALTER TABLE study_time ADD CONSTRAINT " + UNIQUE_KEY + " UNIQUE (member_id, studied_date, study_key)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 공부 시간을 일괄적으로 더합니다. 기록이 없다면 새로 생성합니다.
+     * @param increments 더할 공부 시간 목록
+     */
+    public void addTimes(List<StudyTimeIncrement> increments) {
+        if (increments.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(UPSERT_TIME, increments, increments.size(), (ps, increment) -> {
+            ps.setLong(1, increment.memberId());
+            ps.setDate(2, Date.valueOf(increment.studiedDate()));
+            ps.setObject(3, increment.categoryId(), Types.BIGINT);
+            ps.setString(4, increment.name());
+            ps.setObject(5, increment.goal(), Types.BIGINT);
+            ps.setLong(6, increment.time());
+            ps.setLong(7, increment.time());
+        });
+    }
+
+    /**
+     * {@code study_time} 에 공부 기록 유니크 키가 있는지 확인합니다.
+     * @return 유니크 키가 있다면 true
+     */
+    public boolean hasUniqueKey() {
+        Integer count = jdbcTemplate.queryForObject(COUNT_UNIQUE_KEY, Integer.class, UNIQUE_KEY);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 같은 (member_id, studied_date, study_key) 의 기록을 하나로 합친 뒤 유니크 키를 추가합니다.
+     * 공부 시간은 모두 더해 ID 가 가장 작은 기록에 저장하며, 목표 시간 등 나머지 값은 해당 기록의 값을 유지합니다.
+     * <p>
+     * 합치기와 삭제는 하나의 트랜잭션에서 수행되므로, 중간에 실패하더라도 공부 시간이 두 번 더해지지 않습니다.
+     * 여러 노드가 동시에 실행하더라도 named lock 을 잡은 노드만 합치며, 나머지는 lock 을 얻은 뒤 유니크 키를 확인하고 끝냅니다.
+     * @return 합쳐져 삭제된 기록 수. 이미 유니크 키가 있다면 0
+     */
+    @Transactional
+    public int mergeDuplicatesAndAddUniqueKey() {
+        Integer locked = jdbcTemplate.queryForObject(
+                "SELECT GET_LOCK(?, ?)", Integer.class, MERGE_LOCK, MERGE_LOCK_TIMEOUT_SECONDS);
+        if (locked == null || locked != 1) {
+            throw new IllegalStateException("fail to acquire lock for merging duplicate study_time rows");
+        }
+        try {
+            if (hasUniqueKey()) return 0;
+
+            jdbcTemplate.update(SUM_DUPLICATES);
+            int deleted = jdbcTemplate.update(DELETE_DUPLICATES);
+            // DDL 은 MySQL 에서 암묵적으로 commit 되므로, 앞선 변경도 함께 commit 됩니다.
+            jdbcTemplate.execute(ADD_UNIQUE_KEY);
+            return deleted;
+        } finally {
+            jdbcTemplate.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, MERGE_LOCK);
+        }
+    }
+}
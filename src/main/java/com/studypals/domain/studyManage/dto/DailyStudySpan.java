@@ -0,0 +1,16 @@
+package com.studypals.domain.studyManage.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 특정 날짜의 공부 시작 및 종료 시각입니다. {@code daily_study_info} 를 갱신할 때 사용합니다.
+ *
+ * @param memberId 사용자 ID
+ * @param studiedDate 공부한 날짜
+ * @param startTime 공부 시작 시각. 처음 기록될 때만 저장됩니다.
+ * @param endTime 공부 종료 시각. 공부를 시작할 때는 null
+ * @author jack8
+ * @since 2026-01-31
+ */
+public record DailyStudySpan(Long memberId, LocalDate studiedDate, LocalTime startTime, LocalTime endTime) {}
@@ -0,0 +1,19 @@
+package com.studypals.domain.studyManage.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 특정 날짜의 공부 기록에 더할 공부 시간입니다. 공부 종료 시 {@code study_time} 에 반영할 때 사용합니다.
+ * 카테고리 ID 와 임시 목표 이름 중 하나만 값을 가집니다.
+ *
+ * @param memberId 사용자 ID
+ * @param studiedDate 공부한 날짜
+ * @param categoryId 카테고리 ID. 임시 목표라면 null
+ * @param name 임시 목표 이름. 카테고리에 대한 공부라면 null
+ * @param goal 처음 기록될 때 저장할 목표 시간
+ * @param time 더할 공부 시간(초)
+ * @author jack8
+ * @since 2026-01-30
+ */
+public record StudyTimeIncrement(
+        Long memberId, LocalDate studiedDate, Long categoryId, String name, Long goal, long time) {}
@@ -26,6 +26,10 @@ import com.studypals.domain.memberManage.entity.Member;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(
         name = "study_time",
+        uniqueConstraints =
+                @UniqueConstraint(
+                        name = "uq_member_date_study",
+                        columnNames = {"member_id", "studied_date", "study_key"}),
         indexes = {@Index(name = "idx_member_studied", columnList = "member_id, studied_date")})
 public class StudyTime {
 
@@ -47,6 +51,16 @@ public class StudyTime {
     @Column(name = "name", nullable = true, length = 255)
     private String name;
 
+    // 하루의 공부 기록을 구분하는 키. 카테고리 ID 혹은 임시 목표 이름으로부터 DB 에서 계산됩니다.
+    // null 을 허용하는 두 컬럼 대신 해당 컬럼으로 유니크 키를 구성하여, upsert 시 기록이 중복 생성되지 않도록 합니다.
+    @Column(
+            name = "study_key",
+            insertable = false,
+            updatable = false,
+            columnDefinition = "VARCHAR(300) GENERATED ALWAYS AS "
+                    + "(IF(study_category_id IS NULL, CONCAT('n:', name), CONCAT('c:', study_category_id))) STORED")
+    private String studyKey;
+
     @Column(name = "studied_date", nullable = false)
     private LocalDate studiedDate;
 
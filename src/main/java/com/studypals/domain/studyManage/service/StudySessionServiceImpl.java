@@ -4,7 +4,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -20,6 +20,7 @@ import com.studypals.domain.groupManage.dto.UpdateStudyStatsDto;
 import com.studypals.domain.groupManage.worker.GroupRankingWorker;
 import com.studypals.domain.memberManage.entity.Member;
 import com.studypals.domain.memberManage.worker.MemberReader;
+import com.studypals.domain.studyManage.dto.DailyStudySpan;
 import com.studypals.domain.studyManage.dto.StartStudyDto;
 import com.studypals.domain.studyManage.dto.StartStudyReq;
 import com.studypals.domain.studyManage.dto.StartStudyRes;
@@ -80,7 +81,7 @@ public class StudySessionServiceImpl implements StudySessionService {
         Member member = memberReader.getRef(userId);
 
         // 3. 도메인 로직 수행 (기록 생성 및 상태 설정)
-        dailyInfoWriter.createIfNotExist(member, today, req.startTime());
+        dailyInfoWriter.upsert(member, today, req.startTime());
         StudyStatus newStatus = createNewStudyStatus(member, dto, req.categoryId());
 
         // 4. 저장 및 응답
@@ -106,7 +107,7 @@ public class StudySessionServiceImpl implements StudySessionService {
         LocalDate startDate = status.getStartTime().toLocalDate();
         LocalTime startTime = status.getStartTime().toLocalTime();
 
-        Map<LocalDate, TimeSaveInfo> timeSaveInfoMap = new HashMap<>();
+        Map<LocalDate, TimeSaveInfo> timeSaveInfoMap = new LinkedHashMap<>();
         List<UpdateStudyStatsDto> updateRedisStudyStats = new ArrayList<>();
         if (startDate.isEqual(today)) {
 
@@ -125,8 +126,11 @@ public class StudySessionServiceImpl implements StudySessionService {
             timeSaveInfoMap.put(startDate, new TimeSaveInfo(member, startTime, TimeUtils.CUTOFF));
             timeSaveInfoMap.put(today, new TimeSaveInfo(member, TimeUtils.CUTOFF, endTime));
 
-            studySessionWorker.upsert(member, status, startDate, day1DurationInSec);
-            studySessionWorker.upsert(member, status, today, day2DurationInSec);
+            // 두 날짜의 공부 기록을 한 번의 batch 로 갱신
+            Map<LocalDate, Long> timeByDate = new LinkedHashMap<>();
+            timeByDate.put(startDate, day1DurationInSec);
+            timeByDate.put(today, day2DurationInSec);
+            studySessionWorker.upsert(member, status, timeByDate);
 
             updateRedisStudyStats.add(new UpdateStudyStatsDto(userId, startDate, day1DurationInSec));
             updateRedisStudyStats.add(new UpdateStudyStatsDto(userId, today, day2DurationInSec));
@@ -224,13 +228,12 @@ public class StudySessionServiceImpl implements StudySessionService {
     private record TimeSaveInfo(Member member, LocalTime start, LocalTime end) {}
 
     private void saveDailyInfo(Map<LocalDate, TimeSaveInfo> saveMap) {
-
+        // 날짜 별 생성/갱신을 한 번의 batch 로 전송
+        List<DailyStudySpan> spans = new ArrayList<>();
         for (Map.Entry<LocalDate, TimeSaveInfo> entry : saveMap.entrySet()) {
             TimeSaveInfo info = entry.getValue();
-            LocalDate date = entry.getKey();
-            if (!dailyInfoWriter.createIfNotExist(info.member, date, info.start, info.end)) {
-                dailyInfoWriter.updateEndtime(info.member, date, info.end);
-            }
+            spans.add(new DailyStudySpan(info.member.getId(), entry.getKey(), info.start, info.end));
         }
+        dailyInfoWriter.upsertAll(spans);
     }
 }
@@ -2,15 +2,15 @@ package com.studypals.domain.studyManage.worker;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.List;
 
 import lombok.RequiredArgsConstructor;
 
 import com.studypals.domain.memberManage.entity.Member;
 import com.studypals.domain.studyManage.dao.DailyStudyInfoRepository;
+import com.studypals.domain.studyManage.dto.DailyStudySpan;
 import com.studypals.domain.studyManage.entity.DailyStudyInfo;
 import com.studypals.global.annotations.Worker;
-import com.studypals.global.exceptions.errorCode.StudyErrorCode;
-import com.studypals.global.exceptions.exception.StudyException;
 
 /**
  * dailyInfo 엔티티를 삭제/갱신/추가 등을 할 때 사용합니다.
@@ -24,24 +24,6 @@ public class DailyInfoWriter {
 
     private final DailyStudyInfoRepository dailyStudyInfoRepository;
 
-    /**
-     * daily info 엔티티에서 종료 시간을 최신화 합니다. 종료 시간은 가장 마지막에 종료되는 시각이므로, 최신화가 되어야 합니다.
-     * 종료 시간이 들어가지 않아있는 경우, 아침 6시로 간주하여야 합니다.
-     * <p> NOT TESTED / simple logic </p>
-     * @param member 갱신할 user 의 엔티티
-     * @param studiedDate 공부 날짜(검색을 위한)
-     * @param endTime 종료 시간(갱신을 위한)
-     */
-    public void updateEndtime(Member member, LocalDate studiedDate, LocalTime endTime) {
-        DailyStudyInfo summary = dailyStudyInfoRepository
-                .findByMemberIdAndStudiedDate(member.getId(), studiedDate)
-                .orElseThrow(() -> new StudyException(
-                        StudyErrorCode.STUDY_TIME_END_FAIL, "can't update end time in" + "[DailyInfoWriter]"));
-
-        summary.setEndTime(endTime);
-        dailyStudyInfoRepository.save(summary);
-    }
-
     /**
      * 특정 날짜에 해당 인원이 생성한 dailyStudyInfo 엔티티가 존재하는지 여부를 검사합니다.
      * @param member 검사할 사용자 아이디
@@ -53,37 +35,23 @@ public class DailyInfoWriter {
     }
 
     /**
-     * 만약 어떤 사용자가 특정 날짜에 DailyStudyInfo 를 생성한 적이 없다면, 이를 새롭게 생성하여 저장합니다.
-     * endTime 을 함께 받아 시작 시각과 종료 시각이 특정된 경우 해당 메서드를 사용합니다.
-     * @param member 사용자 아이디
+     * 공부를 시작한 날짜의 DailyStudyInfo 가 없다면 새롭게 생성합니다. 이미 존재한다면 변경하지 않습니다.
+     * 조회 없이 하나의 upsert 로 수행됩니다.
+     * @param member 사용자
      * @param studiedDate 공부 날짜
      * @param startTime 시작 시각
-     * @param endTime 종료 시각
-     * @return 만약 값이 존재하지 않아 새롭게 만들었으면 false 를 반환, 아니면 true 반환
      */
-    public boolean createIfNotExist(Member member, LocalDate studiedDate, LocalTime startTime, LocalTime endTime) {
-        if (!dailyStudyInfoRepository.existsByMemberIdAndStudiedDate(member.getId(), studiedDate)) {
-            DailyStudyInfo dailyStudyInfo = DailyStudyInfo.builder()
-                    .member(member)
-                    .studiedDate(studiedDate)
-                    .startTime(startTime)
-                    .endTime(endTime)
-                    .build();
-            dailyStudyInfoRepository.save(dailyStudyInfo);
-            return true;
-        }
-        return false;
+    public void upsert(Member member, LocalDate studiedDate, LocalTime startTime) {
+        upsertAll(List.of(new DailyStudySpan(member.getId(), studiedDate, startTime, null)));
     }
 
     /**
-     * 만약 어떤 사용자가 특정 날짜에 DailyStudyInfo 를 생성한 적이 없다면, 이를 새롭게 생성하여 저장합니다.
-     * endTime 이 특정되지 않는 경우 해당 메서드를 사용합니다.
-     * @param member 사용자 아이디
-     * @param studiedDate 공부 날짜
-     * @param startTime 시작 시각
-     * @return 만약 값이 존재하지 않아 새롭게 만들었으면 false 를 반환, 아니면 true 반환
+     * 날짜 별 DailyStudyInfo 를 생성하거나 종료 시각을 갱신합니다. 공부가 여러 날짜에 걸친 경우 하나의 batch 로 전송됩니다.
+     * <p>
+     * 시작 시각은 처음 생성될 때만 저장되며, 종료 시각은 기존 종료 시각보다 늦은 경우에만 갱신됩니다.
+     * @param spans 날짜 별 공부 시작 및 종료 시각
      */
-    public boolean createIfNotExist(Member member, LocalDate studiedDate, LocalTime startTime) {
-        return createIfNotExist(member, studiedDate, startTime, null);
+    public void upsertAll(List<DailyStudySpan> spans) {
+        dailyStudyInfoRepository.upsertAll(spans);
     }
 }
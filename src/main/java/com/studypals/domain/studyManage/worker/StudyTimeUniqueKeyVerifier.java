@@ -0,0 +1,56 @@
+package com.studypals.domain.studyManage.worker;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.studypals.domain.studyManage.dao.StudyTimeJdbcRepository;
+import com.studypals.global.annotations.Worker;
+
+/**
+ * 기동 시 {@code study_time} 의 공부 기록 유니크 키({@link StudyTimeJdbcRepository#UNIQUE_KEY})를 확인합니다.
+ * <p>
+ * 공부 시간은 유니크 키를 기준으로 한 upsert 로 더해지므로, 유니크 키가 없다면 같은 기록이 계속 새로 생성됩니다.
+ * {@code ddl-auto=update} 는 중복 기록 때문에 유니크 키 추가에 실패하더라도 기동을 계속하므로, 스키마 갱신이 끝난 뒤
+ * 유니크 키가 없다면 중복 기록을 합쳐 유니크 키를 추가합니다. 그래도 유니크 키가 없다면 기동을 중단합니다.
+ *
+ * <p><b>빈 관리:</b><br>
+ * Worker
+ *
+ * @author jack8
+ * @see StudyTimeJdbcRepository
+ * @since 2026-02-01
+ */
+@Worker
+@Slf4j
+@RequiredArgsConstructor
+@DependsOn("entityManagerFactory")
+public class StudyTimeUniqueKeyVerifier {
+
+    private final StudyTimeJdbcRepository studyTimeJdbcRepository;
+
+    /**
+     * 유니크 키가 없다면 중복 기록을 합친 뒤 추가합니다.
+     * @throws IllegalStateException 유니크 키를 추가하지 못한 경우
+     */
+    @PostConstruct
+    public void verify() {
+        if (studyTimeJdbcRepository.hasUniqueKey()) return;
+
+        log.warn("unique key {} is missing on study_time. merging duplicate rows", StudyTimeJdbcRepository.UNIQUE_KEY);
+        try {
+            int merged = studyTimeJdbcRepository.mergeDuplicatesAndAddUniqueKey();
+            log.info("duplicate study_time rows merged. deleted={}", merged);
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("fail to add unique key " + StudyTimeJdbcRepository.UNIQUE_KEY, e);
+        }
+
+        if (!studyTimeJdbcRepository.hasUniqueKey()) {
+            throw new IllegalStateException("unique key " + StudyTimeJdbcRepository.UNIQUE_KEY + " is missing");
+        }
+    }
+}
@@ -34,6 +34,7 @@ public enum ChatErrorCode implements ErrorCode {
             ResponseCode.CHAT_ROOM_SEARCH, HttpStatus.FORBIDDEN, "you have no permission to access this behavior"),
     CHAT_ROOM_NOT_CONTAIN_MEMBER(
             ResponseCode.CHAT_ROOM_NOT_CONTAIN_MEMBER, HttpStatus.FORBIDDEN, "not a chat room member"),
+    CHAT_HISTORY_INVALID_CURSOR(ResponseCode.CHAT_ROOM_SEARCH, HttpStatus.BAD_REQUEST, "invalid chat history cursor"),
 
     CHAT_SEND_FAIL(ResponseCode.CHAT_SEND, HttpStatus.INTERNAL_SERVER_ERROR, "send fail by internal error"),
     CHAT_SUBSCRIBE_FAIL(ResponseCode.CHAT_SUBSCRIBE, HttpStatus.BAD_REQUEST, "subscribe fail"),
@@ -7,7 +7,9 @@ import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
@@ -23,7 +25,8 @@ import com.studypals.domain.studyManage.dao.StudyStatusRedisRepository;
  * <p>connection factory를 등록하고, 직렬화 방법을 정의합니다.
  *
  * <p><b>빈 관리:</b><br>
- * redisConnectionFactory 및 redisTemplate 을 등록합니다.
+ * redisConnectionFactory, redisTemplate, reactiveRedisTemplate, reactiveStringRedisTemplate 및
+ * pub/sub 구독에 사용하는 redisMessageListenerContainer 를 등록합니다.
  *
  * @author jack8
  * @since 2025-04-04
@@ -75,4 +78,19 @@ public class RedisConfig {
 
         return new ReactiveRedisTemplate<>(factory, context);
     }
+
+    /**
+     * 블로킹 템플릿과 같이 문자열로 직렬화된 값(채팅 stream, 읽음 커서 등)을 논블로킹으로 조회할 때 사용합니다.
+     */
+    @Bean
+    public ReactiveStringRedisTemplate reactiveStringRedisTemplate(ReactiveRedisConnectionFactory factory) {
+        return new ReactiveStringRedisTemplate(factory);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
@@ -4,7 +4,6 @@ import org.springframework.context.annotation.Configuration;
 
 import com.studypals.domain.chatManage.dao.UserLastReadMessageRepository;
 import com.studypals.domain.groupManage.dao.GroupStudyStatusRepository;
-import com.studypals.domain.groupManage.dao.StudyTimeStatsRepository;
 import com.studypals.global.redis.redisHashRepository.annotations.EnableRedisHashRepositories;
 import com.studypals.global.websocket.subscibeManage.UserSubscribeInfoRepository;
 
@@ -26,7 +25,6 @@ import com.studypals.global.websocket.subscibeManage.UserSubscribeInfoRepository
         basePackageClasses = {
             UserSubscribeInfoRepository.class,
             UserLastReadMessageRepository.class,
-            GroupStudyStatusRepository.class,
-            StudyTimeStatsRepository.class
+            GroupStudyStatusRepository.class
         })
 public class RedisHashEntityConfig {}
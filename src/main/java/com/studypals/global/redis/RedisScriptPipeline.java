@@ -0,0 +1,84 @@
+package com.studypals.global.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * 하나의 lua 스크립트를 여러 번, 하나의 파이프라인으로 실행합니다.
+ * <p>
+ * {@link RedisTemplate#execute(RedisScript, List, Object...)} 는 EVALSHA 가 NOSCRIPT 로 실패하면 EVAL 로 다시 보내지만,
+ * 파이프라인 안에서는 응답을 파이프라인이 끝난 뒤에 받으므로 그렇게 할 수 없습니다.
+ * 따라서 EVALSHA 로 보낸 파이프라인이 NOSCRIPT 로 실패하면, SCRIPT LOAD 로 스크립트를 등록한 뒤 한 번 더 보냅니다.
+ * <p>
+ * 파이프라인에는 같은 스크립트만 담기므로, 스크립트가 없다면 모든 호출이 함께 실패합니다.
+ * 따라서 다시 보내더라도 같은 호출이 두 번 실행되지 않습니다.
+ *
+ * @author jack8
+ * @since 2026-02-01
+ */
+public final class RedisScriptPipeline {
+
+    private RedisScriptPipeline() {}
+
+    /**
+     * 스크립트 한 번의 호출입니다.
+     * @param keys 스크립트의 KEYS
+     * @param args 스크립트의 ARGV
+     */
+    public record Call(List<String> keys, List<String> args) {}
+
+    /**
+     * 호출 목록을 하나의 파이프라인으로 실행합니다.
+     * @param redisTemplate 실행에 사용할 템플릿
+     * @param script 실행할 스크립트
+     * @param calls 호출 목록
+     * @return 호출 순서대로의 스크립트 반환값
+     */
+    public static List<Object> execute(
+            RedisTemplate<String, String> redisTemplate, RedisScript<?> script, List<Call> calls) {
+        if (calls.isEmpty()) return List.of();
+
+        try {
+            return evalSha(redisTemplate, script, calls);
+        } catch (RuntimeException e) {
+            if (!isNoScript(e)) throw e;
+        }
+
+        byte[] body = script.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        redisTemplate.execute((RedisCallback<String>) connection -> connection.scriptingCommands().scriptLoad(body));
+        return evalSha(redisTemplate, script, calls);
+    }
+
+    private static List<Object> evalSha(
+            RedisTemplate<String, String> redisTemplate, RedisScript<?> script, List<Call> calls) {
+        ReturnType returnType = ReturnType.fromJavaType(script.getResultType());
+        return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            RedisScriptingCommands scripting = connection.scriptingCommands();
+            for (Call call : calls) {
+                scripting.evalSha(script.getSha1(), returnType, call.keys().size(), keysAndArgs(call));
+            }
+            return null;
+        });
+    }
+
+    private static byte[][] keysAndArgs(Call call) {
+        byte[][] keysAndArgs = new byte[call.keys().size() + call.args().size()][];
+        int i = 0;
+        for (String key : call.keys()) keysAndArgs[i++] = key.getBytes(StandardCharsets.UTF_8);
+        for (String arg : call.args()) keysAndArgs[i++] = arg.getBytes(StandardCharsets.UTF_8);
+        return keysAndArgs;
+    }
+
+    private static boolean isNoScript(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,74 @@
+package com.studypals.global.sse;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 프로세스 메모리 안에서 동작하는 {@link SseDeliveryBus} 구현체입니다. <br>
+ * 단일 노드 환경 혹은 테스트에서 사용합니다. 여러 인스턴스가 같은 {@code channels} 를 공유하면,
+ * 각 인스턴스를 하나의 노드로 보고 노드 간 전달을 흉내낼 수 있습니다.
+ * <p>
+ * 전달은 발행한 스레드에서 동기적으로 이루어집니다.
+ *
+ * @author jack8
+ * @see SseDeliveryBus
+ * @since 2026-01-14
+ */
+public class InMemorySseDeliveryBus implements SseDeliveryBus {
+
+    /** 유저ID → 해당 유저를 보유한 노드(버스) 집합 */
+    private final ConcurrentMap<Long, Set<InMemorySseDeliveryBus>> channels;
+
+    private volatile Receiver receiver;
+
+    public InMemorySseDeliveryBus() {
+        this(new ConcurrentHashMap<>());
+    }
+
+    public InMemorySseDeliveryBus(ConcurrentMap<Long, Set<InMemorySseDeliveryBus>> channels) {
+        this.channels = channels;
+    }
+
+    @Override
+    public void register(Receiver receiver) {
+        this.receiver = receiver;
+    }
+
+    @Override
+    public void subscribe(Long userId) {
+        channels.computeIfAbsent(userId, k -> ConcurrentHashMap.newKeySet()).add(this);
+    }
+
+    @Override
+    public void unsubscribe(Long userId) {
+        channels.computeIfPresent(userId, (k, nodes) -> {
+            nodes.remove(this);
+            return nodes.isEmpty() ? null : nodes;
+        });
+    }
+
+    @Override
+    public void publish(Collection<Long> userIds, List<SseSendDto> dtos) {
+        if (dtos.isEmpty()) return;
+
+        for (Long userId : userIds) {
+            Set<InMemorySseDeliveryBus> nodes = channels.get(userId);
+            if (nodes == null) continue;
+
+            for (InMemorySseDeliveryBus node : nodes) {
+                // 자신이 발행한 메시지는 무시합니다.
+                if (node == this || node.receiver == null) continue;
+                node.receiver.deliver(userId, dtos);
+            }
+        }
+    }
+
+    @Override
+    public void publishEach(Map<Long, List<SseSendDto>> messages) {
+        messages.forEach((userId, dtos) -> publish(List.of(userId), dtos));
+    }
+}
@@ -0,0 +1,365 @@
+package com.studypals.global.sse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * redis pub/sub 을 사용하는 {@link SseDeliveryBus} 구현체입니다.
+ * <pre>
+ * - 채널 : "sse:user:{userId}"
+ * - 프레즌스 : "sse:presence:{userId}" (해당 유저의 세션을 보유한 노드 식별자 set)
+ * - 노드는 자신이 보유한 유저의 채널만 구독하므로, 발행된 메시지는 해당 유저를 가진 노드에만 전달됩니다.
+ * - 발행 전 프레즌스를 조회하여, 다른 노드에 세션이 있는 유저에 대해서만 발행합니다.
+ * - 여러 유저에 대한 조회와 발행은 각각 하나의 파이프라인으로 전송되며, 메시지 본문은 한 번만 직렬화됩니다.
+ * - 조회와 발행은 블로킹 호출이므로, 호출한 스레드가 아닌 {@code publisher} 스레드 풀에서 수행합니다.
+ * - 메시지에는 발행 노드의 식별자가 포함되며, 자신이 발행한 메시지는 무시합니다.
+ * </pre>
+ * 메시지 content 는 발행 시점에 문자열로 직렬화되어 전달되며, 수신 노드는 이를 그대로 SSE data 로 기록합니다.
+ * <p>
+ * 노드는 {@code PRESENCE_REFRESH_MS} 마다 현재 연결된 유저의 프레즌스를 다시 등록하고 만료 시간을 갱신합니다.
+ * 따라서 연결이 오래 유지되더라도 프레즌스가 만료되지 않으며, 비정상 종료된 노드의 프레즌스는 갱신이 멈춘 뒤
+ * {@code PRESENCE_TTL} 안에 만료됩니다. 그 전까지는 구독자가 없는 채널로 발행될 뿐 잘못 전달되지는 않습니다.
+ *
+ * <p><b>외부 모듈:</b><br>
+ * Redis pub/sub, Jackson
+ *
+ * @author jack8
+ * @see SseDeliveryBus
+ * @since 2026-01-14
+ */
+@Slf4j
+public class RedisSseDeliveryBus implements SseDeliveryBus, MessageListener {
+
+    private static final String CHANNEL_PREFIX = "sse:user:";
+    private static final String PRESENCE_PREFIX = "sse:presence:";
+    private static final Duration PRESENCE_TTL = Duration.ofMinutes(3);
+    // 프레즌스 갱신 주기. 한두 번의 갱신이 실패하더라도 만료되지 않도록 TTL 보다 충분히 짧게 둡니다.
+    private static final long PRESENCE_REFRESH_MS = 60_000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final String nodeId;
+    private final Executor publisher;
+
+    /** 현재 노드에 세션이 있는 유저ID. 프레즌스 갱신 대상입니다. */
+    private final Set<Long> present = ConcurrentHashMap.newKeySet();
+
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "sse-presence-heartbeat");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private volatile Receiver receiver;
+
+    /**
+     * 노드 간 전달되는 메시지 형식입니다.
+     * @param origin 발행한 노드의 식별자
+     * @param events 순서대로 전송할 이벤트 목록
+     */
+    record Envelope(String origin, List<Event> events) {}
+
+    /**
+     * @param type sse event 이름
+     * @param data 직렬화된 data
+     */
+    record Event(String type, String data) {}
+
+    public RedisSseDeliveryBus(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            String nodeId,
+            Executor publisher) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.nodeId = nodeId;
+        this.publisher = publisher;
+    }
+
+    @PostConstruct
+    public void startHeartbeat() {
+        heartbeat.scheduleWithFixedDelay(
+                this::refreshPresenceSafely, PRESENCE_REFRESH_MS, PRESENCE_REFRESH_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 갱신을 멈추고, 현재 노드의 프레즌스를 제거합니다. 제거하지 못하더라도 {@code PRESENCE_TTL} 이후 만료됩니다.
+     */
+    @PreDestroy
+    public void stopHeartbeat() {
+        heartbeat.shutdown();
+        List<Long> userIds = List.copyOf(present);
+        if (userIds.isEmpty()) return;
+
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Void>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Void execute(RedisOperations operations) throws DataAccessException {
+                    for (Long userId : userIds) {
+                        operations.opsForSet().remove(PRESENCE_PREFIX + userId, nodeId);
+                    }
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("fail to remove sse presence on shutdown. users={}", userIds.size(), e);
+        }
+    }
+
+    @Override
+    public void register(Receiver receiver) {
+        this.receiver = receiver;
+    }
+
+    @Override
+    public void subscribe(Long userId) {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + userId));
+        present.add(userId);
+        try {
+            registerPresence(List.of(userId));
+        } catch (DataAccessException e) {
+            // 다음 갱신 주기에 다시 등록됩니다.
+            log.warn("fail to register sse presence. userId={}", userId, e);
+        }
+    }
+
+    @Override
+    public void unsubscribe(Long userId) {
+        listenerContainer.removeMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + userId));
+        present.remove(userId);
+        try {
+            redisTemplate.opsForSet().remove(PRESENCE_PREFIX + userId, nodeId);
+        } catch (DataAccessException e) {
+            log.warn("fail to remove sse presence. userId={}", userId, e);
+        }
+    }
+
+    /**
+     * 현재 노드에 세션이 있는 모든 유저의 프레즌스를 다시 등록하고 만료 시간을 갱신합니다.
+     */
+    void refreshPresence() {
+        List<Long> userIds = List.copyOf(present);
+        if (userIds.isEmpty()) return;
+
+        registerPresence(userIds);
+    }
+
+    private void refreshPresenceSafely() {
+        try {
+            refreshPresence();
+        } catch (RuntimeException e) {
+            // 예외가 전파되면 이후 주기가 실행되지 않으므로, 여기서 처리합니다.
+            log.warn("fail to refresh sse presence. users={}", present.size(), e);
+        }
+    }
+
+    /**
+     * 유저들의 프레즌스에 현재 노드를 등록하고 만료 시간을 설정합니다. 하나의 파이프라인으로 전송됩니다.
+     * @param userIds 현재 노드에 세션이 있는 유저 목록
+     */
+    private void registerPresence(List<Long> userIds) {
+        redisTemplate.executePipelined(new SessionCallback<Void>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Void execute(RedisOperations operations) throws DataAccessException {
+                for (Long userId : userIds) {
+                    String key = PRESENCE_PREFIX + userId;
+                    operations.opsForSet().add(key, nodeId);
+                    operations.expire(key, PRESENCE_TTL);
+                }
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public void publish(Collection<Long> userIds, List<SseSendDto> dtos) {
+        if (userIds.isEmpty() || dtos.isEmpty()) return;
+
+        List<Long> ids = List.copyOf(userIds);
+        List<SseSendDto> copied = List.copyOf(dtos);
+        submit(() -> publishNow(ids, copied), ids.size());
+    }
+
+    @Override
+    public void publishEach(Map<Long, List<SseSendDto>> messages) {
+        if (messages.isEmpty()) return;
+
+        Map<Long, List<SseSendDto>> copied = new LinkedHashMap<>(messages);
+        submit(() -> publishEachNow(copied), copied.size());
+    }
+
+    /**
+     * 조회와 발행을 {@code publisher} 스레드 풀에 위임합니다. 작업을 받을 수 없다면 로그를 남기고 버립니다.
+     */
+    private void submit(Runnable task, int users) {
+        try {
+            publisher.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("fail to submit sse delivery message. users={}", users, e);
+        }
+    }
+
+    private void publishNow(List<Long> userIds, List<SseSendDto> dtos) {
+        List<Long> targets = remoteUsers(userIds);
+        if (targets.isEmpty()) return;
+
+        String payload = encode(dtos);
+        if (payload == null) return;
+
+        Map<Long, String> payloads = new LinkedHashMap<>();
+        for (Long userId : targets) {
+            payloads.put(userId, payload);
+        }
+        send(payloads);
+    }
+
+    private void publishEachNow(Map<Long, List<SseSendDto>> messages) {
+        List<Long> targets = remoteUsers(messages.keySet());
+        if (targets.isEmpty()) return;
+
+        Map<Long, String> payloads = new LinkedHashMap<>();
+        for (Long userId : targets) {
+            List<SseSendDto> dtos = messages.get(userId);
+            if (dtos == null || dtos.isEmpty()) continue;
+
+            String payload = encode(dtos);
+            if (payload != null) payloads.put(userId, payload);
+        }
+        send(payloads);
+    }
+
+    /**
+     * 메시지 목록을 노드 간 전달 형식으로 직렬화합니다. 직렬화에 실패하면 null 을 반환합니다.
+     */
+    private String encode(List<SseSendDto> dtos) {
+        try {
+            List<Event> events = new ArrayList<>(dtos.size());
+            for (SseSendDto dto : dtos) {
+                events.add(new Event(dto.type(), SseFrame.serialize(dto.content(), objectMapper)));
+            }
+            return objectMapper.writeValueAsString(new Envelope(nodeId, events));
+        } catch (JsonProcessingException e) {
+            log.warn("fail to encode sse delivery message", e);
+            return null;
+        }
+    }
+
+    /**
+     * 유저 채널 별 메시지를 하나의 파이프라인으로 발행합니다.
+     * @param payloads 목적지 유저 -> 직렬화된 메시지
+     */
+    private void send(Map<Long, String> payloads) {
+        if (payloads.isEmpty()) return;
+
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Void>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Void execute(RedisOperations operations) throws DataAccessException {
+                    payloads.forEach((userId, payload) -> operations.convertAndSend(CHANNEL_PREFIX + userId, payload));
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("fail to publish sse delivery message. users={}", payloads.size(), e);
+        }
+    }
+
+    /**
+     * 프레즌스를 조회하여, 현재 노드가 아닌 노드에 세션이 있는 유저만 반환합니다.
+     * @param userIds 목적지 유저 목록
+     * @return 다른 노드에 세션이 있는 유저 목록
+     */
+    private List<Long> remoteUsers(Collection<Long> userIds) {
+        List<Long> ids = List.copyOf(userIds);
+        List<Object> presences;
+        try {
+            presences = redisTemplate.executePipelined(new SessionCallback<Void>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Void execute(RedisOperations operations) throws DataAccessException {
+                    for (Long userId : ids) {
+                        operations.opsForSet().members(PRESENCE_PREFIX + userId);
+                    }
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("fail to read sse presence. users={}", ids.size(), e);
+            return List.of();
+        }
+
+        List<Long> targets = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (presences.get(i) instanceof Set<?> nodes && hasOtherNode(nodes)) targets.add(ids.get(i));
+        }
+        return targets;
+    }
+
+    private boolean hasOtherNode(Set<?> nodes) {
+        for (Object node : nodes) {
+            if (!nodeId.equals(node)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 구독 중인 유저 채널로 메시지가 도착하면 호출됩니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Receiver current = receiver;
+        if (current == null) return;
+
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        try {
+            Envelope envelope = objectMapper.readValue(message.getBody(), Envelope.class);
+
+            // 자신이 발행한 메시지는 이미 로컬에서 전달되었습니다.
+            if (nodeId.equals(envelope.origin())) return;
+
+            Long userId = Long.valueOf(channel.substring(CHANNEL_PREFIX.length()));
+            List<SseSendDto> dtos = new ArrayList<>(envelope.events().size());
+            for (Event event : envelope.events()) {
+                dtos.add(new SseSendDto(event.type(), event.data()));
+            }
+            current.deliver(userId, dtos);
+        } catch (Exception e) {
+            log.warn("fail to handle sse delivery message. channel={}", channel, e);
+        }
+    }
+}
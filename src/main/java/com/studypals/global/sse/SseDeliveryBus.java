@@ -0,0 +1,65 @@
+package com.studypals.global.sse;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 노드 간 SSE 메시지 전달 버스입니다. <br>
+ * {@link SseEmitterManager} 는 현재 노드에 연결된 세션만 알고 있으므로, 다른 노드에 연결된 유저에게 보낼 메시지는
+ * 해당 버스를 통해 전달됩니다.
+ * <pre>
+ * - 각 노드는 자신이 보유한 유저에 대해서만 구독합니다. (subscribe / unsubscribe)
+ * - publish 는 유저 단위로 전달되며, 모든 노드에 방송하지 않습니다.
+ * - 자신이 발행한 메시지는 자신에게 다시 전달되지 않습니다.
+ * </pre>
+ *
+ * @author jack8
+ * @see RedisSseDeliveryBus
+ * @see InMemorySseDeliveryBus
+ * @since 2026-01-14
+ */
+public interface SseDeliveryBus {
+
+    /**
+     * 다른 노드로부터 도착한 메시지를 처리할 수신자를 등록합니다. 노드 당 하나만 등록됩니다.
+     * @param receiver 메시지 수신자
+     */
+    void register(Receiver receiver);
+
+    /**
+     * 현재 노드가 해당 유저의 세션을 보유하기 시작했음을 알리고, 유저 채널을 구독합니다.
+     * @param userId 유저 아이디
+     */
+    void subscribe(Long userId);
+
+    /**
+     * 현재 노드에 해당 유저의 세션이 더 이상 없음을 알리고, 유저 채널 구독을 해제합니다.
+     * @param userId 유저 아이디
+     */
+    void unsubscribe(Long userId);
+
+    /**
+     * 유저들의 채널에 메시지를 발행합니다. 현재 노드가 아닌, 해당 유저의 세션을 보유한 노드에만 전달됩니다.
+     * 다른 노드에 세션이 없는 유저(오프라인 혹은 현재 노드에만 연결된 유저)에 대해서는 발행하지 않습니다.
+     * 구현체는 호출한 스레드를 막지 않도록 비동기로 발행할 수 있습니다.
+     * @param userIds 목적지 유저 목록
+     * @param dtos 순서대로 전송할 메시지 목록
+     */
+    void publish(Collection<Long> userIds, List<SseSendDto> dtos);
+
+    /**
+     * 유저마다 다른 메시지 목록을 한 번에 발행합니다. {@link #publish} 와 같이 다른 노드에 세션이 있는 유저에 대해서만
+     * 발행합니다.
+     * @param messages 목적지 유저 -> 순서대로 전송할 메시지 목록
+     */
+    void publishEach(Map<Long, List<SseSendDto>> messages);
+
+    /**
+     * 다른 노드에서 발행된 메시지를 받는 수신자입니다.
+     */
+    @FunctionalInterface
+    interface Receiver {
+        void deliver(Long userId, List<SseSendDto> dtos);
+    }
+}
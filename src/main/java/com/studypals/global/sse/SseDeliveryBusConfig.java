@@ -0,0 +1,47 @@
+package com.studypals.global.sse;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 노드 간 SSE 전달 버스에 대한 설정입니다.
+ * <pre>
+ * - sse.delivery.bus=redis  : redis pub/sub 을 사용합니다. (기본값, 다중 노드)
+ * - sse.delivery.bus=memory : 프로세스 내부에서만 동작합니다. (단일 노드 / 테스트)
+ * </pre>
+ * 노드 식별자는 실행 시마다 새로 생성되며, 자신이 발행한 메시지를 구분하는 데에만 사용됩니다.
+ * redis 버스의 프레즌스 조회와 발행은 SSE 전송과 같은 {@code sseTaskExecutor} 에서 수행됩니다.
+ *
+ * @author jack8
+ * @see SseDeliveryBus
+ * @since 2026-01-14
+ */
+@Configuration
+public class SseDeliveryBusConfig {
+
+    @Value("${sse.delivery.bus:redis}")
+    private String busType;
+
+    @Bean
+    public SseDeliveryBus sseDeliveryBus(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            @Qualifier("sseTaskExecutor") ThreadPoolTaskExecutor taskExecutor) {
+        if ("memory".equalsIgnoreCase(busType)) {
+            return new InMemorySseDeliveryBus();
+        }
+
+        return new RedisSseDeliveryBus(
+                redisTemplate, listenerContainer, objectMapper, UUID.randomUUID().toString(), taskExecutor);
+    }
+}
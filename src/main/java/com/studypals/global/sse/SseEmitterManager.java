@@ -12,6 +12,9 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import lombok.extern.slf4j.Slf4j;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * 유저별 SSE 세션을 관리하는 매니저.
  * <pr>
@@ -19,7 +22,10 @@ import lombok.extern.slf4j.Slf4j;
  * - 연결마다 고유 sessionId(UUID) 부여
  * - SSE 연결 종료/오류/타임아웃 시 자동 정리
  * - 특정 유저에게 여러 SSE 세션으로 동시에 이벤트를 전송
+ * - 다른 노드에 연결된 유저(및 같은 유저의 다른 노드 세션)에게는 {@link SseDeliveryBus} 를 통해 전달
  * </pr>
+ * 유저 채널 구독/해제는 redis 와 통신하는 블로킹 호출이므로, 세션 map 의 갱신 함수 밖에서 유저 단위 잠금을 잡고
+ * 수행합니다. 잠금 안에서는 현재 세션 상태를 다시 확인하므로, 연결과 종료가 경합하더라도 구독 상태가 어긋나지 않습니다.
  *
  * <p><b>외부 모듈:</b><br>
  * SSE
@@ -37,10 +43,50 @@ public class SseEmitterManager {
     /** 세션ID → SseEmitter */
     private final ConcurrentMap<String, SseEmitter> emitters = new ConcurrentHashMap<>();
 
+    /** 버스의 유저 채널을 구독 중인 유저ID. {@link #syncSubscription} 에서만 변경됩니다. */
+    private final Set<Long> subscribed = ConcurrentHashMap.newKeySet();
+
+    /** 유저 단위 구독 상태 변경을 직렬화하는 잠금 */
+    private final Object[] subscriptionLocks = new Object[64];
+
+    /** 이벤트 type → 로컬 유저에게 전달되기 전 호출되는 핸들러 */
+    private final ConcurrentMap<String, SseLocalHandler> handlers = new ConcurrentHashMap<>();
+
     private final ThreadPoolTaskExecutor taskExecutor;
 
-    public SseEmitterManager(@Qualifier("sseTaskExecutor") ThreadPoolTaskExecutor taskExecutor) {
+    private final ObjectMapper objectMapper;
+
+    private final SseDeliveryBus deliveryBus;
+
+    public SseEmitterManager(
+            @Qualifier("sseTaskExecutor") ThreadPoolTaskExecutor taskExecutor,
+            ObjectMapper objectMapper,
+            SseDeliveryBus deliveryBus) {
         this.taskExecutor = taskExecutor;
+        this.objectMapper = objectMapper;
+        this.deliveryBus = deliveryBus;
+        for (int i = 0; i < subscriptionLocks.length; i++) {
+            subscriptionLocks[i] = new Object();
+        }
+        deliveryBus.register(this::deliverRemote);
+    }
+
+    /**
+     * 특정 type 의 이벤트에 대한 핸들러를 등록합니다. 해당 type 의 이벤트는 유저 단위로 핸들러를 거친 뒤 전송됩니다.
+     * @param type 이벤트 type
+     * @param handler 핸들러
+     */
+    public void registerHandler(String type, SseLocalHandler handler) {
+        handlers.put(type, handler);
+    }
+
+    /**
+     * 유저가 현재 노드에 연결되어 있는지 확인합니다.
+     * @param userId 유저 아이디
+     * @return 하나 이상의 세션이 연결되어 있다면 true
+     */
+    public boolean isConnected(Long userId) {
+        return userSessions.containsKey(userId);
     }
 
     /**
@@ -54,8 +100,13 @@ public class SseEmitterManager {
         String sessionId = UUID.randomUUID().toString();
         SseEmitter emitter = new SseEmitter(0L);
 
-        // 유저별 세션 집합에 sessionId 추가
-        userSessions.computeIfAbsent(userId, k -> ConcurrentHashMap.newKeySet()).add(sessionId);
+        // 유저별 세션 집합에 sessionId 추가. 해당 노드의 첫 세션이라면 유저 채널을 구독
+        userSessions.compute(userId, (k, sessionIds) -> {
+            if (sessionIds == null) sessionIds = ConcurrentHashMap.newKeySet();
+            sessionIds.add(sessionId);
+            return sessionIds;
+        });
+        syncSubscription(userId);
 
         // sessionId → emitter 매핑 저장
         emitters.put(sessionId, emitter);
@@ -83,15 +134,97 @@ public class SseEmitterManager {
     /**
      * 비동기 작업 전용 메시지 전송 메서드입니다. <br>
      * 메시지를 보내기 위해 외부 서비스 스레드가 진입하는 진입점입니다. 비동기을 위해, 서비스 스레드가 스레드 풀의
-     * 스레드에게 작업을 위임합니다.
+     * 스레드에게 작업을 위임합니다. 유저가 다른 노드에도 연결되어 있을 수 있으므로, 로컬 전송과 별개로 버스에 발행합니다.
+     * 버스는 자신이 발행한 메시지를 다시 전달하지 않으므로, 로컬 세션에 중복 전송되지 않습니다.
      * @param userId 보내고자 하는 목적지
      * @param dto 메시지 내용(타입 및 데이터)
      */
     public void sendMessageAsync(Long userId, SseSendDto dto) {
+        deliveryBus.publish(List.of(userId), List.of(dto));
         if (!userSessions.containsKey(userId)) return;
+
         taskExecutor.execute(() -> sendMessageInternal(userId, dto));
     }
 
+    /**
+     * 여러 유저에게 여러 메시지를 하나의 비동기 작업으로 전송합니다. <br>
+     * 채팅방 단위의 일괄 전송을 위해 사용되며, 현재 노드에 연결된 유저가 없으면 작업을 제출하지 않습니다.
+     * <p>
+     * 한 유저가 여러 노드에 동시에 연결되어 있을 수 있으므로, 로컬 전송과 별개로 버스에 발행합니다.
+     * 버스는 다른 노드에 연결된 유저에 대해서만 발행하므로, 오프라인 유저나 현재 노드에만 연결된 유저는 발행되지 않습니다.
+     * @param userIds 보내고자 하는 목적지 목록
+     * @param dtos 순서대로 전송할 메시지 목록
+     */
+    public void sendMessagesAsync(Collection<Long> userIds, List<SseSendDto> dtos) {
+        if (dtos.isEmpty()) return;
+
+        deliveryBus.publish(userIds, dtos);
+
+        List<Long> targets = new ArrayList<>();
+        for (Long userId : userIds) {
+            if (userSessions.containsKey(userId)) targets.add(userId);
+        }
+        if (targets.isEmpty()) return;
+
+        sendFramesAsync(targets, dtos);
+    }
+
+    /**
+     * 유저마다 다른 메시지 목록을 하나의 비동기 작업으로 전송합니다. <br>
+     * 유저 별로 {@link #sendMessagesAsync} 를 호출하면 유저 수만큼 버스 발행과 비동기 작업이 발생하므로, 읽음 처리와 같이
+     * 여러 유저에게 각자의 메시지를 보내는 경우 사용합니다. 버스 발행 역시 한 번으로 묶입니다.
+     * @param messages 목적지 유저 -> 순서대로 전송할 메시지 목록
+     */
+    public void sendEachAsync(Map<Long, List<SseSendDto>> messages) {
+        if (messages.isEmpty()) return;
+
+        deliveryBus.publishEach(messages);
+
+        Map<Long, List<SseSendDto>> locals = new HashMap<>();
+        messages.forEach((userId, dtos) -> {
+            if (!dtos.isEmpty() && userSessions.containsKey(userId)) locals.put(userId, dtos);
+        });
+        if (locals.isEmpty()) return;
+
+        taskExecutor.execute(() -> locals.forEach((userId, dtos) -> {
+            for (SseSendDto dto : dtos) {
+                deliverLocal(userId, dto, handlers.containsKey(dto.type()) ? null : encode(dto));
+            }
+        }));
+    }
+
+    /**
+     * 다른 노드에서 버스를 통해 도착한 메시지를 현재 노드의 세션으로 전달합니다.
+     * @param userId 목적지 유저
+     * @param dtos 순서대로 전송할 메시지 목록
+     */
+    private void deliverRemote(Long userId, List<SseSendDto> dtos) {
+        if (!userSessions.containsKey(userId)) return;
+        sendFramesAsync(List.of(userId), dtos);
+    }
+
+    /**
+     * 로컬 유저들에게 메시지 목록을 하나의 비동기 작업으로 전송합니다.
+     * @param targets 현재 노드에 연결된 목적지 목록
+     * @param dtos 순서대로 전송할 메시지 목록
+     */
+    private void sendFramesAsync(List<Long> targets, List<SseSendDto> dtos) {
+        taskExecutor.execute(() -> {
+            // 메시지 당 한 번만 직렬화하고, 모든 유저의 세션에 같은 프레임을 기록합니다.
+            // 핸들러가 등록된 이벤트는 유저마다 내용이 달라지므로, 유저 단위로 직렬화합니다.
+            List<SseFrame> frames = new ArrayList<>(dtos.size());
+            for (SseSendDto dto : dtos) {
+                frames.add(handlers.containsKey(dto.type()) ? null : encode(dto));
+            }
+
+            for (Long userId : targets) {
+                for (int i = 0; i < dtos.size(); i++) {
+                    deliverLocal(userId, dtos.get(i), frames.get(i));
+                }
+            }
+        });
+    }
+
     /**
      * 동기 작업 전용 메서드 전송 메서드입니다. <br>
      * 서비스 스레드가 전송까지 담당합니다.
@@ -111,11 +244,59 @@ public class SseEmitterManager {
      * @param dto 메시지 내용(타입 및 데이터)
      */
     private void sendMessageInternal(Long userId, SseSendDto dto) {
-        Set<String> ids = userSessions.get(userId);
-        if (ids == null || ids.isEmpty()) {
-            userSessions.remove(userId);
+        if (!userSessions.containsKey(userId)) return;
+
+        deliverLocal(userId, dto, handlers.containsKey(dto.type()) ? null : encode(dto));
+    }
+
+    /**
+     * 로컬 유저에게 하나의 이벤트를 기록합니다. 핸들러가 등록된 type 이라면 핸들러가 반환한 이벤트를 대신 기록합니다.
+     * @param userId 보내고자 하는 목적지
+     * @param dto 메시지 내용(타입 및 데이터)
+     * @param frame 미리 인코딩된 프레임, 핸들러 대상이거나 직렬화에 실패했다면 null
+     */
+    private void deliverLocal(Long userId, SseSendDto dto, SseFrame frame) {
+        SseLocalHandler handler = handlers.get(dto.type());
+        if (handler == null) {
+            if (frame != null) sendFrame(userId, frame);
+            return;
+        }
+
+        SseSendDto handled;
+        try {
+            handled = handler.handle(userId, dto);
+        } catch (Exception e) {
+            log.warn("fail to handle sse event. type={}, userId={}", dto.type(), userId, e);
             return;
         }
+        if (handled == null) return;
+
+        SseFrame handledFrame = encode(handled);
+        if (handledFrame != null) sendFrame(userId, handledFrame);
+    }
+
+    /**
+     * dto 를 미리 인코딩된 프레임으로 변환합니다. 직렬화에 실패하면 null 을 반환합니다.
+     * @param dto 메시지 내용(타입 및 데이터)
+     * @return 인코딩된 프레임 혹은 null
+     */
+    private SseFrame encode(SseSendDto dto) {
+        try {
+            return SseFrame.encode(dto, objectMapper);
+        } catch (JsonProcessingException e) {
+            log.warn("fail to encode sse event. type={}", dto.type(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 인코딩된 프레임을 유저의 모든 sse 세션에 기록합니다.
+     * @param userId 보내고자 하는 목적지
+     * @param frame 미리 인코딩된 프레임
+     */
+    private void sendFrame(Long userId, SseFrame frame) {
+        Set<String> ids = userSessions.get(userId);
+        if (ids == null || ids.isEmpty()) return;
 
         List<String> toRemove = null; // 실제로 정리할 게 생길 때만 생성
 
@@ -129,7 +310,7 @@ public class SseEmitterManager {
             }
 
             try {
-                emitter.send(SseEmitter.event().name(dto.type()).id(sessionId).data(dto.content()));
+                emitter.send(frame.toEvent(sessionId));
             } catch (IOException e) {
                 // 거의 100% 클라이언트 연결 끊김
                 log.debug("SSE send failed. userId={}, sessionId={}", userId, sessionId, e);
@@ -155,16 +336,34 @@ public class SseEmitterManager {
      * SSE 연결이 종료되었을 때 세션을 정리한다.
      * - sessionId → emitter 매핑 제거
      * - userSessions[userId] 에서 sessionId 제거
-     * - 해당 유저의 세션이 모두 사라지면 userSessions에서도 제거
+     * - 해당 유저의 세션이 모두 사라지면 userSessions에서도 제거하고, 유저 채널 구독을 해제 및 핸들러에 알림
      */
     private void remove(Long userId, String sessionId) {
         emitters.remove(sessionId);
 
-        Set<String> sessionIds = userSessions.get(userId);
-        if (sessionIds != null) {
+        userSessions.computeIfPresent(userId, (k, sessionIds) -> {
             sessionIds.remove(sessionId);
-            if (sessionIds.isEmpty()) {
-                userSessions.remove(userId);
+            return sessionIds.isEmpty() ? null : sessionIds;
+        });
+        // 해당 노드의 마지막 세션이라면 유저 채널 구독 해제
+        syncSubscription(userId);
+    }
+
+    /**
+     * 유저의 버스 구독 상태를 현재 세션 상태에 맞춥니다. 세션이 있다면 구독하고, 없다면 구독을 해제한 뒤 핸들러에 알립니다.
+     * 구독/해제는 블로킹 호출이므로 세션 map 의 갱신 함수 밖에서, 유저 단위 잠금 안에서 수행합니다.
+     * @param userId 유저 아이디
+     */
+    private void syncSubscription(Long userId) {
+        synchronized (subscriptionLocks[Math.floorMod(userId.hashCode(), subscriptionLocks.length)]) {
+            boolean connected = userSessions.containsKey(userId);
+            if (connected && subscribed.add(userId)) {
+                deliveryBus.subscribe(userId);
+            } else if (!connected && subscribed.remove(userId)) {
+                deliveryBus.unsubscribe(userId);
+                for (SseLocalHandler handler : handlers.values()) {
+                    handler.onDisconnect(userId);
+                }
             }
         }
     }
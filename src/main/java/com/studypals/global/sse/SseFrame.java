@@ -0,0 +1,88 @@
+package com.studypals.global.sse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 미리 인코딩된 SSE 이벤트 프레임입니다. <br>
+ * {@link SseSendDto} 하나 당 한 번만 직렬화하여 UTF-8 바이트로 보관하고, 모든 emitter 에 동일한 바이트를 기록합니다.
+ * <p>
+ * 기존에는 {@code SseEmitter.event().data(content)} 를 세션마다 호출하여, 같은 내용을 세션 수 만큼 다시 직렬화하였습니다.
+ * 프레임의 형식은 {@code SseEmitter.event().name(type).id(sessionId).data(content)} 와 동일하며,
+ * 세션마다 달라지는 {@code id} 만 전송 시점에 끼워 넣습니다.
+ * <pre>
+ * event:{type}
+ * id:{sessionId}
+ * data:{json}
+ * </pre>
+ *
+ * <p><b>외부 모듈:</b><br>
+ * SseEmitter, Jackson
+ *
+ * @author jack8
+ * @see SseEmitterManager
+ * @since 2026-01-13
+ */
+public final class SseFrame {
+
+    private static final MediaType TEXT_PLAIN_UTF8 = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
+    // "event:{type}\nid:"
+    private final byte[] head;
+    // "\ndata:{json}\n\n"
+    private final byte[] tail;
+
+    private SseFrame(byte[] head, byte[] tail) {
+        this.head = head;
+        this.tail = tail;
+    }
+
+    /**
+     * dto 를 직렬화하여 프레임을 생성합니다. 문자열 content 는 그대로, 그 외에는 json 으로 직렬화합니다.
+     * @param dto 메시지 내용(타입 및 데이터)
+     * @param objectMapper 직렬화에 사용할 매퍼
+     * @return 인코딩이 완료된 프레임
+     * @throws JsonProcessingException content 직렬화에 실패한 경우
+     */
+    public static SseFrame encode(SseSendDto dto, ObjectMapper objectMapper) throws JsonProcessingException {
+        String data = serialize(dto.content(), objectMapper);
+
+        // 여러 줄의 데이터는 줄마다 data: 접두사가 필요합니다.
+        String body = "\ndata:" + data.replace("\n", "\ndata:") + "\n\n";
+
+        return new SseFrame(
+                ("event:" + dto.type() + "\nid:").getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * content 를 data 필드에 기록될 문자열로 변환합니다. 문자열은 그대로, 그 외에는 json 으로 직렬화합니다.
+     * @param content 메시지 내용
+     * @param objectMapper 직렬화에 사용할 매퍼
+     * @return data 필드에 기록될 문자열
+     * @throws JsonProcessingException content 직렬화에 실패한 경우
+     */
+    public static String serialize(Object content, ObjectMapper objectMapper) throws JsonProcessingException {
+        return content instanceof String s ? s : objectMapper.writeValueAsString(content);
+    }
+
+    /**
+     * 특정 세션으로 보낼 이벤트를 구성합니다. 공유 바이트 배열은 복사되지 않습니다.
+     * @param sessionId 이벤트 id 로 사용될 세션 아이디
+     * @return {@code SseEmitter#send(Set)} 에 전달할 데이터
+     */
+    public Set<DataWithMediaType> toEvent(String sessionId) {
+        Set<DataWithMediaType> items = new LinkedHashSet<>(4);
+        items.add(new DataWithMediaType(head, TEXT_PLAIN_UTF8));
+        items.add(new DataWithMediaType(sessionId.getBytes(StandardCharsets.UTF_8), TEXT_PLAIN_UTF8));
+        items.add(new DataWithMediaType(tail, TEXT_PLAIN_UTF8));
+        return items;
+    }
+}
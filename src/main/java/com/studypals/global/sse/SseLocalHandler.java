@@ -0,0 +1,32 @@
+package com.studypals.global.sse;
+
+/**
+ * 현재 노드에 연결된 유저에게 특정 type 의 이벤트가 전달되기 직전에 호출되는 핸들러입니다. <br>
+ * {@link SseEmitterManager#registerHandler(String, SseLocalHandler)} 로 type 별로 등록하며, 로컬에서 전송된 이벤트와
+ * {@link SseDeliveryBus} 를 통해 다른 노드에서 도착한 이벤트 모두에 대해 호출됩니다.
+ * <pre>
+ * - 로컬 이벤트의 content 는 원본 객체, 다른 노드에서 도착한 이벤트의 content 는 직렬화된 json 문자열입니다.
+ * - 반환한 dto 가 실제로 유저에게 전송되며, null 을 반환하면 전송하지 않습니다.
+ * - 유저의 마지막 세션이 종료되면 {@link #onDisconnect(Long)} 가 호출됩니다.
+ * </pre>
+ *
+ * @author jack8
+ * @see SseEmitterManager
+ * @since 2026-01-23
+ */
+public interface SseLocalHandler {
+
+    /**
+     * 유저에게 전달될 이벤트를 변환합니다.
+     * @param userId 현재 노드에 연결된 목적지 유저
+     * @param dto 도착한 이벤트
+     * @return 실제로 전송할 이벤트, 전송하지 않는다면 null
+     */
+    SseSendDto handle(Long userId, SseSendDto dto);
+
+    /**
+     * 현재 노드에서 유저의 모든 세션이 종료되었을 때 호출됩니다.
+     * @param userId 유저 아이디
+     */
+    default void onDisconnect(Long userId) {}
+}
@@ -0,0 +1,327 @@
+package com.studypals.global.websocket;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 여러 인스턴스 간 채팅방 STOMP 메시지를 redis pub/sub 으로 중계합니다. <br>
+ * simple broker 는 같은 JVM 의 구독자에게만 메시지를 전달하므로, {@code /sub/chat/room/*} 에 대한 메시지를
+ * 다른 인스턴스의 broker 로 전달하는 역할을 합니다.
+ * <pre>
+ * - 채널 : "stomp:room:{roomId}" (채팅방 단위로 분리된 채널)
+ * - 발행 : broker channel 로 들어오는 채팅방 메시지를 가로채, 직렬화가 끝난 payload 를 대기열에 넣습니다.
+ *          데몬 스레드가 대기열을 비우며 하나의 파이프라인으로 발행하므로, 송신 스레드는 redis 를 기다리지 않습니다.
+ *          단일 스레드가 들어온 순서대로 발행하므로, 채팅방 내 메시지 순서는 유지됩니다.
+ * - 구독 : 현재 노드에 로컬 구독자가 있는 채팅방의 채널만 구독합니다. (0 -> 1 구독, 1 -> 0 해제)
+ *          구독/해제는 블로킹 호출이므로, 구독 수 map 의 갱신 함수 밖에서 채팅방 단위 잠금을 잡고 수행합니다.
+ * - 수신 : 다른 노드의 메시지를 로컬 broker 로 전달하며, 다시 발행되지 않도록 표시합니다.
+ * </pre>
+ * {@code chat.broker.mode=redis} 인 경우에만 동작하며, 그 외에는 simple broker 만 사용합니다.
+ *
+ * <p><b>외부 모듈:</b><br>
+ * Redis pub/sub, STOMP simple broker
+ *
+ * @author jack8
+ * @see WebsocketConfig
+ * @since 2026-01-15
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class StompRoomRelay implements ChannelInterceptor, MessageListener {
+
+    private static final String CHANNEL_PREFIX = "stomp:room:";
+    // 다른 노드에서 중계된 메시지임을 표시하는 헤더
+    private static final String RELAYED_HEADER = "studypals-relayed";
+
+    @Value("${chat.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${chat.subscribe.address.default}")
+    private String DESTINATION_PREFIX;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    // broker 설정과 순환 참조가 생기지 않도록 지연 조회합니다.
+    private final ObjectProvider<SimpMessageSendingOperations> template;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * 세션ID -> (구독ID -> 채팅방ID). UNSUBSCRIBE 는 구독 ID 만 포함하므로 목적지를 기억해 둡니다.
+     */
+    private final ConcurrentMap<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    /**
+     * 채팅방ID -> 현재 노드의 로컬 구독 수
+     */
+    private final ConcurrentMap<String, Integer> roomSubscribers = new ConcurrentHashMap<>();
+
+    /**
+     * 채널을 구독 중인 채팅방ID. {@link #syncSubscription} 에서만 변경됩니다.
+     */
+    private final Set<String> subscribedRooms = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 채팅방 단위 구독 상태 변경을 직렬화하는 잠금
+     */
+    private final Object[] subscriptionLocks = createLocks(64);
+
+    /**
+     * 발행을 기다리는 메시지와, 대기열을 비우는 작업이 예약되었는지 여부
+     */
+    private final Queue<Outbound> pending = new ConcurrentLinkedQueue<>();
+
+    private final AtomicBoolean flushing = new AtomicBoolean(false);
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "stomp-room-relay");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /**
+     * 발행을 기다리는 메시지입니다.
+     * @param roomId 채팅방 아이디
+     * @param envelope 발행할 메시지
+     */
+    private record Outbound(String roomId, Envelope envelope) {}
+
+    /**
+     * 노드 간 전달되는 메시지 형식입니다.
+     * @param origin 발행한 노드의 식별자
+     * @param contentType 직렬화된 payload 의 content-type
+     * @param payload 직렬화가 끝난 메시지 본문
+     */
+    record Envelope(String origin, String contentType, byte[] payload) {}
+
+    public boolean isEnabled() {
+        return "redis".equalsIgnoreCase(brokerMode);
+    }
+
+    /**
+     * JVM 이 종료되기 전에 executor 를 안전하게 종료합니다.
+     */
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+
+    /**
+     * broker channel 로 들어오는 채팅방 메시지를 발행 대기열에 넣습니다. 로컬 전달은 그대로 진행됩니다.
+     */
+    @Override
+    public org.springframework.messaging.Message<?> preSend(
+            org.springframework.messaging.Message<?> message, MessageChannel channel) {
+        if (!isEnabled()) return message;
+
+        // 헤더 접근자를 새로 만들지 않고 헤더를 직접 조회합니다.
+        MessageHeaders headers = message.getHeaders();
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                || destination == null
+                || !destination.startsWith(DESTINATION_PREFIX)
+                || headers.containsKey(RELAYED_HEADER)
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+        Envelope envelope = new Envelope(nodeId, contentType == null ? null : contentType.toString(), payload);
+        pending.offer(new Outbound(destination.substring(DESTINATION_PREFIX.length()), envelope));
+        triggerFlushAsync();
+        return message;
+    }
+
+    /**
+     * 데몬 스레드의 발행 작업을 유발합니다. 이미 요청된 작업이 있다면, 해당 작업이 이 메시지도 처리합니다.
+     */
+    private void triggerFlushAsync() {
+        if (!flushing.compareAndSet(false, true)) return;
+
+        executor.execute(() -> {
+            try {
+                flushOnce();
+            } finally {
+                flushing.set(false);
+            }
+            // flag 를 내리는 사이에 들어온 메시지를 놓치지 않도록 합니다.
+            if (!pending.isEmpty()) triggerFlushAsync();
+        });
+    }
+
+    /**
+     * 대기열의 메시지를 들어온 순서대로 하나의 파이프라인으로 발행합니다. 발행 실패는 로컬 전달에 영향을 주지 않습니다.
+     */
+    private void flushOnce() {
+        List<String> channels = new ArrayList<>();
+        List<String> bodies = new ArrayList<>();
+        Outbound outbound;
+        while ((outbound = pending.poll()) != null) {
+            try {
+                bodies.add(objectMapper.writeValueAsString(outbound.envelope()));
+                channels.add(CHANNEL_PREFIX + outbound.roomId());
+            } catch (Exception e) {
+                log.warn("fail to encode stomp message. roomId={}", outbound.roomId(), e);
+            }
+        }
+        if (channels.isEmpty()) return;
+
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Void>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Void execute(RedisOperations operations) throws DataAccessException {
+                    for (int i = 0; i < channels.size(); i++) {
+                        operations.convertAndSend(channels.get(i), bodies.get(i));
+                    }
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("fail to relay stomp messages. count={}", channels.size(), e);
+        }
+    }
+
+    /**
+     * 다른 노드에서 발행된 채팅방 메시지를 로컬 broker 로 전달합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        try {
+            Envelope envelope = objectMapper.readValue(message.getBody(), Envelope.class);
+            if (nodeId.equals(envelope.origin())) return;
+
+            String roomId = channel.substring(CHANNEL_PREFIX.length());
+            MessageBuilder<byte[]> builder =
+                    MessageBuilder.withPayload(envelope.payload()).setHeader(RELAYED_HEADER, Boolean.TRUE);
+            if (envelope.contentType() != null) {
+                builder.setHeader(MessageHeaders.CONTENT_TYPE, MimeType.valueOf(envelope.contentType()));
+            }
+
+            template.getObject().send(DESTINATION_PREFIX + roomId, builder.build());
+        } catch (Exception e) {
+            log.warn("fail to handle relayed stomp message. channel={}", channel, e);
+        }
+    }
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        if (!isEnabled()) return;
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        if (destination == null || sessionId == null || subscriptionId == null) return;
+        if (!destination.startsWith(DESTINATION_PREFIX)) return;
+
+        String roomId = destination.substring(DESTINATION_PREFIX.length());
+        String previous = sessionSubscriptions
+                .computeIfAbsent(sessionId, k -> new ConcurrentHashMap<>())
+                .put(subscriptionId, roomId);
+
+        acquire(roomId);
+        // 같은 구독 ID 로 다시 구독하는 경우 이전 구독을 대체합니다.
+        if (previous != null) release(previous);
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        if (!isEnabled()) return;
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+        if (subscriptions == null || accessor.getSubscriptionId() == null) return;
+
+        String roomId = subscriptions.remove(accessor.getSubscriptionId());
+        if (roomId != null) release(roomId);
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        if (!isEnabled()) return;
+
+        Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions == null) return;
+
+        subscriptions.values().forEach(this::release);
+    }
+
+    /**
+     * 채팅방의 로컬 구독 수를 늘립니다. 첫 구독이라면 채팅방 채널을 구독합니다.
+     */
+    private void acquire(String roomId) {
+        roomSubscribers.merge(roomId, 1, Integer::sum);
+        syncSubscription(roomId);
+    }
+
+    /**
+     * 채팅방의 로컬 구독 수를 줄입니다. 마지막 구독이라면 채팅방 채널 구독을 해제합니다.
+     */
+    private void release(String roomId) {
+        roomSubscribers.computeIfPresent(roomId, (k, count) -> count > 1 ? count - 1 : null);
+        syncSubscription(roomId);
+    }
+
+    /**
+     * 채팅방 채널의 구독 상태를 현재 로컬 구독 수에 맞춥니다. 구독/해제는 블로킹 호출이므로 구독 수 map 의 갱신 함수 밖에서,
+     * 채팅방 단위 잠금 안에서 수행합니다. 잠금 안에서 구독 수를 다시 확인하므로 구독과 해제가 경합하더라도 어긋나지 않습니다.
+     */
+    private void syncSubscription(String roomId) {
+        synchronized (subscriptionLocks[Math.floorMod(roomId.hashCode(), subscriptionLocks.length)]) {
+            ChannelTopic topic = new ChannelTopic(CHANNEL_PREFIX + roomId);
+            boolean active = roomSubscribers.containsKey(roomId);
+            if (active && subscribedRooms.add(roomId)) {
+                listenerContainer.addMessageListener(this, topic);
+            } else if (!active && subscribedRooms.remove(roomId)) {
+                listenerContainer.removeMessageListener(this, topic);
+            }
+        }
+    }
+
+    private static Object[] createLocks(int size) {
+        Object[] locks = new Object[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+}
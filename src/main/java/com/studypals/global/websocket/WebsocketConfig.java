@@ -28,6 +28,7 @@ import lombok.RequiredArgsConstructor;
 public class WebsocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final StompRoomRelay stompRoomRelay;
 
     @Override
     public void configureWebSocketTransport(WebSocketTransportRegistration registry) {
@@ -41,11 +42,19 @@ public class WebsocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
+        // 다중 인스턴스의 채팅방 메시지는 StompRoomRelay 가 simple broker 사이를 중계합니다.
         config.enableSimpleBroker("/sub", "/queue");
         config.setApplicationDestinationPrefixes("/pub", "/req");
         config.setUserDestinationPrefix("/user");
     }
 
+    @Override
+    public void configureBrokerChannel(ChannelRegistration registration) {
+        if (stompRoomRelay.isEnabled()) {
+            registration.interceptors(stompRoomRelay);
+        }
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws").setAllowedOriginPatterns("*");
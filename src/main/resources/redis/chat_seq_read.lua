@@ -0,0 +1,21 @@
+-- KEYS[1] = read sequence key
+-- ARGV[1] = 읽은 메시지 순번
+-- ARGV[2] = 만료 시간(초)
+
+-- 저장된 순번보다 클 때만 읽은 순번을 갱신함
+-- 늦게 도착한 flush 가 읽은 순번을 되돌리지 않도록 하기 위함
+-- return type
+-- 1 = 갱신됨, 0 = 저장된 순번이 같거나 더 큼
+
+local key = KEYS[1]
+local seq = tonumber(ARGV[1])
+local ttl = ARGV[2]
+
+local current = redis.call('GET', key)
+if current and tonumber(current) >= seq then
+    redis.call('EXPIRE', key, ttl)
+    return 0
+end
+
+redis.call('SET', key, ARGV[1], 'EX', ttl)
+return 1
@@ -0,0 +1,85 @@
+-- KEYS[1] = stream key
+-- KEYS[2] = summary hash key
+-- KEYS[3] = 채팅방 별 마지막 접근 시각 sorted set
+-- ARGV[1] = 기본 stream maxlen (approximate trimming). 요약에 채팅방 별 maxlen 이 있다면 해당 값을 사용
+-- ARGV[2] = 엔트리 포맷. 'fields' 또는 'compact'
+-- ARGV[3] = 현재 시각 (epoch ms)
+-- ARGV[4] = 채팅방 ID (접근 시각 sorted set 의 member)
+-- ARGV[5..] = 엔트리 포맷에 따른 반복
+--   fields  : { record id, type, sender, message, seq }. seq 가 빈 문자열이면 저장하지 않음
+--   compact : { record id, payload }. payload 는 ChatStreamCodec 으로 인코딩된 값
+
+-- return type
+-- 추가에 실패한 메시지 개수 (더 작은 record id 등)
+
+-- summary hash
+-- len     = stream length
+-- oldest  = oldest record id
+-- newest  = newest record id
+-- type    = latest chat type     (fields 포맷)
+-- sender  = latest chat sender   (fields 포맷)
+-- message = latest chat message  (fields 포맷)
+-- d       = latest chat payload  (compact 포맷)
+-- maxlen  = 채팅방 별 stream maxlen (재조정 시 설정)
+-- writes  = 직전 재조정 이후 추가된 메시지 수
+
+local stream  = KEYS[1]
+local summary = KEYS[2]
+local lru     = KEYS[3]
+local maxlen  = redis.call('HGET', summary, 'maxlen') or ARGV[1]
+local compact = ARGV[2] == 'compact'
+local step    = compact and 2 or 5
+
+local failed = 0
+local added  = 0
+local last   = nil
+
+for i = 5, #ARGV, step do
+    local id = ARGV[i]
+
+    local res
+    if compact then
+        res = redis.pcall('XADD', stream, 'MAXLEN', '~', maxlen, id, 'd', ARGV[i + 1])
+    elseif ARGV[i + 4] == '' then
+        res = redis.pcall('XADD', stream, 'MAXLEN', '~', maxlen, id,
+            'id', id, 'type', ARGV[i + 1], 'sender', ARGV[i + 2], 'message', ARGV[i + 3])
+    else
+        res = redis.pcall('XADD', stream, 'MAXLEN', '~', maxlen, id,
+            'id', id, 'type', ARGV[i + 1], 'sender', ARGV[i + 2], 'message', ARGV[i + 3], 'seq', ARGV[i + 4])
+    end
+
+    if type(res) == 'table' and res.err then
+        failed = failed + 1
+    else
+        added = added + 1
+        last = i
+    end
+end
+
+-- 추가된 메시지가 있다면, 트리밍 이후의 상태로 요약을 갱신
+if last ~= nil then
+    local first = redis.call('XRANGE', stream, '-', '+', 'COUNT', 1)
+    if compact then
+        redis.call('HSET', summary,
+            'len', redis.call('XLEN', stream),
+            'oldest', first[1][1],
+            'newest', ARGV[last],
+            'd', ARGV[last + 1])
+        redis.call('HDEL', summary, 'type', 'sender', 'message')
+    else
+        redis.call('HSET', summary,
+            'len', redis.call('XLEN', stream),
+            'oldest', first[1][1],
+            'newest', ARGV[last],
+            'type', ARGV[last + 1],
+            'sender', ARGV[last + 2],
+            'message', ARGV[last + 3])
+        redis.call('HDEL', summary, 'd')
+    end
+    redis.call('HINCRBY', summary, 'writes', added)
+end
+
+-- 마지막 접근 시각 갱신. 실패하더라도 메시지 추가는 실패시키지 않음
+redis.pcall('ZADD', lru, 'GT', ARGV[3], ARGV[4])
+
+return failed
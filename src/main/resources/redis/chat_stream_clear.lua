@@ -0,0 +1,13 @@
+-- KEYS[1] = stream key
+-- KEYS[2] = summary hash key
+
+-- 채팅방의 stream 을 삭제하고, 요약에서 stream 내용에 대한 필드만 삭제함
+-- 재조정으로 정해진 maxlen, writes 는 유지하여 다음 추가부터 채팅방 별 maxlen 이 그대로 적용되도록 함
+-- return type
+-- 삭제된 stream 개수
+
+local stream  = KEYS[1]
+local summary = KEYS[2]
+
+redis.call('HDEL', summary, 'len', 'oldest', 'newest', 'type', 'sender', 'message', 'd')
+return redis.call('DEL', stream)
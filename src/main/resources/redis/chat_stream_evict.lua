@@ -0,0 +1,28 @@
+-- KEYS[1] = stream key
+-- KEYS[2] = summary hash key
+-- KEYS[3] = 채팅방 별 마지막 접근 시각 sorted set
+-- ARGV[1] = 채팅방 ID (접근 시각 sorted set 의 member)
+-- ARGV[2] = 사용 현황 수집 시 확인한 마지막 접근 시각 (epoch ms)
+-- ARGV[3] = 삭제할 채팅방의 마지막 접근 시각 상한 (epoch ms)
+
+-- 채팅방의 캐시를 사용 현황 기록과 함께 삭제함
+-- 수집 이후 메시지가 추가(접근)되었거나, 마지막 접근이 상한 이후라면 삭제하지 않음
+-- 아직 DB 에 저장되지 않은 메시지가 stream 에서 사라지면, 이후 재구성된 캐시에 빈 구간이 생길 수 있기 때문
+-- return type
+-- 1 = 삭제됨, 0 = 최근 접근이 있어 유지됨
+
+local stream  = KEYS[1]
+local summary = KEYS[2]
+local lru     = KEYS[3]
+
+local accessed = redis.call('ZSCORE', lru, ARGV[1])
+if accessed then
+    accessed = tonumber(accessed)
+    if accessed > tonumber(ARGV[2]) or accessed > tonumber(ARGV[3]) then
+        return 0
+    end
+end
+
+redis.call('DEL', stream, summary)
+redis.call('ZREM', lru, ARGV[1])
+return 1
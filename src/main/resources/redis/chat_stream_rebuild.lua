@@ -0,0 +1,109 @@
+-- KEYS[1] = stream key
+-- KEYS[2] = summary hash key
+-- ARGV[1] = 기본 stream maxlen. 요약에 채팅방 별 maxlen 이 있다면 해당 값을 사용
+-- ARGV[2] = 엔트리 포맷. 'fields' 또는 'compact'
+-- ARGV[3..] = chat_stream_append.lua 와 같은 형식의 엔트리 반복 (record id 오름차순)
+
+-- DB 에서 조회한 메시지를 stream 에 병합함. stream 을 비우지 않으므로, 아직 DB 에 저장되지 않은 메시지도 남음
+-- 이미 stream 에 있는 record id 는 건너뜀
+-- 병합할 메시지가 모두 stream 의 최신 엔트리 이후라면 그대로 추가하고,
+-- 그렇지 않다면 기존 엔트리와 합쳐 record id 순서대로 stream 을 다시 씀. 스크립트 안에서 수행되므로 그 사이의 추가는 없음
+-- 요약의 maxlen, writes 는 변경하지 않음
+-- return type
+-- 새로 추가된 메시지 개수
+
+local stream  = KEYS[1]
+local summary = KEYS[2]
+local maxlen  = tonumber(redis.call('HGET', summary, 'maxlen') or ARGV[1])
+local compact = ARGV[2] == 'compact'
+local step    = compact and 2 or 5
+
+-- record id("ms-seq") 비교. ms 는 double 범위를 넘을 수 있으므로 문자열 길이와 사전 순으로 비교
+-- ChatMessageIds.compareRecordIds 와 같은 규칙을 따름
+local function less(a, b)
+    local am, as = string.match(a, '^(%d+)-(%d+)$')
+    local bm, bs = string.match(b, '^(%d+)-(%d+)$')
+    if #am ~= #bm then return #am < #bm end
+    if am ~= bm then return am < bm end
+    return tonumber(as) < tonumber(bs)
+end
+
+local existing = redis.call('XRANGE', stream, '-', '+')
+local present = {}
+for _, entry in ipairs(existing) do
+    present[entry[1]] = true
+end
+
+local incoming = {}
+for i = 3, #ARGV, step do
+    local id = ARGV[i]
+    if not present[id] then
+        present[id] = true
+        local fields
+        if compact then
+            fields = { 'd', ARGV[i + 1] }
+        else
+            fields = { 'id', id, 'type', ARGV[i + 1], 'sender', ARGV[i + 2], 'message', ARGV[i + 3] }
+            if ARGV[i + 4] ~= '' then
+                table.insert(fields, 'seq')
+                table.insert(fields, ARGV[i + 4])
+            end
+        end
+        table.insert(incoming, { id, fields })
+    end
+end
+
+if #incoming == 0 then
+    return 0
+end
+
+local entries
+local newest = #existing > 0 and existing[#existing][1] or nil
+if newest == nil or less(newest, incoming[1][1]) then
+    -- 모두 최신 엔트리 이후이므로 추가만 수행
+    entries = incoming
+else
+    entries = {}
+    for _, entry in ipairs(existing) do table.insert(entries, entry) end
+    for _, entry in ipairs(incoming) do table.insert(entries, entry) end
+    table.sort(entries, function(a, b) return less(a[1], b[1]) end)
+    redis.call('DEL', stream)
+end
+
+-- 최신 maxlen 개만 다시 쓰거나 추가
+for i = math.max(1, #entries - maxlen + 1), #entries do
+    redis.call('XADD', stream, entries[i][1], unpack(entries[i][2]))
+end
+redis.call('XTRIM', stream, 'MAXLEN', maxlen)
+
+local first = redis.call('XRANGE', stream, '-', '+', 'COUNT', 1)
+local last = redis.call('XREVRANGE', stream, '+', '-', 'COUNT', 1)
+
+local msgType, sender, message, payload = '', '', '', nil
+local fields = last[1][2]
+for j = 1, #fields, 2 do
+    local field = fields[j]
+    if field == 'd' then
+        payload = fields[j + 1]
+    elseif field == 'type' then
+        msgType = fields[j + 1]
+    elseif field == 'sender' then
+        sender = fields[j + 1]
+    elseif field == 'message' then
+        message = fields[j + 1]
+    end
+end
+
+redis.call('HSET', summary,
+    'len', redis.call('XLEN', stream),
+    'oldest', first[1][1],
+    'newest', last[1][1])
+if payload ~= nil then
+    redis.call('HSET', summary, 'd', payload)
+    redis.call('HDEL', summary, 'type', 'sender', 'message')
+else
+    redis.call('HSET', summary, 'type', msgType, 'sender', sender, 'message', message)
+    redis.call('HDEL', summary, 'd')
+end
+
+return #incoming
@@ -0,0 +1,54 @@
+-- KEYS[1] = stream key
+-- KEYS[2] = summary hash key
+
+-- 요약이 없는 기존 stream 에 대해 요약을 채움. 이미 요약이 있다면 그대로 둠
+-- 캐시를 비운 채팅방의 요약에는 maxlen, writes 만 남아 있으므로, len 필드로 요약이 있는지 확인함
+-- return type
+-- 1 = 요약이 존재함, 0 = stream 이 비어 있음
+
+local stream  = KEYS[1]
+local summary = KEYS[2]
+
+if redis.call('HEXISTS', summary, 'len') == 1 then
+    return 1
+end
+
+local first = redis.call('XRANGE', stream, '-', '+', 'COUNT', 1)
+if #first == 0 then
+    return 0
+end
+local last = redis.call('XREVRANGE', stream, '+', '-', 'COUNT', 1)
+
+-- compact 포맷 엔트리라면 payload 를 그대로 요약에 저장
+local msgType, sender, message, payload = '', '', '', nil
+local fields = last[1][2]
+for j = 1, #fields, 2 do
+    local field = fields[j]
+    if field == 'd' then
+        payload = fields[j + 1]
+    elseif field == 'type' then
+        msgType = fields[j + 1]
+    elseif field == 'sender' then
+        sender = fields[j + 1]
+    elseif field == 'message' then
+        message = fields[j + 1]
+    end
+end
+
+if payload ~= nil then
+    redis.call('HSET', summary,
+        'len', redis.call('XLEN', stream),
+        'oldest', first[1][1],
+        'newest', last[1][1],
+        'd', payload)
+else
+    redis.call('HSET', summary,
+        'len', redis.call('XLEN', stream),
+        'oldest', first[1][1],
+        'newest', last[1][1],
+        'type', msgType,
+        'sender', sender,
+        'message', message)
+end
+
+return 1
@@ -0,0 +1,37 @@
+-- KEYS[1] = stream key
+-- KEYS[2] = summary hash key
+-- ARGV[1] = stream maxlen
+-- ARGV[2] = 집계가 끝난 추가 메시지 수
+
+-- 채팅방의 stream 최대 길이를 변경하고, 그에 맞게 stream 을 자름
+-- 요약이 없는 stream 은 다음 조회에서 요약이 채워지므로 그대로 둠
+-- return type
+-- 1 = 변경됨, 0 = 요약이 없음
+
+local stream  = KEYS[1]
+local summary = KEYS[2]
+local maxlen  = ARGV[1]
+local writes  = ARGV[2]
+
+if redis.call('EXISTS', summary) == 0 then
+    return 0
+end
+
+redis.call('HSET', summary, 'maxlen', maxlen)
+redis.call('HINCRBY', summary, 'writes', -tonumber(writes))
+
+-- 주기적으로만 수행되므로, 정확한 길이로 자름
+redis.call('XTRIM', stream, 'MAXLEN', maxlen)
+
+local first = redis.call('XRANGE', stream, '-', '+', 'COUNT', 1)
+if #first == 0 then
+    -- 비어 있는 stream 의 요약은 maxlen, writes 만 남김
+    redis.call('HDEL', summary, 'len', 'oldest', 'newest', 'type', 'sender', 'message', 'd')
+    return 1
+end
+
+redis.call('HSET', summary,
+    'len', redis.call('XLEN', stream),
+    'oldest', first[1][1])
+
+return 1
@@ -0,0 +1,21 @@
+-- KEYS[2i-1] = 기간 별 전체 랭킹 key
+-- KEYS[2i]   = 같은 기간의 그룹 랭킹 key
+-- ARGV[1]    = 그룹에 참여한 유저 ID
+-- ARGV[i+1]  = 그룹 랭킹 key 의 만료 시간(초)
+
+-- 그룹에 참여한 유저의 기간 내 누적 공부 시간을 그룹 랭킹에 옮김
+-- 그룹 랭킹에 이미 기록이 있다면 그대로 둠
+-- return type
+-- 옮긴 기간의 수
+
+local member = ARGV[1]
+local copied = 0
+
+for i = 1, #KEYS / 2 do
+    local score = redis.call('ZSCORE', KEYS[2 * i - 1], member)
+    if score then
+        copied = copied + redis.call('ZADD', KEYS[2 * i], 'NX', score, member)
+        redis.call('EXPIRE', KEYS[2 * i], ARGV[i + 1])
+    end
+end
+return copied
@@ -0,0 +1,44 @@
+-- KEYS[1]   = 이전 공부 시간 hash key (studyTimeStats:{period key})
+-- KEYS[2]   = 같은 기간의 전체 랭킹 sorted set key
+-- KEYS[3..] = 같은 기간의 그룹 랭킹 sorted set key. 유저 순서대로, 유저 별 그룹 수만큼 이어짐
+-- ARGV[1]   = 랭킹 key 의 만료 시간(초)
+-- ARGV[3i-1], ARGV[3i], ARGV[3i+1] = 유저 ID, 읽어 둔 공부 시간, 유저가 속한 그룹 수
+
+-- 읽어 둔 값이 그대로인 유저의 공부 시간을 전체 랭킹과 그룹 랭킹에 더한 뒤 hash 에서 삭제함
+-- 그 사이 값이 바뀌었거나 이미 옮겨진 유저는 건너뛰므로, 여러 노드가 동시에 실행하더라도 한 번만 더해짐
+-- 건너뛴 유저는 hash 에 남아 다음 실행 때 옮겨짐. 마지막 유저가 삭제되면 hash 도 삭제됨
+-- return type
+-- 옮긴 유저 수. hash 가 없다면 0
+
+local legacy  = KEYS[1]
+local ranking = KEYS[2]
+
+if redis.call('TYPE', legacy)['ok'] ~= 'hash' then
+    return 0
+end
+
+local moved = 0
+local next_key = 3
+for i = 2, #ARGV, 3 do
+    local member  = ARGV[i]
+    local value   = ARGV[i + 1]
+    local groups  = tonumber(ARGV[i + 2])
+
+    if redis.call('HGET', legacy, member) == value then
+        local seconds = tonumber(value)
+        if seconds then
+            redis.call('ZINCRBY', ranking, seconds, member)
+            for j = next_key, next_key + groups - 1 do
+                redis.call('ZINCRBY', KEYS[j], seconds, member)
+                redis.call('EXPIRE', KEYS[j], ARGV[1])
+            end
+            moved = moved + 1
+        end
+        redis.call('HDEL', legacy, member)
+    end
+    next_key = next_key + groups
+end
+if moved > 0 then
+    redis.call('EXPIRE', ranking, ARGV[1])
+end
+return moved
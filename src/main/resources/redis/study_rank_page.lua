@@ -0,0 +1,38 @@
+-- KEYS[1] = 그룹 랭킹 sorted set key
+-- ARGV[1] = 페이지 시작 위치 (0 부터)
+-- ARGV[2] = 페이지 크기
+-- ARGV[3] = 조회하는 유저 ID
+
+-- 랭킹의 한 페이지와 조회한 유저의 순위를 한 번에 조회함
+-- 순위는 자신보다 점수가 높은 유저 수 + 1 이므로, 점수가 같다면 순위도 같음
+-- return type (모두 문자열)
+-- [1] = 랭킹에 기록된 유저 수
+-- [2] = 조회한 유저의 점수, [3] = 조회한 유저의 순위 (기록이 없다면 점수 0 기준)
+-- [4] = 페이지 첫 유저의 순위, 페이지가 비어 있다면 ''
+-- [5..] = member, score 반복 (점수 내림차순)
+
+local key    = KEYS[1]
+local offset = tonumber(ARGV[1])
+local count  = tonumber(ARGV[2])
+local me     = ARGV[3]
+
+local result = { tostring(redis.call('ZCARD', key)) }
+
+local score = redis.call('ZSCORE', key, me)
+if not score then
+    score = '0'
+end
+table.insert(result, score)
+table.insert(result, tostring(redis.call('ZCOUNT', key, '(' .. score, '+inf') + 1))
+
+local page = redis.call('ZREVRANGE', key, offset, offset + count - 1, 'WITHSCORES')
+if #page == 0 then
+    table.insert(result, '')
+else
+    table.insert(result, tostring(redis.call('ZCOUNT', key, '(' .. page[2], '+inf') + 1))
+end
+
+for i = 1, #page do
+    table.insert(result, page[i])
+end
+return result
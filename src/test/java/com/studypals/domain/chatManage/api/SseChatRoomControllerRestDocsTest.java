@@ -65,7 +65,7 @@ class SseChatRoomControllerRestDocsTest extends RestDocsSupport {
                         3L)));
 
         given(sseEmitterManager.createEmitter(any())).willReturn(emitter);
-        given(chatRoomService.getChatRoomList(any())).willReturn(chatRoomListRes);
+        given(chatRoomService.getChatRoomListSnapshot(any())).willReturn(chatRoomListRes);
 
         mockMvc.perform(get("/sse/chat/room/list").accept(MediaType.TEXT_EVENT_STREAM))
                 .andExpect(request().asyncStarted())
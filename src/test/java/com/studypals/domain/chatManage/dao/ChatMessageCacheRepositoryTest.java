@@ -12,7 +12,9 @@ import org.springframework.data.domain.Range;
 import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import com.studypals.domain.chatManage.dto.ChatStreamUsage;
 import com.studypals.domain.chatManage.dto.ChatType;
 import com.studypals.domain.chatManage.dto.ChatroomLatestInfo;
 import com.studypals.domain.chatManage.entity.ChatMessage;
@@ -39,6 +41,7 @@ class ChatMessageCacheRepositoryTest extends TestEnvironment {
     Snowflake snowflake;
 
     private static final String KEY_PREFIX = "chat:msg:room:";
+    private static final String SUMMARY_PREFIX = "chat:msg:summary:";
 
     @BeforeEach
     void beforeEach() {
@@ -70,6 +73,44 @@ class ChatMessageCacheRepositoryTest extends TestEnvironment {
         assertThat(message.get("message")).isEqualTo("example message");
     }
 
+    @Test
+    void save_success_compactFormat() {
+        String roomId = UUID.randomUUID().toString();
+        List<ChatMessage> saved = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ChatMessage chat = createChat(roomId);
+            chat.setSeq((long) i + 1);
+            saved.add(chat);
+        }
+        // 기존 포맷으로 저장된 엔트리 이후에 compact 포맷 엔트리가 추가됨
+        cacheRepository.saveAll(saved.subList(0, 5));
+        ReflectionTestUtils.setField(cacheRepository, "streamFormat", "compact");
+        try {
+            cacheRepository.saveAll(saved.subList(5, 10));
+        } finally {
+            ReflectionTestUtils.setField(cacheRepository, "streamFormat", "fields");
+        }
+
+        List<MapRecord<String, String, String>> records =
+                redisTemplate.<String, String>opsForStream().range(KEY_PREFIX + roomId, Range.unbounded());
+        assertThat(records.get(9).getValue()).containsOnlyKeys("d");
+
+        List<ChatMessage> response = cacheRepository.fetchFromId(roomId, saved.get(0).getId());
+        assertThat(response).hasSize(10);
+        assertThat(response.get(0)).isEqualTo(saved.get(9));
+        assertThat(response.get(9)).isEqualTo(saved.get(0));
+        assertThat(cacheRepository.findSequences(Map.of(roomId, List.of(saved.get(7).getId()))))
+                .containsEntry(saved.get(7).getId(), 8L);
+
+        Map<String, ChatroomLatestInfo> latest = cacheRepository.countAllToLatest(Map.of(roomId, saved.get(3).getId()));
+        assertThat(latest).hasEntrySatisfying(roomId, msg -> {
+            assertThat(msg.getCnt()).isEqualTo(6);
+            assertThat(msg.getId()).isEqualTo(saved.get(9).getId());
+            assertThat(msg.getSender()).isEqualTo(1L);
+            assertThat(msg.getContent()).isEqualTo("test message");
+        });
+    }
+
     @Test
     void saveAll_success() {
         String roomId = UUID.randomUUID().toString();
@@ -167,6 +208,230 @@ class ChatMessageCacheRepositoryTest extends TestEnvironment {
                 });
     }
 
+    @Test
+    void saveAll_success_maintainSummary() {
+        String roomId = UUID.randomUUID().toString();
+        List<ChatMessage> saved = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            saved.add(createChat(roomId));
+        }
+        cacheRepository.saveAll(saved);
+
+        Map<String, String> summary = redisTemplate.<String, String>opsForHash().entries(SUMMARY_PREFIX + roomId);
+        ChatMessage first = saved.get(0);
+        ChatMessage last = saved.get(saved.size() - 1);
+
+        assertThat(summary)
+                .containsEntry("len", "30")
+                .containsEntry("oldest", Long.parseLong(first.getId(), 16) + "-0")
+                .containsEntry("newest", Long.parseLong(last.getId(), 16) + "-0")
+                .containsEntry("sender", "1")
+                .containsEntry("message", last.getContent());
+    }
+
+    @Test
+    void countAllToLatest_success_withoutSummary() {
+        String roomId = UUID.randomUUID().toString();
+        List<ChatMessage> saved = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            saved.add(createChat(roomId));
+        }
+        cacheRepository.saveAll(saved);
+        // 요약 도입 이전에 저장된 stream
+        redisTemplate.delete(SUMMARY_PREFIX + roomId);
+
+        Map<String, ChatroomLatestInfo> response =
+                cacheRepository.countAllToLatest(Map.of(roomId, saved.get(3).getId()));
+
+        assertThat(response).hasEntrySatisfying(roomId, msg -> {
+            assertThat(msg.getCnt()).isEqualTo(6);
+            assertThat(msg.getId()).isEqualTo(saved.get(saved.size() - 1).getId());
+        });
+        assertThat(redisTemplate.opsForHash().get(SUMMARY_PREFIX + roomId, "len")).isEqualTo("10");
+    }
+
+    @Test
+    void resize_success_trimAndKeepMaxLen() {
+        String roomId = UUID.randomUUID().toString();
+        List<ChatMessage> saved = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            saved.add(createChat(roomId));
+        }
+        cacheRepository.saveAll(saved);
+        cacheRepository.recordReads(Map.of(roomId, 45));
+
+        List<ChatStreamUsage> usages = cacheRepository.collectUsages();
+        assertThat(usages).singleElement().satisfies(usage -> {
+            assertThat(usage.roomId()).isEqualTo(roomId);
+            assertThat(usage.length()).isEqualTo(60L);
+            assertThat(usage.maxLen()).isNull();
+            assertThat(usage.writes()).isEqualTo(60L);
+            assertThat(usage.depth()).isEqualTo(45);
+        });
+
+        cacheRepository.resize(roomId, 20, 60);
+        for (int i = 0; i < 5; i++) {
+            cacheRepository.save(createChat(roomId));
+        }
+
+        StreamOperations<String, String, String> streamOps = redisTemplate.opsForStream();
+        assertThat(streamOps.size(KEY_PREFIX + roomId)).isLessThanOrEqualTo(25L);
+        assertThat(cacheRepository.collectUsages()).singleElement().satisfies(usage -> {
+            assertThat(usage.maxLen()).isEqualTo(20);
+            assertThat(usage.writes()).isEqualTo(5L);
+            assertThat(usage.depth()).isZero();
+        });
+    }
+
+    @Test
+    void saveAll_success_multipleRoomsRecordAccess() {
+        String roomA = UUID.randomUUID().toString();
+        String roomB = UUID.randomUUID().toString();
+        List<ChatMessage> saved = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            saved.add(createChat(i % 2 == 0 ? roomA : roomB));
+        }
+
+        cacheRepository.saveAll(saved);
+
+        StreamOperations<String, String, String> streamOps = redisTemplate.opsForStream();
+        assertThat(streamOps.size(KEY_PREFIX + roomA)).isEqualTo(3L);
+        assertThat(streamOps.size(KEY_PREFIX + roomB)).isEqualTo(3L);
+        assertThat(cacheRepository.collectUsages())
+                .extracting(ChatStreamUsage::roomId)
+                .containsExactlyInAnyOrder(roomA, roomB);
+    }
+
+    @Test
+    void saveAll_success_reportRejectedRoom() {
+        String roomA = UUID.randomUUID().toString();
+        String roomB = UUID.randomUUID().toString();
+        ChatMessage older = createChat(roomA);
+        ChatMessage newer = createChat(roomA);
+        // 다른 노드가 더 큰 ID 를 먼저 추가함
+        cacheRepository.save(newer);
+
+        ChatMessageCacheRepository.SaveResult result = cacheRepository.saveAll(List.of(older, createChat(roomB)));
+        cacheRepository.merge(roomA, List.of(older));
+
+        assertThat(result.rejected()).containsExactly(roomA);
+        assertThat(result.failed()).isEmpty();
+        assertThat(redisTemplate.opsForStream().size(KEY_PREFIX + roomA)).isEqualTo(2L);
+        assertThat(redisTemplate.opsForStream().size(KEY_PREFIX + roomB)).isEqualTo(1L);
+    }
+
+    @Test
+    void merge_success_keepUnpersistedMessages() {
+        String roomId = UUID.randomUUID().toString();
+        List<ChatMessage> saved = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            saved.add(createChat(roomId));
+        }
+        // 5 번째까지만 DB 에 저장되었고, 스트림에는 이후 메시지만 남아 있음
+        cacheRepository.saveAll(saved.subList(5, 10));
+        cacheRepository.resize(roomId, 50, 5);
+
+        cacheRepository.merge(roomId, saved.subList(0, 6));
+
+        List<MapRecord<String, String, String>> records =
+                redisTemplate.<String, String>opsForStream().range(KEY_PREFIX + roomId, Range.unbounded());
+        assertThat(records)
+                .extracting(r -> r.getId().getValue())
+                .containsExactlyElementsOf(saved.stream()
+                        .map(m -> Long.parseLong(m.getId(), 16) + "-0")
+                        .toList());
+
+        Map<String, String> summary = redisTemplate.<String, String>opsForHash().entries(SUMMARY_PREFIX + roomId);
+        assertThat(summary)
+                .containsEntry("len", "10")
+                .containsEntry("oldest", Long.parseLong(saved.get(0).getId(), 16) + "-0")
+                .containsEntry("newest", Long.parseLong(saved.get(9).getId(), 16) + "-0")
+                .containsEntry("maxlen", "50")
+                .containsEntry("writes", "0");
+    }
+
+    @Test
+    void merge_success_appendNewerMessages() {
+        String roomId = UUID.randomUUID().toString();
+        List<ChatMessage> saved = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            saved.add(createChat(roomId));
+        }
+        cacheRepository.saveAll(saved.subList(0, 3));
+
+        cacheRepository.merge(roomId, saved);
+
+        StreamOperations<String, String, String> streamOps = redisTemplate.opsForStream();
+        assertThat(streamOps.size(KEY_PREFIX + roomId)).isEqualTo(10L);
+        assertThat(cacheRepository.getLastest(roomId))
+                .hasValueSatisfying(m -> assertThat(m.getId()).isEqualTo(saved.get(9).getId()));
+    }
+
+    @Test
+    void evict_success() {
+        String roomId = UUID.randomUUID().toString();
+        cacheRepository.save(createChat(roomId));
+        List<ChatStreamUsage> usages = cacheRepository.collectUsages();
+
+        int evicted = cacheRepository.evict(usages, Long.MAX_VALUE);
+
+        assertThat(evicted).isEqualTo(1);
+        assertThat(redisTemplate.hasKey(KEY_PREFIX + roomId)).isFalse();
+        assertThat(redisTemplate.hasKey(SUMMARY_PREFIX + roomId)).isFalse();
+        assertThat(cacheRepository.collectUsages()).isEmpty();
+    }
+
+    @Test
+    void evict_success_skipAccessedAfterCollect() {
+        String roomId = UUID.randomUUID().toString();
+        cacheRepository.save(createChat(roomId));
+        ChatStreamUsage usage = cacheRepository.collectUsages().get(0);
+        // 수집 이후 메시지가 추가된 상태
+        ChatStreamUsage collected = new ChatStreamUsage(
+                roomId, usage.lastAccess() - 1, usage.length(), usage.maxLen(), usage.writes(), usage.depth());
+
+        int evicted = cacheRepository.evict(List.of(collected), Long.MAX_VALUE);
+
+        assertThat(evicted).isZero();
+        assertThat(redisTemplate.hasKey(KEY_PREFIX + roomId)).isTrue();
+        assertThat(cacheRepository.collectUsages()).extracting(ChatStreamUsage::roomId).containsExactly(roomId);
+    }
+
+    @Test
+    void evict_success_skipWithinGrace() {
+        String roomId = UUID.randomUUID().toString();
+        cacheRepository.save(createChat(roomId));
+        List<ChatStreamUsage> usages = cacheRepository.collectUsages();
+
+        int evicted = cacheRepository.evict(usages, usages.get(0).lastAccess() - 1);
+
+        assertThat(evicted).isZero();
+        assertThat(redisTemplate.hasKey(KEY_PREFIX + roomId)).isTrue();
+    }
+
+    @Test
+    void clear_success_keepMaxLen() {
+        String roomId = UUID.randomUUID().toString();
+        cacheRepository.save(createChat(roomId));
+        cacheRepository.resize(roomId, 20, 0);
+
+        cacheRepository.clear(roomId);
+
+        assertThat(redisTemplate.hasKey(KEY_PREFIX + roomId)).isFalse();
+        assertThat(cacheRepository.getMaxLen(roomId)).isEqualTo(20);
+        assertThat(redisTemplate.opsForHash().hasKey(SUMMARY_PREFIX + roomId, "len")).isFalse();
+
+        // 다시 추가된 뒤에도 채팅방 별 최대 길이가 유지됨
+        cacheRepository.save(createChat(roomId));
+        assertThat(redisTemplate.opsForHash().get(SUMMARY_PREFIX + roomId, "len")).isEqualTo("1");
+        assertThat(cacheRepository.getMaxLen(roomId)).isEqualTo(20);
+    }
+
+    @Test
+    void getMaxLen_success_default() {
+        assertThat(cacheRepository.getMaxLen(UUID.randomUUID().toString())).isEqualTo(cacheRepository.getMaxLen());
+    }
+
     @Test
     void getLatest_success() {
         String roomId = UUID.randomUUID().toString();
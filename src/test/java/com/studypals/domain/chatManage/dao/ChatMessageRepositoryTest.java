@@ -3,15 +3,24 @@ package com.studypals.domain.chatManage.dao;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.studypals.domain.chatManage.dto.ChatType;
 import com.studypals.domain.chatManage.entity.ChatMessage;
+import com.studypals.domain.chatManage.entity.ChatMessageBucket;
+import com.studypals.domain.chatManage.worker.ChatMessageBucketMigrator;
 import com.studypals.global.utils.Snowflake;
 import com.studypals.testModules.testSupport.TestEnvironment;
 
@@ -28,9 +37,18 @@ class ChatMessageRepositoryTest extends TestEnvironment {
     @Autowired
     ChatMessageRepository chatMessageRepository;
 
+    @Autowired
+    ChatMessageCustomRepositoryImpl chatMessageCustomRepository;
+
+    @Autowired
+    ChatMessageBucketMigrator bucketMigrator;
+
     @Autowired
     Snowflake snowflake;
 
+    @Autowired
+    MongoTemplate mongoTemplate;
+
     @Test
     void findRecent() {
         int resultLen = 142;
@@ -76,6 +94,104 @@ class ChatMessageRepositoryTest extends TestEnvironment {
                 .isEqualTo(messages.get(startIdx).getId());
     }
 
+    @Test
+    void findRange_success_bucketLayout() {
+        List<ChatMessage> messages = new ArrayList<>();
+        String roomId = UUID.randomUUID().toString();
+        for (int i = 0; i < 300; i++) {
+            messages.add(createChat(roomId));
+        }
+        chatMessageRepository.saveAll(messages);
+        bucketMigrator.migrate();
+
+        ReflectionTestUtils.setField(chatMessageCustomRepository, "layout", "bucket");
+        try {
+            List<ChatMessage> range = chatMessageRepository.findRange(
+                    roomId, messages.get(100).getId(), messages.get(250).getId());
+            List<ChatMessage> before = chatMessageRepository.findByRoomIdAndIdLessThanOrderByIdDesc(
+                    roomId, messages.get(200).getId(), Limit.of(50));
+            List<ChatMessage> after = chatMessageRepository.findByRoomIdAndIdGreaterThanOrderByIdAsc(
+                    roomId, messages.get(200).getId(), Limit.of(50));
+            List<ChatMessage> top = chatMessageRepository.findTop100ByRoomIdOrderByIdDesc(roomId);
+            List<ChatMessage> found = chatMessageRepository.findAllInRooms(
+                    Map.of(roomId, List.of(messages.get(5).getId(), messages.get(7).getId())));
+
+            assertThat(range).hasSize(150);
+            assertThat(range.get(0)).isEqualTo(messages.get(249));
+            assertThat(range.get(149)).isEqualTo(messages.get(100));
+            assertThat(before).containsExactlyElementsOf(descending(messages.subList(150, 200)));
+            assertThat(after).containsExactlyElementsOf(messages.subList(201, 251));
+            assertThat(top).containsExactlyElementsOf(descending(messages.subList(200, 300)));
+            assertThat(found).containsExactlyInAnyOrder(messages.get(5), messages.get(7));
+        } finally {
+            ReflectionTestUtils.setField(chatMessageCustomRepository, "layout", "message");
+        }
+    }
+
+    @Test
+    void migrate_success_rolloverFullBucket() {
+        List<ChatMessage> messages = new ArrayList<>();
+        String roomId = UUID.randomUUID().toString();
+        for (int i = 0; i < ChatMessageBucket.MAX_COUNT + 500; i++) {
+            messages.add(createChat(roomId));
+        }
+        chatMessageRepository.saveAll(messages);
+        bucketMigrator.migrate();
+
+        List<ChatMessageBucket> buckets = mongoTemplate.find(
+                Query.query(Criteria.where("roomId").is(roomId)), ChatMessageBucket.class);
+        assertThat(buckets).hasSizeGreaterThan(1);
+        assertThat(buckets).allSatisfy(bucket -> assertThat(bucket.getMessages())
+                .hasSizeLessThan(ChatMessageBucket.MAX_COUNT + ChatMessageBuckets.MAX_UPSERT_SIZE));
+
+        ReflectionTestUtils.setField(chatMessageCustomRepository, "layout", "bucket");
+        try {
+            List<ChatMessage> all =
+                    chatMessageRepository.findByRoomIdOrderByIdDesc(roomId, Limit.of(messages.size()));
+
+            assertThat(all).containsExactlyElementsOf(descending(messages));
+        } finally {
+            ReflectionTestUtils.setField(chatMessageCustomRepository, "layout", "message");
+        }
+    }
+
+    @Test
+    void reconcile_success_lateMessageBelowCheckpoint() {
+        String roomId = UUID.randomUUID().toString();
+        ChatMessage late = createChat(roomId);
+        List<ChatMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            messages.add(createChat(roomId));
+        }
+        chatMessageRepository.saveAll(messages);
+        bucketMigrator.migrate();
+
+        // checkpoint 이후에, 그보다 작은 ID 의 메시지가 저장됨
+        chatMessageRepository.save(late);
+        bucketMigrator.migrate();
+        String fromId = ChatMessageBucket.minIdAt(ChatMessageBucket.millisOf(late.getId()) - 1);
+        int reconciled = bucketMigrator.reconcile(fromId);
+        int again = bucketMigrator.reconcile(fromId);
+
+        ReflectionTestUtils.setField(chatMessageCustomRepository, "layout", "bucket");
+        try {
+            List<ChatMessage> found =
+                    chatMessageRepository.findAllInRooms(Map.of(roomId, List.of(late.getId())));
+
+            assertThat(reconciled).isGreaterThanOrEqualTo(1);
+            assertThat(again).isZero();
+            assertThat(found).containsExactly(late);
+        } finally {
+            ReflectionTestUtils.setField(chatMessageCustomRepository, "layout", "message");
+        }
+    }
+
+    private List<ChatMessage> descending(List<ChatMessage> messages) {
+        List<ChatMessage> result = new ArrayList<>(messages);
+        Collections.reverse(result);
+        return result;
+    }
+
     ChatMessage createChat(String roomId) {
         return ChatMessage.builder()
                 .id(Long.toHexString(snowflake.nextId()))
@@ -0,0 +1,116 @@
+package com.studypals.domain.chatManage.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.studypals.domain.chatManage.dto.ChatRoomSequence;
+import com.studypals.testModules.testSupport.TestEnvironment;
+
+/**
+ * {@link ChatSequenceRepositoryImpl} 에 대한 test container - 테스트입니다.
+ * 실제 환경과 비슷하게 구성하기 위해 redis 를 test 용 컨테이너로 띄워 사용하였습니다.
+ *
+ * @author jack8
+ * @see ChatSequenceRepository
+ * @since 2026-02-01
+ */
+@SpringBootTest
+class ChatSequenceRepositoryTest extends TestEnvironment {
+
+    private static final String READ_KEY_PREFIX = "chat:seq:read:";
+
+    @Autowired
+    ChatSequenceRepository sequenceRepository;
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    @BeforeEach
+    void beforeEach() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushDb();
+    }
+
+    @Test
+    void next_success() {
+        String roomId = UUID.randomUUID().toString();
+
+        long first = sequenceRepository.next(roomId);
+        long second = sequenceRepository.next(roomId);
+
+        assertThat(first).isEqualTo(1L);
+        assertThat(second).isEqualTo(2L);
+        assertThat(sequenceRepository.findLatest(roomId)).isEqualTo(2L);
+        assertThat(sequenceRepository.findLatest(UUID.randomUUID().toString())).isNull();
+    }
+
+    @Test
+    void saveReadSequences_success_setTtl() {
+        String roomId = UUID.randomUUID().toString();
+
+        sequenceRepository.saveReadSequences(Map.of(roomId, Map.of("1", 5L)));
+
+        assertThat(redisTemplate.opsForValue().get(READ_KEY_PREFIX + roomId + ":1")).isEqualTo("5");
+        Long ttl = redisTemplate.getExpire(READ_KEY_PREFIX + roomId + ":1", TimeUnit.SECONDS);
+        assertThat(ttl).isPositive().isLessThanOrEqualTo(Duration.ofDays(30).toSeconds());
+    }
+
+    @Test
+    void saveReadSequences_success_ignoreLowerSequence() {
+        String roomId = UUID.randomUUID().toString();
+        sequenceRepository.saveReadSequences(Map.of(roomId, Map.of("1", 10L)));
+        // 만료 시간이 연장되는지 확인하기 위해 짧게 줄여둡니다.
+        redisTemplate.expire(READ_KEY_PREFIX + roomId + ":1", Duration.ofSeconds(60));
+
+        // 늦게 도착한 flush
+        sequenceRepository.saveReadSequences(Map.of(roomId, Map.of("1", 7L)));
+
+        assertThat(redisTemplate.opsForValue().get(READ_KEY_PREFIX + roomId + ":1")).isEqualTo("10");
+        assertThat(redisTemplate.getExpire(READ_KEY_PREFIX + roomId + ":1", TimeUnit.SECONDS)).isGreaterThan(60L);
+    }
+
+    @Test
+    void saveReadSequences_success_raiseHigherSequence() {
+        String roomId = UUID.randomUUID().toString();
+        sequenceRepository.saveReadSequences(Map.of(roomId, Map.of("1", 10L, "2", 3L)));
+
+        sequenceRepository.saveReadSequences(Map.of(roomId, Map.of("1", 12L, "2", 3L)));
+
+        assertThat(redisTemplate.opsForValue().get(READ_KEY_PREFIX + roomId + ":1")).isEqualTo("12");
+        assertThat(redisTemplate.opsForValue().get(READ_KEY_PREFIX + roomId + ":2")).isEqualTo("3");
+    }
+
+    @Test
+    void findAll_success() {
+        String roomA = UUID.randomUUID().toString();
+        String roomB = UUID.randomUUID().toString();
+        sequenceRepository.next(roomA);
+        sequenceRepository.next(roomA);
+        sequenceRepository.saveReadSequences(Map.of(roomA, Map.of("1", 1L)));
+
+        Map<String, ChatRoomSequence> result = sequenceRepository.findAll(1L, List.of(roomA, roomB));
+
+        assertThat(result.get(roomA)).isEqualTo(new ChatRoomSequence(2L, 1L));
+        assertThat(result.get(roomB)).isEqualTo(new ChatRoomSequence(null, null));
+    }
+
+    @Test
+    void deleteReadSequence_success() {
+        String roomId = UUID.randomUUID().toString();
+        sequenceRepository.saveReadSequences(Map.of(roomId, Map.of("1", 4L)));
+
+        sequenceRepository.deleteReadSequence(roomId, 1L);
+
+        assertThat(redisTemplate.hasKey(READ_KEY_PREFIX + roomId + ":1")).isFalse();
+    }
+}
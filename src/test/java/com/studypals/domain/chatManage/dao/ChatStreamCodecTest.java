@@ -0,0 +1,68 @@
+package com.studypals.domain.chatManage.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.studypals.domain.chatManage.dto.ChatType;
+import com.studypals.domain.chatManage.entity.ChatMessage;
+
+/**
+ * {@link ChatStreamCodec} 에 대한 단위 테스트입니다.
+ *
+ * @author jack8
+ * @since 2026-01-26
+ */
+class ChatStreamCodecTest {
+
+    @Test
+    void encode_success_roundTrip() {
+        // given
+        ChatMessage message = new ChatMessage("a", ChatType.IMAGE, "room", 123_456_789L, "안녕하세요 hello", 70_000L);
+
+        // when
+        String payload = ChatStreamCodec.encode(message);
+        ChatMessage decoded = ChatStreamCodec.decode(payload).toMessage("a", "room");
+
+        // then
+        assertThat(decoded).isEqualTo(message);
+    }
+
+    @Test
+    void encode_success_withoutSenderAndSeq() {
+        // given
+        ChatMessage message = new ChatMessage("a", ChatType.TEXT, "room", null, null, null);
+
+        // when
+        ChatStreamCodec.Entry entry = ChatStreamCodec.decode(ChatStreamCodec.encode(message));
+
+        // then
+        assertThat(entry).isEqualTo(new ChatStreamCodec.Entry(ChatType.TEXT, null, "", null));
+    }
+
+    @Test
+    void encode_success_asciiHeader() {
+        // given
+        ChatMessage message = new ChatMessage("a", ChatType.TEXT, "room", Long.MAX_VALUE - 1, "", Long.MAX_VALUE - 1);
+
+        // when
+        String payload = ChatStreamCodec.encode(message);
+
+        // then
+        assertThat(payload.getBytes(StandardCharsets.UTF_8)).hasSize(payload.length());
+        assertThat(ChatStreamCodec.decode(payload).sender()).isEqualTo(Long.MAX_VALUE - 1);
+    }
+
+    @Test
+    void decode_fail_unknownVersion() {
+        assertThatThrownBy(() -> ChatStreamCodec.decode("\u0002abc")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void decode_fail_truncated() {
+        assertThatThrownBy(() -> ChatStreamCodec.decode("\u0001@")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
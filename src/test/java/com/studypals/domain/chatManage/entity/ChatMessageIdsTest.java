@@ -0,0 +1,29 @@
+package com.studypals.domain.chatManage.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link ChatMessageIds} 에 대한 단위 테스트입니다.
+ *
+ * @author jack8
+ * @since 2026-02-01
+ */
+class ChatMessageIdsTest {
+
+    @Test
+    void compare_success_longerIsGreater() {
+        assertThat(ChatMessageIds.compare("ff", "100")).isNegative();
+        assertThat(ChatMessageIds.compare("1a", "1b")).isNegative();
+        assertThat(ChatMessageIds.compare("1b", "1b")).isZero();
+    }
+
+    @Test
+    void compareRecordIds_success_beyondLongRange() {
+        assertThat(ChatMessageIds.compareRecordIds("99999999999999999999-0", "100000000000000000000-0"))
+                .isNegative();
+        assertThat(ChatMessageIds.compareRecordIds("183495752-35", "183495752-4")).isPositive();
+        assertThat(ChatMessageIds.compareRecordIds("183495752-0", "183495752-0")).isZero();
+    }
+}
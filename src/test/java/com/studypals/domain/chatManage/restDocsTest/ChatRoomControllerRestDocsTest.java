@@ -10,6 +10,7 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWit
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.List;
@@ -120,4 +121,70 @@ class ChatRoomControllerRestDocsTest extends RestDocsSupport {
                                 fieldWithPath("data.logs[].content").description("채팅 메시지 내용"),
                                 fieldWithPath("data.logs[].sender").description("메시지 보낸 유저 ID"))));
     }
+
+    @Test
+    @WithMockUser
+    void getChatHistory_success() throws Exception {
+        // given
+        String chatRoomId = "study-room-1";
+        String cursor = ChatHistoryCursor.olderThan("16").encode();
+
+        ChatHistoryRes responseData = new ChatHistoryRes(
+                chatRoomId,
+                List.of(
+                        LoggingMessage.builder()
+                                .id("15")
+                                .type(ChatType.TEXT)
+                                .content("내일 10시에 회의할까요?")
+                                .sender(1L)
+                                .build(),
+                        LoggingMessage.builder()
+                                .id("14")
+                                .type(ChatType.TEXT)
+                                .content("네, 가능합니다.")
+                                .sender(2L)
+                                .build()),
+                ChatHistoryCursor.olderThan("14").encode(),
+                ChatHistoryCursor.newerThan("15").encode());
+
+        given(chatRoomService.getChatHistory(any(), any(), any(), any())).willReturn(responseData);
+
+        Response<ChatHistoryRes> expected =
+                CommonResponse.success(ResponseCode.CHAT_ROOM_SEARCH, responseData, chatRoomId);
+
+        // when
+        ResultActions result = mockMvc.perform(get("/chat/room/{chatRoomId}/messages", chatRoomId)
+                .param("cursor", cursor)
+                .param("size", "2"));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(hasKey(expected))
+                .andDo(restDocs.document(
+                        httpRequest(),
+                        httpResponse(),
+                        pathParameters(parameterWithName("chatRoomId").description("조회할 채팅방 ID")),
+                        queryParameters(
+                                parameterWithName("cursor")
+                                        .description("이전 응답에서 받은 커서, 없으면 가장 최신 메시지부터 조회")
+                                        .optional(),
+                                parameterWithName("size")
+                                        .description("페이지 크기 (기본 30, 최대 100)")
+                                        .optional()),
+                        responseFields(
+                                fieldWithPath("code").description("응답 코드"),
+                                fieldWithPath("status").description("응답 상태"),
+                                fieldWithPath("message").description("채팅방 ID"),
+                                fieldWithPath("data.roomId").description("채팅방 ID"),
+                                fieldWithPath("data.messages[].id").description("채팅 ID"),
+                                fieldWithPath("data.messages[].type").description("채팅 타입 (예: TEXT)"),
+                                fieldWithPath("data.messages[].content").description("채팅 메시지 내용"),
+                                fieldWithPath("data.messages[].sender").description("메시지 보낸 유저 ID"),
+                                fieldWithPath("data.olderCursor")
+                                        .description("더 이전 메시지 조회 커서, 없으면 null")
+                                        .optional(),
+                                fieldWithPath("data.newerCursor")
+                                        .description("더 이후 메시지 조회 커서, 없으면 null")
+                                        .optional())));
+    }
 }
@@ -1,6 +1,8 @@
 package com.studypals.domain.chatManage.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -18,6 +20,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.studypals.domain.chatManage.dto.ChatHistoryCursor;
+import com.studypals.domain.chatManage.dto.ChatHistoryRes;
 import com.studypals.domain.chatManage.dto.ChatRoomInfoRes;
 import com.studypals.domain.chatManage.dto.ChatRoomListRes;
 import com.studypals.domain.chatManage.dto.ChatType;
@@ -26,9 +30,16 @@ import com.studypals.domain.chatManage.dto.mapper.ChatMessageMapper;
 import com.studypals.domain.chatManage.dto.mapper.ChatRoomMapper;
 import com.studypals.domain.chatManage.entity.*;
 import com.studypals.domain.chatManage.worker.ChatMessageReader;
+import com.studypals.domain.chatManage.worker.ChatRoomListView;
 import com.studypals.domain.chatManage.worker.ChatRoomReader;
+import com.studypals.domain.chatManage.worker.ReactiveChatLogReader;
 import com.studypals.domain.memberManage.entity.Member;
 import com.studypals.domain.memberManage.worker.MemberReader;
+import com.studypals.global.exceptions.errorCode.ChatErrorCode;
+import com.studypals.global.exceptions.exception.ChatException;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 /**
  * {@link ChatRoomService} 에 대한 테스트코드
@@ -66,6 +77,12 @@ class ChatRoomServiceTest {
     @Mock
     private MemberReader memberReader;
 
+    @Mock
+    private ChatRoomListView chatRoomListView;
+
+    @Mock
+    private ReactiveChatLogReader reactiveChatLogReader;
+
     private ChatRoomServiceImpl chatRoomService;
 
     private final ChatMessageMapper chatMessageMapper = Mappers.getMapper(ChatMessageMapper.class);
@@ -73,7 +90,13 @@ class ChatRoomServiceTest {
     @BeforeEach
     void setup() {
         chatRoomService = new ChatRoomServiceImpl(
-                chatRoomReader, chatRoomMapper, chatMessageMapper, chatMessageReader, memberReader);
+                chatRoomReader,
+                chatRoomMapper,
+                chatMessageMapper,
+                chatMessageReader,
+                memberReader,
+                chatRoomListView,
+                reactiveChatLogReader);
     }
 
     @Test
@@ -117,6 +140,57 @@ class ChatRoomServiceTest {
         assertThat(result.logs()).hasSize(4);
     }
 
+    @Test
+    void getChatRoomInfoAsync_success() {
+        // given
+        Long userId = 1L;
+        String chatRoomId = "chat";
+        given(chatRoomReader.getById(chatRoomId)).willReturn(mockChatRoom);
+        given(chatRoomReader.findChatRoomMembersWithMember(mockChatRoom)).willReturn(List.of(mockCrm1, mockCrm2));
+        given(mockCrm1.getLastReadMessage()).willReturn("1");
+        given(mockCrm2.getLastReadMessage()).willReturn("2");
+        given(mockCrm1.getMember()).willReturn(mockMember1);
+        given(mockCrm2.getMember()).willReturn(mockMember2);
+        given(mockMember1.getId()).willReturn(userId);
+        given(mockMember2.getId()).willReturn(2L);
+        given(chatRoomMapper.toDto(any()))
+                .willReturn(new ChatRoomInfoRes.UserInfo(userId, "nickname", ChatRoomRole.MEMBER, "image"));
+
+        given(reactiveChatLogReader.getCachedCursor(chatRoomId)).willReturn(Mono.just(Map.of(1L, "3")));
+        given(reactiveChatLogReader.getChatLog(chatRoomId, "0"))
+                .willReturn(Mono.just(List.of(createChat("3", chatRoomId), createChat("2", chatRoomId))));
+
+        // when & then
+        StepVerifier.create(chatRoomService.getChatRoomInfoAsync(userId, chatRoomId, "0"))
+                .assertNext(result -> {
+                    assertThat(result.roomId()).isEqualTo(chatRoomId);
+                    assertThat(result.userInfos()).hasSize(2);
+                    assertThat(result.cursor())
+                            .extracting("userId", "chatId")
+                            .containsExactlyInAnyOrder(tuple(1L, "3"), tuple(2L, "2"));
+                    assertThat(result.logs()).hasSize(2);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getChatRoomInfoAsync_fail_notMember() {
+        // given
+        given(chatRoomReader.getById("chat")).willReturn(mockChatRoom);
+        given(chatRoomReader.findChatRoomMembersWithMember(mockChatRoom)).willReturn(List.of(mockCrm1));
+        given(mockCrm1.getMember()).willReturn(mockMember1);
+        given(mockMember1.getId()).willReturn(2L);
+
+        // when & then
+        StepVerifier.create(chatRoomService.getChatRoomInfoAsync(1L, "chat", "0"))
+                .expectErrorSatisfies(e -> assertThat(e)
+                        .isInstanceOf(ChatException.class)
+                        .extracting("errorCode")
+                        .isEqualTo(ChatErrorCode.CHAT_ROOM_PERMISSION_DENIED))
+                .verify();
+        then(reactiveChatLogReader).shouldHaveNoInteractions();
+    }
+
     ChatMessage createChat(String id, String roomId) {
         return ChatMessage.builder()
                 .id(id)
@@ -157,7 +231,7 @@ class ChatRoomServiceTest {
                 .willReturn(Map.of("chat-room", "last_read_message_recent"));
 
         // latest info 응답
-        given(chatMessageReader.getLatestInfo(any()))
+        given(chatMessageReader.getLatestInfo(eq(userId), any()))
                 .willReturn(Map.of(
                         "chat-room",
                         new ChatroomLatestInfo(10L, "last_read_message_recent", ChatType.TEXT, "message", 2L)));
@@ -170,7 +244,7 @@ class ChatRoomServiceTest {
         // then 1) chatMessageReader.getLatestInfo 에 넘어간 cursor 검증
         ArgumentCaptor<Map<String, String>> cursorCaptor = ArgumentCaptor.forClass(Map.class);
 
-        then(chatMessageReader).should().getLatestInfo(cursorCaptor.capture());
+        then(chatMessageReader).should().getLatestInfo(eq(userId), cursorCaptor.capture());
 
         Map<String, String> mergedCursor = cursorCaptor.getValue();
         assertThat(mergedCursor).hasSize(1).containsEntry("chat-room", "last_read_message_recent");
@@ -193,4 +267,66 @@ class ChatRoomServiceTest {
         then(chatRoomReader).should().findChatRoomMembers(mockMember1);
         then(chatRoomReader).should().getEachUserCursor(userId, List.of("chat-room"));
     }
+
+    @Test
+    void getChatHistory_success_latestPage() {
+        // given
+        Long userId = 1L;
+        String chatRoomId = "chat";
+        given(chatRoomReader.isMemberOfChatRoom(userId, chatRoomId)).willReturn(true);
+        given(chatMessageReader.getHistoryBefore(chatRoomId, null, 3))
+                .willReturn(List.of(
+                        createChat("5", chatRoomId), createChat("4", chatRoomId), createChat("3", chatRoomId)));
+
+        // when
+        ChatHistoryRes result = chatRoomService.getChatHistory(userId, chatRoomId, null, 2);
+
+        // then
+        assertThat(result.messages()).extracting("id").containsExactly("5", "4");
+        assertThat(ChatHistoryCursor.decode(result.olderCursor())).isEqualTo(ChatHistoryCursor.olderThan("4"));
+        assertThat(result.newerCursor()).isNull();
+    }
+
+    @Test
+    void getChatHistory_success_newerPage() {
+        // given
+        Long userId = 1L;
+        String chatRoomId = "chat";
+        String cursor = ChatHistoryCursor.newerThan("2").encode();
+        given(chatRoomReader.isMemberOfChatRoom(userId, chatRoomId)).willReturn(true);
+        given(chatMessageReader.getHistoryAfter(chatRoomId, "2", 3))
+                .willReturn(List.of(createChat("3", chatRoomId), createChat("4", chatRoomId)));
+
+        // when
+        ChatHistoryRes result = chatRoomService.getChatHistory(userId, chatRoomId, cursor, 2);
+
+        // then
+        assertThat(result.messages()).extracting("id").containsExactly("4", "3");
+        assertThat(ChatHistoryCursor.decode(result.olderCursor())).isEqualTo(ChatHistoryCursor.olderThan("3"));
+        assertThat(result.newerCursor()).isNull();
+    }
+
+    @Test
+    void getChatHistory_fail_notMember() {
+        // given
+        given(chatRoomReader.isMemberOfChatRoom(1L, "chat")).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> chatRoomService.getChatHistory(1L, "chat", null, null))
+                .isInstanceOf(ChatException.class)
+                .extracting("errorCode")
+                .isEqualTo(ChatErrorCode.CHAT_ROOM_PERMISSION_DENIED);
+    }
+
+    @Test
+    void getChatHistory_fail_invalidCursor() {
+        // given
+        given(chatRoomReader.isMemberOfChatRoom(1L, "chat")).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> chatRoomService.getChatHistory(1L, "chat", "not-a-cursor", null))
+                .isInstanceOf(ChatException.class)
+                .extracting("errorCode")
+                .isEqualTo(ChatErrorCode.CHAT_HISTORY_INVALID_CURSOR);
+    }
 }
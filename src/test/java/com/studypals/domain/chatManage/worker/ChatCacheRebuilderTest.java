@@ -0,0 +1,161 @@
+package com.studypals.domain.chatManage.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import com.studypals.domain.chatManage.dao.ChatMessageCacheRepository;
+import com.studypals.domain.chatManage.dao.ChatMessageRepository;
+import com.studypals.domain.chatManage.dto.ChatType;
+import com.studypals.domain.chatManage.entity.ChatMessage;
+
+/**
+ * {@link ChatCacheRebuilder} 에 대한 단위 테스트입니다.
+ *
+ * @author jack8
+ * @since 2026-01-21
+ */
+@ExtendWith(MockitoExtension.class)
+class ChatCacheRebuilderTest {
+
+    @Mock
+    ChatMessageRepository messageRepository;
+
+    @Mock
+    ChatMessageCacheRepository cacheRepository;
+
+    ChatCacheRebuilder rebuilder;
+
+    @BeforeEach
+    void setUp() {
+        rebuilder = new ChatCacheRebuilder(messageRepository, cacheRepository);
+    }
+
+    @Test
+    void loadRecent_success_mergeWithLease() {
+        // given
+        List<ChatMessage> recent = List.of(createChat("3"), createChat("2"), createChat("1"));
+        given(cacheRepository.tryLease(any(), any())).willReturn("token");
+        given(cacheRepository.getMaxLen("room")).willReturn(100);
+        given(messageRepository.findByRoomIdOrderByIdDesc("room", Limit.of(100))).willReturn(recent);
+
+        // when
+        List<ChatMessage> result = rebuilder.loadRecent("room");
+
+        // then
+        assertThat(result).isEqualTo(recent);
+        then(cacheRepository).should().merge("room", List.of(createChat("1"), createChat("2"), createChat("3")));
+        then(cacheRepository).should(never()).clear(any());
+        then(cacheRepository).should().releaseLease("room", "token");
+    }
+
+    @Test
+    void loadRecent_success_skipWriteWithoutLease() {
+        // given
+        List<ChatMessage> recent = List.of(createChat("1"));
+        given(cacheRepository.tryLease(any(), any())).willReturn(null);
+        given(cacheRepository.getMaxLen("room")).willReturn(100);
+        given(messageRepository.findByRoomIdOrderByIdDesc("room", Limit.of(100))).willReturn(recent);
+
+        // when
+        List<ChatMessage> result = rebuilder.loadRecent("room");
+
+        // then
+        assertThat(result).isEqualTo(recent);
+        then(cacheRepository).should(never()).merge(any(), anyList());
+    }
+
+    @Test
+    void loadRecent_success_coalesceConcurrentCalls() throws Exception {
+        // given
+        List<ChatMessage> recent = List.of(createChat("1"));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(cacheRepository.tryLease(any(), any())).willReturn("token");
+        given(cacheRepository.getMaxLen("room")).willReturn(100);
+        given(messageRepository.findByRoomIdOrderByIdDesc("room", Limit.of(100))).willAnswer(invocation -> {
+            loading.countDown();
+            release.await(1, TimeUnit.SECONDS);
+            return recent;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            // when
+            List<Future<List<ChatMessage>>> results = new ArrayList<>();
+            results.add(executor.submit(() -> rebuilder.loadRecent("room")));
+            loading.await(1, TimeUnit.SECONDS);
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> rebuilder.loadRecent("room")));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            for (Future<List<ChatMessage>> result : results) {
+                assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo(recent);
+            }
+            then(messageRepository).should(times(1)).findByRoomIdOrderByIdDesc("room", Limit.of(100));
+            then(cacheRepository).should(times(1)).merge(eq("room"), anyList());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void loadRecent_success_roomMaxLen() {
+        // given
+        List<ChatMessage> recent = List.of(createChat("2"), createChat("1"));
+        given(cacheRepository.tryLease(any(), any())).willReturn(null);
+        given(cacheRepository.getMaxLen("room")).willReturn(20);
+        given(messageRepository.findByRoomIdOrderByIdDesc("room", Limit.of(20))).willReturn(recent);
+
+        // when
+        List<ChatMessage> result = rebuilder.loadRecent("room");
+
+        // then
+        assertThat(result).isEqualTo(recent);
+    }
+
+    @Test
+    void repopulate_success_skipWithoutLease() {
+        // given
+        given(cacheRepository.tryLease(any(), any())).willReturn(null);
+
+        // when
+        rebuilder.repopulate("room", List.of(createChat("1")));
+
+        // then
+        then(cacheRepository).should(never()).merge(any(), anyList());
+    }
+
+    private ChatMessage createChat(String id) {
+        return ChatMessage.builder()
+                .id(id)
+                .roomId("room")
+                .sender(1L)
+                .content("message")
+                .type(ChatType.TEXT)
+                .build();
+    }
+}
@@ -0,0 +1,171 @@
+package com.studypals.domain.chatManage.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.studypals.domain.chatManage.dto.ChatType;
+import com.studypals.domain.chatManage.dto.OutgoingMessage;
+import com.studypals.domain.chatManage.entity.ChatSseType;
+import com.studypals.global.sse.SseEmitterManager;
+import com.studypals.global.sse.SseSendDto;
+
+/**
+ * {@link ChatFanoutDispatcher} 에 대한 단위 테스트입니다.
+ * private 메서드인 flushOnce 를 실행하고 대기열을 확인하기 위해 리플렉션을 사용하였습니다.
+ *
+ * @author jack8
+ * @since 2026-01-12
+ */
+@ExtendWith(MockitoExtension.class)
+class ChatFanoutDispatcherTest {
+
+    @Mock
+    ChatRoomReader chatRoomReader;
+
+    @Mock
+    SseEmitterManager sseManager;
+
+    @Mock
+    ChatRoomListView chatRoomListView;
+
+    @Mock
+    RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    RedisMessageListenerContainer listenerContainer;
+
+    ChatFanoutDispatcher dispatcher;
+
+    Method flushOnce;
+
+    @BeforeEach
+    void setup() throws Exception {
+        dispatcher = new ChatFanoutDispatcher(
+                chatRoomReader, sseManager, chatRoomListView, redisTemplate, listenerContainer);
+        flushOnce = ChatFanoutDispatcher.class.getDeclaredMethod("flushOnce");
+        flushOnce.setAccessible(true);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flushOnce_batchPerRoom() throws Exception {
+        // given
+        given(chatRoomReader.findJoinedMemberId("room1")).willReturn(List.of(1L, 2L, 3L));
+        dispatcher.enqueue("room1", createMessage("a", "room1"));
+        dispatcher.enqueue("room1", createMessage("b", "room1"));
+        dispatcher.enqueue("room1", createMessage("c", "room1"));
+
+        // when
+        flushOnce.invoke(dispatcher);
+
+        // then
+        ArgumentCaptor<List<SseSendDto>> captor = ArgumentCaptor.forClass(List.class);
+        verify(chatRoomReader, times(1)).findJoinedMemberId("room1");
+        verify(sseManager, times(1)).sendMessagesAsync(eq(List.of(1L, 2L, 3L)), captor.capture());
+        assertThat(captor.getValue()).hasSize(3);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flushOnce_appendRoomListEvent() throws Exception {
+        // given
+        SseSendDto roomEvent = new SseSendDto(ChatSseType.ROOM_EVENT.name(), "event");
+        given(chatRoomReader.findJoinedMemberId("room1")).willReturn(List.of(1L, 2L));
+        given(chatRoomListView.messageEvent(eq("room1"), anyList())).willReturn(roomEvent);
+        dispatcher.enqueue("room1", createMessage("a", "room1"));
+        dispatcher.enqueue("room1", createMessage("b", "room1"));
+
+        // when
+        flushOnce.invoke(dispatcher);
+
+        // then
+        ArgumentCaptor<List<OutgoingMessage>> messages = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<SseSendDto>> batch = ArgumentCaptor.forClass(List.class);
+        verify(chatRoomListView).messageEvent(eq("room1"), messages.capture());
+        verify(sseManager).sendMessagesAsync(eq(List.of(1L, 2L)), batch.capture());
+        assertThat(messages.getValue()).extracting("id").containsExactly("a", "b");
+        assertThat(batch.getValue()).hasSize(3).last().isEqualTo(roomEvent);
+    }
+
+    @Test
+    void flushOnce_reuseLocalMemberCache() throws Exception {
+        // given
+        given(chatRoomReader.findJoinedMemberId("room1")).willReturn(List.of(1L));
+
+        // when
+        dispatcher.enqueue("room1", createMessage("a", "room1"));
+        flushOnce.invoke(dispatcher);
+        dispatcher.enqueue("room1", createMessage("b", "room1"));
+        flushOnce.invoke(dispatcher);
+
+        // then
+        verify(chatRoomReader, times(1)).findJoinedMemberId("room1");
+        verify(sseManager, times(2)).sendMessagesAsync(any(), anyList());
+    }
+
+    @Test
+    void evictMembers_reloadMembers() throws Exception {
+        // given
+        given(chatRoomReader.findJoinedMemberId("room1")).willReturn(List.of(1L), List.of(1L, 2L));
+        dispatcher.enqueue("room1", createMessage("a", "room1"));
+        flushOnce.invoke(dispatcher);
+
+        // when
+        dispatcher.evictMembers("room1");
+        dispatcher.enqueue("room1", createMessage("b", "room1"));
+        flushOnce.invoke(dispatcher);
+
+        // then
+        verify(chatRoomReader, times(2)).findJoinedMemberId("room1");
+        verify(redisTemplate).convertAndSend("chat:members:evict", "room1");
+        verify(sseManager).sendMessagesAsync(eq(List.of(1L, 2L)), anyList());
+    }
+
+    @Test
+    void flushOnce_removeDrainedQueue() throws Exception {
+        // given
+        given(chatRoomReader.findJoinedMemberId("room1")).willReturn(List.of(1L));
+        dispatcher.enqueue("room1", createMessage("a", "room1"));
+
+        // when
+        flushOnce.invoke(dispatcher);
+
+        // then
+        Field pending = ChatFanoutDispatcher.class.getDeclaredField("pending");
+        pending.setAccessible(true);
+        assertThat((Map<?, ?>) pending.get(dispatcher)).isEmpty();
+    }
+
+    @Test
+    void flushOnce_emptyQueue() throws Exception {
+        // when
+        flushOnce.invoke(dispatcher);
+
+        // then
+        verify(sseManager, never()).sendMessagesAsync(any(), anyList());
+    }
+
+    OutgoingMessage createMessage(String id, String roomId) {
+        return new OutgoingMessage(id, roomId, ChatType.TEXT, "hello", 1L);
+    }
+}
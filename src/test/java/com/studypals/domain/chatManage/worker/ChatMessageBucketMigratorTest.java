@@ -0,0 +1,141 @@
+package com.studypals.domain.chatManage.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.studypals.domain.chatManage.dto.ChatType;
+import com.studypals.domain.chatManage.entity.ChatMessage;
+import com.studypals.domain.chatManage.entity.ChatMessageBucket;
+import com.studypals.global.utils.Snowflake;
+import com.studypals.testModules.testSupport.TestEnvironment;
+
+/**
+ * {@link ChatMessageBucketMigrator} 에 대한 test container - 테스트입니다.
+ * 실제 환경과 유사하게 구성하기 위해 mongo 를 test 용 컨테이너로 띄워 사용하였습니다.
+ *
+ * @author jack8
+ * @since 2026-02-01
+ */
+@SpringBootTest
+class ChatMessageBucketMigratorTest extends TestEnvironment {
+
+    private static final String CHECKPOINT_COLLECTION = "chat_message_migration";
+
+    @Autowired
+    ChatMessageBucketMigrator bucketMigrator;
+
+    @Autowired
+    MongoTemplate mongoTemplate;
+
+    @Autowired
+    Snowflake snowflake;
+
+    @BeforeEach
+    void beforeEach() {
+        mongoTemplate.remove(new Query(), ChatMessage.class);
+        mongoTemplate.remove(new Query(), ChatMessageBucket.class);
+        mongoTemplate.remove(new Query(), CHECKPOINT_COLLECTION);
+    }
+
+    @Test
+    void migrate_success_advanceCheckpoint() {
+        // given
+        String roomId = UUID.randomUUID().toString();
+        List<ChatMessage> first = createChats(roomId, 10);
+        mongoTemplate.insertAll(first);
+
+        // when
+        int migrated = bucketMigrator.migrate();
+        String afterFirst = checkpoint();
+        List<ChatMessage> second = createChats(roomId, 3);
+        mongoTemplate.insertAll(second);
+        int migratedAgain = bucketMigrator.migrate();
+        int nothing = bucketMigrator.migrate();
+
+        // then - checkpoint 이후의 메시지만 읽습니다.
+        assertThat(migrated).isEqualTo(10);
+        assertThat(afterFirst).isEqualTo(first.get(9).getId());
+        assertThat(migratedAgain).isEqualTo(3);
+        assertThat(nothing).isZero();
+        assertThat(checkpoint()).isEqualTo(second.get(2).getId());
+        assertThat(bucketedIds(roomId)).hasSize(13);
+    }
+
+    @Test
+    void migrateSafely_success_reconcileLateMessage() {
+        // given - ID 는 먼저 발급되었으나 checkpoint 가 지나간 뒤에 저장된 메시지
+        String roomId = UUID.randomUUID().toString();
+        ChatMessage late = createChat(roomId);
+        List<ChatMessage> messages = createChats(roomId, 10);
+        mongoTemplate.insertAll(messages);
+        bucketMigrator.migrate();
+        mongoTemplate.insert(late);
+
+        // when
+        ReflectionTestUtils.invokeMethod(bucketMigrator, "migrateSafely");
+
+        // then - checkpoint 는 그대로이며, 늦게 저장된 메시지도 구간 문서에 옮겨집니다.
+        assertThat(checkpoint()).isEqualTo(messages.get(9).getId());
+        assertThat(bucketedIds(roomId)).hasSize(11).contains(late.getId());
+    }
+
+    @Test
+    void reconcile_success_skipPresentMessages() {
+        // given
+        String roomId = UUID.randomUUID().toString();
+        mongoTemplate.insertAll(createChats(roomId, 10));
+        bucketMigrator.migrate();
+
+        // when
+        int reconciled = bucketMigrator.reconcile(null);
+
+        // then
+        assertThat(reconciled).isZero();
+        assertThat(bucketedIds(roomId)).hasSize(10);
+    }
+
+    private String checkpoint() {
+        Document checkpoint = mongoTemplate.findById("bucket", Document.class, CHECKPOINT_COLLECTION);
+        return checkpoint == null ? null : checkpoint.getString("lastId");
+    }
+
+    private List<String> bucketedIds(String roomId) {
+        Query query = Query.query(Criteria.where("roomId").is(roomId));
+        List<String> ids = new ArrayList<>();
+        for (ChatMessageBucket bucket : mongoTemplate.find(query, ChatMessageBucket.class)) {
+            bucket.getMessages().forEach(entry -> ids.add(entry.getChatId()));
+        }
+        return ids;
+    }
+
+    private List<ChatMessage> createChats(String roomId, int count) {
+        List<ChatMessage> messages = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            messages.add(createChat(roomId));
+        }
+        return messages;
+    }
+
+    private ChatMessage createChat(String roomId) {
+        return ChatMessage.builder()
+                .id(Long.toHexString(snowflake.nextId()))
+                .type(ChatType.TEXT)
+                .roomId(roomId)
+                .sender(1L)
+                .content("message")
+                .build();
+    }
+}
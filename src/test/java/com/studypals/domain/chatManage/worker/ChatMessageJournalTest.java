@@ -0,0 +1,118 @@
+package com.studypals.domain.chatManage.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.studypals.domain.chatManage.dto.ChatType;
+import com.studypals.domain.chatManage.entity.ChatMessage;
+
+/**
+ * {@link ChatMessageJournal} 에 대한 단위 테스트입니다.
+ *
+ * @author jack8
+ * @since 2026-01-16
+ */
+class ChatMessageJournalTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void append_readNext_success() {
+        // given
+        ChatMessageJournal journal = new ChatMessageJournal(dir.toString(), 1024);
+        journal.append(createChat("1", "안녕하세요"));
+        journal.append(ChatMessage.builder().id("2").build());
+
+        // when
+        ChatMessage first = journal.readNext();
+        ChatMessage second = journal.readNext();
+
+        // then
+        assertThat(first).isEqualTo(createChat("1", "안녕하세요"));
+        assertThat(second).isEqualTo(ChatMessage.builder().id("2").build());
+        assertThat(journal.readNext()).isNull();
+        assertThat(journal.isDrained()).isTrue();
+    }
+
+    @Test
+    void append_success_rollSegment() throws IOException {
+        // given - 레코드 몇 개만 들어가는 작은 segment
+        ChatMessageJournal journal = new ChatMessageJournal(dir.toString(), 128);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            journal.append(createChat(i + "", "message"));
+        }
+
+        // then
+        for (int i = 0; i < 10; i++) {
+            assertThat(journal.readNext().getId()).isEqualTo(i + "");
+        }
+        assertThat(segmentCount()).isGreaterThan(1);
+
+        journal.commit(10);
+        assertThat(segmentCount()).isEqualTo(1);
+    }
+
+    @Test
+    void reopen_success_resumeFromCheckpoint() {
+        // given
+        ChatMessageJournal journal = new ChatMessageJournal(dir.toString(), 128);
+        for (int i = 0; i < 6; i++) {
+            journal.append(createChat(i + "", "message"));
+        }
+        for (int i = 0; i < 4; i++) {
+            journal.readNext();
+        }
+        journal.commit(3);
+        journal.close();
+
+        // when
+        ChatMessageJournal reopened = new ChatMessageJournal(dir.toString(), 128);
+        reopened.append(createChat("6", "message"));
+
+        // then
+        for (int i = 3; i <= 6; i++) {
+            assertThat(reopened.readNext().getId()).isEqualTo(i + "");
+        }
+        assertThat(reopened.readNext()).isNull();
+    }
+
+    @Test
+    void skipNext_success() {
+        // given
+        ChatMessageJournal journal = new ChatMessageJournal(dir.toString(), 1024);
+        journal.append(createChat("1", "message"));
+        journal.append(createChat("2", "message"));
+
+        // when
+        journal.skipNext();
+
+        // then
+        assertThat(journal.readNext().getId()).isEqualTo("2");
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.toString().endsWith(".seg")).count();
+        }
+    }
+
+    private ChatMessage createChat(String id, String content) {
+        return ChatMessage.builder()
+                .id(id)
+                .roomId("room")
+                .sender(1L)
+                .content(content)
+                .type(ChatType.TEXT)
+                .build();
+    }
+}
@@ -2,12 +2,14 @@ package com.studypals.domain.chatManage.worker;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.studypals.domain.chatManage.dto.ChatType;
@@ -22,9 +24,16 @@ import com.studypals.domain.chatManage.entity.ChatMessage;
 @ExtendWith(MockitoExtension.class)
 class ChatMessagePipelineTest {
 
-    @InjectMocks
+    @TempDir
+    Path journalDir;
+
     private ChatMessagePipeline chatMessagePipeline;
 
+    @BeforeEach
+    void setUp() {
+        chatMessagePipeline = new ChatMessagePipeline(new ChatMessageJournal(journalDir.toString(), 1024 * 1024));
+    }
+
     @Test
     void publish_subscribe() {
         List<ChatMessage> messages = new ArrayList<>();
@@ -42,6 +51,41 @@ class ChatMessagePipelineTest {
         assertThat(recieved).hasSize(11);
     }
 
+    @Test
+    void replay_afterRestart() {
+        // given - 저장(acknowledge) 되지 않은 채로 종료
+        for (int i = 0; i < 5; i++) {
+            chatMessagePipeline.publish(createChat(i + "", "aa"));
+        }
+        chatMessagePipeline.acknowledge(2);
+
+        // when
+        ChatMessagePipeline restarted =
+                new ChatMessagePipeline(new ChatMessageJournal(journalDir.toString(), 1024 * 1024));
+        List<ChatMessage> recieved = new ArrayList<>();
+        restarted.getStream().subscribe(recieved::add);
+        restarted.replay();
+
+        // then
+        assertThat(recieved).extracting(ChatMessage::getId).containsExactly("2", "3", "4");
+    }
+
+    @Test
+    void publish_keepInJournal_whenEmitFails() {
+        // given - 소비자가 구독을 취소하여 스트림으로 전달할 수 없는 상태
+        ChatMessageJournal journal = new ChatMessageJournal(journalDir.resolve("cancelled").toString(), 1024 * 1024);
+        ChatMessagePipeline pipeline = new ChatMessagePipeline(journal);
+        pipeline.getStream().subscribe(message -> {}).dispose();
+
+        // when
+        pipeline.publish(createChat("0", "aa"));
+        pipeline.publish(createChat("1", "aa"));
+
+        // then - read 커서가 되돌아가, 전달하지 못한 메시지가 다시 읽힙니다.
+        assertThat(journal.isDrained()).isFalse();
+        assertThat(journal.readNext()).extracting(ChatMessage::getId).isEqualTo("0");
+    }
+
     ChatMessage createChat(String id, String roomId) {
         return ChatMessage.builder()
                 .id(id)
@@ -11,13 +11,15 @@ import java.util.*;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import com.studypals.domain.chatManage.dao.ChatMessageCacheRepository;
 import com.studypals.domain.chatManage.dao.ChatMessageRepository;
+import com.studypals.domain.chatManage.dao.ChatSequenceRepository;
+import com.studypals.domain.chatManage.dto.ChatRoomSequence;
 import com.studypals.domain.chatManage.dto.ChatType;
 import com.studypals.domain.chatManage.dto.ChatroomLatestInfo;
 import com.studypals.domain.chatManage.entity.ChatMessage;
@@ -37,6 +39,18 @@ class ChatMessageReaderTest {
     @Mock
     private ChatMessageCacheRepository cacheRepository;
 
+    @Mock
+    private ChatSequenceRepository sequenceRepository;
+
+    @Mock
+    private ChatCacheRebuilder cacheRebuilder;
+
+    @Mock
+    private ChatStreamRetention streamRetention;
+
+    @Mock
+    private ChatNearCache nearCache;
+
     @InjectMocks
     private ChatMessageReader chatMessageReader;
 
@@ -49,8 +63,7 @@ class ChatMessageReaderTest {
         }
         Collections.reverse(chatMessages);
 
-        given(cacheRepository.fetchFromId("room", "1")).willReturn(chatMessages);
-        given(cacheRepository.getMaxLen()).willReturn(100);
+        given(nearCache.fetchFromId("room", "1")).willReturn(chatMessages);
 
         List<ChatMessage> response = chatMessageReader.getChatLog("room", "1");
 
@@ -58,6 +71,7 @@ class ChatMessageReaderTest {
 
         verify(messageRepository, never()).findRecent(any(), any());
         verify(cacheRepository, never()).saveAll(any());
+        verify(streamRetention).recordRead("room", 100);
     }
 
     @Test
@@ -74,7 +88,7 @@ class ChatMessageReaderTest {
         }
 
         given(messageRepository.findRange("room", "1", "100")).willReturn(savedMessages);
-        given(cacheRepository.fetchFromId("room", "1")).willReturn(cachedMessages);
+        given(nearCache.fetchFromId("room", "1")).willReturn(cachedMessages);
 
         // when
         List<ChatMessage> response = chatMessageReader.getChatLog("room", "1");
@@ -86,31 +100,80 @@ class ChatMessageReaderTest {
     }
 
     @Test
-    @SuppressWarnings("unchecked")
     void getChatLog_success_notCached() {
         // given
         List<ChatMessage> cachedMessage = List.of();
+        List<ChatMessage> recentMessages = new ArrayList<>();
         List<ChatMessage> savedMessages = new ArrayList<>();
-        for (int i = 0; i < 200; i++) {
+        for (int i = 100; i < 200; i++) {
+            recentMessages.add(new ChatMessage(String.valueOf(i + 1), ChatType.TEXT, "room", 1L, "message"));
+        }
+        for (int i = 0; i < 100; i++) {
             savedMessages.add(new ChatMessage(String.valueOf(i + 1), ChatType.TEXT, "room", 1L, "message"));
         }
+        Collections.reverse(recentMessages);
         Collections.reverse(savedMessages);
 
-        given(cacheRepository.fetchFromId("room", "1")).willReturn(cachedMessage);
-        given(messageRepository.findRecent("room", "1")).willReturn(savedMessages);
-        given(cacheRepository.getMaxLen()).willReturn(100);
+        given(nearCache.fetchFromId("room", "1")).willReturn(cachedMessage);
+        given(cacheRebuilder.loadRecent("room")).willReturn(recentMessages);
+        given(messageRepository.findRange("room", "1", "101")).willReturn(savedMessages);
+        given(cacheRepository.getMaxLen("room")).willReturn(100);
 
-        // given
+        // when
         List<ChatMessage> response = chatMessageReader.getChatLog("room", "1");
 
+        // then
         assertThat(response).hasSize(200);
+        assertThat(response.get(0).getId()).isEqualTo("200");
+        assertThat(response.get(199).getId()).isEqualTo("1");
 
-        ArgumentCaptor<List<ChatMessage>> captor = ArgumentCaptor.forClass(List.class);
-        verify(cacheRepository).saveAll(captor.capture());
-        List<ChatMessage> captured = captor.getValue();
-        assertThat(captured).hasSize(100);
-        assertThat(captured.get(0).getId()).isEqualTo("101");
-        assertThat(captured.get(99).getId()).isEqualTo("200");
+        verify(messageRepository, never()).findRecent(any(), any());
+        verify(cacheRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void getChatLog_success_notCached_withinRecent() {
+        // given
+        List<ChatMessage> recentMessages = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            recentMessages.add(new ChatMessage(String.valueOf(i + 1), ChatType.TEXT, "room", 1L, "message"));
+        }
+        Collections.reverse(recentMessages);
+
+        given(nearCache.fetchFromId("room", "5")).willReturn(List.of());
+        given(cacheRebuilder.loadRecent("room")).willReturn(recentMessages);
+
+        // when
+        List<ChatMessage> response = chatMessageReader.getChatLog("room", "5");
+
+        // then
+        assertThat(response).extracting(ChatMessage::getId).containsExactly("9", "8", "7", "6", "5");
+        then(messageRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void getChatLog_success_notCached_roomMaxLen() {
+        // given
+        List<ChatMessage> recentMessages = new ArrayList<>();
+        for (int i = 30; i < 50; i++) {
+            recentMessages.add(new ChatMessage(String.valueOf(i + 1), ChatType.TEXT, "room", 1L, "message"));
+        }
+        Collections.reverse(recentMessages);
+        List<ChatMessage> savedMessages =
+                List.of(new ChatMessage("30", ChatType.TEXT, "room", 1L, "message"));
+
+        given(nearCache.fetchFromId("room", "30")).willReturn(List.of());
+        given(cacheRebuilder.loadRecent("room")).willReturn(recentMessages);
+        // 재조정으로 채팅방의 최대 길이가 20 으로 줄어든 경우, 20 개의 최신 구간은 가득 찬 상태
+        given(cacheRepository.getMaxLen("room")).willReturn(20);
+        given(messageRepository.findRange("room", "30", "31")).willReturn(savedMessages);
+
+        // when
+        List<ChatMessage> response = chatMessageReader.getChatLog("room", "30");
+
+        // then
+        assertThat(response).hasSize(21);
+        assertThat(response.get(20).getId()).isEqualTo("30");
     }
 
     /**
@@ -125,7 +188,7 @@ class ChatMessageReaderTest {
         cacheResult.put("room1", new ChatroomLatestInfo(-1L, "cursor", ChatType.TEXT, "cached", 1L));
 
         given(cacheRepository.countAllToLatest(cursor)).willReturn(cacheResult);
-        given(messageRepository.findTopByRoomIdOrderByIdDesc("room1")).willReturn(Optional.empty());
+        given(cacheRebuilder.loadRecent("room1")).willReturn(List.of());
 
         // when
         Map<String, ChatroomLatestInfo> result = chatMessageReader.getLatestInfo(cursor);
@@ -133,7 +196,7 @@ class ChatMessageReaderTest {
         // then
         assertThat(result).isEmpty();
         then(cacheRepository).should().countAllToLatest(cursor);
-        then(messageRepository).should().findTopByRoomIdOrderByIdDesc("room1");
+        then(cacheRebuilder).should().loadRecent("room1");
         then(cacheRepository).should(never()).save(any());
         then(cacheRepository).should(never()).saveAll(any());
     }
@@ -141,10 +204,10 @@ class ChatMessageReaderTest {
     /**
      * 2) cnt < 0, DB 에 마지막 메시지가 있고, 그 ID 가 기존 ID 와 같은 경우
      *    - cnt = 0 으로 최신 정보 반환
-     *    - cacheRepository.save(message) 한 번 호출
+     *    - 캐시 재구성은 ChatCacheRebuilder 에 위임
      */
     @Test
-    void getLatestInfo_cntNegative_andDbHasSameLastMessage_thenReturnLatestAndSaveOne() {
+    void getLatestInfo_cntNegative_andDbHasSameLastMessage_thenReturnLatest() {
         // given
         Map<String, String> cursor = Map.of("room1", "cursor-id");
 
@@ -160,7 +223,7 @@ class ChatMessageReaderTest {
                 .build();
 
         given(cacheRepository.countAllToLatest(cursor)).willReturn(cacheResult);
-        given(messageRepository.findTopByRoomIdOrderByIdDesc("room1")).willReturn(Optional.of(latestMessage));
+        given(cacheRebuilder.loadRecent("room1")).willReturn(List.of(latestMessage));
 
         // when
         Map<String, ChatroomLatestInfo> result = chatMessageReader.getLatestInfo(cursor);
@@ -175,43 +238,28 @@ class ChatMessageReaderTest {
         assertThat(info.getContent()).isEqualTo("latest-message");
         assertThat(info.getSender()).isEqualTo(10L);
 
-        then(cacheRepository).should().save(latestMessage);
         then(cacheRepository).should(never()).clear(any());
         then(cacheRepository).should(never()).saveAll(any());
     }
 
     /**
      * 3) cnt < 0, DB 에 마지막 메시지가 있고, 그 ID 가 기존 ID 와 다른 경우
-     *    - cnt = 0, 최신 메시지 기준으로 info 반환
-     *    - findTop100ByRoomOrderByIdDesc 호출
-     *    - cacheRepository.clear(room), saveAll(messages) 호출
+     *    - 재구성된 최신 구간으로 언리드 카운트 계산
+     *    - 최신 메시지 기준으로 info 반환
      */
     @Test
-    void getLatestInfo_cntNegative_andDbHasDifferentLastMessage_thenRebuildCache() {
+    void getLatestInfo_cntNegative_andDbHasDifferentLastMessage_thenCountFromRecent() {
         // given
-        Map<String, String> cursor = Map.of("room1", "old-id");
+        Map<String, String> cursor = Map.of("room1", "id1");
 
         Map<String, ChatroomLatestInfo> cacheResult = new HashMap<>();
-        cacheResult.put("room1", new ChatroomLatestInfo(-1L, "old-id", ChatType.TEXT, "old", 1L));
-
-        ChatMessage latestMessage = ChatMessage.builder()
-                .id("new-id")
-                .type(ChatType.TEXT)
-                .roomId("room1")
-                .sender(20L)
-                .content("new-message")
-                .build();
-
-        // findTopByRoomOrderByIdDesc -> latestMessage
-        given(cacheRepository.countAllToLatest(cursor)).willReturn(cacheResult);
-        given(messageRepository.findTopByRoomIdOrderByIdDesc("room1")).willReturn(Optional.of(latestMessage));
+        cacheResult.put("room1", new ChatroomLatestInfo(-1L, "id1", ChatType.TEXT, "old", 1L));
 
-        // findTop100ByRoomOrderByIdDesc -> 여러 메시지 (내림차순 가정)
         ChatMessage msg3 = ChatMessage.builder()
                 .id("id3")
                 .type(ChatType.TEXT)
                 .roomId("room1")
-                .sender(1L)
+                .sender(20L)
                 .content("m3")
                 .build();
         ChatMessage msg2 = ChatMessage.builder()
@@ -229,11 +277,9 @@ class ChatMessageReaderTest {
                 .content("m1")
                 .build();
 
-        List<ChatMessage> messages = new ArrayList<>();
-        messages.add(msg3);
-        messages.add(msg2);
-        messages.add(msg1);
-        given(messageRepository.findTop100ByRoomIdOrderByIdDesc("room1")).willReturn(messages); // 내림차순
+        given(cacheRepository.countAllToLatest(cursor)).willReturn(cacheResult);
+        // loadRecent -> 최신 구간 (내림차순)
+        given(cacheRebuilder.loadRecent("room1")).willReturn(List.of(msg3, msg2, msg1));
 
         // when
         Map<String, ChatroomLatestInfo> result = chatMessageReader.getLatestInfo(cursor);
@@ -242,21 +288,15 @@ class ChatMessageReaderTest {
         assertThat(result).hasSize(1).containsKey("room1");
 
         ChatroomLatestInfo info = result.get("room1");
-        assertThat(info.getCnt()).isEqualTo(0L);
-        assertThat(info.getId()).isEqualTo("new-id");
+        assertThat(info.getCnt()).isEqualTo(2L);
+        assertThat(info.getId()).isEqualTo("id3");
         assertThat(info.getType()).isEqualTo(ChatType.TEXT);
-        assertThat(info.getContent()).isEqualTo("new-message");
+        assertThat(info.getContent()).isEqualTo("m3");
         assertThat(info.getSender()).isEqualTo(20L);
 
-        // 캐시 재구성 호출 검증
-        then(cacheRepository).should().clear("room1");
-
-        ArgumentCaptor<List<ChatMessage>> msgListCaptor = ArgumentCaptor.forClass(List.class);
-        then(cacheRepository).should().saveAll(msgListCaptor.capture());
-
-        List<ChatMessage> savedList = msgListCaptor.getValue();
-        // rebuildCacheFromRecent 내부 로직에 따르면 id 오름차순으로 저장
-        assertThat(savedList).extracting(ChatMessage::getId).containsExactly("id1", "id2", "id3");
+        // 캐시 재구성은 rebuilder 에 위임
+        then(cacheRepository).should(never()).clear(any());
+        then(cacheRepository).should(never()).saveAll(any());
     }
 
     /**
@@ -293,4 +333,115 @@ class ChatMessageReaderTest {
         then(cacheRepository).should(never()).save(any());
         then(cacheRepository).should(never()).saveAll(any());
     }
+
+    @Test
+    void getLatestInfo_withSequence_thenExactUnreadOver100() {
+        // given
+        Long userId = 1L;
+        Map<String, String> cursor = Map.of("room1", "cursor1", "room2", "cursor2");
+
+        // room1 은 순번으로 계산 가능, room2 는 순번 기록이 없음
+        given(sequenceRepository.findAll(userId, cursor.keySet()))
+                .willReturn(Map.of(
+                        "room1", new ChatRoomSequence(300L, 50L),
+                        "room2", new ChatRoomSequence(null, null)));
+
+        Map<String, ChatroomLatestInfo> cacheResult = new HashMap<>();
+        cacheResult.put("room1", new ChatroomLatestInfo(100L, "latest1", ChatType.TEXT, "cached1", 1L));
+        cacheResult.put("room2", new ChatroomLatestInfo(7L, "latest2", ChatType.TEXT, "cached2", 2L));
+        given(cacheRepository.countAllToLatest(Map.of("room1", "0", "room2", "cursor2")))
+                .willReturn(cacheResult);
+
+        // when
+        Map<String, ChatroomLatestInfo> result = chatMessageReader.getLatestInfo(userId, cursor);
+
+        // then
+        assertThat(result.get("room1").getCnt()).isEqualTo(250L);
+        assertThat(result.get("room1").getId()).isEqualTo("latest1");
+        assertThat(result.get("room2").getCnt()).isEqualTo(7L);
+    }
+
+    @Test
+    void getLatestInfo_neverRead_thenUnreadCapped() {
+        // given
+        Long userId = 1L;
+        Map<String, String> cursor = Map.of("room1", "0");
+        given(sequenceRepository.findAll(userId, cursor.keySet()))
+                .willReturn(Map.of("room1", new ChatRoomSequence(300L, null)));
+
+        Map<String, ChatroomLatestInfo> cacheResult = new HashMap<>();
+        cacheResult.put("room1", new ChatroomLatestInfo(100L, "latest1", ChatType.TEXT, "cached1", 1L));
+        given(cacheRepository.countAllToLatest(Map.of("room1", "0"))).willReturn(cacheResult);
+
+        // when
+        Map<String, ChatroomLatestInfo> result = chatMessageReader.getLatestInfo(userId, cursor);
+
+        // then
+        assertThat(result.get("room1").getCnt()).isEqualTo(ChatRoomSequence.NEVER_READ_LIMIT);
+    }
+
+    @Test
+    void findSequences_success_fallbackToDb() {
+        // given
+        Map<String, List<String>> chatIds = Map.of("room", List.of("a1", "a2", "a3"));
+        given(cacheRepository.findSequences(chatIds)).willReturn(Map.of("a1", 1L));
+        given(messageRepository.findAllInRooms(Map.of("room", List.of("a2", "a3"))))
+                .willReturn(List.of(
+                        new ChatMessage("a2", ChatType.TEXT, "room", 1L, "message", 2L),
+                        new ChatMessage("a3", ChatType.TEXT, "room", 1L, "message")));
+
+        // when
+        Map<String, Long> result = chatMessageReader.findSequences(chatIds);
+
+        // then
+        assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of("a1", 1L, "a2", 2L));
+    }
+
+    @Test
+    void getHistoryBefore_success_cached() {
+        // given
+        List<ChatMessage> cached = List.of(
+                new ChatMessage("3", ChatType.TEXT, "room", 1L, "message"),
+                new ChatMessage("2", ChatType.TEXT, "room", 1L, "message"));
+        given(cacheRepository.fetchBefore("room", "4", 2)).willReturn(Optional.of(cached));
+
+        // when
+        List<ChatMessage> result = chatMessageReader.getHistoryBefore("room", "4", 2);
+
+        // then
+        assertThat(result).isEqualTo(cached);
+        then(messageRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void getHistoryBefore_success_fallbackToDb() {
+        // given
+        List<ChatMessage> saved = List.of(new ChatMessage("1", ChatType.TEXT, "room", 1L, "message"));
+        given(cacheRepository.fetchBefore("room", "2", 2)).willReturn(Optional.empty());
+        given(messageRepository.findByRoomIdAndIdLessThanOrderByIdDesc("room", "2", Limit.of(2)))
+                .willReturn(saved);
+
+        // when
+        List<ChatMessage> result = chatMessageReader.getHistoryBefore("room", "2", 2);
+
+        // then
+        assertThat(result).isEqualTo(saved);
+    }
+
+    @Test
+    void getHistoryAfter_success_fallbackToDb() {
+        // given
+        List<ChatMessage> saved = List.of(
+                new ChatMessage("2", ChatType.TEXT, "room", 1L, "message"),
+                new ChatMessage("3", ChatType.TEXT, "room", 1L, "message"));
+        given(cacheRepository.fetchAfter("room", "1", 2)).willReturn(Optional.empty());
+        given(messageRepository.findByRoomIdAndIdGreaterThanOrderByIdAsc("room", "1", Limit.of(2)))
+                .willReturn(saved);
+
+        // when
+        List<ChatMessage> result = chatMessageReader.getHistoryAfter("room", "1", 2);
+
+        // then
+        assertThat(result).isEqualTo(saved);
+    }
 }
@@ -0,0 +1,256 @@
+package com.studypals.domain.chatManage.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studypals.domain.chatManage.dao.ChatMessageCacheRepository;
+import com.studypals.domain.chatManage.dao.ChatSequenceRepository;
+import com.studypals.domain.chatManage.dto.ChatType;
+import com.studypals.domain.chatManage.entity.ChatMessage;
+
+/**
+ * {@link ChatNearCache} 에 대한 단위 테스트입니다.
+ *
+ * @author jack8
+ * @since 2026-01-25
+ */
+@ExtendWith(MockitoExtension.class)
+class ChatNearCacheTest {
+
+    @Mock
+    ChatMessageCacheRepository cacheRepository;
+
+    @Mock
+    ChatSequenceRepository sequenceRepository;
+
+    @Mock
+    RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    RedisMessageListenerContainer listenerContainer;
+
+    @Spy
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    ChatNearCache nearCache;
+
+    @Test
+    void fetchFromId_success_delegateColdRoom() {
+        // given
+        List<ChatMessage> cached = messages(1, 10);
+        given(cacheRepository.fetchFromId("room", "a")).willReturn(cached);
+
+        // when
+        List<ChatMessage> result = nearCache.fetchFromId("room", "a");
+
+        // then
+        assertThat(result).isEqualTo(cached);
+        then(sequenceRepository).shouldHaveNoInteractions();
+        then(listenerContainer).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void fetchFromId_success_serveHotRoomLocally() {
+        // given
+        List<ChatMessage> cached = messages(1, 10);
+        given(cacheRepository.fetchFromId("room", "a")).willReturn(cached);
+        given(sequenceRepository.findLatest("room")).willReturn(10L);
+        warmUp();
+
+        // when
+        List<ChatMessage> result = nearCache.fetchFromId("room", "a");
+
+        // then
+        assertThat(result).isEqualTo(cached);
+        then(cacheRepository).should(times(ChatNearCache.HOT_READS)).fetchFromId("room", "a");
+        then(listenerContainer).should().addMessageListener(any(), any(Topic.class));
+    }
+
+    @Test
+    void publish_success_appendToRing() {
+        // given
+        given(cacheRepository.fetchFromId("room", "a")).willReturn(messages(1, 10));
+        given(sequenceRepository.findLatest("room")).willReturn(10L);
+        warmUp();
+
+        // when
+        ChatMessage sent = message(11);
+        nearCache.publish(sent);
+        List<ChatMessage> result = nearCache.fetchFromId("room", "a");
+
+        // then
+        assertThat(result).hasSize(11);
+        assertThat(result.get(0)).isEqualTo(sent);
+        then(cacheRepository).should(times(ChatNearCache.HOT_READS)).fetchFromId("room", "a");
+        // 전송 스레드에서는 발행하지 않습니다.
+        then(redisTemplate).should(never()).convertAndSend(anyString(), any());
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void publish_success_onlyFeedRoomsAsync() throws Exception {
+        // given
+        ReflectionTestUtils.setField(nearCache, "feedRooms", Set.of("room"));
+        ArgumentCaptor<SessionCallback> captor = ArgumentCaptor.forClass(SessionCallback.class);
+
+        // when
+        nearCache.publish(new ChatMessage("b", ChatType.TEXT, "other", 1L, "message", 1L));
+        nearCache.publish(message(1));
+
+        // then
+        then(redisTemplate).should(timeout(1000)).executePipelined(captor.capture());
+        RedisOperations operations = mock(RedisOperations.class);
+        captor.getValue().execute(operations);
+        then(operations).should().convertAndSend(eq("chat:msg:feed:room"), anyString());
+        then(operations).should(never()).convertAndSend(eq("chat:msg:feed:other"), any());
+    }
+
+    @Test
+    void fetchFromId_success_subscribeOnce() {
+        // given
+        given(cacheRepository.fetchFromId("room", "a")).willReturn(messages(1, 10));
+        given(sequenceRepository.findLatest("room")).willReturn(10L);
+
+        // when
+        warmUp();
+        nearCache.fetchFromId("room", "a");
+
+        // then
+        then(listenerContainer).should(times(1)).addMessageListener(any(), any(Topic.class));
+    }
+
+    @Test
+    void fetchFromId_success_fallbackOnGap() {
+        // given
+        given(cacheRepository.fetchFromId("room", "a")).willReturn(messages(1, 10));
+        given(sequenceRepository.findLatest("room")).willReturn(10L);
+        warmUp();
+
+        // when (11 번 메시지가 유실됨)
+        nearCache.publish(message(12));
+        nearCache.fetchFromId("room", "a");
+
+        // then
+        then(cacheRepository).should(times(ChatNearCache.HOT_READS + 1)).fetchFromId("room", "a");
+    }
+
+    @Test
+    void fetchFromId_success_fallbackBehindHead() {
+        // given (stream 에 아직 기록되지 않은 11 번 메시지가 있음)
+        given(cacheRepository.fetchFromId("room", "a")).willReturn(messages(1, 10));
+        given(sequenceRepository.findLatest("room")).willReturn(11L);
+        warmUp();
+
+        // when
+        nearCache.fetchFromId("room", "a");
+
+        // then
+        then(cacheRepository).should(times(ChatNearCache.HOT_READS + 1)).fetchFromId("room", "a");
+    }
+
+    @Test
+    void ring_success_applyOutOfOrder() {
+        // given
+        ChatNearCache.Ring ring = new ChatNearCache.Ring();
+        ring.load(messages(1, 10), 10L);
+
+        // when
+        ring.offer(message(12));
+        List<ChatMessage> waiting = ring.read("a");
+        ring.offer(message(11));
+        List<ChatMessage> result = ring.read("a");
+
+        // then
+        assertThat(waiting).isNull();
+        assertThat(result).hasSize(12);
+        assertThat(result.get(0).getSeq()).isEqualTo(12L);
+    }
+
+    @Test
+    void ring_success_keepIdInversion() {
+        // given - 순번 11, 12 의 ID 가 뒤바뀐 메시지
+        ChatNearCache.Ring ring = new ChatNearCache.Ring();
+        ring.load(messages(1, 10), 10L);
+
+        // when
+        ring.offer(message(11, 12));
+        ring.offer(message(12, 11));
+        List<ChatMessage> result = ring.read("a");
+
+        // then - 비우지 않고, ID 순서로 응답합니다.
+        assertThat(result).hasSize(12);
+        assertThat(result.get(0).getSeq()).isEqualTo(11L);
+        assertThat(result.get(1).getSeq()).isEqualTo(12L);
+    }
+
+    @Test
+    void ring_success_skipIdAtOrBelowEvicted() {
+        // given
+        ChatNearCache.Ring ring = new ChatNearCache.Ring();
+        ring.load(messages(1, ChatNearCache.CAPACITY), (long) ChatNearCache.CAPACITY);
+
+        // when - 순번 1 의 메시지가 밀려납니다.
+        ring.offer(message(ChatNearCache.CAPACITY + 1));
+
+        // then
+        assertThat(ring.read(message(1).getId())).isNull();
+        assertThat(ring.read(message(2).getId())).hasSize(ChatNearCache.CAPACITY);
+    }
+
+    private void warmUp() {
+        for (int i = 0; i < ChatNearCache.HOT_READS; i++) {
+            nearCache.fetchFromId("room", "a");
+        }
+    }
+
+    /**
+     * 순번이 from ~ to 인 메시지를 최신 순으로 생성합니다.
+     */
+    private List<ChatMessage> messages(long from, long to) {
+        List<ChatMessage> result = new ArrayList<>();
+        for (long seq = to; seq >= from; seq--) {
+            result.add(message(seq));
+        }
+        return result;
+    }
+
+    private ChatMessage message(long seq) {
+        return message(seq, seq);
+    }
+
+    /**
+     * ID 가 다른 순번의 메시지 ID 인 메시지를 생성합니다.
+     */
+    private ChatMessage message(long seq, long idSeq) {
+        // 순번 1 의 메시지 ID 가 "a" 가 되도록 합니다.
+        return new ChatMessage(Long.toHexString(9 + idSeq), ChatType.TEXT, "room", 1L, "message " + seq, seq);
+    }
+}
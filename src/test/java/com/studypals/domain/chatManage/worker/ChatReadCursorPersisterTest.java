@@ -0,0 +1,99 @@
+package com.studypals.domain.chatManage.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.studypals.domain.chatManage.dao.ChatReadCursorRepository;
+import com.studypals.domain.chatManage.dao.ChatRoomMemberJdbcRepository;
+import com.studypals.domain.chatManage.dto.ChatReadCursor;
+
+/**
+ * {@link ChatReadCursorPersister} 에 대한 단위 테스트입니다.
+ *
+ * @author jack8
+ * @since 2026-01-22
+ */
+@ExtendWith(MockitoExtension.class)
+class ChatReadCursorPersisterTest {
+
+    @Mock
+    ChatReadCursorRepository readCursorRepository;
+
+    @Mock
+    ChatRoomMemberJdbcRepository chatRoomMemberJdbcRepository;
+
+    @InjectMocks
+    ChatReadCursorPersister persister;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void persistOnce_success() {
+        // given
+        List<String> roomIds = List.of("room1", "room2");
+        given(readCursorRepository.popDirty(anyInt())).willReturn(roomIds);
+        given(readCursorRepository.findAll(roomIds)).willReturn(Map.of("room1", Map.of("1", "a1", "2", "a2")));
+
+        // when
+        int popped = persister.persistOnce();
+
+        // then
+        assertThat(popped).isEqualTo(2);
+
+        ArgumentCaptor<List<ChatReadCursor>> captor = ArgumentCaptor.forClass(List.class);
+        then(chatRoomMemberJdbcRepository).should().updateLastReadMessages(captor.capture());
+        assertThat(captor.getValue())
+                .containsExactlyInAnyOrder(
+                        new ChatReadCursor("room1", 1L, "a1"), new ChatReadCursor("room1", 2L, "a2"));
+
+        // 반영된 채팅방에만 만료 시간 설정
+        then(readCursorRepository).should().expire(eq(Set.of("room1")), any());
+    }
+
+    @Test
+    void persistOnce_success_noDirtyRoom() {
+        // given
+        given(readCursorRepository.popDirty(anyInt())).willReturn(List.of());
+
+        // when
+        int popped = persister.persistOnce();
+
+        // then
+        assertThat(popped).isZero();
+        then(chatRoomMemberJdbcRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void persistOnce_fail_restoreDirty() {
+        // given
+        List<String> roomIds = List.of("room1");
+        given(readCursorRepository.popDirty(anyInt())).willReturn(roomIds);
+        given(readCursorRepository.findAll(roomIds)).willReturn(Map.of("room1", Map.of("1", "a1")));
+        willThrow(new RuntimeException("db down"))
+                .given(chatRoomMemberJdbcRepository)
+                .updateLastReadMessages(anyList());
+
+        // when & then
+        assertThatThrownBy(() -> persister.persistOnce()).isInstanceOf(RuntimeException.class);
+        then(readCursorRepository).should().markDirty(roomIds);
+        then(readCursorRepository).should(never()).expire(any(), any());
+    }
+}
@@ -0,0 +1,257 @@
+package com.studypals.domain.chatManage.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studypals.domain.chatManage.dto.ChatRoomListEvent;
+import com.studypals.domain.chatManage.dto.ChatRoomListPatch;
+import com.studypals.domain.chatManage.dto.ChatRoomListRes;
+import com.studypals.domain.chatManage.dto.ChatType;
+import com.studypals.domain.chatManage.dto.ChatroomLatestInfo;
+import com.studypals.domain.chatManage.dto.OutgoingMessage;
+import com.studypals.domain.chatManage.entity.ChatSseType;
+import com.studypals.global.sse.SseEmitterManager;
+import com.studypals.global.sse.SseSendDto;
+
+/**
+ * {@link ChatRoomListView} 에 대한 단위 테스트입니다.
+ *
+ * @author jack8
+ * @since 2026-01-23
+ */
+@ExtendWith(MockitoExtension.class)
+class ChatRoomListViewTest {
+
+    @Mock
+    SseEmitterManager sseManager;
+
+    @Mock
+    ChatRoomReader chatRoomReader;
+
+    @Mock
+    ChatMessageReader chatMessageReader;
+
+    ObjectMapper objectMapper = spy(new ObjectMapper());
+
+    ChatRoomListView view;
+
+    @BeforeEach
+    void setUp() {
+        view = new ChatRoomListView(sseManager, chatRoomReader, chatMessageReader, objectMapper);
+    }
+
+    @Test
+    void snapshot_success_loadOnce() {
+        // given
+        AtomicInteger loaded = new AtomicInteger();
+        given(sseManager.isConnected(1L)).willReturn(true);
+
+        // when
+        view.snapshot(1L, () -> {
+            loaded.incrementAndGet();
+            return new ChatRoomListRes(List.of(createRoom("room", 0L, "a")));
+        });
+        ChatRoomListRes result = view.snapshot(1L, () -> {
+            loaded.incrementAndGet();
+            return new ChatRoomListRes(List.of());
+        });
+
+        // then
+        assertThat(loaded.get()).isEqualTo(1);
+        assertThat(result.rooms()).containsExactly(createRoom("room", 0L, "a"));
+    }
+
+    @Test
+    void handle_success_patchOnMessage() {
+        // given
+        given(sseManager.isConnected(1L)).willReturn(true);
+        view.snapshot(1L, () -> new ChatRoomListRes(List.of(createRoom("room", 2L, "a"))));
+        SseSendDto event = view.messageEvent("room", List.of(createMessage("b", 2L), createMessage("c", 3L)));
+
+        // when
+        SseSendDto result = view.handle(1L, event);
+
+        // then
+        assertThat(result.type()).isEqualTo(ChatSseType.ROOM_PATCH.name());
+        ChatRoomListPatch patch = (ChatRoomListPatch) result.content();
+        assertThat(patch.op()).isEqualTo(ChatRoomListPatch.Op.UPSERT);
+        assertThat(patch.room().unread()).isEqualTo(4L);
+        assertThat(patch.room().chatId()).isEqualTo("c");
+        assertThat(patch.room().sender()).isEqualTo(3L);
+    }
+
+    @Test
+    void handle_success_senderReadOwnMessage() throws Exception {
+        // given
+        given(sseManager.isConnected(2L)).willReturn(true);
+        view.snapshot(2L, () -> new ChatRoomListRes(List.of(createRoom("room", 5L, "a"))));
+        SseSendDto event = view.messageEvent("room", List.of(createMessage("b", 2L), createMessage("c", 3L)));
+
+        // when (다른 노드에서 도착한 이벤트)
+        String json = objectMapper.writeValueAsString(event.content());
+        SseSendDto result = view.handle(2L, new SseSendDto(event.type(), json));
+
+        // then
+        ChatRoomListPatch patch = (ChatRoomListPatch) result.content();
+        assertThat(patch.room().unread()).isEqualTo(1L);
+    }
+
+    @Test
+    void handle_success_readToLatest() {
+        // given
+        given(sseManager.isConnected(1L)).willReturn(true);
+        view.snapshot(1L, () -> new ChatRoomListRes(List.of(createRoom("room", 3L, "a"))));
+
+        // when
+        SseSendDto result = view.handle(1L, roomEvent(ChatRoomListEvent.read("room", "a")));
+
+        // then
+        ChatRoomListPatch patch = (ChatRoomListPatch) result.content();
+        assertThat(patch.room().unread()).isZero();
+    }
+
+    @Test
+    void handle_success_readBeforeLatest_lookupOutsideLock() {
+        // given
+        given(sseManager.isConnected(1L)).willReturn(true);
+        view.snapshot(1L, () -> new ChatRoomListRes(List.of(createRoom("room", 5L, "c"))));
+        Object userView = ((Map<?, ?>) ReflectionTestUtils.getField(view, "views")).get(1L);
+        given(chatMessageReader.getLatestInfo(1L, Map.of("room", "b"))).willAnswer(invocation -> {
+            assertThat(Thread.holdsLock(userView)).isFalse();
+            return Map.of("room", new ChatroomLatestInfo(1L, "c", ChatType.TEXT, "content", 3L));
+        });
+
+        // when
+        SseSendDto result = view.handle(1L, roomEvent(ChatRoomListEvent.read("room", "b")));
+
+        // then
+        ChatRoomListPatch patch = (ChatRoomListPatch) result.content();
+        assertThat(patch.room().unread()).isEqualTo(1L);
+    }
+
+    @Test
+    void handle_success_parseRemoteEventOnce() throws Exception {
+        // given
+        given(sseManager.isConnected(1L)).willReturn(true);
+        given(sseManager.isConnected(2L)).willReturn(true);
+        view.snapshot(1L, () -> new ChatRoomListRes(List.of(createRoom("room", 0L, "a"))));
+        view.snapshot(2L, () -> new ChatRoomListRes(List.of(createRoom("room", 0L, "a"))));
+        SseSendDto event = view.messageEvent("room", List.of(createMessage("b", 3L)));
+        String json = objectMapper.writeValueAsString(event.content());
+
+        // when (다른 노드에서 도착한 같은 이벤트)
+        view.handle(1L, new SseSendDto(event.type(), json));
+        view.handle(2L, new SseSendDto(event.type(), json));
+
+        // then
+        then(objectMapper).should(times(1)).readValue(eq(json), eq(ChatRoomListEvent.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void publishReads_success_sendOnce() {
+        // when
+        view.publishReads(Map.of("room1", Map.of("1", "a", "2", "b"), "room2", Map.of("1", "c")));
+
+        // then
+        ArgumentCaptor<Map<Long, List<SseSendDto>>> captor = ArgumentCaptor.forClass(Map.class);
+        then(sseManager).should(times(1)).sendEachAsync(captor.capture());
+        assertThat(captor.getValue()).containsOnlyKeys(1L, 2L);
+        assertThat(captor.getValue().get(1L))
+                .containsExactlyInAnyOrder(
+                        roomEvent(ChatRoomListEvent.read("room1", "a")),
+                        roomEvent(ChatRoomListEvent.read("room2", "c")));
+        assertThat(captor.getValue().get(2L)).containsExactly(roomEvent(ChatRoomListEvent.read("room1", "b")));
+    }
+
+    @Test
+    void handle_success_removeOnLeave() {
+        // given
+        given(sseManager.isConnected(1L)).willReturn(true);
+        view.snapshot(1L, () -> new ChatRoomListRes(List.of(createRoom("room", 0L, "a"))));
+
+        // when
+        SseSendDto result = view.handle(1L, roomEvent(ChatRoomListEvent.leave("room", 1L, 9)));
+
+        // then
+        ChatRoomListPatch patch = (ChatRoomListPatch) result.content();
+        assertThat(patch.op()).isEqualTo(ChatRoomListPatch.Op.REMOVE);
+        assertThat(view.snapshot(1L, () -> null).rooms()).isEmpty();
+    }
+
+    @Test
+    void handle_success_applyBacklogAfterLoad() {
+        // given
+        given(sseManager.isConnected(1L)).willReturn(true);
+        SseSendDto included = view.messageEvent("room", List.of(createMessage("b", 2L)));
+        SseSendDto missed = view.messageEvent("room", List.of(createMessage("c", 2L)));
+
+        // when (전체 조회 도중 이벤트 도착, b 는 이미 조회 결과에 포함됨)
+        ChatRoomListRes result = view.snapshot(1L, () -> {
+            assertThat(view.handle(1L, included)).isNull();
+            assertThat(view.handle(1L, missed)).isNull();
+            return new ChatRoomListRes(List.of(createRoom("room", 1L, "b")));
+        });
+
+        // then
+        assertThat(result.rooms().get(0).unread()).isEqualTo(2L);
+        assertThat(result.rooms().get(0).chatId()).isEqualTo("c");
+    }
+
+    @Test
+    void handle_success_ignoreAfterDisconnect() {
+        // given
+        given(sseManager.isConnected(1L)).willReturn(true);
+        view.snapshot(1L, () -> new ChatRoomListRes(List.of(createRoom("room", 0L, "a"))));
+
+        // when
+        view.onDisconnect(1L);
+
+        // then
+        assertThat(view.handle(1L, roomEvent(ChatRoomListEvent.read("room", "a")))).isNull();
+    }
+
+    @Test
+    void handle_success_updateTotalMemberOnJoin() {
+        // given
+        given(sseManager.isConnected(1L)).willReturn(true);
+        view.snapshot(1L, () -> new ChatRoomListRes(List.of(createRoom("room", 0L, "a"))));
+
+        // when
+        SseSendDto result = view.handle(1L, roomEvent(ChatRoomListEvent.join("room", 2L, "name", "url", 11)));
+
+        // then
+        ChatRoomListPatch patch = (ChatRoomListPatch) result.content();
+        assertThat(patch.room().totalMember()).isEqualTo(11);
+        assertThat(patch.room().unread()).isZero();
+    }
+
+    private SseSendDto roomEvent(ChatRoomListEvent event) {
+        return new SseSendDto(ChatSseType.ROOM_EVENT.name(), event);
+    }
+
+    private ChatRoomListRes.ChatRoomInfo createRoom(String roomId, Long unread, String chatId) {
+        return new ChatRoomListRes.ChatRoomInfo(roomId, "name", "url", 10, unread, "content", chatId, 3L);
+    }
+
+    private OutgoingMessage createMessage(String id, Long sender) {
+        return new OutgoingMessage(id, "room", ChatType.TEXT, "message " + id, sender);
+    }
+}
@@ -3,6 +3,7 @@ package com.studypals.domain.chatManage.worker;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -15,6 +16,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.studypals.domain.chatManage.dao.ChatRoomMemberRepository;
 import com.studypals.domain.chatManage.dao.ChatRoomRepository;
+import com.studypals.domain.chatManage.dao.ChatSequenceRepository;
 import com.studypals.domain.chatManage.dto.CreateChatRoomDto;
 import com.studypals.domain.chatManage.entity.ChatRoom;
 import com.studypals.domain.chatManage.entity.ChatRoomMember;
@@ -37,6 +39,15 @@ class ChatRoomWriterTest {
     @Mock
     private ChatRoomMemberRepository chatRoomMemberRepository;
 
+    @Mock
+    private ChatRoomListView chatRoomListView;
+
+    @Mock
+    private ChatFanoutDispatcher chatFanoutDispatcher;
+
+    @Mock
+    private ChatSequenceRepository chatSequenceRepository;
+
     @Mock
     private ChatRoomMember mockCrm;
 
@@ -81,4 +92,24 @@ class ChatRoomWriterTest {
                 .extracting("errorCode")
                 .isEqualTo(ChatErrorCode.CHAT_ROOM_ADMIN_LEAVE);
     }
+
+    @Test
+    void leave_success_deleteReadSequence() {
+        // given
+        Long userId = 1L;
+        String chatRoomId = "chatroom";
+        given(mockMember.getId()).willReturn(userId);
+        given(mockChatRoom.getId()).willReturn(chatRoomId);
+        given(chatRoomMemberRepository.findByChatRoomIdAndMemberId(chatRoomId, userId))
+                .willReturn(Optional.of(mockCrm));
+        given(mockCrm.isAdmin()).willReturn(false);
+        given(chatRoomRepository.decreaseChatMember(chatRoomId)).willReturn(1);
+
+        // when
+        chatRoomWriter.leave(mockChatRoom, mockMember);
+
+        // then
+        then(chatRoomMemberRepository).should().delete(mockCrm);
+        then(chatSequenceRepository).should().deleteReadSequence(chatRoomId, userId);
+    }
 }
@@ -0,0 +1,68 @@
+package com.studypals.domain.chatManage.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link ChatSaveBatchPolicy} 에 대한 단위 테스트입니다.
+ *
+ * @author jack8
+ * @since 2026-01-17
+ */
+class ChatSaveBatchPolicyTest {
+
+    @Test
+    void onWriteCompleted_success_growOnBacklog() {
+        // given
+        ChatSaveBatchPolicy policy = new ChatSaveBatchPolicy();
+        int batchSize = policy.batchSize();
+        long interval = policy.flushIntervalMillis();
+
+        // when
+        policy.onWriteCompleted(10, batchSize * 4);
+
+        // then
+        assertThat(policy.batchSize()).isEqualTo(batchSize * 2);
+        assertThat(policy.flushIntervalMillis()).isEqualTo(interval / 2);
+    }
+
+    @Test
+    void onWriteCompleted_success_shrinkOnSlowWrite() {
+        // given
+        ChatSaveBatchPolicy policy = new ChatSaveBatchPolicy();
+        int batchSize = policy.batchSize();
+
+        // when
+        policy.onWriteCompleted(1_000, batchSize * 4);
+
+        // then
+        assertThat(policy.batchSize()).isEqualTo(batchSize / 2);
+        assertThat(policy.latencyMillis()).isEqualTo(1_000);
+    }
+
+    @Test
+    void onWriteCompleted_success_keepBounds() {
+        // given
+        ChatSaveBatchPolicy policy = new ChatSaveBatchPolicy();
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            policy.onWriteCompleted(10, Integer.MAX_VALUE);
+        }
+
+        // then
+        assertThat(policy.batchSize()).isEqualTo(ChatSaveBatchPolicy.MAX_BATCH_SIZE);
+        assertThat(policy.flushIntervalMillis()).isEqualTo(ChatSaveBatchPolicy.MIN_FLUSH_INTERVAL);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            policy.onWriteFailed();
+            policy.onWriteCompleted(10, 0);
+        }
+
+        // then
+        assertThat(policy.batchSize()).isEqualTo(ChatSaveBatchPolicy.MIN_BATCH_SIZE);
+        assertThat(policy.flushIntervalMillis()).isEqualTo(ChatSaveBatchPolicy.MAX_FLUSH_INTERVAL);
+    }
+}
@@ -1,10 +1,17 @@
 package com.studypals.domain.chatManage.worker;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
@@ -15,10 +22,14 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studypals.domain.chatManage.dao.ChatReadCursorRepository;
+import com.studypals.domain.chatManage.dao.ChatSequenceRepository;
 import com.studypals.domain.chatManage.dao.UserLastReadMessageRepository;
 import com.studypals.domain.chatManage.dto.ChatUpdateDto;
+import com.studypals.domain.chatManage.dto.OutgoingMessage;
 import com.studypals.global.utils.Snowflake;
 
 /**
@@ -37,6 +48,18 @@ class ChatStateUpdaterTest {
     @Mock
     SimpMessageSendingOperations template;
 
+    @Mock
+    ChatMessageReader chatMessageReader;
+
+    @Mock
+    ChatSequenceRepository chatSequenceRepository;
+
+    @Mock
+    ChatReadCursorRepository chatReadCursorRepository;
+
+    @Mock
+    ChatRoomListView chatRoomListView;
+
     ObjectMapper mapper;
 
     Snowflake snowflake;
@@ -49,7 +72,14 @@ class ChatStateUpdaterTest {
     void setup() throws Exception {
         mapper = new ObjectMapper();
         snowflake = new Snowflake();
-        chatStateUpdater = new ChatStateUpdater(userLastReadMessageRepository, template, mapper);
+        chatStateUpdater = new ChatStateUpdater(
+                userLastReadMessageRepository,
+                template,
+                mapper,
+                chatMessageReader,
+                chatSequenceRepository,
+                chatReadCursorRepository,
+                chatRoomListView);
         Field destination = ChatStateUpdater.class.getDeclaredField("DESTINATION_PREFIX");
         destination.setAccessible(true);
         destination.set(chatStateUpdater, prefix);
@@ -57,7 +87,7 @@ class ChatStateUpdaterTest {
 
     @Test
     @SuppressWarnings("unchecked")
-    void flushOnce_success() throws Exception {
+    void flushShard_success() throws Exception {
         // given
         String room1Id = UUID.randomUUID().toString();
         String room2Id = UUID.randomUUID().toString();
@@ -71,19 +101,115 @@ class ChatStateUpdaterTest {
 
         chatStateUpdater.update(createReq(room3Id, 3L));
 
-        Method flushOnce = ChatStateUpdater.class.getDeclaredMethod("flushOnce");
-        flushOnce.setAccessible(true);
-        flushOnce.invoke(chatStateUpdater);
+        flushShards();
 
         ArgumentCaptor<Map<String, Map<String, String>>> captor = ArgumentCaptor.forClass(Map.class);
 
-        verify(userLastReadMessageRepository).saveMapById(captor.capture());
-        Map<String, Map<String, String>> captured = captor.getValue();
+        // shard 단위로 저장되므로, 모든 호출을 합쳐 검증합니다.
+        verify(userLastReadMessageRepository, atLeastOnce()).saveMapById(captor.capture());
+        Map<String, Map<String, String>> captured = new HashMap<>();
+        captor.getAllValues().forEach(captured::putAll);
 
         assertThat(captured).hasSize(3);
         assertThat(captured).containsKey(room1Id);
         assertThat(captured).containsKey(room2Id);
         assertThat(captured).containsKey(room3Id);
+
+        // DB 반영 대상으로 기록
+        ArgumentCaptor<Collection<String>> dirtyCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(chatReadCursorRepository, atLeastOnce()).markDirty(dirtyCaptor.capture());
+        assertThat(dirtyCaptor.getAllValues().stream().flatMap(Collection::stream))
+                .containsExactlyInAnyOrder(room1Id, room2Id, room3Id);
+
+        // 각 유저의 채팅방 리스트 갱신
+        verify(chatRoomListView, atLeastOnce()).publishReads(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flushShard_success_saveReadSequence() throws Exception {
+        // given
+        String roomId = UUID.randomUUID().toString();
+        chatStateUpdater.update(new ChatUpdateDto(roomId, 1L, "a1"));
+        chatStateUpdater.update(new ChatUpdateDto(roomId, 2L, "a2"));
+        given(chatMessageReader.findSequences(any())).willReturn(Map.of("a1", 10L));
+
+        // when
+        flushShards();
+
+        // then - 순번을 찾지 못한 메시지는 저장하지 않습니다.
+        ArgumentCaptor<Map<String, Map<String, Long>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(chatSequenceRepository).saveReadSequences(captor.capture());
+        assertThat(captor.getValue()).isEqualTo(Map.of(roomId, Map.of("1", 10L)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flushShard_success_keepLatestPerUser() throws Exception {
+        // given
+        String roomId = UUID.randomUUID().toString();
+        chatStateUpdater.update(new ChatUpdateDto(roomId, 1L, "a1"));
+        chatStateUpdater.update(new ChatUpdateDto(roomId, 1L, "a2"));
+
+        // when
+        flushShards();
+        flushShards();
+
+        // then - 교체된 버퍼는 비워진 뒤 재사용되므로, 두 번째 flush 에서는 저장하지 않습니다.
+        ArgumentCaptor<Map<String, Map<String, String>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(userLastReadMessageRepository).saveMapById(captor.capture());
+        assertThat(captor.getValue()).isEqualTo(Map.of(roomId, Map.of("1", "a2")));
+    }
+
+    @Test
+    void flushShard_success_broadcastOnlyChangedCursors() throws Exception {
+        // given
+        String roomId = UUID.randomUUID().toString();
+        chatStateUpdater.update(new ChatUpdateDto(roomId, 1L, "a1"));
+        chatStateUpdater.update(new ChatUpdateDto(roomId, 2L, "b1"));
+        flushShards();
+
+        // when - 2번 유저의 커서는 변하지 않음
+        chatStateUpdater.update(new ChatUpdateDto(roomId, 1L, "a2"));
+        chatStateUpdater.update(new ChatUpdateDto(roomId, 2L, "b1"));
+        flushShards();
+
+        // then
+        ArgumentCaptor<OutgoingMessage> captor = ArgumentCaptor.forClass(OutgoingMessage.class);
+        verify(template, times(2)).convertAndSend(eq(prefix + roomId), captor.capture());
+        assertThat(mapper.readValue(captor.getAllValues().get(0).getContent(), Map.class))
+                .isEqualTo(Map.of("1", "a1", "2", "b1"));
+        assertThat(captor.getAllValues().get(1).getContent()).isEqualTo("{\"1\":\"a2\"}");
+    }
+
+    @Test
+    void flushShard_success_deferBroadcastWithinInterval() throws Exception {
+        // given
+        ReflectionTestUtils.setField(chatStateUpdater, "broadcastIntervalMillis", 60_000L);
+        String roomId = UUID.randomUUID().toString();
+        chatStateUpdater.update(new ChatUpdateDto(roomId, 1L, "a1"));
+        flushShards();
+
+        // when
+        chatStateUpdater.update(new ChatUpdateDto(roomId, 1L, "a2"));
+        flushShards();
+
+        // then - 저장은 매번 하지만, 전송은 간격 내에 한 번만 합니다.
+        verify(template, times(1)).convertAndSend(eq(prefix + roomId), any(OutgoingMessage.class));
+        verify(userLastReadMessageRepository, times(2)).saveMapById(any(Map.class));
+    }
+
+    /**
+     * 모든 shard 를 현재 스레드에서 flush 합니다.
+     */
+    private void flushShards() throws Exception {
+        Object[] shards = (Object[]) ReflectionTestUtils.getField(chatStateUpdater, "shards");
+        Method flushShard =
+                ChatStateUpdater.class.getDeclaredMethod("flushShard", shards.getClass().getComponentType());
+        flushShard.setAccessible(true);
+        for (Object shard : shards) {
+            flushShard.invoke(chatStateUpdater, shard);
+        }
     }
 
     ChatUpdateDto createReq(String roomId, Long userId) {
@@ -0,0 +1,90 @@
+package com.studypals.domain.chatManage.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.studypals.domain.chatManage.dto.ChatStreamUsage;
+
+/**
+ * {@link ChatStreamRetentionPolicy} 에 대한 단위 테스트입니다.
+ *
+ * @author jack8
+ * @since 2026-01-24
+ */
+class ChatStreamRetentionPolicyTest {
+
+    private static final long NOW = 1_000_000_000L;
+
+    @Test
+    void nextLen_success_growByDepthAndRate() {
+        // given
+        ChatStreamRetentionPolicy policy = new ChatStreamRetentionPolicy(100_000, 100);
+
+        // when
+        int byDepth = policy.nextLen(usage("a", NOW, 100, 0, 400));
+        int byRate = policy.nextLen(usage("b", NOW, 100, 60, 0));
+        int capped = policy.nextLen(usage("c", NOW, 100, 10_000, 0));
+
+        // then
+        assertThat(byDepth).isEqualTo(500);
+        assertThat(byRate).isEqualTo(300);
+        assertThat(capped).isEqualTo(ChatStreamRetentionPolicy.MAX_LEN);
+    }
+
+    @Test
+    void nextLen_success_shrinkByHalf() {
+        // given
+        ChatStreamRetentionPolicy policy = new ChatStreamRetentionPolicy(100_000, 100);
+
+        // when
+        int first = policy.nextLen(usage("a", NOW, 400, 0, 0));
+        int last = policy.nextLen(usage("a", NOW, 30, 0, 0));
+
+        // then
+        assertThat(first).isEqualTo(200);
+        assertThat(last).isEqualTo(ChatStreamRetentionPolicy.MIN_LEN);
+    }
+
+    @Test
+    void plan_success_evictLeastRecentlyUsed() {
+        // given
+        ChatStreamRetentionPolicy policy = new ChatStreamRetentionPolicy(250, 100);
+        List<ChatStreamUsage> usages = List.of(
+                usage("cold", NOW - 3_000, 100, 0, 0),
+                usage("warm", NOW - 2_000, 100, 0, 0),
+                usage("hot", NOW - 1_000, 100, 40, 0));
+
+        // when
+        ChatStreamRetentionPolicy.Plan plan = policy.plan(usages, NOW);
+
+        // then
+        assertThat(plan.resized())
+                .containsExactly(
+                        new ChatStreamRetentionPolicy.Resize("hot", 200, 40),
+                        new ChatStreamRetentionPolicy.Resize("warm", 50, 0));
+        assertThat(plan.evicted()).extracting(ChatStreamUsage::roomId).containsExactly("cold");
+    }
+
+    @Test
+    void plan_success_evictIdle() {
+        // given
+        ChatStreamRetentionPolicy policy = new ChatStreamRetentionPolicy(100_000, 100);
+        List<ChatStreamUsage> usages = List.of(
+                usage("idle", NOW - ChatStreamRetentionPolicy.IDLE_MILLIS - 1, 20, 0, 0),
+                usage("stable", NOW, 20, 0, 0));
+
+        // when
+        ChatStreamRetentionPolicy.Plan plan = policy.plan(usages, NOW);
+
+        // then
+        assertThat(plan.resized()).isEmpty();
+        assertThat(plan.evicted()).extracting(ChatStreamUsage::roomId).containsExactly("idle");
+    }
+
+    private ChatStreamUsage usage(String roomId, long lastAccess, Integer maxLen, long writes, int depth) {
+        return new ChatStreamUsage(roomId, lastAccess, 10L, maxLen, writes, depth);
+    }
+}
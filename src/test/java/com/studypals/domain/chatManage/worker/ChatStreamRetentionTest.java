@@ -0,0 +1,130 @@
+package com.studypals.domain.chatManage.worker;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.studypals.domain.chatManage.dao.ChatMessageCacheRepository;
+import com.studypals.domain.chatManage.dto.ChatStreamUsage;
+
+/**
+ * {@link ChatStreamRetention} 에 대한 단위 테스트입니다.
+ *
+ * @author jack8
+ * @since 2026-01-24
+ */
+@ExtendWith(MockitoExtension.class)
+class ChatStreamRetentionTest {
+
+    @Mock
+    ChatMessageCacheRepository cacheRepository;
+
+    @InjectMocks
+    ChatStreamRetention retention;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(retention, "intervalMillis", 60_000L);
+        ReflectionTestUtils.setField(retention, "evictGraceMillis", 300_000L);
+        ReflectionTestUtils.setField(retention, "policy", new ChatStreamRetentionPolicy(100_000, 100));
+    }
+
+    @Test
+    void flushReads_success_keepDeepest() {
+        // given
+        retention.recordRead("room", 30);
+        retention.recordRead("room", 120);
+        retention.recordRead("room", 50);
+
+        // when
+        retention.flushReads();
+        retention.flushReads();
+
+        // then
+        then(cacheRepository).should().recordReads(Map.of("room", 120));
+    }
+
+    @Test
+    void flushReads_fail_restoreDepths() {
+        // given
+        retention.recordRead("room", 30);
+        willThrow(new RuntimeException("redis down")).given(cacheRepository).recordReads(any());
+
+        // when & then
+        assertThatThrownBy(() -> retention.flushReads()).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> retention.flushReads()).isInstanceOf(RuntimeException.class);
+        then(cacheRepository).should(times(2)).recordReads(Map.of("room", 30));
+    }
+
+    @Test
+    void rebalance_success() {
+        // given
+        long now = System.currentTimeMillis();
+        ChatStreamUsage idle = new ChatStreamUsage("idle", 0, 10L, 100, 0, 0);
+        given(cacheRepository.tryLease(anyString(), any())).willReturn("token");
+        given(cacheRepository.collectUsages())
+                .willReturn(List.of(idle, new ChatStreamUsage("room", now, 10L, 100, 60, 0)));
+
+        // when
+        retention.rebalance();
+
+        // then
+        // 마지막 접근이 유예 시간 이내인 채팅방은 제거되지 않도록, 유예 시간 이전을 상한으로 전달합니다.
+        then(cacheRepository)
+                .should()
+                .evict(eq(List.of(idle)), longThat(idleBefore -> idleBefore >= now - 300_000L && idleBefore < now));
+        then(cacheRepository).should().resize("room", 300, 60);
+    }
+
+    @Test
+    void rebalance_success_skipWithoutLease() {
+        // given
+        given(cacheRepository.tryLease(anyString(), any())).willReturn(null);
+
+        // when
+        retention.rebalance();
+
+        // then
+        then(cacheRepository).should(never()).collectUsages();
+        then(cacheRepository).should(never()).resize(anyString(), anyInt(), anyLong());
+        then(cacheRepository).should(never()).evict(any(), anyLong());
+    }
+
+    @Test
+    void rebalance_success_continueOnResizeFailure() {
+        // given
+        long now = System.currentTimeMillis();
+        given(cacheRepository.tryLease(anyString(), any())).willReturn("token");
+        given(cacheRepository.collectUsages())
+                .willReturn(List.of(
+                        new ChatStreamUsage("first", now, 10L, 100, 60, 0),
+                        new ChatStreamUsage("second", now - 1, 10L, 100, 60, 0)));
+        willThrow(new RuntimeException("redis down")).given(cacheRepository).resize(eq("first"), anyInt(), anyLong());
+
+        // when
+        retention.rebalance();
+
+        // then
+        then(cacheRepository).should().resize("second", 300, 60);
+    }
+}
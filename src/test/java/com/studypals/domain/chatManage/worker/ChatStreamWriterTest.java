@@ -0,0 +1,124 @@
+package com.studypals.domain.chatManage.worker;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.studypals.domain.chatManage.dao.ChatMessageCacheRepository;
+import com.studypals.domain.chatManage.dao.ChatMessageCacheRepository.SaveResult;
+import com.studypals.domain.chatManage.dto.ChatType;
+import com.studypals.domain.chatManage.entity.ChatMessage;
+
+/**
+ * {@link ChatStreamWriter} 에 대한 단위 테스트입니다.
+ *
+ * @author jack8
+ * @since 2026-01-18
+ */
+@ExtendWith(MockitoExtension.class)
+class ChatStreamWriterTest {
+
+    @Mock
+    ChatMessageCacheRepository cacheRepository;
+
+    ChatStreamWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new ChatStreamWriter(cacheRepository);
+        ReflectionTestUtils.setField(writer, "writeMode", "through");
+    }
+
+    @Test
+    void append_success() {
+        // given
+        ChatMessage message = createChat("a1", "room1");
+        given(cacheRepository.saveAll(anyCollection())).willReturn(new SaveResult(Set.of(), Map.of()));
+
+        // when
+        writer.append(message);
+
+        // then
+        then(cacheRepository).should(timeout(1000)).saveAll(List.of(message));
+        then(cacheRepository).should(after(100).never()).clear(any());
+    }
+
+    @Test
+    void append_success_mergeRejected() {
+        // given
+        ChatMessage message = createChat("a1", "room1");
+        given(cacheRepository.saveAll(anyCollection())).willReturn(new SaveResult(Set.of("room1"), Map.of()));
+
+        // when
+        writer.append(message);
+
+        // then
+        then(cacheRepository).should(timeout(1000)).merge("room1", List.of(message));
+        then(cacheRepository).should(after(100).never()).clear(any());
+    }
+
+    @Test
+    void append_success_skipWhenWriteBehind() {
+        // given
+        ReflectionTestUtils.setField(writer, "writeMode", "behind");
+
+        // when
+        writer.append(createChat("a1", "room1"));
+
+        // then
+        then(cacheRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void append_fail_invalidateFailedRoom() {
+        // given
+        given(cacheRepository.saveAll(anyCollection()))
+                .willReturn(new SaveResult(Set.of(), Map.of("room1", new RuntimeException("connection reset"))));
+
+        // when
+        writer.append(createChat("a1", "room1"));
+
+        // then
+        then(cacheRepository).should(timeout(1000)).clear("room1");
+    }
+
+    @Test
+    void append_fail_invalidateWhenMergeFails() {
+        // given
+        ChatMessage message = createChat("a1", "room1");
+        given(cacheRepository.saveAll(anyCollection())).willReturn(new SaveResult(Set.of("room1"), Map.of()));
+        willThrow(new RuntimeException("connection reset")).given(cacheRepository).merge("room1", List.of(message));
+
+        // when
+        writer.append(message);
+
+        // then
+        then(cacheRepository).should(timeout(1000)).clear("room1");
+    }
+
+    private ChatMessage createChat(String id, String roomId) {
+        return ChatMessage.builder()
+                .id(id)
+                .roomId(roomId)
+                .sender(1L)
+                .content("message")
+                .type(ChatType.TEXT)
+                .build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.studypals.domain.chatManage.worker;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.studypals.domain.chatManage.dao.ChatMessageReactiveRepository;
+import com.studypals.domain.chatManage.dao.ChatReactiveCacheRepository;
+import com.studypals.domain.chatManage.dto.ChatType;
+import com.studypals.domain.chatManage.entity.ChatMessage;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * {@link ReactiveChatLogReader} 에 대한 단위 테스트입니다.
+ *
+ * @author jack8
+ * @since 2026-01-28
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveChatLogReaderTest {
+
+    @Mock
+    private ChatReactiveCacheRepository reactiveCacheRepository;
+
+    @Mock
+    private ChatMessageReactiveRepository messageReactiveRepository;
+
+    @Mock
+    private ChatCacheRebuilder cacheRebuilder;
+
+    @Mock
+    private ChatStreamRetention streamRetention;
+
+    @Mock
+    private ChatNearCache nearCache;
+
+    @InjectMocks
+    private ReactiveChatLogReader reader;
+
+    @Test
+    void getChatLog_success_nearCache() {
+        // given
+        List<ChatMessage> local = List.of(message("3"), message("2"));
+        given(nearCache.peek("room", "2")).willReturn(local);
+
+        // when & then
+        StepVerifier.create(reader.getChatLog("room", "2")).expectNext(local).verifyComplete();
+        then(reactiveCacheRepository).shouldHaveNoInteractions();
+        then(streamRetention).should().recordRead("room", 2);
+    }
+
+    @Test
+    void getChatLog_success_cachedAndDb() {
+        // given
+        given(reactiveCacheRepository.findMaxLen("room")).willReturn(Mono.just(2));
+        given(reactiveCacheRepository.fetchFromId("room", "1"))
+                .willReturn(Mono.just(List.of(message("4"), message("3"))));
+        given(messageReactiveRepository.findRange("room", "1", "3"))
+                .willReturn(Flux.just(message("2"), message("1")));
+
+        // when & then
+        StepVerifier.create(reader.getChatLog("room", "1"))
+                .expectNextMatches(result -> result.stream()
+                        .map(ChatMessage::getId)
+                        .toList()
+                        .equals(List.of("4", "3", "2", "1")))
+                .verifyComplete();
+        then(cacheRebuilder).should(never()).repopulate(anyString(), any());
+        then(streamRetention).should().recordRead("room", 4);
+    }
+
+    @Test
+    void getChatLog_success_emptyCache() {
+        // given
+        given(reactiveCacheRepository.findMaxLen("room")).willReturn(Mono.just(100));
+        given(reactiveCacheRepository.fetchFromId("room", "2")).willReturn(Mono.just(List.of()));
+        given(messageReactiveRepository.findLatest("room", 100))
+                .willReturn(Flux.just(message("3"), message("2"), message("1")));
+
+        // when & then
+        StepVerifier.create(reader.getChatLog("room", "2"))
+                .expectNextMatches(result -> result.stream()
+                        .map(ChatMessage::getId)
+                        .toList()
+                        .equals(List.of("3", "2")))
+                .verifyComplete();
+
+        // 캐시 재구성은 응답과 별개로, ID 오름차순으로 요청됩니다.
+        then(cacheRebuilder)
+                .should(timeout(1000))
+                .repopulate(eq("room"), eq(List.of(message("1"), message("2"), message("3"))));
+        then(messageReactiveRepository).should(never()).findRange(anyString(), anyString(), anyString());
+    }
+
+    private static ChatMessage message(String id) {
+        return new ChatMessage(id, ChatType.TEXT, "room", 1L, "message");
+    }
+}
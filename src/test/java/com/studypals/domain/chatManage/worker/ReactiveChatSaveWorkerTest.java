@@ -1,7 +1,12 @@
 package com.studypals.domain.chatManage.worker;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.verify;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 
 import java.lang.reflect.Method;
 import java.util.List;
@@ -11,12 +16,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
 
-import com.studypals.domain.chatManage.dao.ChatMessageCacheRepository;
 import com.studypals.domain.chatManage.dao.ChatMessageReactiveRepository;
 import com.studypals.domain.chatManage.entity.ChatMessage;
 
-import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 /**
@@ -31,52 +36,118 @@ class ReactiveChatSaveWorkerTest {
     ChatMessageReactiveRepository chatMessageReactiveRepository;
 
     @Mock
-    ChatMessageCacheRepository cacheRepository;
+    ChatMessagePipeline chatMessagePipeline; // 생성자 때문에 필요, 테스트에서는 안 씀
 
     @Mock
-    ChatMessagePipeline chatMessagePipeline; // 생성자 때문에 필요, 테스트에서는 안 씀
+    ChatStreamWriter chatStreamWriter;
+
+    @Mock
+    ChatDeadLetterJournal deadLetterJournal;
 
     ReactiveChatSaveWorker worker;
 
     @BeforeEach
     void setUp() {
-        worker = new ReactiveChatSaveWorker(chatMessageReactiveRepository, cacheRepository, chatMessagePipeline);
+        worker = new ReactiveChatSaveWorker(
+                chatMessageReactiveRepository,
+                chatMessagePipeline,
+                chatStreamWriter,
+                deadLetterJournal);
     }
 
     @Test
-    void saveBatchAndCacheLatest_success() throws Exception {
+    @SuppressWarnings("unchecked")
+    void saveOrDeadLetter_success() throws Exception {
         // given
-        ChatMessage msg1 = ChatMessage.builder()
-                .id("1-0")
-                .roomId("room1")
-                .sender(1L)
-                .content("hello")
-                .build();
+        List<ChatMessage> input = List.of(message("1-0"), message("2-0"));
+        given(chatMessageReactiveRepository.insertAllUnordered(input)).willReturn(Mono.just(input.size()));
 
-        ChatMessage msg2 = ChatMessage.builder()
-                .id("2-0")
-                .roomId("room1")
-                .sender(2L)
-                .content("world")
-                .build();
+        // when
+        Mono<Boolean> result = (Mono<Boolean>) saveOrDeadLetter().invoke(worker, input);
 
-        List<ChatMessage> input = List.of(msg1, msg2);
+        // then
+        StepVerifier.create(result).expectNext(true).verifyComplete();
+        then(deadLetterJournal).should(never()).write(any(), any());
+    }
 
-        // saveAll 이 저장 후 동일 객체를 반환한다고 가정
-        given(chatMessageReactiveRepository.saveAll(input)).willReturn(Flux.fromIterable(input));
+    @Test
+    void cacheBehind_success_ignoreCacheFailure() throws Exception {
+        // given
+        List<ChatMessage> input = List.of(message("2-0"), message("1-0"));
+        given(chatStreamWriter.isWriteThrough()).willReturn(false);
+        willThrow(new DataAccessResourceFailureException("redis down")).given(chatStreamWriter).write(any());
 
-        // private 메서드 호출 (필요하면 메서드를 package-private 으로 바꿔도 됨)
-        Method m = ReactiveChatSaveWorker.class.getDeclaredMethod("saveBatchAndCacheLatest", List.class);
+        // when
+        Method m = ReactiveChatSaveWorker.class.getDeclaredMethod("cacheBehind", List.class);
         m.setAccessible(true);
+        m.invoke(worker, input);
+
+        // then - ID 순서로 기록하며, 실패하더라도 저장이나 dead-letter 로 이어지지 않습니다.
+        then(chatStreamWriter).should(timeout(1000)).write(List.of(input.get(1), input.get(0)));
+        then(chatMessageReactiveRepository).shouldHaveNoInteractions();
+        then(deadLetterJournal).shouldHaveNoInteractions();
+    }
 
-        @SuppressWarnings("unchecked")
-        Flux<ChatMessage> result = (Flux<ChatMessage>) m.invoke(worker, input);
+    @Test
+    void cacheBehind_success_skipWriteThrough() throws Exception {
+        // given
+        given(chatStreamWriter.isWriteThrough()).willReturn(true);
 
-        // then: 결과 Flux 검증
-        StepVerifier.create(result).expectNext(msg1, msg2).verifyComplete();
+        // when
+        Method m = ReactiveChatSaveWorker.class.getDeclaredMethod("cacheBehind", List.class);
+        m.setAccessible(true);
+        m.invoke(worker, List.of(message("1-0")));
+
+        // then
+        then(chatStreamWriter).should(never()).write(any());
+    }
 
-        // 그리고 캐시 저장이 호출되었는지 검증
-        verify(cacheRepository).saveAll(input);
-        // 필요하면 savedMessages 캡쳐해서 검사할 수도 있음
+    @Test
+    @SuppressWarnings("unchecked")
+    void saveOrDeadLetter_success_deadLetterPoisonBatch() throws Exception {
+        // given
+        List<ChatMessage> input = List.of(message("1-0"), message("2-0"));
+        IllegalArgumentException poison = new IllegalArgumentException("mapping");
+        given(chatMessageReactiveRepository.insertAllUnordered(input)).willReturn(Mono.error(poison));
+
+        // when
+        Mono<Boolean> result = (Mono<Boolean>) saveOrDeadLetter().invoke(worker, input);
+
+        // then - 재시도하지 않고 dead-letter 로 기록한 뒤 처리된 것으로 완료됩니다.
+        StepVerifier.create(result).expectNext(false).verifyComplete();
+        then(chatMessageReactiveRepository).should().insertAllUnordered(input);
+        then(deadLetterJournal).should().write(input, poison);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void saveOrDeadLetter_success_retryTransientFailure() throws Exception {
+        // given
+        List<ChatMessage> input = List.of(message("1-0"));
+        given(chatMessageReactiveRepository.insertAllUnordered(input))
+                .willReturn(Mono.error(new DataAccessResourceFailureException("timeout")), Mono.just(1));
+
+        // when
+        Mono<Boolean> result = (Mono<Boolean>) saveOrDeadLetter().invoke(worker, input);
+
+        // then
+        StepVerifier.create(result).expectNext(true).verifyComplete();
+        then(chatMessageReactiveRepository).should(times(2)).insertAllUnordered(input);
+        then(deadLetterJournal).should(never()).write(any(), any());
+    }
+
+    private Method saveOrDeadLetter() throws Exception {
+        Method m = ReactiveChatSaveWorker.class.getDeclaredMethod("saveOrDeadLetter", List.class);
+        m.setAccessible(true);
+        return m;
+    }
+
+    private ChatMessage message(String id) {
+        return ChatMessage.builder()
+                .id(id)
+                .roomId("room1")
+                .sender(1L)
+                .content("hello")
+                .build();
     }
 }
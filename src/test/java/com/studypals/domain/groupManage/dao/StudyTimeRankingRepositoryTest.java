@@ -0,0 +1,204 @@
+package com.studypals.domain.groupManage.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.studypals.domain.groupManage.dao.StudyTimeRankingRepository.Increment;
+import com.studypals.domain.groupManage.dao.StudyTimeRankingRepository.RankedScore;
+import com.studypals.domain.groupManage.dao.StudyTimeRankingRepository.RankingKey;
+import com.studypals.domain.groupManage.dao.StudyTimeRankingRepository.RankingPage;
+import com.studypals.domain.groupManage.entity.GroupRankingPeriod;
+import com.studypals.testModules.testSupport.TestEnvironment;
+
+/**
+ * {@link StudyTimeRankingRepositoryImpl} 에 대한 test container - 테스트입니다.
+ *
+ * @author sleepyhoon
+ * @see StudyTimeRankingRepository
+ * @since 2026-01-28
+ */
+@SpringBootTest
+class StudyTimeRankingRepositoryTest extends TestEnvironment {
+
+    @Autowired
+    StudyTimeRankingRepository rankingRepository;
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    private static final LocalDate DATE = LocalDate.of(2025, 12, 25);
+
+    @BeforeEach
+    void beforeEach() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushDb();
+    }
+
+    @Test
+    void incrementAll_success_accumulate() {
+        // given
+        rankingRepository.incrementAll(List.of(
+                new Increment(GroupRankingPeriod.DAILY, DATE, 1L, 600, List.of()),
+                new Increment(GroupRankingPeriod.WEEKLY, DATE, 1L, 600, List.of()),
+                new Increment(GroupRankingPeriod.DAILY, DATE, 2L, 100, List.of())));
+
+        // when
+        rankingRepository.incrementAll(List.of(new Increment(GroupRankingPeriod.DAILY, DATE, 1L, 300, List.of())));
+
+        // then
+        assertThat(rankingRepository.findScores(GroupRankingPeriod.DAILY, DATE, List.of(1L, 2L, 3L)))
+                .isEqualTo(Map.of(1L, 900L, 2L, 100L));
+        assertThat(rankingRepository.findScores(GroupRankingPeriod.WEEKLY, DATE, List.of(1L)))
+                .isEqualTo(Map.of(1L, 600L));
+        assertThat(rankingRepository.findScores(GroupRankingPeriod.MONTHLY, DATE, List.of(1L)))
+                .isEmpty();
+    }
+
+    @Test
+    void incrementAll_success_expire() {
+        // when
+        rankingRepository.incrementAll(List.of(new Increment(GroupRankingPeriod.DAILY, DATE, 1L, 600, List.of())));
+
+        // then
+        Long ttl = redisTemplate.getExpire("studyTimeRank:daily:20251225");
+        assertThat(ttl).isPositive().isLessThanOrEqualTo(GroupRankingPeriod.DAILY.getRetention().toSeconds());
+    }
+
+    @Test
+    void findPage_success_ties() {
+        // given
+        GroupRankingPeriod daily = GroupRankingPeriod.DAILY;
+        rankingRepository.incrementAll(List.of(
+                new Increment(daily, DATE, 1L, 300, List.of(10L)),
+                new Increment(daily, DATE, 2L, 200, List.of(10L)),
+                new Increment(daily, DATE, 3L, 200, List.of(10L)),
+                new Increment(daily, DATE, 4L, 100, List.of(10L)),
+                new Increment(daily, DATE, 5L, 900, List.of(20L))));
+
+        // when
+        RankingPage first = rankingRepository.findPage(daily, DATE, 10L, 4L, 0, 2);
+        RankingPage second = rankingRepository.findPage(daily, DATE, 10L, 9L, 2, 2);
+
+        // then
+        assertThat(first.total()).isEqualTo(4);
+        assertThat(first.entries()).extracting(RankedScore::rank).containsExactly(1L, 2L);
+        assertThat(first.entries().get(0)).isEqualTo(new RankedScore(1L, 1, 300));
+        assertThat(first.mine()).isEqualTo(new RankedScore(4L, 4, 100));
+
+        // 이전 페이지와 동점인 멤버는 같은 순위를 가집니다.
+        assertThat(second.entries()).extracting(RankedScore::rank).containsExactly(2L, 4L);
+        // 기록이 없는 유저는 모든 기록 뒤의 순위를 가집니다.
+        assertThat(second.mine()).isEqualTo(new RankedScore(9L, 5, 0));
+    }
+
+    @Test
+    void copyToGroup_success() {
+        // given
+        rankingRepository.incrementAll(List.of(
+                new Increment(GroupRankingPeriod.DAILY, DATE, 1L, 600, List.of()),
+                new Increment(GroupRankingPeriod.MONTHLY, DATE, 1L, 1200, List.of())));
+
+        // when
+        rankingRepository.copyToGroup(10L, 1L, DATE);
+
+        // then
+        assertThat(rankingRepository.findPage(GroupRankingPeriod.DAILY, DATE, 10L, 1L, 0, 10).mine())
+                .isEqualTo(new RankedScore(1L, 1, 600));
+        assertThat(rankingRepository.findPage(GroupRankingPeriod.MONTHLY, DATE, 10L, 1L, 0, 10).mine())
+                .isEqualTo(new RankedScore(1L, 1, 1200));
+        assertThat(rankingRepository.findPage(GroupRankingPeriod.WEEKLY, DATE, 10L, 1L, 0, 10).total())
+                .isZero();
+    }
+
+    @Test
+    void findAllKeys_findAll_delete_success() {
+        // given
+        GroupRankingPeriod daily = GroupRankingPeriod.DAILY;
+        rankingRepository.incrementAll(List.of(
+                new Increment(daily, DATE, 1L, 300, List.of(10L)),
+                new Increment(daily, DATE, 2L, 300, List.of(10L)),
+                new Increment(daily, DATE, 3L, 100, List.of(10L))));
+        RankingKey groupKey = new RankingKey(10L, daily, "daily:20251225");
+        RankingKey globalKey = new RankingKey(null, daily, "daily:20251225");
+
+        // when
+        List<RankingKey> keys = rankingRepository.findAllKeys();
+        List<RankedScore> scores = rankingRepository.findAll(groupKey);
+        rankingRepository.delete(groupKey);
+
+        // then
+        assertThat(keys).containsExactlyInAnyOrder(groupKey, globalKey);
+        assertThat(scores).extracting(RankedScore::rank).containsExactly(1L, 1L, 3L);
+        assertThat(scores.get(2)).isEqualTo(new RankedScore(3L, 3, 100));
+        assertThat(rankingRepository.findAllKeys()).containsExactly(globalKey);
+    }
+
+    @Test
+    void migrateLegacy_success() {
+        // given
+        redisTemplate.opsForHash().putAll("studyTimeStats:daily:20251225", Map.of("1", "600", "2", "100"));
+        redisTemplate.opsForHash().put("studyTimeStats:monthly:202512", "1", "1200");
+        rankingRepository.incrementAll(List.of(new Increment(GroupRankingPeriod.DAILY, DATE, 1L, 300, List.of())));
+
+        // when
+        int migrated = rankingRepository.migrateLegacy(id -> List.of());
+        int again = rankingRepository.migrateLegacy(id -> List.of());
+
+        // then
+        assertThat(migrated).isEqualTo(2);
+        assertThat(again).isZero();
+        assertThat(rankingRepository.findScores(GroupRankingPeriod.DAILY, DATE, List.of(1L, 2L)))
+                .isEqualTo(Map.of(1L, 900L, 2L, 100L));
+        assertThat(rankingRepository.findScores(GroupRankingPeriod.MONTHLY, DATE, List.of(1L)))
+                .isEqualTo(Map.of(1L, 1200L));
+        assertThat(redisTemplate.hasKey("studyTimeStats:daily:20251225")).isFalse();
+        assertThat(redisTemplate.getExpire("studyTimeRank:monthly:202512")).isPositive();
+    }
+
+    @Test
+    void migrateLegacy_success_backfillGroups() {
+        // given - 이전 버전은 그룹 랭킹을 저장하지 않았습니다.
+        redisTemplate.opsForHash().putAll("studyTimeStats:daily:20251225", Map.of("1", "600", "2", "100"));
+        rankingRepository.incrementAll(List.of(new Increment(GroupRankingPeriod.DAILY, DATE, 1L, 300, List.of(10L))));
+        Map<Long, List<Long>> groups = Map.of(1L, List.of(10L, 20L), 2L, List.of(10L));
+
+        // when
+        int migrated = rankingRepository.migrateLegacy(groups::get);
+
+        // then
+        assertThat(migrated).isEqualTo(1);
+        RankingPage group10 = rankingRepository.findPage(GroupRankingPeriod.DAILY, DATE, 10L, 1L, 0, 10);
+        assertThat(group10.entries()).containsExactly(new RankedScore(1L, 1, 900), new RankedScore(2L, 2, 100));
+        RankingPage group20 = rankingRepository.findPage(GroupRankingPeriod.DAILY, DATE, 20L, 1L, 0, 10);
+        assertThat(group20.entries()).containsExactly(new RankedScore(1L, 1, 600));
+        assertThat(redisTemplate.getExpire("studyTimeRank:group:20:daily:20251225")).isPositive();
+    }
+
+    @Test
+    void migrateLegacy_success_keepChangedEntry() {
+        // given
+        redisTemplate.opsForHash().put("studyTimeStats:daily:20251225", "1", "600");
+
+        // when - 읽은 뒤 이전 버전의 노드가 공부 시간을 더한 상황
+        int migrated = rankingRepository.migrateLegacy(id -> {
+            redisTemplate.opsForHash().increment("studyTimeStats:daily:20251225", "1", 60);
+            return List.of();
+        });
+        int again = rankingRepository.migrateLegacy(id -> List.of());
+
+        // then - 바뀐 항목은 다음 실행 때 옮겨집니다.
+        assertThat(migrated).isZero();
+        assertThat(again).isEqualTo(1);
+        assertThat(rankingRepository.findScores(GroupRankingPeriod.DAILY, DATE, List.of(1L)))
+                .isEqualTo(Map.of(1L, 660L));
+        assertThat(redisTemplate.hasKey("studyTimeStats:daily:20251225")).isFalse();
+    }
+}
@@ -60,6 +60,9 @@ public class GroupEntryServiceTest {
     @Mock
     private ChatRoomWriter chatRoomWriter;
 
+    @Mock
+    private GroupRankingWorker groupRankingWorker;
+
     @Mock
     private Member mockMember;
 
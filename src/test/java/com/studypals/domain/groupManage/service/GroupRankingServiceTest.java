@@ -14,7 +14,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.studypals.domain.groupManage.dao.StudyTimeRankingRepository.RankedScore;
+import com.studypals.domain.groupManage.dao.StudyTimeRankingRepository.RankingPage;
 import com.studypals.domain.groupManage.dto.GroupMemberRankingDto;
+import com.studypals.domain.groupManage.dto.GroupRankingPageRes;
 import com.studypals.domain.groupManage.entity.Group;
 import com.studypals.domain.groupManage.entity.GroupMember;
 import com.studypals.domain.groupManage.entity.GroupRankingPeriod;
@@ -70,6 +73,36 @@ class GroupRankingServiceTest {
         verify(groupRankingWorker).getGroupRanking(groupMembers, period);
     }
 
+    @Test
+    @DisplayName("랭킹 페이지 조회 시 페이지에 포함된 멤버와 본인의 프로필만 조회해야 한다")
+    void getGroupRankingPage_Success() {
+        // given
+        Long userId = 4L;
+        Long groupId = 10L;
+        GroupRankingPeriod period = GroupRankingPeriod.WEEKLY;
+        List<GroupMember> groupMembers = createMockGroupMembers(groupId);
+
+        RankingPage page = new RankingPage(
+                3, List.of(new RankedScore(2L, 1, 20000), new RankedScore(1L, 2, 10000)), new RankedScore(4L, 4, 0));
+        given(groupRankingWorker.getRankingPage(groupId, userId, period, 0, 2)).willReturn(page);
+        given(groupMemberReader.getMemberProfiles(groupId, List.of(2L, 1L, 4L)))
+                .willReturn(List.of(groupMembers.get(1), groupMembers.get(0), groupMembers.get(3)));
+
+        // when
+        GroupRankingPageRes result = groupRankingService.getGroupRankingPage(userId, groupId, period, null, 2);
+
+        // then
+        assertThat(result.total()).isEqualTo(3);
+        assertThat(result.size()).isEqualTo(2);
+        assertThat(result.ranks())
+                .extracting(GroupRankingPageRes.RankEntry::nickname)
+                .containsExactly("열공학생B", "개발자A");
+        assertThat(result.ranks()).extracting(GroupRankingPageRes.RankEntry::rank).containsExactly(1L, 2L);
+        assertThat(result.me().rank()).isEqualTo(4L);
+        assertThat(result.me().nickname()).isEqualTo("코딩천재D");
+        verify(validator).isMemberOfGroup(userId, groupId);
+    }
+
     // 헬퍼 메서드: GroupMember 엔티티 4명 생성
     private List<GroupMember> createMockGroupMembers(Long groupId) {
         Group group = Group.builder().id(groupId).build();
@@ -88,6 +88,9 @@ public class GroupServiceTest {
     @Mock
     private GroupHashTagWorker groupHashTagWorker;
 
+    @Mock
+    private GroupRankingWorker groupRankingWorker;
+
     @InjectMocks
     private GroupServiceImpl groupService;
 
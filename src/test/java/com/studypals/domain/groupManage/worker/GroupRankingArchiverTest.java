@@ -0,0 +1,117 @@
+package com.studypals.domain.groupManage.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.studypals.domain.groupManage.dao.GroupMemberRepository;
+import com.studypals.domain.groupManage.dao.StudyTimeRankingArchiveJdbcRepository;
+import com.studypals.domain.groupManage.dao.StudyTimeRankingRepository;
+import com.studypals.domain.groupManage.dao.StudyTimeRankingRepository.RankedScore;
+import com.studypals.domain.groupManage.dao.StudyTimeRankingRepository.RankingKey;
+import com.studypals.domain.groupManage.entity.GroupRankingPeriod;
+import com.studypals.global.utils.TimeUtils;
+
+/**
+ * {@link GroupRankingArchiver} 에 대한 단위 테스트입니다.
+ *
+ * @author sleepyhoon
+ * @since 2026-01-29
+ */
+@ExtendWith(MockitoExtension.class)
+class GroupRankingArchiverTest {
+
+    @Mock
+    StudyTimeRankingRepository studyTimeRankingRepository;
+
+    @Mock
+    StudyTimeRankingArchiveJdbcRepository archiveJdbcRepository;
+
+    @Mock
+    GroupMemberRepository groupMemberRepository;
+
+    @Mock
+    TimeUtils timeUtils;
+
+    @InjectMocks
+    GroupRankingArchiver archiver;
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 12, 25);
+
+    @Test
+    void archiveClosedPeriods_success() {
+        // given
+        RankingKey closedGroup = new RankingKey(10L, GroupRankingPeriod.DAILY, "daily:20251223");
+        RankingKey closedGlobal = new RankingKey(null, GroupRankingPeriod.DAILY, "daily:20251223");
+        List<RankedScore> scores = List.of(new RankedScore(1L, 1, 600), new RankedScore(2L, 2, 300));
+        given(timeUtils.getToday()).willReturn(TODAY);
+        given(studyTimeRankingRepository.findAllKeys()).willReturn(List.of(closedGroup, closedGlobal));
+        given(studyTimeRankingRepository.findAll(closedGroup)).willReturn(scores);
+
+        // when
+        int archived = archiver.archiveClosedPeriods();
+
+        // then
+        assertThat(archived).isEqualTo(2);
+        then(archiveJdbcRepository).should().upsertAll(10L, "daily:20251223", scores);
+        then(studyTimeRankingRepository).should().delete(closedGroup);
+        // 전체 유저 랭킹은 보관하지 않고 삭제합니다.
+        then(studyTimeRankingRepository).should(never()).findAll(closedGlobal);
+        then(studyTimeRankingRepository).should().delete(closedGlobal);
+    }
+
+    @Test
+    void archiveClosedPeriods_skip_openPeriods() {
+        // given
+        given(timeUtils.getToday()).willReturn(TODAY);
+        given(studyTimeRankingRepository.findAllKeys())
+                .willReturn(List.of(
+                        new RankingKey(10L, GroupRankingPeriod.DAILY, "daily:20251225"),
+                        // 어제가 속한 기간은 늦게 반영되는 공부 시간을 위해 남겨 둡니다.
+                        new RankingKey(10L, GroupRankingPeriod.DAILY, "daily:20251224"),
+                        new RankingKey(10L, GroupRankingPeriod.WEEKLY, "weekly:2025W52"),
+                        new RankingKey(10L, GroupRankingPeriod.MONTHLY, "monthly:202512")));
+
+        // when
+        int archived = archiver.archiveClosedPeriods();
+
+        // then
+        assertThat(archived).isZero();
+        then(archiveJdbcRepository).shouldHaveNoInteractions();
+        then(studyTimeRankingRepository).should(never()).delete(any());
+    }
+
+    @Test
+    void archiveClosedPeriods_fail_keepKey() {
+        // given
+        RankingKey failed = new RankingKey(10L, GroupRankingPeriod.WEEKLY, "weekly:2025W50");
+        RankingKey other = new RankingKey(20L, GroupRankingPeriod.WEEKLY, "weekly:2025W50");
+        given(timeUtils.getToday()).willReturn(TODAY);
+        given(studyTimeRankingRepository.findAllKeys()).willReturn(List.of(failed, other));
+        given(studyTimeRankingRepository.findAll(any())).willReturn(List.of(new RankedScore(1L, 1, 600)));
+        willThrow(new RuntimeException("db down"))
+                .given(archiveJdbcRepository)
+                .upsertAll(10L, "weekly:2025W50", List.of(new RankedScore(1L, 1, 600)));
+
+        // when
+        int archived = archiver.archiveClosedPeriods();
+
+        // then
+        // 보관에 실패한 랭킹은 다음 주기에 다시 시도하도록 삭제하지 않습니다.
+        assertThat(archived).isEqualTo(1);
+        then(studyTimeRankingRepository).should(never()).delete(failed);
+        then(studyTimeRankingRepository).should().delete(other);
+    }
+}
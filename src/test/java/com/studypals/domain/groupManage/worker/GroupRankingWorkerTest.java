@@ -1,26 +1,35 @@
 package com.studypals.domain.groupManage.worker;
 
-import static org.mockito.ArgumentMatchers.anyList;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
+import static org.mockito.BDDMockito.then;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
-import com.studypals.domain.groupManage.dao.StudyTimeStatsRepository;
+import com.studypals.domain.groupManage.dao.GroupMemberRepository;
+import com.studypals.domain.groupManage.dao.StudyTimeRankingArchiveRepository;
+import com.studypals.domain.groupManage.dao.StudyTimeRankingRepository;
+import com.studypals.domain.groupManage.dao.StudyTimeRankingRepository.Increment;
+import com.studypals.domain.groupManage.dao.StudyTimeRankingRepository.RankedScore;
+import com.studypals.domain.groupManage.dao.StudyTimeRankingRepository.RankingPage;
 import com.studypals.domain.groupManage.dto.UpdateStudyStatsDto;
+import com.studypals.domain.groupManage.entity.GroupMember;
 import com.studypals.domain.groupManage.entity.GroupRankingPeriod;
+import com.studypals.domain.groupManage.entity.StudyTimeRankingArchive;
+import com.studypals.domain.memberManage.entity.Member;
+import com.studypals.global.utils.TimeUtils;
 
 @ExtendWith(MockitoExtension.class)
 class GroupRankingWorkerTest {
@@ -29,33 +38,129 @@ class GroupRankingWorkerTest {
     private GroupRankingWorker groupRankingWorker;
 
     @Mock
-    private StudyTimeStatsRepository studyTimeStatsRepository;
+    private StudyTimeRankingRepository studyTimeRankingRepository;
+
+    @Mock
+    private GroupMemberRepository groupMemberRepository;
+
+    @Mock
+    private StudyTimeRankingArchiveRepository archiveRepository;
+
+    @Mock
+    private TimeUtils timeUtils;
 
     @Test
     @DisplayName("그룹 랭킹 업데이트 테스트 - 리스트 입력 처리")
+    @SuppressWarnings("unchecked")
     void updateGroupRankings() {
         // given
         Long userId = 1L;
         LocalDate date = LocalDate.of(2025, 1, 1);
         Long studyTime = 3600L;
 
-        // 변경된 시그니처에 맞춰 DTO 리스트 생성
         UpdateStudyStatsDto dto = new UpdateStudyStatsDto(userId, date, studyTime);
         List<UpdateStudyStatsDto> updateStudyStats = List.of(dto);
-
-        // mock: Repository 조회 시 기존 공부 시간 0으로 반환 (String 타입)
-        given(studyTimeStatsRepository.findHashFieldsById(anyString(), anyList()))
-                .willReturn(Map.of(String.valueOf(userId), "0"));
+        given(groupMemberRepository.findGroupIdsByMemberId(userId)).willReturn(List.of(10L, 20L));
 
         // when
         groupRankingWorker.updateGroupRankings(updateStudyStats);
 
         // then
-        // GroupRankingPeriod(일간/주간/월간 등)의 개수만큼 반복해서 저장 로직이 수행되었는지 검증
-        // 저장되는 값은 기존 0 + 추가 3600 = 3600
-        int periodCount = GroupRankingPeriod.values().length;
+        // GroupRankingPeriod(일간/주간/월간 등)의 개수만큼의 증가 연산이 한 번에 전달되었는지 검증
+        ArgumentCaptor<List<Increment>> captor = ArgumentCaptor.forClass(List.class);
+        then(studyTimeRankingRepository).should().incrementAll(captor.capture());
+
+        assertThat(captor.getValue())
+                .extracting(Increment::period)
+                .containsExactly(GroupRankingPeriod.values());
+        assertThat(captor.getValue()).allMatch(increment -> increment.userId().equals(userId)
+                && increment.date().equals(date)
+                && increment.seconds() == studyTime
+                && increment.groupIds().equals(List.of(10L, 20L)));
+    }
+
+    @Test
+    @DisplayName("그룹 참여 시 트랜잭션 밖이라면 바로 그룹 랭킹에 반영")
+    void registerMember() {
+        // given
+        LocalDate today = LocalDate.of(2025, 1, 1);
+        given(timeUtils.getToday()).willReturn(today);
+
+        // when
+        groupRankingWorker.registerMember(10L, 1L);
+
+        // then
+        then(studyTimeRankingRepository).should().copyToGroup(10L, 1L, today);
+    }
+
+    @Test
+    @DisplayName("그룹 랭킹 조회 테스트")
+    void getGroupRanking() {
+        // given
+        LocalDate today = LocalDate.of(2025, 1, 1);
+        GroupMember groupMember = GroupMember.builder()
+                .member(Member.builder().id(1L).build())
+                .build();
+        given(timeUtils.getToday()).willReturn(today);
+        given(studyTimeRankingRepository.findScores(GroupRankingPeriod.DAILY, today, List.of(1L)))
+                .willReturn(Map.of(1L, 3600L));
+
+        // when
+        Map<Long, Long> result = groupRankingWorker.getGroupRanking(List.of(groupMember), GroupRankingPeriod.DAILY);
+
+        // then
+        assertThat(result).containsEntry(1L, 3600L);
+    }
+
+    @Test
+    @DisplayName("보관된 지난 기간의 랭킹은 DB 에서 조회")
+    void getRankingPage_archived() {
+        // given
+        LocalDate date = LocalDate.of(2025, 1, 1);
+        String periodKey = "daily:20250101";
+        given(timeUtils.getToday()).willReturn(LocalDate.of(2025, 1, 5));
+        given(archiveRepository.existsByGroupIdAndPeriodKey(10L, periodKey)).willReturn(true);
+        given(archiveRepository.findByGroupIdAndPeriodKeyOrderByRankingAscMemberIdAsc(
+                        10L, periodKey, PageRequest.of(1, 2)))
+                .willReturn(List.of(archive(3L, 3, 200), archive(4L, 4, 100)));
+        given(archiveRepository.countByGroupIdAndPeriodKey(10L, periodKey)).willReturn(4L);
+        given(archiveRepository.findByGroupIdAndPeriodKeyAndMemberId(10L, periodKey, 1L))
+                .willReturn(Optional.of(archive(1L, 1, 500)));
+
+        // when
+        RankingPage result = groupRankingWorker.getRankingPage(10L, 1L, GroupRankingPeriod.DAILY, date, 2, 2);
+
+        // then
+        assertThat(result.total()).isEqualTo(4);
+        assertThat(result.entries()).containsExactly(new RankedScore(3L, 3, 200), new RankedScore(4L, 4, 100));
+        assertThat(result.mine()).isEqualTo(new RankedScore(1L, 1, 500));
+        then(studyTimeRankingRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("아직 보관되지 않은 기간의 랭킹은 Redis 에서 조회")
+    void getRankingPage_notArchived() {
+        // given
+        LocalDate date = LocalDate.of(2025, 1, 4);
+        RankingPage page = new RankingPage(0, List.of(), new RankedScore(1L, 1, 0));
+        given(timeUtils.getToday()).willReturn(LocalDate.of(2025, 1, 5));
+        given(archiveRepository.existsByGroupIdAndPeriodKey(10L, "daily:20250104"))
+                .willReturn(false);
+        given(studyTimeRankingRepository.findPage(GroupRankingPeriod.DAILY, date, 10L, 1L, 0, 20))
+                .willReturn(page);
+
+        // when
+        RankingPage result = groupRankingWorker.getRankingPage(10L, 1L, GroupRankingPeriod.DAILY, date, 0, 20);
+
+        // then
+        assertThat(result).isEqualTo(page);
+    }
 
-        verify(studyTimeStatsRepository, times(periodCount))
-                .saveMapById(anyString(), eq(Map.of(String.valueOf(userId), String.valueOf(studyTime))));
+    private static StudyTimeRankingArchive archive(Long memberId, long ranking, long studyTime) {
+        return StudyTimeRankingArchive.builder()
+                .memberId(memberId)
+                .ranking(ranking)
+                .studyTime(studyTime)
+                .build();
     }
 }
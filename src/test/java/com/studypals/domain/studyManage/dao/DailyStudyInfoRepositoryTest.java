@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.studypals.domain.memberManage.entity.Member;
+import com.studypals.domain.studyManage.dto.DailyStudySpan;
 import com.studypals.domain.studyManage.entity.DailyStudyInfo;
 import com.studypals.testModules.testSupport.DataJpaSupport;
 
@@ -135,4 +136,42 @@ class DailyStudyInfoRepositoryTest extends DataJpaSupport {
         // then
         assertThat(results).hasSize(5);
     }
+
+    @Test
+    void upsertAll_success() {
+        // given
+        Member member = insertMember();
+        LocalDate day1 = LocalDate.of(1999, 8, 20);
+        LocalDate day2 = day1.plusDays(1);
+        em.flush();
+
+        // when
+        // 공부 시작 - 시작 시각만 기록
+        dailyStudyInfoRepository.upsertAll(
+                List.of(new DailyStudySpan(member.getId(), day1, LocalTime.of(10, 0), null)));
+        // 공부 종료 - 시작 시각은 유지되고, 종료 시각이 기록됨
+        dailyStudyInfoRepository.upsertAll(
+                List.of(new DailyStudySpan(member.getId(), day1, LocalTime.of(11, 0), LocalTime.of(23, 0))));
+        // 자정(기준 시각)을 넘긴 공부 - 자정 이후의 종료 시각이 더 늦은 시각으로 취급됨
+        dailyStudyInfoRepository.upsertAll(List.of(
+                new DailyStudySpan(member.getId(), day1, LocalTime.of(23, 30), LocalTime.of(6, 0)),
+                new DailyStudySpan(member.getId(), day2, LocalTime.of(6, 0), LocalTime.of(7, 0))));
+        // 늦게 도착한 이전 종료 요청 - 종료 시각이 되돌아가지 않음
+        dailyStudyInfoRepository.upsertAll(
+                List.of(new DailyStudySpan(member.getId(), day1, LocalTime.of(12, 0), LocalTime.of(13, 0))));
+        em.clear();
+
+        // then
+        DailyStudyInfo first = dailyStudyInfoRepository
+                .findByMemberIdAndStudiedDate(member.getId(), day1)
+                .orElseThrow();
+        assertThat(first.getStartTime()).isEqualTo(LocalTime.of(10, 0));
+        assertThat(first.getEndTime()).isEqualTo(LocalTime.of(6, 0));
+
+        DailyStudyInfo second = dailyStudyInfoRepository
+                .findByMemberIdAndStudiedDate(member.getId(), day2)
+                .orElseThrow();
+        assertThat(second.getStartTime()).isEqualTo(LocalTime.of(6, 0));
+        assertThat(second.getEndTime()).isEqualTo(LocalTime.of(7, 0));
+    }
 }
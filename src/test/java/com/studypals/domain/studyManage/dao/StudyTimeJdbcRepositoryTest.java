@@ -0,0 +1,136 @@
+package com.studypals.domain.studyManage.dao;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.AfterTransaction;
+
+import com.studypals.domain.memberManage.entity.Member;
+import com.studypals.domain.studyManage.dto.StudyTimeIncrement;
+import com.studypals.domain.studyManage.entity.DateType;
+import com.studypals.domain.studyManage.entity.StudyCategory;
+import com.studypals.domain.studyManage.entity.StudyTime;
+import com.studypals.domain.studyManage.entity.StudyType;
+import com.studypals.testModules.testSupport.DataJpaSupport;
+
+/**
+ * {@link StudyTimeJdbcRepository} 에 대한 테스트 클래스
+ *
+ * @author jack8
+ * @since 2026-01-30
+ */
+@DisplayName("StudyTime_JDBC_test")
+@Import(StudyTimeJdbcRepository.class)
+class StudyTimeJdbcRepositoryTest extends DataJpaSupport {
+
+    @Autowired
+    private StudyTimeJdbcRepository studyTimeJdbcRepository;
+
+    @Autowired
+    private StudyTimeRepository studyTimeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // DDL 로 commit 된 기록을 테스트 트랜잭션이 끝난 뒤 지우기 위해 보관합니다.
+    private Long committedMemberId;
+
+    @AfterTransaction
+    void cleanUpCommitted() {
+        if (committedMemberId == null) return;
+        jdbcTemplate.update("DELETE FROM study_time WHERE member_id = ?", committedMemberId);
+        jdbcTemplate.update("DELETE FROM member WHERE id = ?", committedMemberId);
+        committedMemberId = null;
+    }
+
+    private StudyCategory insertCategory(Long userId) {
+        return em.persist(StudyCategory.builder()
+                .studyType(StudyType.PERSONAL)
+                .goal(3600L)
+                .color("#FFFFF")
+                .dateType(DateType.DAILY)
+                .dayBelong(127)
+                .name("category")
+                .typeId(userId)
+                .description("description")
+                .build());
+    }
+
+    @Test
+    void addTimes_success_insertThenAccumulate() {
+        // given
+        Member member = insertMember();
+        StudyCategory category = insertCategory(member.getId());
+        LocalDate date = LocalDate.of(2025, 4, 10);
+        em.flush();
+
+        // when
+        studyTimeJdbcRepository.addTimes(List.of(
+                new StudyTimeIncrement(member.getId(), date, category.getId(), null, 3600L, 100L),
+                new StudyTimeIncrement(member.getId(), date, null, "temp", 1200L, 50L),
+                new StudyTimeIncrement(member.getId(), date.plusDays(1), category.getId(), null, 3600L, 30L)));
+        studyTimeJdbcRepository.addTimes(List.of(
+                new StudyTimeIncrement(member.getId(), date, category.getId(), null, 7200L, 200L),
+                new StudyTimeIncrement(member.getId(), date, null, "temp", 1200L, 25L)));
+        em.clear();
+
+        // then
+        List<StudyTime> results = studyTimeRepository.findByMemberIdAndStudiedDate(member.getId(), date);
+        assertThat(results).hasSize(2);
+        assertThat(studyTimeRepository.findByCategoryAndDate(member.getId(), date, category.getId()))
+                .get()
+                .satisfies(studyTime -> {
+                    assertThat(studyTime.getTime()).isEqualTo(300L);
+                    // 목표 시간은 처음 기록될 때만 저장됩니다.
+                    assertThat(studyTime.getGoal()).isEqualTo(3600L);
+                });
+        assertThat(studyTimeRepository.findByMemberIdAndStudiedDateAndName(member.getId(), date, "temp"))
+                .get()
+                .extracting(StudyTime::getTime)
+                .isEqualTo(75L);
+        assertThat(studyTimeRepository.findByMemberIdAndStudiedDate(member.getId(), date.plusDays(1)))
+                .extracting(StudyTime::getTime)
+                .containsExactly(30L);
+    }
+
+    @Test
+    void mergeDuplicatesAndAddUniqueKey_success() {
+        // given
+        jdbcTemplate.execute("ALTER TABLE study_time DROP INDEX " + StudyTimeJdbcRepository.UNIQUE_KEY);
+        Member member = insertMember("merge-user", "merge-nickname");
+        committedMemberId = member.getId();
+        LocalDate date = LocalDate.of(2025, 4, 10);
+        em.flush();
+        // 유니크 키가 없으므로 같은 기록이 새로 생성됩니다.
+        studyTimeJdbcRepository.addTimes(List.of(
+                new StudyTimeIncrement(member.getId(), date, null, "temp", 1200L, 50L),
+                new StudyTimeIncrement(member.getId(), date, null, "temp", 600L, 25L),
+                new StudyTimeIncrement(member.getId(), date, null, "other", null, 10L)));
+
+        // when
+        boolean before = studyTimeJdbcRepository.hasUniqueKey();
+        int deleted = studyTimeJdbcRepository.mergeDuplicatesAndAddUniqueKey();
+        em.clear();
+
+        // then
+        assertThat(before).isFalse();
+        assertThat(deleted).isEqualTo(1);
+        assertThat(studyTimeJdbcRepository.hasUniqueKey()).isTrue();
+        assertThat(studyTimeRepository.findByMemberIdAndStudiedDateAndName(member.getId(), date, "temp"))
+                .get()
+                .satisfies(studyTime -> {
+                    assertThat(studyTime.getTime()).isEqualTo(75L);
+                    // 가장 먼저 생성된 기록의 목표 시간을 유지합니다.
+                    assertThat(studyTime.getGoal()).isEqualTo(1200L);
+                });
+        assertThat(studyTimeRepository.findByMemberIdAndStudiedDate(member.getId(), date))
+                .hasSize(2);
+    }
+}
@@ -6,6 +6,8 @@ import static org.mockito.BDDMockito.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.studypals.domain.groupManage.worker.GroupStudyStatusWorker;
 import com.studypals.domain.memberManage.entity.Member;
 import com.studypals.domain.memberManage.worker.MemberReader;
+import com.studypals.domain.studyManage.dto.DailyStudySpan;
 import com.studypals.domain.studyManage.dto.StartStudyDto;
 import com.studypals.domain.studyManage.dto.StartStudyReq;
 import com.studypals.domain.studyManage.dto.StartStudyRes;
@@ -117,6 +120,7 @@ class StudySessionServiceTest {
 
         // then
         assertThat(result).isEqualTo(expected);
+        then(dailyInfoWriter).should().upsert(mockMember, today, time);
         then(studyStatusWorker).should().saveStatus(any());
     }
 
@@ -165,16 +169,13 @@ class StudySessionServiceTest {
         // 1. 기본 Mock 설정
         given(timeUtils.getToday(eq(endTime))).willReturn(testDate);
         given(memberReader.getRef(userId)).willReturn(mockMember);
+        given(mockMember.getId()).willReturn(userId);
         given(studyStatusWorker.find(userId)).willReturn(Optional.of(mockStudyStatus));
         given(mockStudyStatus.getStartTime()).willReturn(startDateTime);
 
         // 2. [필수] 시간 차이 계산 로직 Stubbing
         given(timeUtils.getTimeDuration(eq(startTime), eq(endTime))).willReturn(expectedTime);
 
-        // 3. saveDailyInfo 내부의 호출 검증을 위한 설정 (메서드 파라미터가 정확히 일치해야 함)
-        // 인자 매칭이 까다롭다면 any()를 사용해 우선 동작 확인 후 정교화
-        given(dailyInfoWriter.createIfNotExist(any(), any(), any(), any())).willReturn(true);
-
         // when
         Long res = studySessionService.endStudy(userId, endTime);
 
@@ -183,6 +184,9 @@ class StudySessionServiceTest {
 
         // 4. 동작 검증
         then(studySessionWorker).should().upsert(eq(mockMember), eq(mockStudyStatus), eq(testDate), eq(expectedTime));
+        then(dailyInfoWriter)
+                .should()
+                .upsertAll(List.of(new DailyStudySpan(userId, testDate, startTime, endTime)));
     }
 
     @Test
@@ -206,6 +210,7 @@ class StudySessionServiceTest {
         // Mock 설정
         given(timeUtils.getToday(eq(endTime))).willReturn(today);
         given(memberReader.getRef(userId)).willReturn(mockMember);
+        given(mockMember.getId()).willReturn(userId);
         given(studyStatusWorker.find(userId)).willReturn(Optional.of(mockStudyStatus));
         given(mockStudyStatus.getStartTime()).willReturn(startDateTime);
 
@@ -216,8 +221,6 @@ class StudySessionServiceTest {
         // 2. (06:00, 08:00) -> Day 2
         given(timeUtils.getTimeDuration(eq(cutOff), eq(endTime))).willReturn(day2Duration);
 
-        given(dailyInfoWriter.createIfNotExist(any(), any(), any(), any())).willReturn(true);
-
         // when
         Long res = studySessionService.endStudy(userId, endTime);
 
@@ -225,10 +228,23 @@ class StudySessionServiceTest {
         assertThat(res).isEqualTo(totalExpectedTime);
 
         // 호출 검증 및 값 확인
+        // 두 날짜의 공부 시간은 한 번의 호출로 갱신됩니다.
         then(studySessionWorker)
                 .should()
-                .upsert(eq(mockMember), eq(mockStudyStatus), eq(startDateTime.toLocalDate()), eq(day1Duration));
-        then(studySessionWorker).should().upsert(eq(mockMember), eq(mockStudyStatus), eq(today), eq(day2Duration));
+                .upsert(
+                        eq(mockMember),
+                        eq(mockStudyStatus),
+                        eq(Map.of(startDateTime.toLocalDate(), day1Duration, today, day2Duration)));
+        // 두 날짜의 공부 정보도 한 번의 호출로 갱신됩니다.
+        then(dailyInfoWriter)
+                .should()
+                .upsertAll(List.of(
+                        new DailyStudySpan(
+                                userId,
+                                startDateTime.toLocalDate(),
+                                startDateTime.toLocalTime(),
+                                cutOff),
+                        new DailyStudySpan(userId, today, cutOff, endTime)));
     }
 
     @Test
@@ -1,13 +1,11 @@
 package com.studypals.domain.studyManage.worker;
 
-import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.Optional;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,7 +15,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.studypals.domain.memberManage.entity.Member;
 import com.studypals.domain.studyManage.dao.DailyStudyInfoRepository;
-import com.studypals.domain.studyManage.entity.DailyStudyInfo;
+import com.studypals.domain.studyManage.dto.DailyStudySpan;
 
 /**
  * {@link DailyInfoWriter} 에 대한 테스트
@@ -34,47 +32,39 @@ class DailyInfoWriterTest {
     @Mock
     private Member mockMember;
 
-    @Mock
-    private DailyStudyInfo mockDailyStudyInfo;
-
     @InjectMocks
     private DailyInfoWriter dailyInfoWriter;
 
     @Test
-    void updateEndTime_success() {
+    void upsert_success_startOnly() {
         // given
         Long userId = 1L;
-        LocalDate date = LocalDate.of(2024, 3, 1);
-        LocalTime endTime = LocalTime.of(12, 0, 0);
+        LocalDate studiedDate = LocalDate.of(2025, 8, 1);
+        LocalTime startTime = LocalTime.of(10, 30);
 
         given(mockMember.getId()).willReturn(userId);
-        given(dailyStudyInfoRepository.findByMemberIdAndStudiedDate(userId, date))
-                .willReturn(Optional.of(mockDailyStudyInfo));
 
         // when
-        dailyInfoWriter.updateEndtime(mockMember, date, endTime);
+        dailyInfoWriter.upsert(mockMember, studiedDate, startTime);
 
         // then
-        then(mockDailyStudyInfo).should().setEndTime(endTime);
+        then(dailyStudyInfoRepository)
+                .should()
+                .upsertAll(List.of(new DailyStudySpan(userId, studiedDate, startTime, null)));
     }
 
     @Test
-    void createIfNotExist_success_createdBefore() {
+    void upsertAll_success() {
         // given
-        Long userId = 1L;
-        LocalDate studiedDate = LocalDate.of(2025, 8, 1);
-        LocalTime startTime = LocalTime.of(10, 30);
-        LocalTime endTime = LocalTime.of(14, 20);
-
-        given(mockMember.getId()).willReturn(userId);
-        given(dailyStudyInfoRepository.existsByMemberIdAndStudiedDate(userId, studiedDate))
-                .willReturn(false);
+        LocalDate date = LocalDate.of(2024, 3, 1);
+        List<DailyStudySpan> spans = List.of(
+                new DailyStudySpan(1L, date, LocalTime.of(23, 0), LocalTime.of(6, 0)),
+                new DailyStudySpan(1L, date.plusDays(1), LocalTime.of(6, 0), LocalTime.of(8, 0)));
 
         // when
-        boolean res = dailyInfoWriter.createIfNotExist(mockMember, studiedDate, startTime, endTime);
+        dailyInfoWriter.upsertAll(spans);
 
         // then
-        assertThat(res).isEqualTo(true);
-        then(dailyStudyInfoRepository).should().save(any());
+        then(dailyStudyInfoRepository).should().upsertAll(spans);
     }
 }
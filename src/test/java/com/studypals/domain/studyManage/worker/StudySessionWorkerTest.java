@@ -1,22 +1,25 @@
 package com.studypals.domain.studyManage.worker;
 
-import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.*;
 
 import java.time.LocalDate;
-import java.util.Optional;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import com.studypals.domain.memberManage.entity.Member;
-import com.studypals.domain.studyManage.dao.StudyCategoryRepository;
-import com.studypals.domain.studyManage.dao.StudyTimeRepository;
-import com.studypals.domain.studyManage.entity.StudyCategory;
+import com.studypals.domain.studyManage.dao.StudyTimeJdbcRepository;
+import com.studypals.domain.studyManage.dto.StudyTimeIncrement;
 import com.studypals.domain.studyManage.entity.StudyStatus;
-import com.studypals.domain.studyManage.entity.StudyTime;
+import com.studypals.global.exceptions.errorCode.StudyErrorCode;
+import com.studypals.global.exceptions.exception.StudyException;
 
 /**
  * {@link StudySessionWorker} 에 대한 테스트
@@ -28,10 +31,7 @@ import com.studypals.domain.studyManage.entity.StudyTime;
 class StudySessionWorkerTest {
 
     @Mock
-    private StudyTimeRepository studyTimeRepository;
-
-    @Mock
-    private StudyCategoryRepository studyCategoryRepository;
+    private StudyTimeJdbcRepository studyTimeJdbcRepository;
 
     @Mock
     private Member mockMember;
@@ -39,111 +39,116 @@ class StudySessionWorkerTest {
     @Mock
     private StudyStatus mockStatus;
 
-    @Mock
-    private StudyTime mockStudyTime;
-
-    @Mock
-    private StudyCategory mockStudyCategory;
-
     @InjectMocks
     private StudySessionWorker studySessionWorker;
 
     @Test
-    void upsert_success_withCategory_studiedBefore() {
+    void upsert_success_withCategory() {
         // given
         Long userId = 1L;
         Long categoryId = 2L;
         LocalDate date = LocalDate.of(2025, 3, 1);
         Long time = 300L;
         given(mockStatus.getCategoryId()).willReturn(categoryId);
-        given(mockStatus.getName()).willReturn(null);
+        given(mockStatus.getGoal()).willReturn(6000L);
         given(mockMember.getId()).willReturn(userId);
 
-        given(studyTimeRepository.findByCategoryAndDate(userId, date, categoryId))
-                .willReturn(Optional.of(mockStudyTime));
-
         // when
-        StudyTime studyTime = studySessionWorker.upsert(mockMember, mockStatus, date, time);
+        studySessionWorker.upsert(mockMember, mockStatus, date, time);
 
         // then
         then(mockMember).should().addToken(time / 60);
-        then(mockStudyTime).should().addTime(time);
-        then(studyTimeRepository).should().save(mockStudyTime);
-        assertThat(studyTime).isEqualTo(mockStudyTime);
+        then(studyTimeJdbcRepository)
+                .should()
+                .addTimes(List.of(new StudyTimeIncrement(userId, date, categoryId, null, 6000L, time)));
     }
 
     @Test
-    void upsert_success_withCategory_firstSaveStudyTime() {
+    void upsert_success_withoutCategory() {
         // given
         Long userId = 1L;
-        Long categoryId = 2L;
+        String name = "name";
         LocalDate date = LocalDate.of(2025, 3, 1);
         Long time = 300L;
-        given(mockStatus.getCategoryId()).willReturn(categoryId);
-        given(mockStatus.getName()).willReturn(null);
+        given(mockStatus.getCategoryId()).willReturn(null);
+        given(mockStatus.getName()).willReturn(name);
+        given(mockStatus.getGoal()).willReturn(11000L);
         given(mockMember.getId()).willReturn(userId);
 
-        given(studyTimeRepository.findByCategoryAndDate(userId, date, categoryId))
-                .willReturn(Optional.empty());
-        given(studyCategoryRepository.findById(categoryId)).willReturn(Optional.of(mockStudyCategory));
-        given(mockStatus.getGoal()).willReturn(6000L);
-
         // when
-        StudyTime studyTime = studySessionWorker.upsert(mockMember, mockStatus, date, time);
+        studySessionWorker.upsert(mockMember, mockStatus, date, time);
 
         // then
         then(mockMember).should().addToken(time / 60);
-        then(studyTimeRepository).should().save(any());
-        assertThat(studyTime.getGoal()).isEqualTo(6000L);
-        assertThat(studyTime.getStudyCategory()).isEqualTo(mockStudyCategory);
+        then(studyTimeJdbcRepository)
+                .should()
+                .addTimes(List.of(new StudyTimeIncrement(userId, date, null, name, 11000L, time)));
     }
 
     @Test
-    void upsert_success_withoutCategory_studiedBefore() {
+    void upsert_success_multipleDates() {
         // given
         Long userId = 1L;
-        String name = "name";
-        LocalDate date = LocalDate.of(2025, 3, 1);
-        Long time = 300L;
-        given(mockStatus.getCategoryId()).willReturn(null);
-        given(mockStatus.getName()).willReturn(name);
+        Long categoryId = 2L;
+        LocalDate day1 = LocalDate.of(2025, 3, 1);
+        LocalDate day2 = day1.plusDays(1);
+        Map<LocalDate, Long> timeByDate = new LinkedHashMap<>();
+        timeByDate.put(day1, 120L);
+        timeByDate.put(day2, 90L);
+        given(mockStatus.getCategoryId()).willReturn(categoryId);
+        given(mockStatus.getGoal()).willReturn(3600L);
         given(mockMember.getId()).willReturn(userId);
 
-        given(studyTimeRepository.findByMemberIdAndStudiedDateAndName(userId, date, name))
-                .willReturn(Optional.of(mockStudyTime));
-
         // when
-        StudyTime studyTime = studySessionWorker.upsert(mockMember, mockStatus, date, time);
+        studySessionWorker.upsert(mockMember, mockStatus, timeByDate);
 
         // then
-        then(mockMember).should().addToken(time / 60);
-        then(mockStudyTime).should().addTime(time);
-        then(studyTimeRepository).should().save(mockStudyTime);
-        assertThat(studyTime).isEqualTo(mockStudyTime);
+        // 토큰은 날짜 별로 계산됩니다.
+        then(mockMember).should().addToken(2L);
+        then(mockMember).should().addToken(1L);
+        // 두 날짜의 기록은 하나의 batch 로 갱신됩니다.
+        then(studyTimeJdbcRepository)
+                .should()
+                .addTimes(List.of(
+                        new StudyTimeIncrement(userId, day1, categoryId, null, 3600L, 120L),
+                        new StudyTimeIncrement(userId, day2, categoryId, null, 3600L, 90L)));
     }
 
     @Test
-    void upsert_success_withoutCategory_firstSaveStudyTime() {
+    void upsert_fail_blankName() {
         // given
-        Long userId = 1L;
-        String name = "name";
-        LocalDate date = LocalDate.of(2025, 3, 1);
-        Long time = 300L;
         given(mockStatus.getCategoryId()).willReturn(null);
-        given(mockStatus.getName()).willReturn(name);
-        given(mockMember.getId()).willReturn(userId);
-
-        given(studyTimeRepository.findByMemberIdAndStudiedDateAndName(userId, date, name))
-                .willReturn(Optional.empty());
-        given(mockStatus.getGoal()).willReturn(11000L);
+        given(mockStatus.getName()).willReturn(" ");
+
+        // when & then
+        assertThatThrownBy(() -> studySessionWorker.upsert(mockMember, mockStatus, LocalDate.of(2025, 3, 1), 300L))
+                .isInstanceOf(StudyException.class)
+                .extracting("errorCode")
+                .isEqualTo(StudyErrorCode.STUDY_TIME_END_FAIL);
+        then(studyTimeJdbcRepository).shouldHaveNoInteractions();
+    }
 
-        // when
-        StudyTime studyTime = studySessionWorker.upsert(mockMember, mockStatus, date, time);
+    @Test
+    void upsert_fail_unknownCategory() {
+        // given
+        given(mockStatus.getCategoryId()).willReturn(2L);
+        given(mockMember.getId()).willReturn(1L);
+        willThrow(new DataIntegrityViolationException("fk"))
+                .given(studyTimeJdbcRepository)
+                .addTimes(anyList());
+
+        // when & then
+        assertThatThrownBy(() -> studySessionWorker.upsert(mockMember, mockStatus, LocalDate.of(2025, 3, 1), 300L))
+                .isInstanceOf(StudyException.class)
+                .extracting("errorCode")
+                .isEqualTo(StudyErrorCode.STUDY_CATEGORY_NOT_FOUND);
+    }
 
-        // then
-        then(mockMember).should().addToken(time / 60);
-        then(studyTimeRepository).should().save(any());
-        assertThat(studyTime.getName()).isEqualTo(name);
-        assertThat(studyTime.getGoal()).isEqualTo(11000L);
+    @Test
+    void upsert_fail_invalidTime() {
+        // when & then
+        assertThatThrownBy(() -> studySessionWorker.upsert(mockMember, mockStatus, LocalDate.of(2025, 3, 1), 0L))
+                .isInstanceOf(StudyException.class);
+        then(studyTimeJdbcRepository).shouldHaveNoInteractions();
     }
 }
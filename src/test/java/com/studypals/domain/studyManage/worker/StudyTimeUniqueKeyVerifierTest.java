@@ -0,0 +1,79 @@
+package com.studypals.domain.studyManage.worker;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.studypals.domain.studyManage.dao.StudyTimeJdbcRepository;
+
+/**
+ * {@link StudyTimeUniqueKeyVerifier} 에 대한 단위 테스트입니다.
+ *
+ * @author jack8
+ * @since 2026-02-01
+ */
+@ExtendWith(MockitoExtension.class)
+class StudyTimeUniqueKeyVerifierTest {
+
+    @Mock
+    private StudyTimeJdbcRepository studyTimeJdbcRepository;
+
+    @InjectMocks
+    private StudyTimeUniqueKeyVerifier verifier;
+
+    @Test
+    void verify_success_present() {
+        // given
+        given(studyTimeJdbcRepository.hasUniqueKey()).willReturn(true);
+
+        // when
+        verifier.verify();
+
+        // then
+        then(studyTimeJdbcRepository).should(never()).mergeDuplicatesAndAddUniqueKey();
+    }
+
+    @Test
+    void verify_success_mergeWhenMissing() {
+        // given
+        given(studyTimeJdbcRepository.hasUniqueKey()).willReturn(false, true);
+        given(studyTimeJdbcRepository.mergeDuplicatesAndAddUniqueKey()).willReturn(3);
+
+        // when
+        verifier.verify();
+
+        // then
+        then(studyTimeJdbcRepository).should().mergeDuplicatesAndAddUniqueKey();
+    }
+
+    @Test
+    void verify_fail_stillMissing() {
+        // given
+        given(studyTimeJdbcRepository.hasUniqueKey()).willReturn(false, false);
+        given(studyTimeJdbcRepository.mergeDuplicatesAndAddUniqueKey()).willReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> verifier.verify()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void verify_fail_addKey() {
+        // given
+        given(studyTimeJdbcRepository.hasUniqueKey()).willReturn(false);
+        given(studyTimeJdbcRepository.mergeDuplicatesAndAddUniqueKey())
+                .willThrow(new DataIntegrityViolationException("Duplicate entry"));
+
+        // when & then
+        assertThatThrownBy(() -> verifier.verify())
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(DataIntegrityViolationException.class);
+    }
+}
@@ -0,0 +1,94 @@
+package com.studypals.global.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link InMemorySseDeliveryBus} 에 대한 단위 테스트입니다.
+ * 같은 채널 맵을 공유하는 두 인스턴스를 각각 하나의 노드로 취급합니다.
+ *
+ * @author jack8
+ * @since 2026-01-14
+ */
+class InMemorySseDeliveryBusTest {
+
+    InMemorySseDeliveryBus nodeA;
+    InMemorySseDeliveryBus nodeB;
+
+    List<Long> receivedA = new ArrayList<>();
+    List<Long> receivedB = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        ConcurrentMap<Long, Set<InMemorySseDeliveryBus>> channels = new ConcurrentHashMap<>();
+        nodeA = new InMemorySseDeliveryBus(channels);
+        nodeB = new InMemorySseDeliveryBus(channels);
+        nodeA.register((userId, dtos) -> receivedA.add(userId));
+        nodeB.register((userId, dtos) -> receivedB.add(userId));
+    }
+
+    @Test
+    void publish_success_onlySubscribedNode() {
+        // given
+        nodeA.subscribe(1L);
+
+        // when
+        nodeB.publish(List.of(1L, 2L), List.of(new SseSendDto("TYPE", "data")));
+
+        // then
+        assertThat(receivedA).containsExactly(1L);
+        assertThat(receivedB).isEmpty();
+    }
+
+    @Test
+    void publish_success_ignoreSelf() {
+        // given
+        nodeA.subscribe(1L);
+        nodeB.subscribe(1L);
+
+        // when
+        nodeA.publish(List.of(1L), List.of(new SseSendDto("TYPE", "data")));
+
+        // then
+        assertThat(receivedA).isEmpty();
+        assertThat(receivedB).containsExactly(1L);
+    }
+
+    @Test
+    void publishEach_success_onlySubscribedNode() {
+        // given
+        nodeA.subscribe(1L);
+        nodeA.subscribe(2L);
+
+        // when
+        nodeB.publishEach(Map.of(
+                1L, List.of(new SseSendDto("TYPE", "data1")),
+                3L, List.of(new SseSendDto("TYPE", "data3"))));
+
+        // then
+        assertThat(receivedA).containsExactly(1L);
+        assertThat(receivedB).isEmpty();
+    }
+
+    @Test
+    void unsubscribe_success() {
+        // given
+        nodeA.subscribe(1L);
+        nodeA.unsubscribe(1L);
+
+        // when
+        nodeB.publish(List.of(1L), List.of(new SseSendDto("TYPE", "data")));
+
+        // then
+        assertThat(receivedA).isEmpty();
+    }
+}
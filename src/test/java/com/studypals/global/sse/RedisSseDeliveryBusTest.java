@@ -0,0 +1,150 @@
+package com.studypals.global.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studypals.testModules.testSupport.TestEnvironment;
+
+/**
+ * {@link RedisSseDeliveryBus} 에 대한 test container - 테스트입니다.
+ * 같은 redis 를 사용하는 두 인스턴스를 각각 하나의 노드로 취급합니다.
+ *
+ * @author jack8
+ * @since 2026-02-01
+ */
+@SpringBootTest
+class RedisSseDeliveryBusTest extends TestEnvironment {
+
+    private static final String PRESENCE_PREFIX = "sse:presence:";
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    RedisMessageListenerContainer listenerContainer;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    RedisSseDeliveryBus nodeA;
+    RedisSseDeliveryBus nodeB;
+
+    BlockingQueue<Long> receivedA = new LinkedBlockingQueue<>();
+    BlockingQueue<Long> receivedB = new LinkedBlockingQueue<>();
+
+    // nodeB 의 발행 작업. 테스트에서 직접 실행합니다.
+    List<Runnable> publishTasks = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushDb();
+        nodeA = new RedisSseDeliveryBus(redisTemplate, listenerContainer, objectMapper, "node-a", Runnable::run);
+        nodeB = new RedisSseDeliveryBus(redisTemplate, listenerContainer, objectMapper, "node-b", publishTasks::add);
+        nodeA.register((userId, dtos) -> receivedA.add(userId));
+        nodeB.register((userId, dtos) -> receivedB.add(userId));
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.unsubscribe(1L);
+        nodeB.unsubscribe(1L);
+    }
+
+    @Test
+    void subscribe_success_registerPresenceWithTtl() {
+        // when
+        nodeA.subscribe(1L);
+
+        // then
+        assertThat(redisTemplate.opsForSet().members(PRESENCE_PREFIX + 1L)).containsExactly("node-a");
+        Long ttl = redisTemplate.getExpire(PRESENCE_PREFIX + 1L, TimeUnit.SECONDS);
+        assertThat(ttl).isPositive().isLessThanOrEqualTo(Duration.ofMinutes(3).toSeconds());
+    }
+
+    @Test
+    void refreshPresence_success_restoreExpiredPresence() {
+        // given - 갱신되지 않아 프레즌스가 만료된 상황
+        nodeA.subscribe(1L);
+        redisTemplate.delete(PRESENCE_PREFIX + 1L);
+
+        // when
+        nodeA.refreshPresence();
+
+        // then
+        assertThat(redisTemplate.opsForSet().members(PRESENCE_PREFIX + 1L)).containsExactly("node-a");
+        assertThat(redisTemplate.getExpire(PRESENCE_PREFIX + 1L, TimeUnit.SECONDS)).isPositive();
+    }
+
+    @Test
+    void refreshPresence_success_skipUnsubscribedUser() {
+        // given
+        nodeA.subscribe(1L);
+        nodeA.unsubscribe(1L);
+
+        // when
+        nodeA.refreshPresence();
+
+        // then
+        assertThat(redisTemplate.hasKey(PRESENCE_PREFIX + 1L)).isFalse();
+    }
+
+    @Test
+    void publish_success_onPublisherThread() throws Exception {
+        // given
+        nodeA.subscribe(1L);
+
+        // when
+        nodeB.publish(List.of(1L, 2L), List.of(new SseSendDto("TYPE", "data")));
+
+        // then - 발행 작업이 실행되기 전까지는 redis 와 통신하지 않습니다.
+        assertThat(publishTasks).hasSize(1);
+        assertThat(receivedA.poll(200, TimeUnit.MILLISECONDS)).isNull();
+
+        publishTasks.forEach(Runnable::run);
+        assertThat(receivedA.poll(5, TimeUnit.SECONDS)).isEqualTo(1L);
+        assertThat(receivedA).isEmpty();
+        assertThat(receivedB).isEmpty();
+    }
+
+    @Test
+    void publish_success_skipLocalOnlyUser() {
+        // given - 발행한 노드에만 연결된 유저
+        nodeB.subscribe(1L);
+
+        // when
+        nodeB.publish(List.of(1L), List.of(new SseSendDto("TYPE", "data")));
+        publishTasks.forEach(Runnable::run);
+
+        // then
+        assertThat(receivedA).isEmpty();
+        assertThat(receivedB).isEmpty();
+    }
+
+    @Test
+    void stopHeartbeat_success_removePresence() {
+        // given
+        nodeA.subscribe(1L);
+        nodeB.subscribe(1L);
+
+        // when
+        nodeA.stopHeartbeat();
+
+        // then
+        assertThat(redisTemplate.opsForSet().members(PRESENCE_PREFIX + 1L)).containsExactly("node-b");
+    }
+}
@@ -0,0 +1,134 @@
+package com.studypals.global.sse;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@link SseEmitterManager} 의 노드 간 라우팅에 대한 단위 테스트입니다.
+ *
+ * @author jack8
+ * @since 2026-01-14
+ */
+@ExtendWith(MockitoExtension.class)
+class SseEmitterManagerTest {
+
+    @Mock
+    ThreadPoolTaskExecutor taskExecutor;
+
+    @Mock
+    SseDeliveryBus deliveryBus;
+
+    @Mock
+    SseLocalHandler handler;
+
+    SseEmitterManager sseManager;
+
+    @BeforeEach
+    void setup() {
+        sseManager = new SseEmitterManager(taskExecutor, new ObjectMapper(), deliveryBus);
+    }
+
+    @Test
+    void createEmitter_success_subscribeOnce() {
+        // when
+        sseManager.createEmitter(1L);
+        sseManager.createEmitter(1L);
+
+        // then
+        then(deliveryBus).should().subscribe(1L);
+    }
+
+    @Test
+    void sendMessageAsync_success_remoteUser() {
+        // given
+        SseSendDto dto = new SseSendDto("TYPE", "data");
+
+        // when
+        sseManager.sendMessageAsync(1L, dto);
+
+        // then
+        then(deliveryBus).should().publish(List.of(1L), List.of(dto));
+        then(taskExecutor).should(never()).execute(any(Runnable.class));
+    }
+
+    @Test
+    void sendMessageAsync_success_localUserAlsoPublished() {
+        // given
+        SseSendDto dto = new SseSendDto("TYPE", "data");
+        sseManager.createEmitter(1L);
+
+        // when
+        sseManager.sendMessageAsync(1L, dto);
+
+        // then
+        then(deliveryBus).should().publish(List.of(1L), List.of(dto));
+        then(taskExecutor).should().execute(any(Runnable.class));
+    }
+
+    @Test
+    void sendMessageAsync_success_handledPerUser() {
+        // given
+        SseSendDto dto = new SseSendDto("EVENT", "data");
+        willAnswer(invocation -> {
+                    invocation.getArgument(0, Runnable.class).run();
+                    return null;
+                })
+                .given(taskExecutor)
+                .execute(any(Runnable.class));
+        given(handler.handle(1L, dto)).willReturn(new SseSendDto("PATCH", "patch"));
+        sseManager.registerHandler("EVENT", handler);
+        sseManager.createEmitter(1L);
+
+        // when
+        sseManager.sendMessageAsync(1L, dto);
+
+        // then
+        then(handler).should().handle(1L, dto);
+    }
+
+    @Test
+    void sendEachAsync_success_publishAndExecuteOnce() {
+        // given
+        SseSendDto dto1 = new SseSendDto("TYPE", "data1");
+        SseSendDto dto2 = new SseSendDto("TYPE", "data2");
+        Map<Long, List<SseSendDto>> messages = Map.of(1L, List.of(dto1), 2L, List.of(dto2), 3L, List.of(dto1));
+        sseManager.createEmitter(1L);
+        sseManager.createEmitter(2L);
+
+        // when
+        sseManager.sendEachAsync(messages);
+
+        // then
+        then(deliveryBus).should().publishEach(messages);
+        then(taskExecutor).should().execute(any(Runnable.class));
+    }
+
+    @Test
+    void sendMessagesAsync_success_skipHandlerForRemoteUser() {
+        // given
+        SseSendDto dto = new SseSendDto("EVENT", "data");
+        sseManager.registerHandler("EVENT", handler);
+
+        // when
+        sseManager.sendMessagesAsync(List.of(1L), List.of(dto));
+
+        // then
+        then(deliveryBus).should().publish(List.of(1L), List.of(dto));
+        then(handler).should(never()).handle(any(), any());
+    }
+}
@@ -0,0 +1,72 @@
+package com.studypals.global.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studypals.domain.chatManage.dto.ChatType;
+import com.studypals.domain.chatManage.dto.OutgoingMessage;
+
+/**
+ * {@link SseFrame} 에 대한 단위 테스트입니다.
+ *
+ * @author jack8
+ * @since 2026-01-13
+ */
+class SseFrameTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void toEvent_success_sameFormatAsEventBuilder() throws Exception {
+        // given
+        OutgoingMessage message = new OutgoingMessage("a1", "room1", ChatType.TEXT, "안녕", 1L);
+        SseFrame frame = SseFrame.encode(new SseSendDto("NEW_MESSAGE", message), objectMapper);
+
+        // when
+        String written = write(frame, "session1");
+
+        // then
+        assertThat(written)
+                .isEqualTo("event:NEW_MESSAGE\nid:session1\ndata:" + objectMapper.writeValueAsString(message) + "\n\n");
+    }
+
+    @Test
+    void toEvent_success_sharedAcrossSessions() throws Exception {
+        // given
+        SseFrame frame = SseFrame.encode(new SseSendDto("TYPE", "payload"), objectMapper);
+
+        // when
+        String first = write(frame, "s1");
+        String second = write(frame, "s2");
+
+        // then
+        assertThat(first).isEqualTo("event:TYPE\nid:s1\ndata:payload\n\n");
+        assertThat(second).isEqualTo("event:TYPE\nid:s2\ndata:payload\n\n");
+    }
+
+    @Test
+    void encode_success_multiLineString() throws Exception {
+        // given
+        SseFrame frame = SseFrame.encode(new SseSendDto("TYPE", "a\nb"), objectMapper);
+
+        // when
+        String written = write(frame, "s1");
+
+        // then
+        assertThat(written).isEqualTo("event:TYPE\nid:s1\ndata:a\ndata:b\n\n");
+    }
+
+    private String write(SseFrame frame, String sessionId) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (DataWithMediaType item : frame.toEvent(sessionId)) {
+            out.write((byte[]) item.getData());
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,150 @@
+package com.studypals.global.websocket;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@link StompRoomRelay} 에 대한 단위 테스트입니다.
+ *
+ * @author jack8
+ * @since 2026-01-15
+ */
+@ExtendWith(MockitoExtension.class)
+class StompRoomRelayTest {
+
+    private static final String PREFIX = "/sub/chat/room/";
+
+    @Mock
+    RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    ObjectProvider<SimpMessageSendingOperations> template;
+
+    StompRoomRelay relay;
+
+    @BeforeEach
+    void setup() {
+        relay = new StompRoomRelay(redisTemplate, listenerContainer, new ObjectMapper(), template);
+        ReflectionTestUtils.setField(relay, "brokerMode", "redis");
+        ReflectionTestUtils.setField(relay, "DESTINATION_PREFIX", PREFIX);
+    }
+
+    @Test
+    void handleSubscribe_success_subscribeRoomOnce() {
+        // when
+        relay.handleSubscribe(subscribeEvent("s1", "sub-0", "room1"));
+        relay.handleSubscribe(subscribeEvent("s2", "sub-0", "room1"));
+
+        // then
+        then(listenerContainer).should(times(1)).addMessageListener(relay, new ChannelTopic("stomp:room:room1"));
+    }
+
+    @Test
+    void handleUnsubscribe_success_releaseLastSubscriber() {
+        // given
+        relay.handleSubscribe(subscribeEvent("s1", "sub-0", "room1"));
+        relay.handleSubscribe(subscribeEvent("s2", "sub-0", "room1"));
+
+        // when
+        relay.handleUnsubscribe(unsubscribeEvent("s1", "sub-0"));
+        then(listenerContainer).should(never()).removeMessageListener(any(), any(ChannelTopic.class));
+        relay.handleDisconnect(
+                new SessionDisconnectEvent(this, unsubscribeMessage("s2", "sub-0"), "s2", CloseStatus.NORMAL));
+
+        // then
+        then(listenerContainer).should(times(1)).removeMessageListener(relay, new ChannelTopic("stomp:room:room1"));
+    }
+
+    @Test
+    void preSend_success_publishRoomMessage() {
+        // given
+        Message<byte[]> message = brokerMessage(PREFIX + "room1", false);
+
+        // when
+        relay.preSend(message, null);
+
+        // then
+        then(redisTemplate).should(timeout(1000)).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    void preSend_success_skipRelayedMessage() {
+        // given
+        Message<byte[]> message = brokerMessage(PREFIX + "room1", true);
+
+        // when
+        relay.preSend(message, null);
+
+        // then
+        then(redisTemplate).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void preSend_success_skipOtherDestination() {
+        // given
+        Message<byte[]> message = brokerMessage("/queue/other", false);
+
+        // when
+        relay.preSend(message, null);
+
+        // then
+        then(redisTemplate).shouldHaveNoInteractions();
+    }
+
+    private SessionSubscribeEvent subscribeEvent(String sessionId, String subscriptionId, String roomId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(PREFIX + roomId);
+        return new SessionSubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+
+    private SessionUnsubscribeEvent unsubscribeEvent(String sessionId, String subscriptionId) {
+        return new SessionUnsubscribeEvent(this, unsubscribeMessage(sessionId, subscriptionId));
+    }
+
+    private Message<byte[]> unsubscribeMessage(String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> brokerMessage(String destination, boolean relayed) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        if (relayed) accessor.setHeader("studypals-relayed", Boolean.TRUE);
+        return MessageBuilder.createMessage("{}".getBytes(), accessor.getMessageHeaders());
+    }
+}